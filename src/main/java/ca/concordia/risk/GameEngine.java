@@ -1,38 +1,30 @@
 package ca.concordia.risk;
 
 import java.util.Collection;
-import java.util.Collections;
-import java.util.List;
-import java.util.Map;
-import java.util.TreeMap;
 
-import ca.concordia.risk.game.Country;
+import ca.concordia.risk.game.GameContext;
 import ca.concordia.risk.game.GameMap;
 import ca.concordia.risk.game.Player;
 import ca.concordia.risk.game.orders.Order;
 import ca.concordia.risk.game.phases.Phase;
-import ca.concordia.risk.game.phases.GameplayPhase;
-import ca.concordia.risk.game.phases.MapEditorPhase;
-import ca.concordia.risk.game.phases.StartupPhase;
 import ca.concordia.risk.io.commands.Command;
 import ca.concordia.risk.io.commands.LoadGameCommand;
 import ca.concordia.risk.io.commands.OrderCommand;
 import ca.concordia.risk.io.commands.PassCommand;
 import ca.concordia.risk.io.commands.ShowCardsCommand;
 import ca.concordia.risk.io.views.ConsoleView;
+import ca.concordia.risk.io.views.View;
 
 /**
  * Main game class containing the game loop and acting as the main controller
  * for the game.
+ * <p>
+ * The state of the interactive game is held by a single <code>GameContext</code>.
+ * All static accessors of this class delegate to that context.
  */
 public class GameEngine {
 
-	private static Phase d_ActivePhase;
-	private static ConsoleView d_View;
-	private static GameMap d_ActiveMap;
-	private static String d_ActiveMapFilePath;
-	private static Map<String, Player> d_ActivePlayers = new TreeMap<String, Player>();
-	private static Player d_NeutralPlayer = new Player("Neutral");
+	private static GameContext d_Context = new GameContext(new ConsoleView());
 
 	/**
 	 * Startup method.
@@ -46,13 +38,20 @@ public class GameEngine {
 		RunMainLoop();
 	}
 
+	/**
+	 * Gets the game context of the interactive game.
+	 * 
+	 * @return active game context.
+	 */
+	public static GameContext GetContext() {
+		return d_Context;
+	}
+
 	/**
 	 * Transitions to the next phase according to the currently active phase.
 	 */
 	public static void SwitchToNextPhase() {
-		d_ActivePhase.executeOnPhaseEnd();
-		d_ActivePhase = d_ActivePhase.getNextPhase();
-		d_ActivePhase.executeOnPhaseStart();
+		d_Context.switchToNextPhase();
 	}
 
 	/**
@@ -60,8 +59,8 @@ public class GameEngine {
 	 * 
 	 * @return view currently used by the game.
 	 */
-	public static ConsoleView GetView() {
-		return d_View;
+	public static View GetView() {
+		return d_Context.getView();
 	}
 
 	/**
@@ -70,7 +69,7 @@ public class GameEngine {
 	 * @return active game map.
 	 */
 	public static GameMap GetMap() {
-		return d_ActiveMap;
+		return d_Context.getMap();
 	}
 
 	/**
@@ -79,7 +78,7 @@ public class GameEngine {
 	 * @return active phase.
 	 */
 	public static Phase GetActivePhase() {
-		return d_ActivePhase;
+		return d_Context.getActivePhase();
 	}
 
 	/**
@@ -88,7 +87,7 @@ public class GameEngine {
 	 * @param p_map game map to set as an active map.
 	 */
 	public static void SetMap(GameMap p_map) {
-		d_ActiveMap = p_map;
+		d_Context.setMap(p_map);
 	}
 
 	/**
@@ -98,7 +97,7 @@ public class GameEngine {
 	 *         <code>null</code> if not active map file.
 	 */
 	public static String GetActiveMapFile() {
-		return d_ActiveMapFilePath;
+		return d_Context.getActiveMapFile();
 	}
 
 	/**
@@ -107,7 +106,7 @@ public class GameEngine {
 	 * @param p_mapFilePath map file path to set.
 	 */
 	public static void SetActiveMapFile(String p_mapFilePath) {
-		d_ActiveMapFilePath = p_mapFilePath;
+		d_Context.setActiveMapFile(p_mapFilePath);
 	}
 
 	/**
@@ -116,7 +115,7 @@ public class GameEngine {
 	 * @return collection of active players.
 	 */
 	public static Collection<Player> GetPlayers() {
-		return d_ActivePlayers.values();
+		return d_Context.getPlayers();
 	}
 
 	/**
@@ -128,7 +127,7 @@ public class GameEngine {
 	 *         <code>null</code> if the player with specified name does not exist.
 	 */
 	public static Player GetPlayer(String p_name) {
-		return d_ActivePlayers.get(p_name);
+		return d_Context.getPlayer(p_name);
 	}
 
 	/**
@@ -137,7 +136,7 @@ public class GameEngine {
 	 * @return number of active players.
 	 */
 	public static int GetNumberOfPlayers() {
-		return d_ActivePlayers.size();
+		return d_Context.getNumberOfPlayers();
 	}
 
 	/**
@@ -146,7 +145,7 @@ public class GameEngine {
 	 * @param p_player player to add.
 	 */
 	public static void AddPlayer(Player p_player) {
-		d_ActivePlayers.put(p_player.getName(), p_player);
+		d_Context.addPlayer(p_player);
 	}
 
 	/**
@@ -155,15 +154,14 @@ public class GameEngine {
 	 * @param p_name name of the player to remove.
 	 */
 	public static void RemovePlayer(String p_name) {
-		d_ActivePlayers.remove(p_name);
+		d_Context.removePlayer(p_name);
 	}
 
 	/**
 	 * Clears the collection of active players.
 	 */
 	public static void ClearPlayers() {
-		d_ActivePlayers.clear();
-		d_NeutralPlayer = new Player("Neutral");
+		d_Context.clearPlayers();
 	}
 
 	/**
@@ -172,14 +170,15 @@ public class GameEngine {
 	 * @return neutral player.
 	 */
 	public static Player GetNeutralPlayer() {
-		return d_NeutralPlayer;
+		return d_Context.getNeutralPlayer();
 	}
 
 	/** Processes one general application command inputed by user. */
 	public static void ProcessUserCommand() {
-		d_View.display("\nPlease enter your command:");
-		String l_userInput = d_View.getInput();
-		Command l_command = d_ActivePhase.parseCommand(l_userInput);
+		View l_view = d_Context.getView();
+		l_view.display("\nPlease enter your command:");
+		String l_userInput = l_view.getInput();
+		Command l_command = d_Context.getActivePhase().parseCommand(l_userInput);
 		l_command.execute();
 	}
 
@@ -192,12 +191,13 @@ public class GameEngine {
 	 * @return order representing the order issued by the player.
 	 */
 	public static Order ProcessOrderCommand(Player p_player) {
+		View l_view = d_Context.getView();
 		Order l_order = null;
 		while (l_order == null && !p_player.getFinishedIssuingOrders()) {
-			d_View.display("\n" + p_player.getName() + ", please enter your command ("
+			l_view.display("\n" + p_player.getName() + ", please enter your command ("
 					+ p_player.getRemainingReinforcements() + " reinforcements left):");
 
-			Command l_command = d_ActivePhase.parseCommand(d_View.getInput());
+			Command l_command = d_Context.getActivePhase().parseCommand(l_view.getInput());
 			if (l_command instanceof OrderCommand) {
 				l_order = ((OrderCommand) l_command).buildOrder(p_player);
 			} else if (l_command instanceof ShowCardsCommand) {
@@ -219,50 +219,18 @@ public class GameEngine {
 		return l_order;
 	}
 
-	/** Initializes the <code>GameEngine</code>. */
+	/**
+	 * Initializes the <code>GameEngine</code>.
+	 * <p>
+	 * Replaces the active game context with a fresh one.
+	 */
 	public static void Initialize() {
-		// Initialize the view
-		d_View = new ConsoleView();
-
-		// Cleanup active GameMap
-		d_ActiveMap = null;
-
-		// Cleanup active players
-		d_ActivePlayers = new TreeMap<String, Player>();
-		d_NeutralPlayer = new Player("Neutral");
-
-		// Initialize and connect all phases
-		Phase l_editorPhase = new MapEditorPhase();
-		Phase l_startupPhase = new StartupPhase();
-		Phase l_gameplayPhase = new GameplayPhase();
-
-		l_editorPhase.setNextPhase(l_startupPhase);
-		l_startupPhase.setNextPhase(l_gameplayPhase);
-		l_gameplayPhase.setNextPhase(l_editorPhase);
-
-		// Setup initial phase
-		d_ActivePhase = l_editorPhase;
+		d_Context = new GameContext(new ConsoleView());
 	}
 
 	/** Assigns countries randomly to active players. */
 	public static void AssignCountries() {
-		// Get all countries and shuffle them randomly
-		List<Country> l_countryList = d_ActiveMap.getCountries();
-		Collections.shuffle(l_countryList);
-
-		// While there are countries remaining, assign shuffled countries one by one to
-		// players in a round-robin fashion
-		while (!l_countryList.isEmpty()) {
-			for (Player l_player : d_ActivePlayers.values()) {
-				if (l_countryList.isEmpty()) {
-					break;
-				}
-
-				Country l_country = l_countryList.remove(l_countryList.size() - 1);
-				l_player.addCountry(l_country);
-				l_country.setOwner(l_player);
-			}
-		}
+		d_Context.assignCountries();
 	}
 
 	/**
@@ -272,7 +240,7 @@ public class GameEngine {
 	 */
 	private static void RunMainLoop() {
 		while (true) {
-			d_ActivePhase.execute();
+			d_Context.getActivePhase().execute();
 		}
 	}
 }
@@ -0,0 +1,153 @@
+package ca.concordia.risk.game;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * This class draws samples from a binomial distribution.
+ * <p>
+ * A sample is the number of successes among <code>n</code> independent trials
+ * that each succeed with probability <code>p</code>. Instead of simulating each
+ * trial, the sampler uses one of two exact methods:
+ * <ul>
+ * <li>For a small expected number of successes, it adds up geometrically
+ * distributed gaps between successes, which takes about <code>n * p</code>
+ * uniform draws.</li>
+ * <li>Otherwise, it uses the transformed rejection with squeeze method (BTRS)
+ * by W. Hörmann, which takes a small constant number of draws on average
+ * regardless of <code>n</code>.</li>
+ * </ul>
+ */
+public final class BinomialSampler {
+
+	private static final double d_RejectionThreshold = 10.0;
+
+	private static final double[] d_StirlingTails = { 0.0810614667953272, 0.0413406959554092, 0.0276779256849983,
+			0.02079067210376509, 0.0166446911898211, 0.0138761288230707, 0.0118967099458917, 0.0104112652619720,
+			0.00925546218271273, 0.00833056343336287 };
+
+	/**
+	 * Prevents instantiation of this utility class.
+	 */
+	private BinomialSampler() {
+	}
+
+	/**
+	 * Draws the number of successes among <code>p_n</code> trials.
+	 *
+	 * @param p_n       number of trials.
+	 * @param p_p       probability of success of each trial.
+	 * @param p_uniform source of uniform random numbers in <code>[0, 1)</code>.
+	 * @return number of successes, between <code>0</code> and <code>p_n</code>.
+	 * @throws IllegalArgumentException thrown if the number of trials is negative
+	 *                                  or the probability is not in
+	 *                                  <code>[0, 1]</code>.
+	 */
+	public static int Sample(int p_n, double p_p, DoubleSupplier p_uniform) {
+		if (p_n < 0) {
+			throw new IllegalArgumentException("number of trials must not be negative");
+		}
+		if (!(p_p >= 0 && p_p <= 1)) {
+			throw new IllegalArgumentException("probability must be between 0 and 1");
+		}
+		if (p_n == 0 || p_p == 0) {
+			return 0;
+		}
+		if (p_p == 1) {
+			return p_n;
+		}
+
+		// Both methods expect p <= 0.5, count failures instead of successes otherwise
+		if (p_p > 0.5) {
+			return p_n - Sample(p_n, 1 - p_p, p_uniform);
+		}
+
+		if (p_n * p_p < d_RejectionThreshold) {
+			return SampleInversion(p_n, p_p, p_uniform);
+		}
+		return SampleRejection(p_n, p_p, p_uniform);
+	}
+
+	/**
+	 * Draws a binomial sample by adding up the geometric gaps between successes.
+	 *
+	 * @param p_n       number of trials.
+	 * @param p_p       probability of success, at most <code>0.5</code>.
+	 * @param p_uniform source of uniform random numbers.
+	 * @return number of successes.
+	 */
+	private static int SampleInversion(int p_n, double p_p, DoubleSupplier p_uniform) {
+		double l_logFailure = Math.log1p(-p_p);
+		double l_trials = 0;
+		int l_successes = 0;
+		while (true) {
+			// Number of trials up to and including the next success
+			l_trials += Math.ceil(Math.log(p_uniform.getAsDouble()) / l_logFailure);
+			if (l_trials > p_n) {
+				return l_successes;
+			}
+			l_successes++;
+		}
+	}
+
+	/**
+	 * Draws a binomial sample with the transformed rejection with squeeze method.
+	 *
+	 * @param p_n       number of trials.
+	 * @param p_p       probability of success, at most <code>0.5</code>, with
+	 *                  <code>p_n * p_p</code> at least <code>10</code>.
+	 * @param p_uniform source of uniform random numbers.
+	 * @return number of successes.
+	 */
+	private static int SampleRejection(int p_n, double p_p, DoubleSupplier p_uniform) {
+		double l_q = 1 - p_p;
+		double l_spq = Math.sqrt(p_n * p_p * l_q);
+		double l_b = 1.15 + 2.53 * l_spq;
+		double l_a = -0.0873 + 0.0248 * l_b + 0.01 * p_p;
+		double l_c = p_n * p_p + 0.5;
+		double l_vr = 0.92 - 4.2 / l_b;
+		double l_r = p_p / l_q;
+		double l_alpha = (2.83 + 5.1 / l_b) * l_spq;
+		double l_m = Math.floor((p_n + 1.0) * p_p);
+
+		while (true) {
+			double l_u = p_uniform.getAsDouble() - 0.5;
+			double l_v = p_uniform.getAsDouble();
+			double l_us = 0.5 - Math.abs(l_u);
+			double l_k = Math.floor((2 * l_a / l_us + l_b) * l_u + l_c);
+			if (l_k < 0 || l_k > p_n) {
+				continue;
+			}
+
+			// Squeeze: accept most samples without evaluating the density
+			if (l_us >= 0.07 && l_v <= l_vr) {
+				return (int) l_k;
+			}
+
+			// Compare against the log ratio of the binomial density at k and at the mode
+			l_v = Math.log(l_v * l_alpha / (l_a / (l_us * l_us) + l_b));
+			double l_bound = (l_m + 0.5) * Math.log((l_m + 1) / (l_r * (p_n - l_m + 1)))
+					+ (p_n + 1.0) * Math.log((p_n - l_m + 1) / (p_n - l_k + 1))
+					+ (l_k + 0.5) * Math.log(l_r * (p_n - l_k + 1) / (l_k + 1)) + StirlingTail(l_m)
+					+ StirlingTail(p_n - l_m) - StirlingTail(l_k) - StirlingTail(p_n - l_k);
+			if (l_v <= l_bound) {
+				return (int) l_k;
+			}
+		}
+	}
+
+	/**
+	 * Computes the error of the Stirling approximation of <code>log(k!)</code>.
+	 *
+	 * @param p_k non-negative integer value.
+	 * @return difference between <code>log(k!)</code> and its Stirling
+	 *         approximation.
+	 */
+	private static double StirlingTail(double p_k) {
+		if (p_k < d_StirlingTails.length) {
+			return d_StirlingTails[(int) p_k];
+		}
+		double l_kp1 = p_k + 1;
+		double l_kp1sq = l_kp1 * l_kp1;
+		return (1.0 / 12 - (1.0 / 360 - 1.0 / 1260 / l_kp1sq) / l_kp1sq) / l_kp1;
+	}
+}
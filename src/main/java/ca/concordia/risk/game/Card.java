@@ -2,7 +2,6 @@ package ca.concordia.risk.game;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Random;
 
 /**
  * This class provides the implementation of Cards in the Risk game.
@@ -15,7 +14,6 @@ public class Card {
 		BOMB, BLOCKADE, AIRLIFT, DIPLOMACY;
 	}
 
-	private static Random d_Random = new Random();
 	private static Map<CardType, Card> d_CardMap = new HashMap<>();
 
 	/*
@@ -46,10 +44,11 @@ public class Card {
 	/**
 	 * This is a factory method that generates and returns a Card at random.
 	 * 
+	 * @param p_random source of randomness of the game the card is issued in.
 	 * @return l_card random Card.
 	 */
-	public static Card issueCard() {
-		CardType l_randomType = CardType.values()[d_Random.nextInt(CardType.values().length)];
+	public static Card issueCard(GameRandom p_random) {
+		CardType l_randomType = CardType.values()[p_random.nextInt(CardType.values().length)];
 		return d_CardMap.get(l_randomType);
 	}
 
@@ -1,11 +1,22 @@
 package ca.concordia.risk.game;
 
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Set;
 import java.util.TreeSet;
 
 /**
  * This class is the representation of the game country.
+ * <p>
+ * Once the country is added to a <code>GameMap</code>, it is given a dense id
+ * by the compiled <code>MapTopology</code> of that map. Editing the neighbors
+ * of the country discards the compiled topology of its map. Each country also
+ * keeps the countries that have it as a neighbor, so that removing a country
+ * only touches the countries it shares a border with.
+ * <p>
+ * While the topology of its map is compiled, the number of armies and the owner
+ * of the country are stored in the <code>GameState</code> of the map. Otherwise
+ * they are stored in the country itself.
  * 
  * @author Enrique
  *
@@ -16,6 +27,12 @@ public class Country {
 	private Continent d_continent;
 	private Player d_owner;
 	private Set<Country> d_neighbors = new TreeSet<Country>(Comparator.comparing(Country::getName));
+	private Set<Country> d_neighborsView = Collections.unmodifiableSet(d_neighbors);
+	private Set<Country> d_incomingNeighbors = new TreeSet<Country>(Comparator.comparing(Country::getName));
+	private Set<Country> d_incomingNeighborsView = Collections.unmodifiableSet(d_incomingNeighbors);
+	private GameMap d_map;
+	private int d_id = -1;
+	private GameState d_state;
 
 	/**
 	 * Creates a new <code>Country</code>.
@@ -46,13 +63,66 @@ public class Country {
 		return d_continent;
 	}
 
+	/**
+	 * Gets the id of the country in the compiled topology of its map.
+	 * <p>
+	 * The id is only valid while the topology returned by
+	 * <code>GameMap.getTopology()</code> is current.
+	 * 
+	 * @return id of the country.<br>
+	 *         <code>-1</code> if the topology of the map was never compiled.
+	 */
+	public int getId() {
+		return d_id;
+	}
+
+	/**
+	 * Sets the id of the country in the compiled topology of its map.
+	 * 
+	 * @param p_id id of the country.
+	 */
+	void setId(int p_id) {
+		d_id = p_id;
+	}
+
+	/**
+	 * Gets the map this country belongs to.
+	 * 
+	 * @return map the country was added to.<br>
+	 *         <code>null</code> if the country does not belong to any map.
+	 */
+	public GameMap getMap() {
+		return d_map;
+	}
+
+	/**
+	 * Sets the map this country belongs to.
+	 * 
+	 * @param p_map map the country belongs to, or <code>null</code>.
+	 */
+	void setMap(GameMap p_map) {
+		d_map = p_map;
+	}
+
 	/**
 	 * Gets the neighboring countries.
 	 * 
-	 * @return set of neighboring countries.
+	 * @return unmodifiable set of neighboring countries.
 	 */
 	public Set<Country> getNeighbors() {
-		return d_neighbors;
+		return d_neighborsView;
+	}
+
+	/**
+	 * Gets the countries that have this country as a neighbor.
+	 * <p>
+	 * Borders are directed, so these are the countries with a border to this
+	 * country. The set is kept up to date as neighbors are added and removed.
+	 * 
+	 * @return unmodifiable set of countries bordering this country.
+	 */
+	public Set<Country> getIncomingNeighbors() {
+		return d_incomingNeighborsView;
 	}
 
 	/**
@@ -61,6 +131,9 @@ public class Country {
 	 * @return player owning the country.
 	 */
 	public Player getOwner() {
+		if (d_state != null) {
+			return d_state.getOwner(d_id);
+		}
 		return d_owner;
 	}
 
@@ -70,6 +143,9 @@ public class Country {
 	 * @return number of of armies currently deployed in this country.
 	 */
 	public int getArmies() {
+		if (d_state != null) {
+			return d_state.getArmies(d_id);
+		}
 		return d_numArmies;
 	}
 
@@ -81,7 +157,33 @@ public class Country {
 	 *         <code>false</code> if the neighbor already existed.
 	 */
 	public boolean addNeighbor(Country p_country) {
-		return d_neighbors.add(p_country);
+		if (d_neighbors.contains(p_country)) {
+			return false;
+		}
+
+		// Only a change of the neighbors discards the compiled topology
+		if (d_map != null) {
+			d_map.onTopologyEdited();
+		}
+		d_neighbors.add(p_country);
+		p_country.d_incomingNeighbors.add(this);
+		if (d_map != null) {
+			d_map.onNeighborEdited(this, p_country, true);
+		}
+		return true;
+	}
+
+	/**
+	 * Adds a neighbor without discarding the compiled topology of the map or
+	 * notifying its listeners.
+	 * <p>
+	 * Only used by the map to install borders that are already compiled.
+	 * 
+	 * @param p_country country to be added as a neighbor.
+	 */
+	void linkNeighbor(Country p_country) {
+		d_neighbors.add(p_country);
+		p_country.d_incomingNeighbors.add(this);
 	}
 
 	/**
@@ -92,7 +194,20 @@ public class Country {
 	 *         <code>false</code> if <code>p_country</code> was not a neighbor.
 	 */
 	public boolean removeNeighbor(Country p_country) {
-		return d_neighbors.remove(p_country);
+		if (!d_neighbors.contains(p_country)) {
+			return false;
+		}
+
+		// Only a change of the neighbors discards the compiled topology
+		if (d_map != null) {
+			d_map.onTopologyEdited();
+		}
+		d_neighbors.remove(p_country);
+		p_country.d_incomingNeighbors.remove(this);
+		if (d_map != null) {
+			d_map.onNeighborEdited(this, p_country, false);
+		}
+		return true;
 	}
 
 	/**
@@ -104,6 +219,13 @@ public class Country {
 	 *         <code>false</code> if <code>p_country</code> is not a neighbor.
 	 */
 	public boolean hasNeighbor(Country p_country) {
+		// Use the compiled topology if both countries are part of it
+		if (d_map != null && p_country.d_map == d_map) {
+			MapTopology l_topology = d_map.getCompiledTopology();
+			if (l_topology != null) {
+				return l_topology.hasBorder(d_id, p_country.d_id);
+			}
+		}
 		return d_neighbors.contains(p_country);
 	}
 
@@ -113,7 +235,11 @@ public class Country {
 	 * @param p_owner player owning the country.
 	 */
 	public void setOwner(Player p_owner) {
-		this.d_owner = p_owner;
+		if (d_state != null) {
+			d_state.setOwner(d_id, p_owner);
+		} else {
+			d_owner = p_owner;
+		}
 	}
 
 	/**
@@ -123,7 +249,7 @@ public class Country {
 	 */
 	public void addArmies(int p_armies) {
 		if (p_armies > 0) {
-			d_numArmies += p_armies;
+			setArmies(getArmies() + p_armies);
 		}
 	}
 
@@ -133,8 +259,49 @@ public class Country {
 	 * @param p_armies positive integer representing the number of armies to remove.
 	 */
 	public void removeArmies(int p_armies) {
-		if (p_armies > 0 && p_armies <= d_numArmies) {
-			d_numArmies -= p_armies;
+		int l_armies = getArmies();
+		if (p_armies > 0 && p_armies <= l_armies) {
+			setArmies(l_armies - p_armies);
+		}
+	}
+
+	/**
+	 * Sets the number of deployed armies.
+	 * 
+	 * @param p_armies number of armies.
+	 */
+	private void setArmies(int p_armies) {
+		if (d_state != null) {
+			d_state.setArmies(d_id, p_armies);
+		} else {
+			d_numArmies = p_armies;
+		}
+	}
+
+	/**
+	 * Moves the number of armies and the owner of the country into a game state.
+	 * <p>
+	 * Called by the map once the id of the country is assigned.
+	 * 
+	 * @param p_state state of the map the country belongs to.
+	 */
+	void attachState(GameState p_state) {
+		p_state.setArmies(d_id, d_numArmies);
+		p_state.setOwner(d_id, d_owner);
+		d_state = p_state;
+		d_numArmies = 0;
+		d_owner = null;
+	}
+
+	/**
+	 * Moves the number of armies and the owner of the country out of its game
+	 * state, back into the country.
+	 */
+	void detachState() {
+		if (d_state != null) {
+			d_numArmies = d_state.getArmies(d_id);
+			d_owner = d_state.getOwner(d_id);
+			d_state = null;
 		}
 	}
 }
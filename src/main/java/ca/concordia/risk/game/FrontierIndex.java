@@ -0,0 +1,274 @@
+package ca.concordia.risk.game;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class indexes the frontier of each player on a <code>GameMap</code>.
+ * <p>
+ * The frontier of a player is the set of countries it owns that have at least
+ * one neighbor owned by someone else. The targets of a player are the countries
+ * owned by someone else that are neighbors of at least one of its countries.
+ * <p>
+ * The index is attached to its map as an <code>OwnershipListener</code> and is
+ * updated on each ownership transfer in time proportional to the number of
+ * borders of the transferred country. If owners are changed in any other way,
+ * for instance by restoring a <code>GameState</code> snapshot, the index is
+ * rebuilt on the next query.
+ */
+public final class FrontierIndex implements OwnershipListener {
+
+	private final MapTopology d_topology;
+	private final GameState d_state;
+	private final int[] d_enemyNeighbors;
+	private final Map<Player, Border> d_borders = new HashMap<Player, Border>();
+	private long d_version;
+
+	/**
+	 * Creates and builds the frontier index of a compiled map.
+	 *
+	 * @param p_topology compiled topology of the map.
+	 * @param p_state    game state of the map.
+	 */
+	FrontierIndex(MapTopology p_topology, GameState p_state) {
+		d_topology = p_topology;
+		d_state = p_state;
+		d_enemyNeighbors = new int[p_topology.getNumberOfCountries()];
+		rebuild();
+	}
+
+	/**
+	 * Gets the frontier of a player.
+	 *
+	 * @param p_player player to get the frontier of.
+	 * @return list of countries owned by the player that have an enemy neighbor,
+	 *         ordered by id.
+	 */
+	public List<Country> getFrontier(Player p_player) {
+		ensureCurrent();
+		Border l_border = d_borders.get(p_player);
+		return l_border == null ? new ArrayList<Country>() : toCountryList(l_border.d_frontier);
+	}
+
+	/**
+	 * Gets the targets of a player.
+	 *
+	 * @param p_player player to get the targets of.
+	 * @return list of countries owned by someone else that are neighbors of the
+	 *         countries of the player, ordered by id.
+	 */
+	public List<Country> getTargets(Player p_player) {
+		ensureCurrent();
+		Border l_border = d_borders.get(p_player);
+		return l_border == null ? new ArrayList<Country>() : toCountryList(l_border.d_targets);
+	}
+
+	/**
+	 * Checks if a country has a neighbor owned by someone other than its owner.
+	 *
+	 * @param p_country country to check.
+	 * @return <code>true</code> if the country is on the frontier of its owner.<br>
+	 *         <code>false</code> otherwise.
+	 */
+	public boolean isFrontier(Country p_country) {
+		return getNumberOfEnemyNeighbors(p_country) > 0;
+	}
+
+	/**
+	 * Gets the number of neighbors of a country owned by someone other than its
+	 * owner.
+	 *
+	 * @param p_country country to check.
+	 * @return number of enemy neighbors.
+	 */
+	public int getNumberOfEnemyNeighbors(Country p_country) {
+		ensureCurrent();
+		return d_enemyNeighbors[p_country.getId()];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Updates the frontier and targets of the previous and the new owner, as well
+	 * as the frontier of the owners of neighboring countries.
+	 */
+	@Override
+	public void onOwnershipChanged(Country p_country, Player p_previousOwner, Player p_newOwner) {
+		// Only update incrementally if this transfer is the only change since the
+		// last update, otherwise leave the index to be rebuilt
+		if (d_version + 1 != d_state.getOwnershipVersion()) {
+			return;
+		}
+		d_version++;
+
+		int[] l_offsets = d_topology.getNeighborOffsets();
+		int[] l_targets = d_topology.getNeighborTargets();
+		int[] l_incomingOffsets = d_topology.getIncomingOffsets();
+		int[] l_incomingSources = d_topology.getIncomingSources();
+		int l_id = p_country.getId();
+		Border l_previousBorder = p_previousOwner == null ? null : getBorder(p_previousOwner);
+		Border l_newBorder = p_newOwner == null ? null : getBorder(p_newOwner);
+
+		// Neighbors of the country change which player they are touched by
+		int l_enemyNeighbors = 0;
+		for (int l_i = l_offsets[l_id]; l_i < l_offsets[l_id + 1]; l_i++) {
+			int l_neighborId = l_targets[l_i];
+			if (d_state.getOwner(l_neighborId) != p_newOwner) {
+				l_enemyNeighbors++;
+			}
+			if (l_previousBorder != null) {
+				l_previousBorder.d_touchCounts[l_neighborId]--;
+				updateTarget(p_previousOwner, l_previousBorder, l_neighborId);
+			}
+			if (l_newBorder != null) {
+				l_newBorder.d_touchCounts[l_neighborId]++;
+				updateTarget(p_newOwner, l_newBorder, l_neighborId);
+			}
+		}
+		d_enemyNeighbors[l_id] = l_enemyNeighbors;
+
+		// Countries bordering the country may gain or lose an enemy neighbor
+		for (int l_i = l_incomingOffsets[l_id]; l_i < l_incomingOffsets[l_id + 1]; l_i++) {
+			int l_sourceId = l_incomingSources[l_i];
+			Player l_sourceOwner = d_state.getOwner(l_sourceId);
+			boolean l_wasEnemy = l_sourceOwner != p_previousOwner;
+			boolean l_isEnemy = l_sourceOwner != p_newOwner;
+			if (l_wasEnemy != l_isEnemy) {
+				d_enemyNeighbors[l_sourceId] += l_isEnemy ? 1 : -1;
+				updateFrontier(l_sourceId);
+			}
+		}
+
+		// Move the country itself from one frontier to the other
+		if (l_previousBorder != null) {
+			l_previousBorder.d_frontier.clear(l_id);
+			updateTarget(p_previousOwner, l_previousBorder, l_id);
+		}
+		if (l_newBorder != null) {
+			l_newBorder.d_targets.clear(l_id);
+		}
+		updateFrontier(l_id);
+	}
+
+	/**
+	 * Rebuilds the index if the owners in the game state changed without going
+	 * through an ownership transfer.
+	 */
+	private void ensureCurrent() {
+		if (d_version != d_state.getOwnershipVersion()) {
+			rebuild();
+		}
+	}
+
+	/**
+	 * Rebuilds the whole index from the game state.
+	 */
+	private void rebuild() {
+		d_borders.clear();
+		int[] l_offsets = d_topology.getNeighborOffsets();
+		int[] l_targets = d_topology.getNeighborTargets();
+		int l_numCountries = d_topology.getNumberOfCountries();
+
+		// Count enemy neighbors and how many countries of each player touch each
+		// country
+		for (int l_id = 0; l_id < l_numCountries; l_id++) {
+			Player l_owner = d_state.getOwner(l_id);
+			Border l_border = l_owner == null ? null : getBorder(l_owner);
+			d_enemyNeighbors[l_id] = 0;
+			for (int l_i = l_offsets[l_id]; l_i < l_offsets[l_id + 1]; l_i++) {
+				int l_neighborId = l_targets[l_i];
+				if (d_state.getOwner(l_neighborId) != l_owner) {
+					d_enemyNeighbors[l_id]++;
+				}
+				if (l_border != null) {
+					l_border.d_touchCounts[l_neighborId]++;
+				}
+			}
+		}
+
+		// Fill the frontier and target sets
+		for (int l_id = 0; l_id < l_numCountries; l_id++) {
+			updateFrontier(l_id);
+		}
+		for (Map.Entry<Player, Border> l_entry : d_borders.entrySet()) {
+			int[] l_touchCounts = l_entry.getValue().d_touchCounts;
+			for (int l_id = 0; l_id < l_numCountries; l_id++) {
+				if (l_touchCounts[l_id] > 0) {
+					updateTarget(l_entry.getKey(), l_entry.getValue(), l_id);
+				}
+			}
+		}
+
+		d_version = d_state.getOwnershipVersion();
+	}
+
+	/**
+	 * Updates the frontier membership of a country for its owner.
+	 *
+	 * @param p_id id of the country.
+	 */
+	private void updateFrontier(int p_id) {
+		Player l_owner = d_state.getOwner(p_id);
+		if (l_owner != null) {
+			getBorder(l_owner).d_frontier.set(p_id, d_enemyNeighbors[p_id] > 0);
+		}
+	}
+
+	/**
+	 * Updates the target membership of a country for a player.
+	 *
+	 * @param p_player player to update the targets of.
+	 * @param p_border border of the player.
+	 * @param p_id     id of the country.
+	 */
+	private void updateTarget(Player p_player, Border p_border, int p_id) {
+		p_border.d_targets.set(p_id, p_border.d_touchCounts[p_id] > 0 && d_state.getOwner(p_id) != p_player);
+	}
+
+	/**
+	 * Gets the border of a player, creating it if needed.
+	 *
+	 * @param p_player player to get the border of.
+	 * @return border of the player.
+	 */
+	private Border getBorder(Player p_player) {
+		return d_borders.computeIfAbsent(p_player, l_player -> new Border(d_topology.getNumberOfCountries()));
+	}
+
+	/**
+	 * Converts a set of country ids to a list of countries.
+	 *
+	 * @param p_ids set of country ids.
+	 * @return list of countries ordered by id.
+	 */
+	private List<Country> toCountryList(BitSet p_ids) {
+		List<Country> l_countries = new ArrayList<Country>(p_ids.cardinality());
+		for (int l_id = p_ids.nextSetBit(0); l_id >= 0; l_id = p_ids.nextSetBit(l_id + 1)) {
+			l_countries.add(d_topology.getCountry(l_id));
+		}
+		return l_countries;
+	}
+
+	/**
+	 * Frontier, targets and touch counts of a single player.
+	 */
+	private static class Border {
+		private final BitSet d_frontier;
+		private final BitSet d_targets;
+		private final int[] d_touchCounts;
+
+		/**
+		 * Creates an empty border.
+		 *
+		 * @param p_numCountries number of countries in the map.
+		 */
+		private Border(int p_numCountries) {
+			d_frontier = new BitSet(p_numCountries);
+			d_targets = new BitSet(p_numCountries);
+			d_touchCounts = new int[p_numCountries];
+		}
+	}
+}
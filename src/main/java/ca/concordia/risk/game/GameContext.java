@@ -0,0 +1,518 @@
+package ca.concordia.risk.game;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import ca.concordia.risk.game.phases.GameplayPhase;
+import ca.concordia.risk.game.phases.MapEditorPhase;
+import ca.concordia.risk.game.phases.Phase;
+import ca.concordia.risk.game.phases.StartupPhase;
+import ca.concordia.risk.io.views.View;
+import ca.concordia.risk.utils.AsyncLogWriter;
+import ca.concordia.risk.utils.IncrementalValidator;
+import ca.concordia.risk.utils.LogLevel;
+import ca.concordia.risk.utils.Observer;
+
+/**
+ * This class holds the complete state of a single game.
+ * <p>
+ * The context owns the active map, the players, the neutral player, the active
+ * phase, the view and the source of randomness of the game. Phases, orders and
+ * player strategies operate on the context they were given, so independent
+ * games using different contexts never share mutable state and can be played
+ * on different threads.
+ */
+public class GameContext {
+
+	private Phase d_activePhase;
+	private View d_view;
+	private GameMap d_activeMap;
+	private IncrementalValidator d_mapValidator;
+	private MapTransaction d_mapTransaction;
+	private String d_activeMapFilePath;
+	private Map<String, Player> d_activePlayers = new TreeMap<String, Player>();
+	private Player d_neutralPlayer = new Player("Neutral", this);
+	private boolean d_fileLoggingEnabled = true;
+	private String d_logDirectory = "logs";
+	private String d_saveDirectory = "save";
+	private AsyncLogWriter.OverflowPolicy d_logOverflowPolicy = AsyncLogWriter.OverflowPolicy.BLOCK;
+	private Set<LogLevel> d_logLevels = EnumSet.allOf(LogLevel.class);
+	private boolean d_journalEnabled = false;
+	private List<Observer> d_logObservers = new CopyOnWriteArrayList<Observer>();
+	private GameResult d_gameResult;
+	private GameRandom d_random = new GameRandom();
+	private String d_gameId;
+
+	/**
+	 * Creates a new game context using the given view.
+	 * <p>
+	 * The phases of the context are created and connected, with the Map Editor
+	 * phase set as the active phase.
+	 *
+	 * @param p_view view to use for displaying game messages.
+	 */
+	public GameContext(View p_view) {
+		d_view = p_view;
+
+		// Initialize and connect all phases
+		Phase l_editorPhase = new MapEditorPhase(this);
+		Phase l_startupPhase = new StartupPhase(this);
+		Phase l_gameplayPhase = new GameplayPhase(this);
+
+		l_editorPhase.setNextPhase(l_startupPhase);
+		l_startupPhase.setNextPhase(l_gameplayPhase);
+		l_gameplayPhase.setNextPhase(l_editorPhase);
+
+		// Setup initial phase
+		d_activePhase = l_editorPhase;
+	}
+
+	/**
+	 * Transitions to the next phase according to the currently active phase.
+	 */
+	public void switchToNextPhase() {
+		d_activePhase.executeOnPhaseEnd();
+		d_activePhase = d_activePhase.getNextPhase();
+		d_activePhase.executeOnPhaseStart();
+	}
+
+	/**
+	 * Gets the view used by this game.
+	 *
+	 * @return view used by the game.
+	 */
+	public View getView() {
+		return d_view;
+	}
+
+	/**
+	 * Gets the active phase of the game.
+	 *
+	 * @return active phase.
+	 */
+	public Phase getActivePhase() {
+		return d_activePhase;
+	}
+
+	/**
+	 * Gets the source of randomness of the game.
+	 *
+	 * @return random number generator of the game.
+	 */
+	public GameRandom getRandom() {
+		return d_random;
+	}
+
+	/**
+	 * Replaces the source of randomness of the game with one using the given seed.
+	 * <p>
+	 * Playing a game again from the same seed, with the same players and inputs,
+	 * replays it exactly.
+	 *
+	 * @param p_seed seed to use.
+	 */
+	public void setRandomSeed(long p_seed) {
+		d_random = new GameRandom(p_seed);
+	}
+
+	/**
+	 * Gets the id of the game, which names its log files.
+	 *
+	 * @return id set with <code>setGameId()</code>.<br>
+	 *         the seed of the game, in hexadecimal, if no id was set.
+	 */
+	public String getGameId() {
+		return d_gameId != null ? d_gameId : Long.toHexString(d_random.getSeed());
+	}
+
+	/**
+	 * Sets the id of the game, which names its log files.
+	 *
+	 * @param p_gameId id of the game, or <code>null</code> to name the log files
+	 *                 after the seed of the game.
+	 */
+	public void setGameId(String p_gameId) {
+		d_gameId = p_gameId;
+	}
+
+	/**
+	 * Gets the active game map.
+	 *
+	 * @return active game map.
+	 */
+	public GameMap getMap() {
+		return d_activeMap;
+	}
+
+	/**
+	 * Sets the active game map.
+	 *
+	 * @param p_map game map to set as an active map.
+	 */
+	public void setMap(GameMap p_map) {
+		if (d_mapValidator != null) {
+			d_mapValidator.detach();
+			d_mapValidator = null;
+		}
+		d_mapTransaction = null;
+		d_activeMap = p_map;
+	}
+
+	/**
+	 * Gets the validator of the active game map.
+	 * <p>
+	 * The validator is created on the first call for each active map, and keeps
+	 * the validation result up to date as the map is edited.
+	 *
+	 * @return validator of the active map.<br>
+	 *         <code>null</code> if there is no active map.
+	 */
+	public IncrementalValidator getMapValidator() {
+		if (d_mapValidator == null && d_activeMap != null) {
+			d_mapValidator = new IncrementalValidator(d_activeMap);
+		}
+		return d_mapValidator;
+	}
+
+	/**
+	 * Gets the open transaction on the active game map.
+	 *
+	 * @return open map transaction.<br>
+	 *         <code>null</code> if no transaction is open.
+	 */
+	public MapTransaction getMapTransaction() {
+		return d_mapTransaction;
+	}
+
+	/**
+	 * Opens a transaction on the active game map.
+	 * <p>
+	 * Map edits are recorded into the open transaction instead of being applied
+	 * until the transaction is ended. Setting a new active map discards the open
+	 * transaction.
+	 *
+	 * @return open map transaction.
+	 * @throws IllegalStateException thrown if there is no active map or a
+	 *                               transaction is already open.
+	 */
+	public MapTransaction beginMapTransaction() {
+		if (d_activeMap == null) {
+			throw new IllegalStateException("no active map");
+		}
+		if (d_mapTransaction != null) {
+			throw new IllegalStateException("a transaction is already open");
+		}
+		d_mapTransaction = new MapTransaction(d_activeMap);
+		return d_mapTransaction;
+	}
+
+	/**
+	 * Closes the open transaction on the active game map, without committing or
+	 * rolling it back.
+	 *
+	 * @return closed map transaction.<br>
+	 *         <code>null</code> if no transaction was open.
+	 */
+	public MapTransaction endMapTransaction() {
+		MapTransaction l_transaction = d_mapTransaction;
+		d_mapTransaction = null;
+		return l_transaction;
+	}
+
+	/**
+	 * Gets the active game map file path, if any.
+	 *
+	 * @return string representing the game map file path.<br>
+	 *         <code>null</code> if not active map file.
+	 */
+	public String getActiveMapFile() {
+		return d_activeMapFilePath;
+	}
+
+	/**
+	 * Sets the active game map file path.
+	 *
+	 * @param p_mapFilePath map file path to set.
+	 */
+	public void setActiveMapFile(String p_mapFilePath) {
+		d_activeMapFilePath = p_mapFilePath;
+	}
+
+	/**
+	 * Gets the collection of active players.
+	 *
+	 * @return collection of active players.
+	 */
+	public Collection<Player> getPlayers() {
+		return d_activePlayers.values();
+	}
+
+	/**
+	 * Gets a player from the list of active players.
+	 *
+	 * @param p_name name of the player to get.
+	 * @return <code>Player</code> object if the player with specified name
+	 *         exists.<br>
+	 *         <code>null</code> if the player with specified name does not exist.
+	 */
+	public Player getPlayer(String p_name) {
+		return d_activePlayers.get(p_name);
+	}
+
+	/**
+	 * Gets the number of active players.
+	 *
+	 * @return number of active players.
+	 */
+	public int getNumberOfPlayers() {
+		return d_activePlayers.size();
+	}
+
+	/**
+	 * Adds a new player to the list of active players.
+	 *
+	 * @param p_player player to add.
+	 */
+	public void addPlayer(Player p_player) {
+		d_activePlayers.put(p_player.getName(), p_player);
+	}
+
+	/**
+	 * Removes a player from the list of active players.
+	 *
+	 * @param p_name name of the player to remove.
+	 */
+	public void removePlayer(String p_name) {
+		d_activePlayers.remove(p_name);
+	}
+
+	/**
+	 * Clears the collection of active players and resets the neutral player.
+	 */
+	public void clearPlayers() {
+		d_activePlayers.clear();
+		d_neutralPlayer = new Player("Neutral", this);
+	}
+
+	/**
+	 * Gets the neutral player.
+	 *
+	 * @return neutral player.
+	 */
+	public Player getNeutralPlayer() {
+		return d_neutralPlayer;
+	}
+
+	/**
+	 * Checks if the game log is written to the log file.
+	 *
+	 * @return <code>true</code> if the game log is written to the log file.<br>
+	 *         <code>false</code> otherwise.
+	 */
+	public boolean isFileLoggingEnabled() {
+		return d_fileLoggingEnabled;
+	}
+
+	/**
+	 * Enables or disables writing the game log to the log file.
+	 * <p>
+	 * Each game writes its own log file, named after the game id.
+	 *
+	 * @param p_enabled <code>true</code> to write the log file, <code>false</code>
+	 *                  otherwise.
+	 */
+	public void setFileLoggingEnabled(boolean p_enabled) {
+		d_fileLoggingEnabled = p_enabled;
+	}
+
+	/**
+	 * Gets the directory the log file and the game journal are written to.
+	 *
+	 * @return path of the log directory.
+	 */
+	public String getLogDirectory() {
+		return d_logDirectory;
+	}
+
+	/**
+	 * Sets the directory the log file and the game journal are written to.
+	 * <p>
+	 * The directory is created if needed. Takes effect the next time the Gameplay
+	 * Phase starts.
+	 *
+	 * @param p_logDirectory path of the log directory.
+	 */
+	public void setLogDirectory(String p_logDirectory) {
+		d_logDirectory = p_logDirectory;
+	}
+
+	/**
+	 * Gets the directory the save files of the game are written to and read from.
+	 *
+	 * @return path of the save directory.
+	 */
+	public String getSaveDirectory() {
+		return d_saveDirectory;
+	}
+
+	/**
+	 * Sets the directory the save files of the game are written to and read from.
+	 * <p>
+	 * Save file paths given to <code>GameLoader</code> are relative to this
+	 * directory, which is created if needed.
+	 *
+	 * @param p_saveDirectory path of the save directory.
+	 */
+	public void setSaveDirectory(String p_saveDirectory) {
+		d_saveDirectory = p_saveDirectory;
+	}
+
+	/**
+	 * Checks if the game log is written to the binary game journal.
+	 *
+	 * @return <code>true</code> if the game journal is written.<br>
+	 *         <code>false</code> otherwise.
+	 */
+	public boolean isJournalEnabled() {
+		return d_journalEnabled;
+	}
+
+	/**
+	 * Enables or disables writing the game log to the binary game journal.
+	 * <p>
+	 * The journal holds the same events as the log file in a fraction of its
+	 * size, and can be rendered as text with <code>GameJournal.Decode()</code>.
+	 * Takes effect the next time the Gameplay Phase starts.
+	 *
+	 * @param p_enabled <code>true</code> to write the game journal,
+	 *                  <code>false</code> otherwise.
+	 */
+	public void setJournalEnabled(boolean p_enabled) {
+		d_journalEnabled = p_enabled;
+	}
+
+	/**
+	 * Gets the observers receiving the game log, besides the log file writer and
+	 * the game journal.
+	 *
+	 * @return unmodifiable list of log observers.
+	 */
+	public List<Observer> getLogObservers() {
+		return Collections.unmodifiableList(d_logObservers);
+	}
+
+	/**
+	 * Adds an observer receiving the game log, such as an in-memory history or a
+	 * spectator.
+	 * <p>
+	 * The observer is notified on its own thread with a snapshot of the
+	 * <code>LogEntryBuffer</code>. Takes effect the next time the Gameplay Phase
+	 * starts.
+	 *
+	 * @param p_observer log observer to add.
+	 */
+	public void attachLogObserver(Observer p_observer) {
+		d_logObservers.add(p_observer);
+	}
+
+	/**
+	 * Removes an observer receiving the game log.
+	 * <p>
+	 * Takes effect the next time the Gameplay Phase starts.
+	 *
+	 * @param p_observer log observer to remove.
+	 */
+	public void detachLogObserver(Observer p_observer) {
+		d_logObservers.remove(p_observer);
+	}
+
+	/**
+	 * Gets the policy applied when the game log writer or a log observer has too
+	 * many pending entries.
+	 *
+	 * @return log overflow policy.
+	 */
+	public AsyncLogWriter.OverflowPolicy getLogOverflowPolicy() {
+		return d_logOverflowPolicy;
+	}
+
+	/**
+	 * Sets the policy applied when the game log writer or a log observer has too
+	 * many pending entries.
+	 * <p>
+	 * Takes effect the next time the Gameplay Phase starts.
+	 *
+	 * @param p_policy log overflow policy.
+	 */
+	public void setLogOverflowPolicy(AsyncLogWriter.OverflowPolicy p_policy) {
+		d_logOverflowPolicy = p_policy;
+	}
+
+	/**
+	 * Gets the levels of the events written to the game log.
+	 *
+	 * @return enabled log levels.
+	 */
+	public Set<LogLevel> getLogLevels() {
+		return d_logLevels;
+	}
+
+	/**
+	 * Sets the levels of the events written to the game log.
+	 * <p>
+	 * Takes effect the next time the Gameplay Phase starts. Disabling
+	 * <code>LogLevel.ORDER</code> and <code>LogLevel.BATTLE</code> keeps the
+	 * players' orders from building any status message in headless games.
+	 *
+	 * @param p_levels log levels to enable, all other levels are disabled.
+	 */
+	public void setLogLevels(Set<LogLevel> p_levels) {
+		d_logLevels = p_levels.isEmpty() ? EnumSet.noneOf(LogLevel.class) : EnumSet.copyOf(p_levels);
+	}
+
+	/**
+	 * Gets the result of the last finished game.
+	 *
+	 * @return result of the game if it has finished.<br>
+	 *         <code>null</code> if the game is not finished.
+	 */
+	public GameResult getGameResult() {
+		return d_gameResult;
+	}
+
+	/**
+	 * Sets the result of the game.
+	 *
+	 * @param p_gameResult result of the finished game, or <code>null</code> to
+	 *                     clear it.
+	 */
+	public void setGameResult(GameResult p_gameResult) {
+		d_gameResult = p_gameResult;
+	}
+
+	/** Assigns countries of the active map randomly to active players. */
+	public void assignCountries() {
+		// Get all countries and shuffle them randomly
+		List<Country> l_countryList = d_activeMap.getCountries();
+		d_random.shuffle(l_countryList);
+
+		// While there are countries remaining, assign shuffled countries one by one to
+		// players in a round-robin fashion
+		while (!l_countryList.isEmpty()) {
+			for (Player l_player : d_activePlayers.values()) {
+				if (l_countryList.isEmpty()) {
+					break;
+				}
+
+				Country l_country = l_countryList.remove(l_countryList.size() - 1);
+				d_activeMap.transferOwnership(l_country, l_player);
+			}
+		}
+	}
+}
@@ -1,6 +1,7 @@
 package ca.concordia.risk.game;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -12,6 +13,18 @@ import java.util.TreeMap;
  * <p>
  * It is responsible for managing countries and continents belonging to this
  * map.
+ * <p>
+ * The topology of the map is compiled on demand into a
+ * <code>MapTopology</code>, which is kept until the map is edited. Along with
+ * the topology, the map keeps a <code>GameState</code> holding the armies and
+ * owners of its countries. A map can be frozen once editing ends, after which
+ * all edits are rejected.
+ * <p>
+ * During the game, countries change owner through
+ * <code>transferOwnership()</code>, which notifies the attached
+ * <code>OwnershipListener</code> objects. While editing, every change of the
+ * countries, continents or borders of the map is reported to the attached
+ * <code>TopologyListener</code> objects.
  * 
  * @author Enrique
  *
@@ -19,6 +32,12 @@ import java.util.TreeMap;
 public class GameMap {
 	private Map<String, Country> d_countries;
 	private Map<String, Continent> d_continents;
+	private MapTopology d_topology;
+	private GameState d_state;
+	private FrontierIndex d_frontierIndex;
+	private boolean d_frozen;
+	private List<OwnershipListener> d_ownershipListeners = new ArrayList<OwnershipListener>();
+	private List<TopologyListener> d_topologyListeners = new ArrayList<TopologyListener>();
 
 	/**
 	 * Constructor for the <code>GameMap</code> entity.
@@ -84,10 +103,15 @@ public class GameMap {
 		if (d_countries.containsKey(p_country.getName())) {
 			return false;
 		}
+		onTopologyEdited();
 
 		d_countries.put(p_country.getName(), p_country);
+		p_country.setMap(this);
 		p_country.getContinent().addCountry(p_country);
 
+		for (TopologyListener l_listener : d_topologyListeners) {
+			l_listener.onCountryAdded(p_country);
+		}
 		return true;
 	}
 
@@ -103,13 +127,20 @@ public class GameMap {
 		if (d_continents.containsKey(p_continent.getName())) {
 			return false;
 		}
+		onTopologyEdited();
 
 		d_continents.put(p_continent.getName(), p_continent);
+
+		for (TopologyListener l_listener : d_topologyListeners) {
+			l_listener.onContinentAdded(p_continent);
+		}
 		return true;
 	}
 
 	/**
 	 * Removes a country with the specified name from the map.
+	 * <p>
+	 * All borders from and to the country are removed as well.
 	 * 
 	 * @param p_countryName name of the country to remove.
 	 * @return <code>true</code> if the country was removed.<br>
@@ -117,24 +148,64 @@ public class GameMap {
 	 *         <code>p_countryName</code> was not found.
 	 */
 	public boolean removeCountry(String p_countryName) {
-		Country l_country = d_countries.get(p_countryName);
-		if (l_country == null) {
-			return false;
+		return removeCountries(Collections.singletonList(p_countryName)) == 1;
+	}
+
+	/**
+	 * Removes the countries with the specified names from the map.
+	 * <p>
+	 * All borders from and to the removed countries are removed in a single sweep
+	 * over the neighbors of the removed countries, so the cost of the removal
+	 * only depends on the number of borders of the removed countries. Names of
+	 * countries not in the map are ignored, and the map is left untouched if none
+	 * of the countries is in it.
+	 * 
+	 * @param p_countryNames names of the countries to remove.
+	 * @return number of countries removed.
+	 */
+	public int removeCountries(Collection<String> p_countryNames) {
+		boolean l_anyFound = false;
+		for (String l_countryName : p_countryNames) {
+			if (d_countries.containsKey(l_countryName)) {
+				l_anyFound = true;
+				break;
+			}
+		}
+		if (!l_anyFound) {
+			return 0;
 		}
 
-		// Remove country from the continent it belongs to
-		Continent l_continent = l_country.getContinent();
-		l_continent.removeCountry(l_country);
-		// Remove country from neighbors of all other countries
-		removeNeighbors(l_country);
-		// Remove country from the map
-		d_countries.remove(p_countryName);
+		onTopologyEdited();
+		List<Country> l_removedCountries = new ArrayList<Country>();
+		for (String l_countryName : p_countryNames) {
+			Country l_country = d_countries.remove(l_countryName);
+			if (l_country != null) {
+				l_removedCountries.add(l_country);
+			}
+		}
 
-		return true;
+		// Remove the borders from and to the removed countries
+		for (Country l_country : l_removedCountries) {
+			removeBorders(l_country);
+		}
+
+		// Remove the countries from their continents and from the map
+		for (Country l_country : l_removedCountries) {
+			l_country.getContinent().removeCountry(l_country);
+			l_country.setMap(null);
+			for (TopologyListener l_listener : d_topologyListeners) {
+				l_listener.onCountryRemoved(l_country);
+			}
+		}
+
+		return l_removedCountries.size();
 	}
 
 	/**
 	 * Removes a continent with the specified name from the map.
+	 * <p>
+	 * All countries of the continent are removed with
+	 * <code>removeCountries()</code>.
 	 * 
 	 * @param p_continentName name of the continent to remove.
 	 * @return <code>true</code> if the continent was removed.<br>
@@ -146,21 +217,270 @@ public class GameMap {
 		if (l_continent == null) {
 			return false;
 		}
+		onTopologyEdited();
 
 		// Remove all of the continent countries
+		List<String> l_countryNames = new ArrayList<String>();
 		for (Country l_country : l_continent.getCountries()) {
-			// Remove country from neighbors of all other countries
-			removeNeighbors(l_country);
-			// Remove country from the map
-			removeCountry(l_country.getName());
+			l_countryNames.add(l_country.getName());
 		}
+		removeCountries(l_countryNames);
 
 		// Remove continent
 		d_continents.remove(p_continentName);
 
+		for (TopologyListener l_listener : d_topologyListeners) {
+			l_listener.onContinentRemoved(l_continent);
+		}
 		return true;
 	}
 
+	/**
+	 * Transfers a country of the map to a new owner.
+	 * <p>
+	 * Removes the country from the countries of its previous owner, sets its new
+	 * owner, adds it to the countries of the new owner and then notifies all
+	 * attached ownership listeners. Nothing happens if the new owner already owns
+	 * the country.
+	 * 
+	 * @param p_country  country to transfer.
+	 * @param p_newOwner player to transfer the country to.
+	 * @throws IllegalArgumentException thrown if the country does not belong to
+	 *                                  this map.
+	 */
+	public void transferOwnership(Country p_country, Player p_newOwner) {
+		if (p_country.getMap() != this) {
+			throw new IllegalArgumentException("country " + p_country.getName() + " does not belong to the map");
+		}
+
+		Player l_previousOwner = p_country.getOwner();
+		if (l_previousOwner == p_newOwner) {
+			return;
+		}
+
+		if (l_previousOwner != null) {
+			l_previousOwner.removeCountry(p_country);
+		}
+		p_country.setOwner(p_newOwner);
+		if (p_newOwner != null) {
+			p_newOwner.addCountry(p_country);
+		}
+
+		for (OwnershipListener l_listener : d_ownershipListeners) {
+			l_listener.onOwnershipChanged(p_country, l_previousOwner, p_newOwner);
+		}
+	}
+
+	/**
+	 * Attaches a listener notified whenever a country of the map changes owner.
+	 * 
+	 * @param p_listener listener to attach.
+	 */
+	public void attachOwnershipListener(OwnershipListener p_listener) {
+		if (!d_ownershipListeners.contains(p_listener)) {
+			d_ownershipListeners.add(p_listener);
+		}
+	}
+
+	/**
+	 * Detaches an ownership listener from the map.
+	 * 
+	 * @param p_listener listener to detach.
+	 */
+	public void detachOwnershipListener(OwnershipListener p_listener) {
+		d_ownershipListeners.remove(p_listener);
+	}
+
+	/**
+	 * Attaches a listener notified whenever the countries, continents or borders
+	 * of the map are edited.
+	 * 
+	 * @param p_listener listener to attach.
+	 */
+	public void attachTopologyListener(TopologyListener p_listener) {
+		if (!d_topologyListeners.contains(p_listener)) {
+			d_topologyListeners.add(p_listener);
+		}
+	}
+
+	/**
+	 * Detaches a topology listener from the map.
+	 * 
+	 * @param p_listener listener to detach.
+	 */
+	public void detachTopologyListener(TopologyListener p_listener) {
+		d_topologyListeners.remove(p_listener);
+	}
+
+	/**
+	 * Notifies the attached topology listeners that a border was added or
+	 * removed.
+	 * 
+	 * @param p_country  country the border starts from.
+	 * @param p_neighbor neighbor at the end of the border.
+	 * @param p_added    <code>true</code> if the border was added,
+	 *                   <code>false</code> if it was removed.
+	 */
+	void onNeighborEdited(Country p_country, Country p_neighbor, boolean p_added) {
+		for (TopologyListener l_listener : d_topologyListeners) {
+			if (p_added) {
+				l_listener.onNeighborAdded(p_country, p_neighbor);
+			} else {
+				l_listener.onNeighborRemoved(p_country, p_neighbor);
+			}
+		}
+	}
+
+	/**
+	 * Gets the compiled topology of the map.
+	 * <p>
+	 * The topology is compiled on the first call after the map was edited, and
+	 * reused until the next edit. Compiling assigns the id of each country and
+	 * moves the armies and owners of all countries into a new game state.
+	 * 
+	 * @return compiled topology of the map.
+	 */
+	public MapTopology getTopology() {
+		if (d_topology == null) {
+			setTopology(new MapTopology(this));
+		}
+		return d_topology;
+	}
+
+	/**
+	 * Gets the game state holding the armies and owners of the map countries.
+	 * <p>
+	 * Compiles the topology of the map if needed. The state is indexed by the
+	 * country ids of the topology returned by <code>getTopology()</code>.
+	 * 
+	 * @return game state of the map.
+	 */
+	public GameState getState() {
+		getTopology();
+		return d_state;
+	}
+
+	/**
+	 * Gets the frontier index of the map.
+	 * <p>
+	 * The index is built on the first call after the map was edited and kept up to
+	 * date with ownership transfers until the next edit.
+	 * 
+	 * @return frontier index of the map.
+	 */
+	public FrontierIndex getFrontierIndex() {
+		if (d_frontierIndex == null) {
+			d_frontierIndex = new FrontierIndex(getTopology(), d_state);
+			attachOwnershipListener(d_frontierIndex);
+		}
+		return d_frontierIndex;
+	}
+
+	/**
+	 * Freezes the map once editing ends.
+	 * <p>
+	 * Compiles the topology of the map. Any following edit of the map or of the
+	 * neighbors of its countries throws an <code>IllegalStateException</code>
+	 * until the map is unfrozen.
+	 */
+	public void freeze() {
+		getTopology();
+		d_frozen = true;
+	}
+
+	/**
+	 * Unfreezes the map, allowing it to be edited again.
+	 */
+	public void unfreeze() {
+		d_frozen = false;
+	}
+
+	/**
+	 * Checks if the map is frozen.
+	 * 
+	 * @return <code>true</code> if the map is frozen.<br>
+	 *         <code>false</code> otherwise.
+	 */
+	public boolean isFrozen() {
+		return d_frozen;
+	}
+
+	/**
+	 * Sets the compiled topology of the map.
+	 * <p>
+	 * Moves the armies and owners of all countries into a new game state.
+	 * 
+	 * @param p_topology compiled topology of the map.
+	 */
+	void setTopology(MapTopology p_topology) {
+		d_topology = p_topology;
+		d_state = new GameState(d_topology);
+		for (int l_id = 0; l_id < d_topology.getNumberOfCountries(); l_id++) {
+			d_topology.getCountry(l_id).attachState(d_state);
+		}
+	}
+
+	/**
+	 * Installs already compiled borders between the countries of the map.
+	 * <p>
+	 * The neighbors of all countries are set in one pass, without discarding the
+	 * topology or notifying the topology listeners for each border, and the
+	 * topology is then set from the border arrays, which are shared, not copied.
+	 * 
+	 * @param p_countries       countries of the map, ordered by id.
+	 * @param p_neighborOffsets row offsets of the outgoing border array.
+	 * @param p_neighborTargets outgoing border array, each row sorted by id.
+	 * @param p_incomingOffsets row offsets of the incoming border array.
+	 * @param p_incomingSources incoming border array, each row sorted by id.
+	 */
+	void installTopology(Country[] p_countries, int[] p_neighborOffsets, int[] p_neighborTargets,
+			int[] p_incomingOffsets, int[] p_incomingSources) {
+		onTopologyEdited();
+		for (int l_id = 0; l_id < p_countries.length; l_id++) {
+			for (int l_i = p_neighborOffsets[l_id]; l_i < p_neighborOffsets[l_id + 1]; l_i++) {
+				p_countries[l_id].linkNeighbor(p_countries[p_neighborTargets[l_i]]);
+			}
+		}
+		setTopology(new MapTopology(p_countries, p_neighborOffsets, p_neighborTargets, p_incomingOffsets,
+				p_incomingSources));
+	}
+
+	/**
+	 * Gets the compiled topology without compiling it.
+	 * 
+	 * @return compiled topology of the map.<br>
+	 *         <code>null</code> if the topology is not compiled.
+	 */
+	MapTopology getCompiledTopology() {
+		return d_topology;
+	}
+
+	/**
+	 * Callback executed before the map or the neighbors of its countries are
+	 * edited.
+	 * <p>
+	 * Discards the compiled topology and the frontier index, and moves the armies
+	 * and owners of all countries out of the game state.
+	 * 
+	 * @throws IllegalStateException thrown if the map is frozen.
+	 */
+	void onTopologyEdited() {
+		if (d_frozen) {
+			throw new IllegalStateException("map is frozen and can no longer be edited");
+		}
+		if (d_topology != null) {
+			for (int l_id = 0; l_id < d_topology.getNumberOfCountries(); l_id++) {
+				d_topology.getCountry(l_id).detachState();
+			}
+			d_topology = null;
+			d_state = null;
+		}
+		if (d_frontierIndex != null) {
+			detachOwnershipListener(d_frontierIndex);
+			d_frontierIndex = null;
+		}
+	}
+
 	/**
 	 * Builds a string representation of the map.
 	 * <p>
@@ -262,16 +582,19 @@ public class GameMap {
 	}
 
 	/**
-	 * This is a helper function for <code>removeCountry</code> and
-	 * <code>removeContinent</code>.
-	 * 
-	 * This method removes the passed neighbor country.
+	 * Removes all borders from and to a country.
+	 * <p>
+	 * Only the countries the country shares a border with are visited, through
+	 * its neighbors and its incoming neighbors.
 	 * 
-	 * @param p_neighborToRemove neighbor to remove.
+	 * @param p_country country to remove the borders of.
 	 */
-	private void removeNeighbors(Country p_neighborToRemove) {
-		for (Country l_c : d_countries.values()) {
-			l_c.removeNeighbor(p_neighborToRemove);
+	private void removeBorders(Country p_country) {
+		for (Country l_source : new ArrayList<Country>(p_country.getIncomingNeighbors())) {
+			l_source.removeNeighbor(p_country);
+		}
+		for (Country l_target : new ArrayList<Country>(p_country.getNeighbors())) {
+			p_country.removeNeighbor(l_target);
 		}
 	}
 }
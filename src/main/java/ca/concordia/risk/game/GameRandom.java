@@ -0,0 +1,93 @@
+package ca.concordia.risk.game;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * This class is the source of randomness of a single game.
+ * <p>
+ * Every randomized part of the game draws from the <code>GameRandom</code> of
+ * its <code>GameContext</code>, so a game played again with the same seed and
+ * the same player inputs unfolds exactly the same way. Each game owns its own
+ * generator, so games played on separate threads never contend on a shared
+ * seed.
+ * <p>
+ * A <code>GameRandom</code> is not thread-safe and must only be used by the
+ * game it belongs to.
+ */
+public final class GameRandom {
+
+	private final long d_seed;
+	private final SplittableRandom d_random;
+
+	/**
+	 * Creates a new random number generator with a random seed.
+	 */
+	public GameRandom() {
+		this(new SplittableRandom().nextLong());
+	}
+
+	/**
+	 * Creates a new random number generator with the given seed.
+	 *
+	 * @param p_seed seed of the generator.
+	 */
+	public GameRandom(long p_seed) {
+		d_seed = p_seed;
+		d_random = new SplittableRandom(p_seed);
+	}
+
+	/**
+	 * Gets the seed the generator was created with.
+	 *
+	 * @return seed of the generator.
+	 */
+	public long getSeed() {
+		return d_seed;
+	}
+
+	/**
+	 * Draws a random integer between <code>0</code> (inclusive) and the given bound
+	 * (exclusive).
+	 *
+	 * @param p_bound upper bound of the integer, must be positive.
+	 * @return random integer.
+	 */
+	public int nextInt(int p_bound) {
+		return d_random.nextInt(p_bound);
+	}
+
+	/**
+	 * Draws a random double between <code>0</code> (inclusive) and <code>1</code>
+	 * (exclusive).
+	 *
+	 * @return random double.
+	 */
+	public double nextDouble() {
+		return d_random.nextDouble();
+	}
+
+	/**
+	 * Shuffles a list in place, with every permutation equally likely.
+	 *
+	 * @param p_list list to shuffle.
+	 */
+	public void shuffle(List<?> p_list) {
+		shuffleList(p_list);
+	}
+
+	/**
+	 * Shuffles a list in place using the Fisher-Yates algorithm.
+	 *
+	 * @param <T>    type of the list elements.
+	 * @param p_list list to shuffle.
+	 */
+	private <T> void shuffleList(List<T> p_list) {
+		for (int l_i = p_list.size() - 1; l_i > 0; l_i--) {
+			int l_j = d_random.nextInt(l_i + 1);
+			T l_element = p_list.get(l_i);
+			p_list.set(l_i, p_list.get(l_j));
+			p_list.set(l_j, l_element);
+		}
+	}
+}
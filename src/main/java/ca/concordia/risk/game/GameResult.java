@@ -0,0 +1,104 @@
+package ca.concordia.risk.game;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class represents the outcome of a finished game.
+ * <p>
+ * It is produced by the <code>GameplayPhase</code> when the game ends, either
+ * with a winner or by reaching the turn limit, and can be read from the
+ * <code>GameContext</code> the game was played in.
+ */
+public final class GameResult {
+
+	private final String d_winner;
+	private final int d_numberOfTurns;
+	private final List<String> d_eliminationOrder;
+	private final Map<String, Integer> d_territoryCounts;
+	private final long d_seed;
+
+	/**
+	 * Creates a new game result.
+	 *
+	 * @param p_winner           name of the player who won the game, or
+	 *                           <code>null</code> if the game was a draw.
+	 * @param p_numberOfTurns    number of turns played.
+	 * @param p_eliminationOrder names of the eliminated players in the order of
+	 *                           their elimination.
+	 * @param p_territoryCounts  number of countries owned by each remaining player
+	 *                           at the end of the game.
+	 * @param p_seed             seed of the random number generator the game was
+	 *                           played with.
+	 */
+	public GameResult(String p_winner, int p_numberOfTurns, List<String> p_eliminationOrder,
+			Map<String, Integer> p_territoryCounts, long p_seed) {
+		d_winner = p_winner;
+		d_numberOfTurns = p_numberOfTurns;
+		d_eliminationOrder = List.copyOf(p_eliminationOrder);
+		d_territoryCounts = Collections.unmodifiableMap(new LinkedHashMap<String, Integer>(p_territoryCounts));
+		d_seed = p_seed;
+	}
+
+	/**
+	 * Gets the name of the player who won the game.
+	 *
+	 * @return name of the winner.<br>
+	 *         <code>null</code> if the game was a draw.
+	 */
+	public String getWinner() {
+		return d_winner;
+	}
+
+	/**
+	 * Checks if the game ended without a winner.
+	 *
+	 * @return <code>true</code> if the game was a draw.<br>
+	 *         <code>false</code> otherwise.
+	 */
+	public boolean isDraw() {
+		return d_winner == null;
+	}
+
+	/**
+	 * Gets the number of turns played.
+	 *
+	 * @return number of turns played.
+	 */
+	public int getNumberOfTurns() {
+		return d_numberOfTurns;
+	}
+
+	/**
+	 * Gets the names of the eliminated players in the order of their elimination.
+	 *
+	 * @return unmodifiable list of eliminated player names.
+	 */
+	public List<String> getEliminationOrder() {
+		return d_eliminationOrder;
+	}
+
+	/**
+	 * Gets the number of countries owned by each remaining player, including the
+	 * neutral player, at the end of the game.
+	 *
+	 * @return unmodifiable map of player names to number of countries owned.
+	 */
+	public Map<String, Integer> getTerritoryCounts() {
+		return d_territoryCounts;
+	}
+
+	/**
+	 * Gets the seed of the random number generator the game was played with.
+	 * <p>
+	 * Playing the game again from this seed with the same players replays it
+	 * exactly.
+	 *
+	 * @return seed of the game.
+	 */
+	public long getSeed() {
+		return d_seed;
+	}
+}
@@ -0,0 +1,315 @@
+package ca.concordia.risk.game;
+
+import java.util.Arrays;
+
+/**
+ * This class holds the mutable gameplay state of a <code>GameMap</code> in
+ * primitive arrays indexed by country id.
+ * <p>
+ * The state stores the number of armies and the owner of each country, as well
+ * as the active negotiations between players. Owners are stored as ids into a
+ * registry of the players known to the state, and negotiations are stored as
+ * one row of bit masks per player. The registry grows as players are
+ * registered.
+ * <p>
+ * <code>Country</code> and <code>Player</code> objects bound to a state read
+ * and write their gameplay state through it. A full copy of the state only
+ * takes a few array copies, see <code>copy()</code> and
+ * <code>copyFrom()</code>. Restoring a copy into the state of a map also moves
+ * the countries whose owner changed between the country sets of the players.
+ */
+public final class GameState {
+
+	private static final int d_InitialPlayerCapacity = Long.SIZE;
+
+	private final MapTopology d_topology;
+	private final int[] d_armies;
+	private final int[] d_owners;
+	private Player[] d_players = new Player[d_InitialPlayerCapacity];
+	private long[] d_negotiations = new long[d_InitialPlayerCapacity];
+	private int d_negotiationWords = 1;
+	private int d_numPlayers;
+	private long d_ownershipVersion;
+
+	/**
+	 * Creates a new empty state for the given number of countries.
+	 * <p>
+	 * All countries start with no armies and no owner.
+	 *
+	 * @param p_numCountries number of countries in the state.
+	 */
+	public GameState(int p_numCountries) {
+		this(null, p_numCountries);
+	}
+
+	/**
+	 * Creates a new empty state for the countries of a compiled topology.
+	 *
+	 * @param p_topology topology of the map the state belongs to.
+	 */
+	GameState(MapTopology p_topology) {
+		this(p_topology, p_topology.getNumberOfCountries());
+	}
+
+	/**
+	 * Creates a new empty state.
+	 *
+	 * @param p_topology     topology of the map the state belongs to, or
+	 *                       <code>null</code>.
+	 * @param p_numCountries number of countries in the state.
+	 */
+	private GameState(MapTopology p_topology, int p_numCountries) {
+		d_topology = p_topology;
+		d_armies = new int[p_numCountries];
+		d_owners = new int[p_numCountries];
+		Arrays.fill(d_owners, -1);
+	}
+
+	/**
+	 * Gets the number of countries in the state.
+	 *
+	 * @return number of countries.
+	 */
+	public int getNumberOfCountries() {
+		return d_armies.length;
+	}
+
+	/**
+	 * Gets the number of armies deployed in a country.
+	 *
+	 * @param p_countryId id of the country.
+	 * @return number of armies.
+	 */
+	public int getArmies(int p_countryId) {
+		return d_armies[p_countryId];
+	}
+
+	/**
+	 * Sets the number of armies deployed in a country.
+	 *
+	 * @param p_countryId id of the country.
+	 * @param p_armies    number of armies to set.
+	 */
+	public void setArmies(int p_countryId, int p_armies) {
+		d_armies[p_countryId] = p_armies;
+	}
+
+	/**
+	 * Gets the id of the player owning a country.
+	 *
+	 * @param p_countryId id of the country.
+	 * @return id of the owner in the player registry.<br>
+	 *         <code>-1</code> if the country has no owner.
+	 */
+	public int getOwnerId(int p_countryId) {
+		return d_owners[p_countryId];
+	}
+
+	/**
+	 * Gets the player owning a country.
+	 *
+	 * @param p_countryId id of the country.
+	 * @return player owning the country.<br>
+	 *         <code>null</code> if the country has no owner.
+	 */
+	public Player getOwner(int p_countryId) {
+		int l_ownerId = d_owners[p_countryId];
+		return l_ownerId < 0 ? null : d_players[l_ownerId];
+	}
+
+	/**
+	 * Sets the player owning a country.
+	 * <p>
+	 * Registers the player in the state if needed.
+	 *
+	 * @param p_countryId id of the country.
+	 * @param p_owner     player owning the country, or <code>null</code>.
+	 */
+	public void setOwner(int p_countryId, Player p_owner) {
+		d_owners[p_countryId] = p_owner == null ? -1 : registerPlayer(p_owner);
+		d_ownershipVersion++;
+	}
+
+	/**
+	 * Gets the ownership version of the state.
+	 * <p>
+	 * The version changes each time the owner of any country is set, which allows
+	 * indexes derived from the owners to detect changes they were not notified
+	 * of.
+	 *
+	 * @return ownership version.
+	 */
+	public long getOwnershipVersion() {
+		return d_ownershipVersion;
+	}
+
+	/**
+	 * Gets the number of players registered in the state.
+	 *
+	 * @return number of registered players.
+	 */
+	public int getNumberOfPlayers() {
+		return d_numPlayers;
+	}
+
+	/**
+	 * Gets a registered player.
+	 *
+	 * @param p_playerId id of the player in the registry.
+	 * @return registered player.
+	 */
+	public Player getPlayer(int p_playerId) {
+		return d_players[p_playerId];
+	}
+
+	/**
+	 * Finds the id of a player in the registry.
+	 *
+	 * @param p_player player to find.
+	 * @return id of the player.<br>
+	 *         <code>-1</code> if the player is not registered.
+	 */
+	public int findPlayerId(Player p_player) {
+		for (int l_id = 0; l_id < d_numPlayers; l_id++) {
+			if (d_players[l_id] == p_player) {
+				return l_id;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Registers a player in the state if it is not registered yet.
+	 * <p>
+	 * A player that is not bound to any state yet is bound to this one. The
+	 * registry grows when it is full.
+	 *
+	 * @param p_player player to register.
+	 * @return id of the player in the registry.
+	 */
+	public int registerPlayer(Player p_player) {
+		int l_id = findPlayerId(p_player);
+		if (l_id >= 0) {
+			return l_id;
+		}
+
+		if (d_numPlayers == d_players.length) {
+			growPlayers();
+		}
+
+		l_id = d_numPlayers++;
+		d_players[l_id] = p_player;
+		clearNegotiations(l_id);
+		if (p_player.getState() == null) {
+			p_player.bindState(this, l_id);
+		}
+		return l_id;
+	}
+
+	/**
+	 * Checks if two registered players are negotiating.
+	 *
+	 * @param p_playerId      id of the first player.
+	 * @param p_otherPlayerId id of the second player.
+	 * @return <code>true</code> if the first player negotiated with the second
+	 *         one.<br>
+	 *         <code>false</code> otherwise.
+	 */
+	public boolean isNegotiating(int p_playerId, int p_otherPlayerId) {
+		long l_mask = d_negotiations[p_playerId * d_negotiationWords + (p_otherPlayerId >>> 6)];
+		return (l_mask & (1L << p_otherPlayerId)) != 0;
+	}
+
+	/**
+	 * Records that a registered player negotiated with another one.
+	 *
+	 * @param p_playerId      id of the negotiating player.
+	 * @param p_otherPlayerId id of the player negotiated with.
+	 */
+	public void addNegotiation(int p_playerId, int p_otherPlayerId) {
+		d_negotiations[p_playerId * d_negotiationWords + (p_otherPlayerId >>> 6)] |= 1L << p_otherPlayerId;
+	}
+
+	/**
+	 * Clears all active negotiations of a registered player.
+	 *
+	 * @param p_playerId id of the player.
+	 */
+	public void clearNegotiations(int p_playerId) {
+		int l_row = p_playerId * d_negotiationWords;
+		Arrays.fill(d_negotiations, l_row, l_row + d_negotiationWords, 0);
+	}
+
+	/**
+	 * Creates a copy of the state.
+	 * <p>
+	 * The copy shares the registered players but none of the arrays, and does not
+	 * bind any player.
+	 *
+	 * @return copy of the state.
+	 */
+	public GameState copy() {
+		GameState l_copy = new GameState(d_armies.length);
+		l_copy.copyFrom(this);
+		return l_copy;
+	}
+
+	/**
+	 * Overwrites this state with the content of another state with the same number
+	 * of countries.
+	 * <p>
+	 * Players bound to this state keep their registry ids, so the other state
+	 * should be a copy taken from this one, for instance to restore a snapshot. If
+	 * this is the state of a map, each country whose owner changes is removed from
+	 * the countries of its previous owner and added to those of its new owner.
+	 *
+	 * @param p_other state to copy from.
+	 * @throws IllegalArgumentException thrown if the states have a different
+	 *                                  number of countries.
+	 */
+	public void copyFrom(GameState p_other) {
+		if (p_other.d_armies.length != d_armies.length) {
+			throw new IllegalArgumentException("game states have a different number of countries");
+		}
+		if (d_topology != null) {
+			for (int l_id = 0; l_id < d_owners.length; l_id++) {
+				Player l_previousOwner = getOwner(l_id);
+				Player l_newOwner = p_other.getOwner(l_id);
+				if (l_previousOwner != l_newOwner) {
+					Country l_country = d_topology.getCountry(l_id);
+					if (l_previousOwner != null) {
+						l_previousOwner.removeCountry(l_country);
+					}
+					if (l_newOwner != null) {
+						l_newOwner.addCountry(l_country);
+					}
+				}
+			}
+		}
+		System.arraycopy(p_other.d_armies, 0, d_armies, 0, d_armies.length);
+		System.arraycopy(p_other.d_owners, 0, d_owners, 0, d_owners.length);
+		d_players = p_other.d_players.clone();
+		d_negotiations = p_other.d_negotiations.clone();
+		d_negotiationWords = p_other.d_negotiationWords;
+		d_numPlayers = p_other.d_numPlayers;
+		d_ownershipVersion++;
+	}
+
+	/**
+	 * Doubles the capacity of the player registry.
+	 * <p>
+	 * Registry ids and active negotiations are kept.
+	 */
+	private void growPlayers() {
+		int l_capacity = d_players.length * 2;
+		int l_words = (l_capacity + Long.SIZE - 1) / Long.SIZE;
+		long[] l_negotiations = new long[l_capacity * l_words];
+		for (int l_id = 0; l_id < d_numPlayers; l_id++) {
+			System.arraycopy(d_negotiations, l_id * d_negotiationWords, l_negotiations, l_id * l_words,
+					d_negotiationWords);
+		}
+		d_players = Arrays.copyOf(d_players, l_capacity);
+		d_negotiations = l_negotiations;
+		d_negotiationWords = l_words;
+	}
+}
@@ -0,0 +1,191 @@
+package ca.concordia.risk.game;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class is an immutable template of a <code>GameMap</code>.
+ * <p>
+ * A template keeps the continents, countries and compiled borders of a map, but
+ * none of its game state. It is used to play many games on the same map
+ * without parsing the map file again for each game: every call to
+ * <code>createMap()</code> stamps out a fresh map whose countries have no owner
+ * and no armies.
+ * <p>
+ * Maps created from the same template share its border arrays, so a template
+ * can be used from several threads at once.
+ */
+public final class MapTemplate {
+
+	private final String[] d_continentNames;
+	private final int[] d_continentValues;
+	private final String[] d_countryNames;
+	private final int[] d_countryContinents;
+	private final int[] d_neighborOffsets;
+	private final int[] d_neighborTargets;
+	private final int[] d_incomingOffsets;
+	private final int[] d_incomingSources;
+
+	/**
+	 * Creates a template of the given map.
+	 * <p>
+	 * Compiles the topology of the map if needed. The map can be edited or
+	 * discarded afterwards without affecting the template.
+	 *
+	 * @param p_map map to create the template of.
+	 */
+	public MapTemplate(GameMap p_map) {
+		// Record the continents and the index of each one
+		List<Continent> l_continents = p_map.getContinents();
+		d_continentNames = new String[l_continents.size()];
+		d_continentValues = new int[l_continents.size()];
+		Map<Continent, Integer> l_continentIndices = new HashMap<Continent, Integer>();
+		for (int l_i = 0; l_i < l_continents.size(); l_i++) {
+			Continent l_continent = l_continents.get(l_i);
+			d_continentNames[l_i] = l_continent.getName();
+			d_continentValues[l_i] = l_continent.getValue();
+			l_continentIndices.put(l_continent, l_i);
+		}
+
+		// Record the countries in id order along with their continent
+		MapTopology l_topology = p_map.getTopology();
+		int l_numCountries = l_topology.getNumberOfCountries();
+		d_countryNames = new String[l_numCountries];
+		d_countryContinents = new int[l_numCountries];
+		for (int l_id = 0; l_id < l_numCountries; l_id++) {
+			Country l_country = l_topology.getCountry(l_id);
+			d_countryNames[l_id] = l_country.getName();
+			d_countryContinents[l_id] = l_continentIndices.get(l_country.getContinent());
+		}
+
+		// Keep the compiled borders, which are never modified
+		d_neighborOffsets = l_topology.getNeighborOffsets();
+		d_neighborTargets = l_topology.getNeighborTargets();
+		d_incomingOffsets = l_topology.getIncomingOffsets();
+		d_incomingSources = l_topology.getIncomingSources();
+	}
+
+	/**
+	 * Creates a template from compiled map tables, such as the ones of a binary
+	 * map file.
+	 * <p>
+	 * Countries are given in id order, which must be the order of their names,
+	 * and the neighbors of each country must be sorted by id. The incoming
+	 * borders are derived from the outgoing ones. The arrays are kept, not
+	 * copied.
+	 *
+	 * @param p_continentNames    name of each continent.
+	 * @param p_continentValues   bonus value of each continent.
+	 * @param p_countryNames      name of each country, ordered by id.
+	 * @param p_countryContinents continent index of each country.
+	 * @param p_neighborOffsets   row offsets of the border array.
+	 * @param p_neighborTargets   neighbor ids of each country.
+	 * @throws IllegalArgumentException thrown if the tables are not consistent.
+	 */
+	public MapTemplate(String[] p_continentNames, int[] p_continentValues, String[] p_countryNames,
+			int[] p_countryContinents, int[] p_neighborOffsets, int[] p_neighborTargets) {
+		int l_numCountries = p_countryNames.length;
+		if (p_continentValues.length != p_continentNames.length || p_countryContinents.length != l_numCountries
+				|| p_neighborOffsets.length != l_numCountries + 1) {
+			throw new IllegalArgumentException("map tables have different sizes");
+		}
+		if (new HashSet<String>(Arrays.asList(p_continentNames)).size() != p_continentNames.length) {
+			throw new IllegalArgumentException("continent names are not unique");
+		}
+		for (int l_id = 0; l_id < l_numCountries; l_id++) {
+			if (l_id > 0 && p_countryNames[l_id - 1].compareTo(p_countryNames[l_id]) >= 0) {
+				throw new IllegalArgumentException("countries are not ordered by name");
+			}
+			if (p_countryContinents[l_id] < 0 || p_countryContinents[l_id] >= p_continentNames.length) {
+				throw new IllegalArgumentException("continent index out of range");
+			}
+		}
+
+		// Check the borders, each row strictly increasing, and count the incoming
+		// borders of each country
+		if (p_neighborOffsets[0] != 0 || p_neighborOffsets[l_numCountries] != p_neighborTargets.length) {
+			throw new IllegalArgumentException("border offsets are inconsistent");
+		}
+		int[] l_incomingOffsets = new int[l_numCountries + 1];
+		for (int l_id = 0; l_id < l_numCountries; l_id++) {
+			if (p_neighborOffsets[l_id] > p_neighborOffsets[l_id + 1]) {
+				throw new IllegalArgumentException("border offsets are inconsistent");
+			}
+			int l_previous = -1;
+			for (int l_i = p_neighborOffsets[l_id]; l_i < p_neighborOffsets[l_id + 1]; l_i++) {
+				int l_target = p_neighborTargets[l_i];
+				if (l_target <= l_previous || l_target >= l_numCountries) {
+					throw new IllegalArgumentException("neighbors of " + p_countryNames[l_id] + " are not sorted ids");
+				}
+				l_previous = l_target;
+				l_incomingOffsets[l_target + 1]++;
+			}
+		}
+
+		// Fill the incoming borders, visiting the sources in id order keeps each row
+		// sorted
+		for (int l_id = 0; l_id < l_numCountries; l_id++) {
+			l_incomingOffsets[l_id + 1] += l_incomingOffsets[l_id];
+		}
+		int[] l_incomingSources = new int[p_neighborTargets.length];
+		int[] l_incomingFill = Arrays.copyOf(l_incomingOffsets, l_numCountries);
+		for (int l_id = 0; l_id < l_numCountries; l_id++) {
+			for (int l_i = p_neighborOffsets[l_id]; l_i < p_neighborOffsets[l_id + 1]; l_i++) {
+				l_incomingSources[l_incomingFill[p_neighborTargets[l_i]]++] = l_id;
+			}
+		}
+
+		d_continentNames = p_continentNames;
+		d_continentValues = p_continentValues;
+		d_countryNames = p_countryNames;
+		d_countryContinents = p_countryContinents;
+		d_neighborOffsets = p_neighborOffsets;
+		d_neighborTargets = p_neighborTargets;
+		d_incomingOffsets = l_incomingOffsets;
+		d_incomingSources = l_incomingSources;
+	}
+
+	/**
+	 * Gets the number of countries of the template.
+	 *
+	 * @return number of countries.
+	 */
+	public int getNumberOfCountries() {
+		return d_countryNames.length;
+	}
+
+	/**
+	 * Creates a new map from the template.
+	 * <p>
+	 * The new map has its own continents and countries, and its topology is
+	 * already compiled from the borders of the template.
+	 *
+	 * @return new map with no owners and no armies.
+	 */
+	public GameMap createMap() {
+		GameMap l_map = new GameMap();
+
+		// Create the continents
+		Continent[] l_continents = new Continent[d_continentNames.length];
+		for (int l_i = 0; l_i < l_continents.length; l_i++) {
+			l_continents[l_i] = new Continent(d_continentNames[l_i], d_continentValues[l_i]);
+			l_map.addContinent(l_continents[l_i]);
+		}
+
+		// Create the countries in id order
+		Country[] l_countries = new Country[d_countryNames.length];
+		for (int l_id = 0; l_id < l_countries.length; l_id++) {
+			l_countries[l_id] = new Country(d_countryNames[l_id], l_continents[d_countryContinents[l_id]]);
+			l_map.addCountry(l_countries[l_id]);
+		}
+
+		// Install the template borders, without compiling or invalidating the new map
+		// for each of them
+		l_map.installTopology(l_countries, d_neighborOffsets, d_neighborTargets, d_incomingOffsets,
+				d_incomingSources);
+		return l_map;
+	}
+}
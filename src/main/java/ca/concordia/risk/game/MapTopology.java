@@ -0,0 +1,200 @@
+package ca.concordia.risk.game;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This class represents the compiled topology of a <code>GameMap</code>.
+ * <p>
+ * Each country of the map is given a dense integer id, following the name
+ * order of the countries. Borders are stored in compressed sparse row form: the
+ * neighbors of the country with id <code>i</code> are the ids stored in the
+ * target array between <code>offsets[i]</code> (inclusive) and
+ * <code>offsets[i + 1]</code> (exclusive), sorted by id. Borders are directed,
+ * so the incoming borders of each country are stored in the same form as well.
+ * <p>
+ * A topology is immutable. It is compiled by the map on demand and discarded
+ * whenever the map is edited. Maps stamped out of a <code>MapTemplate</code>
+ * share the border arrays of the template.
+ */
+public final class MapTopology {
+
+	private final Country[] d_countries;
+	private final int[] d_neighborOffsets;
+	private final int[] d_neighborTargets;
+	private final int[] d_incomingOffsets;
+	private final int[] d_incomingSources;
+
+	/**
+	 * Compiles the topology of the given map.
+	 * <p>
+	 * Assigns the id of each country of the map. Borders to countries that do not
+	 * belong to the map are ignored.
+	 *
+	 * @param p_map map to compile.
+	 */
+	MapTopology(GameMap p_map) {
+		List<Country> l_countries = p_map.getCountries();
+		int l_numCountries = l_countries.size();
+
+		// Assign dense ids in name order
+		d_countries = l_countries.toArray(new Country[l_numCountries]);
+		for (int l_id = 0; l_id < l_numCountries; l_id++) {
+			d_countries[l_id].setId(l_id);
+		}
+
+		// Count outgoing and incoming borders of each country
+		d_neighborOffsets = new int[l_numCountries + 1];
+		d_incomingOffsets = new int[l_numCountries + 1];
+		for (Country l_country : d_countries) {
+			for (Country l_neighbor : l_country.getNeighbors()) {
+				if (l_neighbor.getMap() == p_map) {
+					d_neighborOffsets[l_country.getId() + 1]++;
+					d_incomingOffsets[l_neighbor.getId() + 1]++;
+				}
+			}
+		}
+		for (int l_id = 0; l_id < l_numCountries; l_id++) {
+			d_neighborOffsets[l_id + 1] += d_neighborOffsets[l_id];
+			d_incomingOffsets[l_id + 1] += d_incomingOffsets[l_id];
+		}
+
+		// Fill the border arrays
+		// Neighbor sets are ordered by name, so the targets of each row come out
+		// sorted by id. Sources are visited in id order, so incoming rows are sorted
+		// as well.
+		int l_numBorders = d_neighborOffsets[l_numCountries];
+		d_neighborTargets = new int[l_numBorders];
+		d_incomingSources = new int[l_numBorders];
+		int[] l_incomingFill = Arrays.copyOf(d_incomingOffsets, l_numCountries);
+		for (Country l_country : d_countries) {
+			int l_fill = d_neighborOffsets[l_country.getId()];
+			for (Country l_neighbor : l_country.getNeighbors()) {
+				if (l_neighbor.getMap() == p_map) {
+					d_neighborTargets[l_fill++] = l_neighbor.getId();
+					d_incomingSources[l_incomingFill[l_neighbor.getId()]++] = l_country.getId();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Creates a topology from already compiled border arrays.
+	 * <p>
+	 * Assigns the id of each given country. The border arrays are shared, not
+	 * copied.
+	 *
+	 * @param p_countries       countries of the topology, ordered by id.
+	 * @param p_neighborOffsets row offsets of the outgoing border array.
+	 * @param p_neighborTargets outgoing border array.
+	 * @param p_incomingOffsets row offsets of the incoming border array.
+	 * @param p_incomingSources incoming border array.
+	 */
+	MapTopology(Country[] p_countries, int[] p_neighborOffsets, int[] p_neighborTargets, int[] p_incomingOffsets,
+			int[] p_incomingSources) {
+		d_countries = p_countries;
+		for (int l_id = 0; l_id < d_countries.length; l_id++) {
+			d_countries[l_id].setId(l_id);
+		}
+		d_neighborOffsets = p_neighborOffsets;
+		d_neighborTargets = p_neighborTargets;
+		d_incomingOffsets = p_incomingOffsets;
+		d_incomingSources = p_incomingSources;
+	}
+
+	/**
+	 * Gets the number of countries in the topology.
+	 *
+	 * @return number of countries.
+	 */
+	public int getNumberOfCountries() {
+		return d_countries.length;
+	}
+
+	/**
+	 * Gets the number of directed borders in the topology.
+	 *
+	 * @return number of borders.
+	 */
+	public int getNumberOfBorders() {
+		return d_neighborTargets.length;
+	}
+
+	/**
+	 * Gets the country with the given id.
+	 *
+	 * @param p_id id of the country.
+	 * @return country with the given id.
+	 */
+	public Country getCountry(int p_id) {
+		return d_countries[p_id];
+	}
+
+	/**
+	 * Gets the row offsets of the outgoing border array.
+	 * <p>
+	 * The returned array is shared and must not be modified.
+	 *
+	 * @return array of <code>n + 1</code> offsets into the neighbor target array.
+	 */
+	public int[] getNeighborOffsets() {
+		return d_neighborOffsets;
+	}
+
+	/**
+	 * Gets the outgoing border array, holding neighbor ids of each country.
+	 * <p>
+	 * The returned array is shared and must not be modified.
+	 *
+	 * @return array of neighbor ids.
+	 */
+	public int[] getNeighborTargets() {
+		return d_neighborTargets;
+	}
+
+	/**
+	 * Gets the row offsets of the incoming border array.
+	 * <p>
+	 * The returned array is shared and must not be modified.
+	 *
+	 * @return array of <code>n + 1</code> offsets into the incoming source array.
+	 */
+	public int[] getIncomingOffsets() {
+		return d_incomingOffsets;
+	}
+
+	/**
+	 * Gets the incoming border array, holding the ids of the countries that have
+	 * each country as a neighbor.
+	 * <p>
+	 * The returned array is shared and must not be modified.
+	 *
+	 * @return array of incoming neighbor ids.
+	 */
+	public int[] getIncomingSources() {
+		return d_incomingSources;
+	}
+
+	/**
+	 * Gets the number of neighbors of a country.
+	 *
+	 * @param p_id id of the country.
+	 * @return number of outgoing borders of the country.
+	 */
+	public int getDegree(int p_id) {
+		return d_neighborOffsets[p_id + 1] - d_neighborOffsets[p_id];
+	}
+
+	/**
+	 * Checks if there is a border from one country to another.
+	 *
+	 * @param p_fromId id of the source country.
+	 * @param p_toId   id of the target country.
+	 * @return <code>true</code> if the target is a neighbor of the source.<br>
+	 *         <code>false</code> otherwise.
+	 */
+	public boolean hasBorder(int p_fromId, int p_toId) {
+		return Arrays.binarySearch(d_neighborTargets, d_neighborOffsets[p_fromId], d_neighborOffsets[p_fromId + 1],
+				p_toId) >= 0;
+	}
+}
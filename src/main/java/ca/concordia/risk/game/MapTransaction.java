@@ -0,0 +1,339 @@
+package ca.concordia.risk.game;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * This class represents a batch of map edits applied to a <code>GameMap</code>
+ * as a single transaction.
+ * <p>
+ * Edits are only recorded until the transaction is committed. On commit, they
+ * are applied in the same order as the edits of a single editor command, adds
+ * before removes:
+ * <ol>
+ * <li>continents are added,</li>
+ * <li>countries are added,</li>
+ * <li>neighbors are added,</li>
+ * <li>neighbors are removed,</li>
+ * <li>countries are removed, all at once,</li>
+ * <li>continents are removed.</li>
+ * </ol>
+ * Within each step edits keep the order they were recorded in. Names are only
+ * resolved when the edits are applied, so an edit may refer to a continent or
+ * a country added anywhere in the same transaction. If any edit fails, the
+ * edits already applied are undone in reverse order and the map is left as it
+ * was before the commit.
+ * <p>
+ * As adds are applied before removes, a continent, country or neighbor that is
+ * removed and then added again in the same transaction could not be applied in
+ * the order it was recorded in. Such a transaction is rejected on commit before
+ * any edit is applied, instead of being reordered silently.
+ */
+public class MapTransaction {
+
+	private GameMap d_map;
+	private List<Continent> d_continentsToAdd = new ArrayList<Continent>();
+	private List<String[]> d_countriesToAdd = new ArrayList<String[]>();
+	private List<String[]> d_neighborsToAdd = new ArrayList<String[]>();
+	private List<String[]> d_neighborsToRemove = new ArrayList<String[]>();
+	private List<String> d_countriesToRemove = new ArrayList<String>();
+	private List<String> d_continentsToRemove = new ArrayList<String>();
+	private List<Runnable> d_undoLog = new ArrayList<Runnable>();
+	private Set<String> d_removedContinentNames = new HashSet<String>();
+	private Set<String> d_removedCountryNames = new HashSet<String>();
+	private Set<List<String>> d_removedNeighborNames = new HashSet<List<String>>();
+	private String d_conflict;
+
+	/**
+	 * Creates a new empty transaction on a map.
+	 *
+	 * @param p_map map the transaction edits.
+	 */
+	public MapTransaction(GameMap p_map) {
+		d_map = p_map;
+	}
+
+	/**
+	 * Gets the map the transaction edits.
+	 *
+	 * @return edited map.
+	 */
+	public GameMap getMap() {
+		return d_map;
+	}
+
+	/**
+	 * Gets the number of edits recorded.
+	 *
+	 * @return number of edits.
+	 */
+	public int size() {
+		return d_continentsToAdd.size() + d_countriesToAdd.size() + d_neighborsToAdd.size()
+				+ d_neighborsToRemove.size() + d_countriesToRemove.size() + d_continentsToRemove.size();
+	}
+
+	/**
+	 * Records the addition of a continent.
+	 *
+	 * @param p_continentName  name of the continent.
+	 * @param p_continentValue continent bonus reinforcements value.
+	 */
+	public void addContinent(String p_continentName, int p_continentValue) {
+		if (d_removedContinentNames.contains(p_continentName)) {
+			recordConflict("continent " + p_continentName);
+		}
+		d_continentsToAdd.add(new Continent(p_continentName, p_continentValue));
+	}
+
+	/**
+	 * Records the removal of a continent.
+	 *
+	 * @param p_continentName name of the continent.
+	 */
+	public void removeContinent(String p_continentName) {
+		d_continentsToRemove.add(p_continentName);
+		d_removedContinentNames.add(p_continentName);
+	}
+
+	/**
+	 * Records the addition of a country.
+	 *
+	 * @param p_countryName   name of the country.
+	 * @param p_continentName name of the continent the country belongs to.
+	 */
+	public void addCountry(String p_countryName, String p_continentName) {
+		if (d_removedCountryNames.contains(p_countryName)) {
+			recordConflict("country " + p_countryName);
+		}
+		d_countriesToAdd.add(new String[] { p_countryName, p_continentName });
+	}
+
+	/**
+	 * Records the removal of a country.
+	 *
+	 * @param p_countryName name of the country.
+	 */
+	public void removeCountry(String p_countryName) {
+		d_countriesToRemove.add(p_countryName);
+		d_removedCountryNames.add(p_countryName);
+	}
+
+	/**
+	 * Records the addition of a neighbor.
+	 *
+	 * @param p_countryName         name of the country to add the neighbor to.
+	 * @param p_neighborCountryName name of the neighbor country.
+	 */
+	public void addNeighbor(String p_countryName, String p_neighborCountryName) {
+		if (d_removedNeighborNames.contains(List.of(p_countryName, p_neighborCountryName))) {
+			recordConflict("neighbor " + p_neighborCountryName + " of " + p_countryName);
+		}
+		d_neighborsToAdd.add(new String[] { p_countryName, p_neighborCountryName });
+	}
+
+	/**
+	 * Records the removal of a neighbor.
+	 *
+	 * @param p_countryName         name of the country to remove the neighbor
+	 *                              from.
+	 * @param p_neighborCountryName name of the neighbor country.
+	 */
+	public void removeNeighbor(String p_countryName, String p_neighborCountryName) {
+		d_neighborsToRemove.add(new String[] { p_countryName, p_neighborCountryName });
+		d_removedNeighborNames.add(List.of(p_countryName, p_neighborCountryName));
+	}
+
+	/**
+	 * Applies all recorded edits to the map.
+	 * <p>
+	 * The recorded edits are cleared, whether the commit succeeds or not.
+	 *
+	 * @throws TransactionException thrown if an edit fails, after the map was
+	 *                              restored, or if the transaction adds back
+	 *                              something it removes.
+	 */
+	public void commit() throws TransactionException {
+		if (d_conflict != null) {
+			String l_conflict = d_conflict;
+			rollback();
+			throw new TransactionException(l_conflict + " is removed and then added again in the same transaction - "
+					+ "commit the removal first");
+		}
+
+		try {
+			applyEdits();
+		} catch (TransactionException | RuntimeException l_e) {
+			undo();
+			throw l_e;
+		} finally {
+			d_undoLog.clear();
+			rollback();
+		}
+	}
+
+	/** Discards all recorded edits without applying them. */
+	public void rollback() {
+		d_continentsToAdd.clear();
+		d_countriesToAdd.clear();
+		d_neighborsToAdd.clear();
+		d_neighborsToRemove.clear();
+		d_countriesToRemove.clear();
+		d_continentsToRemove.clear();
+		d_removedContinentNames.clear();
+		d_removedCountryNames.clear();
+		d_removedNeighborNames.clear();
+		d_conflict = null;
+	}
+
+	/**
+	 * Records that an edit adds back something removed earlier in the
+	 * transaction, keeping the first such edit.
+	 *
+	 * @param p_description description of what is added back.
+	 */
+	private void recordConflict(String p_description) {
+		if (d_conflict == null) {
+			d_conflict = p_description;
+		}
+	}
+
+	/**
+	 * Applies the recorded edits in order, logging how to undo each of them.
+	 *
+	 * @throws TransactionException thrown if an edit fails.
+	 */
+	private void applyEdits() throws TransactionException {
+		for (Continent l_continent : d_continentsToAdd) {
+			if (!d_map.addContinent(l_continent)) {
+				throw new TransactionException("continent " + l_continent.getName() + " already exists");
+			}
+			d_undoLog.add(() -> d_map.removeContinent(l_continent.getName()));
+		}
+
+		for (String[] l_edit : d_countriesToAdd) {
+			String l_countryName = l_edit[0];
+			Continent l_continent = d_map.getContinent(l_edit[1]);
+			if (l_continent == null) {
+				throw new TransactionException("continent " + l_edit[1] + " does not exist");
+			}
+			if (!d_map.addCountry(new Country(l_countryName, l_continent))) {
+				throw new TransactionException("country " + l_countryName + " already exists");
+			}
+			d_undoLog.add(() -> d_map.removeCountry(l_countryName));
+		}
+
+		for (String[] l_edit : d_neighborsToAdd) {
+			Country l_country = getExistingCountry(l_edit[0]);
+			Country l_neighbor = getExistingCountry(l_edit[1]);
+			if (!l_country.addNeighbor(l_neighbor)) {
+				throw new TransactionException(l_edit[1] + " is already a neighbor of " + l_edit[0]);
+			}
+			d_undoLog.add(() -> l_country.removeNeighbor(l_neighbor));
+		}
+
+		for (String[] l_edit : d_neighborsToRemove) {
+			Country l_country = getExistingCountry(l_edit[0]);
+			Country l_neighbor = getExistingCountry(l_edit[1]);
+			if (!l_country.removeNeighbor(l_neighbor)) {
+				throw new TransactionException(l_edit[1] + " is not a neighbor of " + l_edit[0]);
+			}
+			d_undoLog.add(() -> l_country.addNeighbor(l_neighbor));
+		}
+
+		// Remove all countries in a single sweep over their borders
+		Set<Country> l_countries = new LinkedHashSet<Country>();
+		for (String l_countryName : d_countriesToRemove) {
+			l_countries.add(getExistingCountry(l_countryName));
+		}
+		removeCountries(new ArrayList<Country>(l_countries));
+
+		for (String l_continentName : d_continentsToRemove) {
+			Continent l_continent = d_map.getContinent(l_continentName);
+			if (l_continent == null) {
+				throw new TransactionException("continent " + l_continentName + " does not exist");
+			}
+			removeCountries(new ArrayList<Country>(l_continent.getCountries()));
+			d_map.removeContinent(l_continentName);
+			d_undoLog.add(() -> d_map.addContinent(l_continent));
+		}
+	}
+
+	/**
+	 * Removes countries from the map, logging how to restore them with all their
+	 * borders.
+	 *
+	 * @param p_countries countries to remove.
+	 */
+	private void removeCountries(List<Country> p_countries) {
+		if (p_countries.isEmpty()) {
+			return;
+		}
+
+		List<String> l_countryNames = new ArrayList<String>(p_countries.size());
+		List<List<Country>> l_neighbors = new ArrayList<List<Country>>(p_countries.size());
+		List<List<Country>> l_incomingNeighbors = new ArrayList<List<Country>>(p_countries.size());
+		for (Country l_country : p_countries) {
+			l_countryNames.add(l_country.getName());
+			l_neighbors.add(new ArrayList<Country>(l_country.getNeighbors()));
+			l_incomingNeighbors.add(new ArrayList<Country>(l_country.getIncomingNeighbors()));
+		}
+		d_map.removeCountries(l_countryNames);
+
+		d_undoLog.add(() -> {
+			for (Country l_country : p_countries) {
+				d_map.addCountry(l_country);
+			}
+			for (int l_i = 0; l_i < p_countries.size(); l_i++) {
+				Country l_country = p_countries.get(l_i);
+				for (Country l_neighbor : l_neighbors.get(l_i)) {
+					l_country.addNeighbor(l_neighbor);
+				}
+				for (Country l_source : l_incomingNeighbors.get(l_i)) {
+					l_source.addNeighbor(l_country);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Gets a country of the map that must exist.
+	 *
+	 * @param p_countryName name of the country.
+	 * @return country with the given name.
+	 * @throws TransactionException thrown if the country does not exist.
+	 */
+	private Country getExistingCountry(String p_countryName) throws TransactionException {
+		Country l_country = d_map.getCountry(p_countryName);
+		if (l_country == null) {
+			throw new TransactionException("country " + p_countryName + " does not exist");
+		}
+		return l_country;
+	}
+
+	/** Undoes the applied edits in reverse order. */
+	private void undo() {
+		for (int l_i = d_undoLog.size() - 1; l_i >= 0; l_i--) {
+			d_undoLog.get(l_i).run();
+		}
+	}
+
+	/**
+	 * A custom <code>Exception</code> class thrown when an edit of a transaction
+	 * fails.
+	 */
+	@SuppressWarnings("serial")
+	public static class TransactionException extends Exception {
+
+		/**
+		 * Creates a new <code>TransactionException</code> object.
+		 *
+		 * @param p_message exception message.
+		 */
+		public TransactionException(String p_message) {
+			super(p_message);
+		}
+	}
+}
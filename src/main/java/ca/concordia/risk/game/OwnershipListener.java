@@ -0,0 +1,23 @@
+package ca.concordia.risk.game;
+
+/**
+ * OwnershipListener interface.
+ * <p>
+ * Represents a class that wishes to be notified whenever a country of a
+ * <code>GameMap</code> it is attached to changes owner.
+ */
+public interface OwnershipListener {
+	/**
+	 * Notifies the listener that a country changed owner.
+	 * <p>
+	 * Called after the owner of the country and the country sets of both players
+	 * were updated.
+	 *
+	 * @param p_country       country that changed owner.
+	 * @param p_previousOwner player that owned the country before, or
+	 *                        <code>null</code>.
+	 * @param p_newOwner      player that owns the country now, or
+	 *                        <code>null</code>.
+	 */
+	public void onOwnershipChanged(Country p_country, Player p_previousOwner, Player p_newOwner);
+}
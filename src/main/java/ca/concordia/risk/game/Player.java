@@ -1,10 +1,13 @@
 package ca.concordia.risk.game;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Deque;
-import java.util.HashSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import ca.concordia.risk.game.orders.Order;
@@ -13,6 +16,11 @@ import ca.concordia.risk.game.strategies.PlayerStrategy;
 
 /**
  * This class is the representation of the game player.
+ * <p>
+ * The active negotiations of the player are stored in the
+ * <code>GameState</code> the player is bound to. A player is bound to the state
+ * of the first map in which it owns a country, or to a state of its own if it
+ * negotiates before owning any country.
  * 
  * @author Enrique
  *
@@ -24,18 +32,39 @@ public class Player {
 	private boolean d_earnedCard;
 	private boolean d_finishedIssuingOrders;
 	private Deque<Order> d_orders = new LinkedList<Order>();
-	private Set<Country> d_countries = new HashSet<Country>();
+	private Set<Country> d_countries = new LinkedHashSet<Country>();
+	private Set<Country> d_countriesView = Collections.unmodifiableSet(d_countries);
+	private Map<Continent, Integer> d_continentCounts = new HashMap<Continent, Integer>();
+	private Set<Continent> d_ownedContinents = new LinkedHashSet<Continent>();
+	private Set<Continent> d_ownedContinentsView = Collections.unmodifiableSet(d_ownedContinents);
+	private int d_continentBonus;
 	private List<Card> d_cards = new LinkedList<Card>();
-	private Set<Player> d_activeNegotiations = new HashSet<Player>();
+	private GameState d_state;
+	private int d_stateId = -1;
 
 	/**
 	 * Creates a new player with a default <i>human</i> strategy.
+	 * <p>
+	 * Unless another strategy is set first, the default strategy is created the
+	 * first time it is used, on the game held by the <code>GameEngine</code>.
 	 * 
 	 * @param p_name name of the player to create.
 	 */
 	public Player(String p_name) {
 		d_name = p_name;
-		d_strategy = new HumanStrategy(this);
+		d_reinforcements = 0;
+	}
+
+	/**
+	 * Creates a new player with a default <i>human</i> strategy operating on the
+	 * given game.
+	 * 
+	 * @param p_name    name of the player to create.
+	 * @param p_context game the player is taking part in.
+	 */
+	public Player(String p_name, GameContext p_context) {
+		d_name = p_name;
+		d_strategy = new HumanStrategy(this, p_context);
 		d_reinforcements = 0;
 	}
 
@@ -54,6 +83,9 @@ public class Player {
 	 * @return strategy currently used by the player.
 	 */
 	public PlayerStrategy GetStrategy() {
+		if (d_strategy == null) {
+			d_strategy = new HumanStrategy(this);
+		}
 		return d_strategy;
 	}
 
@@ -72,7 +104,13 @@ public class Player {
 	 * @param p_country country to add to the list of owned countries.
 	 */
 	public void addCountry(Country p_country) {
-		d_countries.add(p_country);
+		if (d_countries.add(p_country)) {
+			Continent l_continent = p_country.getContinent();
+			if (d_continentCounts.merge(l_continent, 1, Integer::sum) == l_continent.getCountries().size()
+					&& d_ownedContinents.add(l_continent)) {
+				d_continentBonus += l_continent.getValue();
+			}
+		}
 	}
 
 	/**
@@ -81,7 +119,14 @@ public class Player {
 	 * @param p_country country to remove from the list of owned countries.
 	 */
 	public void removeCountry(Country p_country) {
-		d_countries.remove(p_country);
+		if (d_countries.remove(p_country)) {
+			// Drop the counter once the player owns no country of the continent
+			d_continentCounts.computeIfPresent(p_country.getContinent(),
+					(l_continent, l_count) -> l_count == 1 ? null : l_count - 1);
+			if (d_ownedContinents.remove(p_country.getContinent())) {
+				d_continentBonus -= p_country.getContinent().getValue();
+			}
+		}
 	}
 
 	/**
@@ -98,10 +143,31 @@ public class Player {
 	/**
 	 * Gets the set of countries that are owned by the player.
 	 * 
-	 * @return set of countries that are owned by the player.
+	 * @return unmodifiable set of countries that are owned by the player.
 	 */
 	public Set<Country> getCountries() {
-		return d_countries;
+		return d_countriesView;
+	}
+
+	/**
+	 * Gets the number of countries of a continent owned by the player.
+	 * 
+	 * @param p_continent continent to count the owned countries of.
+	 * @return number of countries of the continent owned by the player.
+	 */
+	public int getNumberOfCountriesOwned(Continent p_continent) {
+		return d_continentCounts.getOrDefault(p_continent, 0);
+	}
+
+	/**
+	 * Checks if the player owns all countries of a continent.
+	 * 
+	 * @param p_continent continent to check.
+	 * @return <code>true</code> if the player owns the whole continent.<br>
+	 *         <code>false</code> otherwise.
+	 */
+	public boolean ownsContinent(Continent p_continent) {
+		return getNumberOfCountriesOwned(p_continent) == p_continent.getCountries().size();
 	}
 
 	/**
@@ -140,7 +206,10 @@ public class Player {
 	 * @param p_player player negotiated with.
 	 */
 	public void addActiveNegotiation(Player p_player) {
-		d_activeNegotiations.add(p_player);
+		if (d_state == null) {
+			new GameState(0).registerPlayer(this);
+		}
+		d_state.addNegotiation(d_stateId, d_state.registerPlayer(p_player));
 	}
 
 	/**
@@ -153,14 +222,41 @@ public class Player {
 	 * 
 	 */
 	public boolean isNegotiating(Player p_player) {
-		return d_activeNegotiations.contains(p_player);
+		if (d_state == null || p_player == null) {
+			return false;
+		}
+		int l_otherId = p_player.d_state == d_state ? p_player.d_stateId : d_state.findPlayerId(p_player);
+		return l_otherId >= 0 && d_state.isNegotiating(d_stateId, l_otherId);
 	}
 
 	/**
 	 * Clears all active negotiations.
 	 */
 	public void clearActiveNegotiations() {
-		d_activeNegotiations.clear();
+		if (d_state != null) {
+			d_state.clearNegotiations(d_stateId);
+		}
+	}
+
+	/**
+	 * Gets the game state the player is bound to.
+	 * 
+	 * @return bound game state.<br>
+	 *         <code>null</code> if the player is not bound to any state.
+	 */
+	GameState getState() {
+		return d_state;
+	}
+
+	/**
+	 * Binds the player to a game state.
+	 * 
+	 * @param p_state game state to bind to, or <code>null</code> to unbind.
+	 * @param p_id    id of the player in the registry of the state.
+	 */
+	void bindState(GameState p_state, int p_id) {
+		d_state = p_state;
+		d_stateId = p_id;
 	}
 
 	/**
@@ -169,7 +265,7 @@ public class Player {
 	 * Uses the currently active player strategy to issue the order.
 	 */
 	public void issueOrder() {
-		Order l_order = d_strategy.issueOrder();
+		Order l_order = GetStrategy().issueOrder();
 		d_orders.add(l_order);
 	}
 
@@ -247,20 +343,17 @@ public class Player {
 	}
 
 	/**
-	 * This method computes the set of continents that are fully captured by the
-	 * player.
+	 * Gets the set of continents that are fully captured by the player.
+	 * <p>
+	 * The set is kept up to date as countries are added and removed, using the
+	 * number of countries the player owns in each continent. Continents are not
+	 * expected to change while players own countries.
 	 * 
-	 * @return set of continents that are fully captured by the player.
+	 * @return unmodifiable set of continents that are fully captured by the
+	 *         player.
 	 */
 	public Set<Continent> getOwnedContinents() {
-		Set<Continent> l_ownedContinents = new HashSet<Continent>();
-		for (Country l_country : d_countries) {
-			Continent l_continent = l_country.getContinent();
-			if (d_countries.containsAll(l_continent.getCountries())) {
-				l_ownedContinents.add(l_continent);
-			}
-		}
-		return l_ownedContinents;
+		return d_ownedContinentsView;
 	}
 
 	/**
@@ -272,12 +365,9 @@ public class Player {
 	public void assignReinfocements() {
 		// Assign base reinforcements based on number of countries owned
 		d_reinforcements = Math.max(3, d_countries.size() / 3);
-		// Find all continents that the player fully owns
-		Set<Continent> l_ownedContinents = getOwnedContinents();
-		// Add the continent value of fully owned continents to reinforcements
-		for (Continent l_c : l_ownedContinents) {
-			d_reinforcements += l_c.getValue();
-		}
+		// Add the continent value of fully owned continents to reinforcements, kept
+		// up to date as countries are added and removed
+		d_reinforcements += d_continentBonus;
 	}
 
 	/**
@@ -0,0 +1,63 @@
+package ca.concordia.risk.game;
+
+/**
+ * TopologyListener interface.
+ * <p>
+ * Represents a class that wishes to be notified whenever the countries,
+ * continents or borders of a <code>GameMap</code> it is attached to are
+ * edited. Each method is called after the edit was made, and only if the edit
+ * changed the map.
+ */
+public interface TopologyListener {
+	/**
+	 * Notifies the listener that a country was added to the map.
+	 *
+	 * @param p_country country added.
+	 */
+	public void onCountryAdded(Country p_country);
+
+	/**
+	 * Notifies the listener that a country was removed from the map.
+	 * <p>
+	 * The borders from and to the removed country are removed first, each with
+	 * its own notification.
+	 *
+	 * @param p_country country removed.
+	 */
+	public void onCountryRemoved(Country p_country);
+
+	/**
+	 * Notifies the listener that a continent was added to the map.
+	 *
+	 * @param p_continent continent added.
+	 */
+	public void onContinentAdded(Continent p_continent);
+
+	/**
+	 * Notifies the listener that a continent was removed from the map.
+	 * <p>
+	 * The countries of the continent are removed first, each with its own
+	 * notification.
+	 *
+	 * @param p_continent continent removed.
+	 */
+	public void onContinentRemoved(Continent p_continent);
+
+	/**
+	 * Notifies the listener that a border was added between two countries of the
+	 * map.
+	 *
+	 * @param p_country  country the border starts from.
+	 * @param p_neighbor new neighbor of the country.
+	 */
+	public void onNeighborAdded(Country p_country, Country p_neighbor);
+
+	/**
+	 * Notifies the listener that a border was removed between two countries of
+	 * the map.
+	 *
+	 * @param p_country  country the border started from.
+	 * @param p_neighbor former neighbor of the country.
+	 */
+	public void onNeighborRemoved(Country p_country, Country p_neighbor);
+}
@@ -1,36 +1,62 @@
 package ca.concordia.risk.game.gamemodes;
 
-import java.io.ByteArrayOutputStream;
-import java.io.PrintStream;
 import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
-import ca.concordia.risk.GameEngine;
+import ca.concordia.risk.game.GameContext;
 import ca.concordia.risk.game.GameMap;
+import ca.concordia.risk.game.GameResult;
+import ca.concordia.risk.game.MapTemplate;
 import ca.concordia.risk.game.Player;
 import ca.concordia.risk.game.phases.GameplayPhase;
-import ca.concordia.risk.game.phases.Phase;
 import ca.concordia.risk.game.strategies.AggressiveStrategy;
 import ca.concordia.risk.game.strategies.BenevolentStrategy;
 import ca.concordia.risk.game.strategies.CheaterStrategy;
 import ca.concordia.risk.game.strategies.RandomStrategy;
+import ca.concordia.risk.io.views.NullView;
+import ca.concordia.risk.utils.LogLevel;
 import ca.concordia.risk.utils.MapLoader;
+import ca.concordia.risk.utils.MapValidator;
 
 /**
  * This class provides the implementation for the Tournament mode.
  * <p>
  * In the tournament mode, multiple games between AI players can be run in batch
  * with the summary displayed at the end.
+ * <p>
+ * Each map file is loaded and validated once, and every game played on it gets
+ * a fresh copy of the map stamped out of a <code>MapTemplate</code>.
+ * <p>
+ * Each game is played in its own <code>GameContext</code>. When more than one
+ * thread is requested, the games are played concurrently on a work-stealing
+ * pool.
+ * <p>
+ * The seed of every game is drawn up front from the tournament seed, so a
+ * tournament run again with the same seed produces the same results regardless
+ * of the number of threads.
  */
 public class Tournament {
 
 	private int d_numGames;
 	private int d_maxTurns;
+	private int d_numThreads = 1;
+	private long d_seed = new SplittableRandom().nextLong();
+	private String d_logDirectory;
+	private boolean d_fileLoggingEnabled = true;
+	private Set<LogLevel> d_logLevels = EnumSet.allOf(LogLevel.class);
 	private List<String> d_mapFiles;
 	private Set<String> d_playerStrategies = new HashSet<String>();
-	private List<List<String>> d_tournamentResults = new ArrayList<List<String>>();
+	private List<List<GameResult>> d_tournamentResults = new ArrayList<List<GameResult>>();
+	private Map<String, MapTemplate> d_mapTemplates = new HashMap<String, MapTemplate>();
 
 	/**
 	 * Creates a new tournament.
@@ -57,64 +83,214 @@ public class Tournament {
 		return d_playerStrategies.add(p_stategyName);
 	}
 
+	/**
+	 * Sets the number of threads used to play the tournament games.
+	 * <p>
+	 * With a single thread the games are played one after another on the calling
+	 * thread.
+	 * 
+	 * @param p_numThreads number of threads to use.
+	 */
+	public void setNumberOfThreads(int p_numThreads) {
+		d_numThreads = p_numThreads;
+	}
+
+	/**
+	 * Sets the seed from which the seed of every tournament game is drawn.
+	 * 
+	 * @param p_seed seed of the tournament.
+	 */
+	public void setSeed(long p_seed) {
+		d_seed = p_seed;
+	}
+
+	/**
+	 * Gets the seed from which the seed of every tournament game is drawn.
+	 * 
+	 * @return seed of the tournament.
+	 */
+	public long getSeed() {
+		return d_seed;
+	}
+
+	/**
+	 * Sets the directory the games of the tournament write their log files to.
+	 * <p>
+	 * By default, games log to the default log directory of a game context.
+	 * 
+	 * @param p_logDirectory path of the log directory.
+	 */
+	public void setLogDirectory(String p_logDirectory) {
+		d_logDirectory = p_logDirectory;
+	}
+
+	/**
+	 * Sets whether the games of the tournament write a log file.
+	 * 
+	 * @param p_enabled <code>true</code> to write a log file for each game.<br>
+	 *                  <code>false</code> otherwise.
+	 */
+	public void setFileLoggingEnabled(boolean p_enabled) {
+		d_fileLoggingEnabled = p_enabled;
+	}
+
+	/**
+	 * Sets the levels of the events the games of the tournament log.
+	 * <p>
+	 * Games skip building the events of disabled levels, so disabling
+	 * <code>LogLevel.ORDER</code> and <code>LogLevel.BATTLE</code> saves the
+	 * formatting of every order.
+	 * 
+	 * @param p_levels log levels to enable, all other levels are disabled.
+	 */
+	public void setLogLevels(Set<LogLevel> p_levels) {
+		d_logLevels = p_levels.isEmpty() ? EnumSet.noneOf(LogLevel.class) : EnumSet.copyOf(p_levels);
+	}
+
 	/**
 	 * Runs the tournament.
 	 * <p>
-	 * Plays the games automatically and records the winners of each game.
+	 * Plays the games automatically and records the result of each game.
 	 * 
 	 * @throws Exception thrown if an unexpected exception occurs while playing.
 	 */
 	public void run() throws Exception {
-		// Redirect the standard output stream to disable output, but still keep track
-		// of it
-		PrintStream l_defaultOutStream = System.out;
-		ByteArrayOutputStream l_mockOutputStream = new ByteArrayOutputStream();
-		System.setOut(new PrintStream(l_mockOutputStream));
+		d_tournamentResults.clear();
+		loadMapTemplates();
 
+		// Draw the seed of each game in a fixed order before any game is played
+		SplittableRandom l_seeds = new SplittableRandom(d_seed);
+		long[][] l_gameSeeds = new long[d_mapFiles.size()][d_numGames];
+		for (long[] l_mapSeeds : l_gameSeeds) {
+			for (int l_i = 0; l_i < d_numGames; l_i++) {
+				l_mapSeeds[l_i] = l_seeds.nextLong();
+			}
+		}
+
+		if (d_numThreads <= 1) {
+			runSequential(l_gameSeeds);
+		} else {
+			runParallel(l_gameSeeds);
+		}
+	}
+
+	/**
+	 * Loads and validates each tournament map file that was not loaded yet.
+	 * 
+	 * @throws Exception thrown if a map file cannot be loaded or is invalid.
+	 */
+	private void loadMapTemplates() throws Exception {
+		for (String l_mapFilename : d_mapFiles) {
+			if (d_mapTemplates.containsKey(l_mapFilename)) {
+				continue;
+			}
+
+			GameMap l_map = MapLoader.LoadMap(l_mapFilename);
+			if (!MapValidator.Validate(l_map)) {
+				throw new MapLoader.FileParsingException(l_mapFilename + " - " + MapValidator.getStatus());
+			}
+			d_mapTemplates.put(l_mapFilename, new MapTemplate(l_map));
+		}
+	}
+
+	/**
+	 * Plays all tournament games one after another on the calling thread.
+	 * 
+	 * @param p_gameSeeds seed of each game, grouped by map.
+	 * @throws Exception thrown if an unexpected exception occurs while playing.
+	 */
+	private void runSequential(long[][] p_gameSeeds) throws Exception {
+		// For each map file
+		for (int l_m = 0; l_m < d_mapFiles.size(); l_m++) {
+			List<GameResult> l_gameResults = new ArrayList<GameResult>();
+			// Play the set number of games
+			for (int l_i = 0; l_i < d_numGames; l_i++) {
+				l_gameResults.add(playGame(d_mapFiles.get(l_m), p_gameSeeds[l_m][l_i]));
+			}
+
+			// Add the results for this map to the tournament results
+			d_tournamentResults.add(l_gameResults);
+		}
+	}
+
+	/**
+	 * Plays all tournament games concurrently on a work-stealing pool.
+	 * <p>
+	 * Results are collected in the same order as when playing sequentially.
+	 * 
+	 * @param p_gameSeeds seed of each game, grouped by map.
+	 * @throws Exception thrown if an unexpected exception occurs while playing.
+	 */
+	private void runParallel(long[][] p_gameSeeds) throws Exception {
+		ForkJoinPool l_pool = new ForkJoinPool(d_numThreads);
 		try {
-			// For each map file
-			for (String l_mapFilename : d_mapFiles) {
-				List<String> l_gameWinners = new ArrayList<String>();
-				// Play the set number of games
+			// Submit every game to the pool
+			List<List<ForkJoinTask<GameResult>>> l_tasks = new ArrayList<List<ForkJoinTask<GameResult>>>();
+			for (int l_m = 0; l_m < d_mapFiles.size(); l_m++) {
+				String l_mapFilename = d_mapFiles.get(l_m);
+				List<ForkJoinTask<GameResult>> l_mapTasks = new ArrayList<ForkJoinTask<GameResult>>();
 				for (int l_i = 0; l_i < d_numGames; l_i++) {
-					// Initialize the game
-					initializeGame(l_mapFilename);
-
-					// Play the game for maximum number of turns or until there is a winner
-					for (int l_turn = 0; l_turn < d_maxTurns; l_turn++) {
-						Phase l_phase = GameEngine.GetActivePhase();
-						// If active phase is still Gameplay, the game is still going
-						if (l_phase instanceof GameplayPhase) {
-							// Clear the output from the previous turn
-							l_mockOutputStream.reset();
-							// Play the next turn
-							((GameplayPhase) l_phase).execute();
-						} else {
-							// If active phase is not Gameplay, the game ended with a winner
-							break;
-						}
-					}
-
-					// Get the winner and add it to the winners list
-					String l_winnerName = getWinner(l_mockOutputStream.toString());
-					l_gameWinners.add(l_winnerName);
-
-					// Clear the output from the previous game
-					l_mockOutputStream.reset();
+					long l_seed = p_gameSeeds[l_m][l_i];
+					l_mapTasks.add(l_pool.submit(() -> playGame(l_mapFilename, l_seed)));
 				}
-
-				// Add the results for this map to the tournament results
-				d_tournamentResults.add(l_gameWinners);
+				l_tasks.add(l_mapTasks);
 			}
 
-			// Reset the game engine
-			GameEngine.Initialize();
+			// Wait for the games in submission order to keep the results ordered
+			for (List<ForkJoinTask<GameResult>> l_mapTasks : l_tasks) {
+				List<GameResult> l_gameResults = new ArrayList<GameResult>();
+				for (ForkJoinTask<GameResult> l_task : l_mapTasks) {
+					l_gameResults.add(l_task.get());
+				}
+				d_tournamentResults.add(l_gameResults);
+			}
+		} catch (ExecutionException l_e) {
+			// Report the exception that interrupted the game
+			Throwable l_cause = l_e.getCause();
+			if (l_cause instanceof Exception) {
+				throw (Exception) l_cause;
+			}
+			throw l_e;
 		} finally {
-			// Restore the default output stream
-			System.setOut(l_defaultOutStream);
+			l_pool.shutdownNow();
 		}
 	}
 
+	/**
+	 * Plays one tournament game.
+	 * <p>
+	 * The game is played without a view. The outcome of the game is read from the
+	 * result recorded by the Gameplay Phase.
+	 * 
+	 * @param p_mapFilename filename of the map file to play on.
+	 * @param p_seed        seed of the game.
+	 * @return result of the game.
+	 * @throws Exception thrown if an unexpected exception occurs while playing.
+	 */
+	private GameResult playGame(String p_mapFilename, long p_seed) throws Exception {
+		// Initialize the game
+		GameContext l_context = initializeGame(p_mapFilename, p_seed);
+
+		// Play until the Gameplay Phase ends the game with a winner or a draw
+		while (l_context.getActivePhase() instanceof GameplayPhase) {
+			l_context.getActivePhase().execute();
+		}
+
+		return l_context.getGameResult();
+	}
+
+	/**
+	 * Gets the results of the tournament games.
+	 * <p>
+	 * The results are grouped by map, in the order the maps were given, and then
+	 * ordered by game.
+	 * 
+	 * @return results of each game played in the tournament.
+	 */
+	public List<List<GameResult>> getResults() {
+		return d_tournamentResults;
+	}
+
 	/**
 	 * Builds the table containing the tournament results.
 	 * 
@@ -140,7 +316,8 @@ public class Tournament {
 			String l_mapFilename = d_mapFiles.get(l_i);
 			l_builder.append(String.format("%-20s ", l_mapFilename));
 			for (int l_j = 0; l_j < d_numGames; l_j++) {
-				String l_winner = d_tournamentResults.get(l_i).get(l_j);
+				GameResult l_result = d_tournamentResults.get(l_i).get(l_j);
+				String l_winner = l_result.isDraw() ? "Draw" : l_result.getWinner();
 				l_builder.append(String.format("%-15s ", l_winner));
 			}
 			l_builder.append("\n");
@@ -153,33 +330,44 @@ public class Tournament {
 	/**
 	 * Initializes the game.
 	 * <p>
-	 * Resets the state from the previous game and sets up the next game by loading
-	 * the map, adding players and assigning countries.
+	 * Creates a fresh game context and sets up the next game by creating the map
+	 * from its template, adding players and assigning countries.
 	 * 
 	 * @param p_mapFilename filename of the map file to use in the next game.
+	 * @param p_seed        seed of the game.
+	 * @return game context of the initialized game.
 	 * @throws Exception thrown if an unexpected exception occurs while
 	 *                   initializing.
 	 */
-	private void initializeGame(String p_mapFilename) throws Exception {
-		// Re-initialize the game engine
-		GameEngine.Initialize();
+	private GameContext initializeGame(String p_mapFilename, long p_seed) throws Exception {
+		// Create a new headless game independent of the interactive game, logging to
+		// its own log file named after its seed
+		GameContext l_context = new GameContext(new NullView());
+		l_context.setRandomSeed(p_seed);
+		if (d_logDirectory != null) {
+			l_context.setLogDirectory(d_logDirectory);
+		}
+		l_context.setFileLoggingEnabled(d_fileLoggingEnabled);
+		l_context.setLogLevels(d_logLevels);
 
-		// Load the map
-		GameMap l_map = MapLoader.LoadMap(p_mapFilename);
-		GameEngine.SetMap(l_map);
+		// Create a fresh copy of the map
+		l_context.setMap(d_mapTemplates.get(p_mapFilename).createMap());
 
 		// Create and add players
 		for (String l_strategyName : d_playerStrategies) {
-			Player l_player = createPlayer(l_strategyName);
-			GameEngine.AddPlayer(l_player);
+			Player l_player = createPlayer(l_strategyName, l_context);
+			l_context.addPlayer(l_player);
 		}
 
 		// Assign countries
-		GameEngine.AssignCountries();
+		l_context.assignCountries();
+
+		// Switch to Gameplay phase and apply the tournament turn limit
+		l_context.switchToNextPhase();
+		l_context.switchToNextPhase();
+		((GameplayPhase) l_context.getActivePhase()).setTurnLimit(d_maxTurns);
 
-		// Switch to Startup phase
-		GameEngine.SwitchToNextPhase();
-		GameEngine.SwitchToNextPhase();
+		return l_context;
 	}
 
 	/**
@@ -188,50 +376,32 @@ public class Tournament {
 	 * The player name is the name of the strategy capitalized.
 	 * 
 	 * @param p_strategyName name of the strategy to use.
+	 * @param p_context      game the player is taking part in.
 	 * @return player that was created using the given strategy.
 	 */
-	private Player createPlayer(String p_strategyName) {
+	private Player createPlayer(String p_strategyName, GameContext p_context) {
 		// Capitalize the player type to create their name
 		String l_playerName = p_strategyName.substring(0, 1).toUpperCase() + p_strategyName.substring(1);
 
 		// Create the player
-		Player l_player = new Player(l_playerName);
+		Player l_player = new Player(l_playerName, p_context);
 
 		// Set the player strategy and return the player
 		switch (p_strategyName) {
 		case "aggressive":
-			l_player.SetStrategy(new AggressiveStrategy(l_player));
+			l_player.SetStrategy(new AggressiveStrategy(l_player, p_context));
 			return l_player;
 		case "benevolent":
-			l_player.SetStrategy(new BenevolentStrategy(l_player));
+			l_player.SetStrategy(new BenevolentStrategy(l_player, p_context));
 			return l_player;
 		case "random":
-			l_player.SetStrategy(new RandomStrategy(l_player));
+			l_player.SetStrategy(new RandomStrategy(l_player, p_context));
 			return l_player;
 		case "cheater":
-			l_player.SetStrategy(new CheaterStrategy(l_player));
+			l_player.SetStrategy(new CheaterStrategy(l_player, p_context));
 			return l_player;
 		default:
 			return null;
 		}
 	}
-
-	/**
-	 * Gets the winner of the last game from the output log.
-	 * 
-	 * @param p_logOutput log output from the last turn.
-	 * @return name of the player who won the game if there was a winner.<br>
-	 *         <i>Draw</i> otherwise.
-	 */
-	private String getWinner(String p_logOutput) {
-		String[] l_lines = p_logOutput.split("\\r?\\n");
-		String l_lastLine = l_lines[l_lines.length - 1];
-
-		String l_winnerName = "Draw";
-		if (l_lastLine.contains("wins the game")) {
-			l_winnerName = l_lastLine.split("\\s+")[1];
-		}
-
-		return l_winnerName;
-	}
 }
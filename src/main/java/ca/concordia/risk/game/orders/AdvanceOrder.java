@@ -1,7 +1,12 @@
 package ca.concordia.risk.game.orders;
 
+import ca.concordia.risk.GameEngine;
+import ca.concordia.risk.game.BinomialSampler;
 import ca.concordia.risk.game.Country;
+import ca.concordia.risk.game.GameContext;
+import ca.concordia.risk.game.GameRandom;
 import ca.concordia.risk.game.Player;
+import ca.concordia.risk.utils.LogEvent;
 
 /**
  * This Class represents Advance Order.
@@ -11,11 +16,22 @@ import ca.concordia.risk.game.Player;
  */
 public class AdvanceOrder implements Order {
 
+	/** Possible results of the order. */
+	private enum Result {
+		ISSUED, ADVANCED, ATTACKED, SOURCE_NOT_OWNED, NEGOTIATING, NO_ARMIES
+	}
+
 	private Player d_player;
-	private String d_status;
 	private Country d_sourceCountry;
 	private Country d_targetCountry;
 	private int d_armiesToAdvance;
+	private GameContext d_context;
+	private Result d_result = Result.ISSUED;
+	private Player d_defender;
+	private int d_armiesMoved;
+	private int d_defenderArmies;
+	private int d_attackersRemaining;
+	private int d_defendersRemaining;
 
 	/**
 	 * Creates a new <code>AdvanceOrder</code>.
@@ -26,13 +42,25 @@ public class AdvanceOrder implements Order {
 	 * @param p_targetCountry   teritory where armies are battle to.
 	 */
 	public AdvanceOrder(Player p_player, Country p_sourceCountry, Country p_targetCountry, int p_armiesToAdvance) {
+		this(p_player, p_sourceCountry, p_targetCountry, p_armiesToAdvance, GameEngine.GetContext());
+	}
+
+	/**
+	 * Creates a new <code>AdvanceOrder</code> in the given game.
+	 * 
+	 * @param p_player          player giving the order.
+	 * @param p_armiesToAdvance number of armies to deploy
+	 * @param p_sourceCountry   teritory which armies are battle from.
+	 * @param p_targetCountry   teritory where armies are battle to.
+	 * @param p_context         game whose source of randomness resolves battles.
+	 */
+	public AdvanceOrder(Player p_player, Country p_sourceCountry, Country p_targetCountry, int p_armiesToAdvance,
+			GameContext p_context) {
+		d_context = p_context;
 		d_armiesToAdvance = p_armiesToAdvance;
 		d_sourceCountry = p_sourceCountry;
 		d_targetCountry = p_targetCountry;
 		d_player = p_player;
-
-		d_status = "advance " + d_armiesToAdvance + " armies from " + p_sourceCountry.getName() + " to "
-				+ p_targetCountry.getName();
 	}
 
 	/**
@@ -47,27 +75,19 @@ public class AdvanceOrder implements Order {
 			if (!d_player.ownsCountry(d_targetCountry)) {
 				// Check if the source country has enough armies to attack with.
 				// If not, attack with the amount of armies available.
-				d_status = d_player.getName() + " attacked " + d_targetCountry.getName() + " belonging to "
-						+ d_targetCountry.getOwner().getName() + " from " + d_sourceCountry.getName() + ". ";
+				d_result = Result.ATTACKED;
+				d_defender = d_targetCountry.getOwner();
 
 				performAttack();
 			} else {
 				// Check if the source country has enough armies to advance.
 				// If not, advance the amount of armies available.
-				int l_armiesAvailable = d_sourceCountry.getArmies();
-				if (l_armiesAvailable < d_armiesToAdvance) {
-					d_status = d_player.getName() + " advanced " + l_armiesAvailable + " armies (out of "
-							+ d_armiesToAdvance + " requested) from " + d_sourceCountry.getName() + " to "
-							+ d_targetCountry.getName();
-					d_armiesToAdvance = l_armiesAvailable;
-				} else {
-					d_status = d_player.getName() + " advanced " + d_armiesToAdvance + " armies from "
-							+ d_sourceCountry.getName() + " to " + d_targetCountry.getName();
-				}
+				d_result = Result.ADVANCED;
+				d_armiesMoved = Math.min(d_sourceCountry.getArmies(), d_armiesToAdvance);
 
 				// Advance the armies
-				d_sourceCountry.removeArmies(d_armiesToAdvance);
-				d_targetCountry.addArmies(d_armiesToAdvance);
+				d_sourceCountry.removeArmies(d_armiesMoved);
+				d_targetCountry.addArmies(d_armiesMoved);
 			}
 		}
 	}
@@ -76,8 +96,27 @@ public class AdvanceOrder implements Order {
 	 * {@inheritDoc}
 	 */
 	@Override
-	public String getStatus() {
-		return d_status;
+	public LogEvent getStatusEvent() {
+		switch (d_result) {
+		case ADVANCED:
+			if (d_armiesMoved < d_armiesToAdvance) {
+				return new LogEvent(LogEvent.Type.ADVANCED_REDUCED, d_player.getName(), d_armiesMoved,
+						d_armiesToAdvance, d_sourceCountry.getName(), d_targetCountry.getName());
+			}
+			return new LogEvent(LogEvent.Type.ADVANCED, d_player.getName(), d_armiesMoved, d_sourceCountry.getName(),
+					d_targetCountry.getName());
+		case ATTACKED:
+			return buildAttackEvent();
+		case SOURCE_NOT_OWNED:
+			return new LogEvent(LogEvent.Type.ADVANCE_FAILED_NOT_OWNED, d_sourceCountry.getName(), d_player.getName());
+		case NEGOTIATING:
+			return new LogEvent(LogEvent.Type.ADVANCE_FAILED_NEGOTIATING, d_player.getName(), d_defender.getName());
+		case NO_ARMIES:
+			return new LogEvent(LogEvent.Type.ADVANCE_FAILED_NO_ARMIES, d_sourceCountry.getName());
+		default:
+			return new LogEvent(LogEvent.Type.ADVANCE_ISSUED, d_armiesToAdvance, d_sourceCountry.getName(),
+					d_targetCountry.getName());
+		}
 	}
 
 	/**
@@ -90,20 +129,20 @@ public class AdvanceOrder implements Order {
 	private boolean isValid() {
 		// Validate that player owns source country
 		if (!d_player.ownsCountry(d_sourceCountry)) {
-			d_status = "Advance failed: " + d_sourceCountry.getName() + " not owned by " + d_player.getName();
+			d_result = Result.SOURCE_NOT_OWNED;
 			return false;
 		}
 
 		// Validate that there is no negotiation in place
 		if (d_player.isNegotiating(d_targetCountry.getOwner())) {
-			d_status = "Advance failed: players " + d_player.getName() + " and " + d_targetCountry.getOwner().getName()
-					+ " are currently negotiating";
+			d_result = Result.NEGOTIATING;
+			d_defender = d_targetCountry.getOwner();
 			return false;
 		}
 
 		// Validate that source country has armies deployed in it
 		if (d_sourceCountry.getArmies() == 0) {
-			d_status = "Advance failed: " + d_sourceCountry.getName() + " has no armies";
+			d_result = Result.NO_ARMIES;
 			return false;
 		}
 
@@ -121,34 +160,19 @@ public class AdvanceOrder implements Order {
 		// Remove armies from their countries
 		int l_defenderArmies = d_targetCountry.getArmies();
 		int l_availableAttackerArmies = d_sourceCountry.getArmies();
-		int l_attackerArmies;
-		if (d_armiesToAdvance > l_availableAttackerArmies) {
-			l_attackerArmies = l_availableAttackerArmies;
-			d_status += "Attacker armies: " + l_attackerArmies + " (out of " + d_armiesToAdvance
-					+ " requested), defender armies: " + l_defenderArmies + ". ";
-		} else {
-			l_attackerArmies = d_armiesToAdvance;
-			d_status += "Attacker armies: " + l_attackerArmies + ", defender armies: " + l_defenderArmies + ". ";
-		}
+		int l_attackerArmies = Math.min(d_armiesToAdvance, l_availableAttackerArmies);
+		d_armiesMoved = l_attackerArmies;
+		d_defenderArmies = l_defenderArmies;
 
 		d_sourceCountry.removeArmies(l_attackerArmies);
 		d_targetCountry.removeArmies(l_defenderArmies);
 
-		// Calculate the number of defenders defeated
-		int l_defendersDefeated = 0;
-		for (int l_i = 0; l_i < l_attackerArmies; l_i++) {
-			if (Math.random() <= 0.6) {
-				l_defendersDefeated++;
-			}
-		}
-
-		// Calculate the number of attackers defeated
-		int l_attackersDefeated = 0;
-		for (int l_i = 0; l_i < l_defenderArmies; l_i++) {
-			if (Math.random() <= 0.7) {
-				l_attackersDefeated++;
-			}
-		}
+		// Calculate the number of defenders and attackers defeated
+		// Each attacking army defeats a defender with a 60% chance and each defending
+		// army defeats an attacker with a 70% chance, so both counts are binomial
+		GameRandom l_random = d_context.getRandom();
+		int l_defendersDefeated = BinomialSampler.Sample(l_attackerArmies, 0.6, l_random::nextDouble);
+		int l_attackersDefeated = BinomialSampler.Sample(l_defenderArmies, 0.7, l_random::nextDouble);
 
 		// Decrease the number of attackers and defenders
 		l_attackerArmies -= l_attackersDefeated;
@@ -164,25 +188,46 @@ public class AdvanceOrder implements Order {
 		// If remaining attacker armies are greater than 0 and defender armies is 0,
 		// capture the territory
 		if (l_attackerArmies > 0 && l_defenderArmies == 0) {
-			d_targetCountry.getOwner().removeCountry(d_targetCountry);
-
-			d_targetCountry.setOwner(d_player);
-			d_player.addCountry(d_targetCountry);
-
+			d_targetCountry.getMap().transferOwnership(d_targetCountry, d_player);
 			d_targetCountry.addArmies(l_attackerArmies);
 
-			d_status += "Country conquered succesfully with " + l_attackerArmies + " armies remaining";
-
 			// Set the flag indicated that the player conquered a country
 			d_player.setEarnedCard(true);
 		} else {
 			// Otherwise return remaining armies back to their respective countries
 			d_sourceCountry.addArmies(l_attackerArmies);
 			d_targetCountry.addArmies(l_defenderArmies);
-
-			d_status += "Country was not conquered. " + l_attackerArmies + " attacker armies and " + l_defenderArmies
-					+ " defender armies remained.";
 		}
+
+		d_attackersRemaining = l_attackerArmies;
+		d_defendersRemaining = l_defenderArmies;
 	}
 
-}
\ No newline at end of file
+	/**
+	 * Builds the status event of an order which attacked the target country.
+	 * 
+	 * @return attack status event.
+	 */
+	private LogEvent buildAttackEvent() {
+		// The country was conquered if no defender armies remain
+		boolean l_conquered = d_attackersRemaining > 0 && d_defendersRemaining == 0;
+		if (d_armiesMoved < d_armiesToAdvance) {
+			if (l_conquered) {
+				return new LogEvent(LogEvent.Type.ATTACK_CONQUERED_REDUCED, d_player.getName(), d_targetCountry.getName(),
+						d_defender.getName(), d_sourceCountry.getName(), d_armiesMoved, d_armiesToAdvance,
+						d_defenderArmies, d_attackersRemaining);
+			}
+			return new LogEvent(LogEvent.Type.ATTACK_REPELLED_REDUCED, d_player.getName(), d_targetCountry.getName(),
+					d_defender.getName(), d_sourceCountry.getName(), d_armiesMoved, d_armiesToAdvance, d_defenderArmies,
+					d_attackersRemaining, d_defendersRemaining);
+		}
+		if (l_conquered) {
+			return new LogEvent(LogEvent.Type.ATTACK_CONQUERED, d_player.getName(), d_targetCountry.getName(),
+					d_defender.getName(), d_sourceCountry.getName(), d_armiesMoved, d_defenderArmies,
+					d_attackersRemaining);
+		}
+		return new LogEvent(LogEvent.Type.ATTACK_REPELLED, d_player.getName(), d_targetCountry.getName(),
+				d_defender.getName(), d_sourceCountry.getName(), d_armiesMoved, d_defenderArmies, d_attackersRemaining,
+				d_defendersRemaining);
+	}
+}
@@ -2,6 +2,7 @@ package ca.concordia.risk.game.orders;
 
 import ca.concordia.risk.game.Country;
 import ca.concordia.risk.game.Player;
+import ca.concordia.risk.utils.LogEvent;
 
 /**
  * Class to represent an Airlift command.
@@ -15,7 +16,13 @@ public class AirliftOrder implements Order {
 	private Country d_sourceCountry;
 	private Country d_targetCountry;
 	private int d_armiesToAirlift;
-	private String d_status;
+	private int d_armiesAirlifted;
+	private Result d_result = Result.ISSUED;
+
+	/** Possible results of the order. */
+	private enum Result {
+		ISSUED, AIRLIFTED, SOURCE_NOT_OWNED, TARGET_NOT_OWNED, NO_ARMIES
+	}
 
 	/**
 	 * Creates a new <code>AirliftOrder</code>.
@@ -30,9 +37,6 @@ public class AirliftOrder implements Order {
 		d_sourceCountry = p_sourceCountry;
 		d_targetCountry = p_targetCountry;
 		d_armiesToAirlift = p_numArmies;
-
-		d_status = "airlift " + d_armiesToAirlift + " armies from " + d_sourceCountry.getName() + " to "
-				+ d_targetCountry.getName();
 	}
 
 	/**
@@ -49,19 +53,12 @@ public class AirliftOrder implements Order {
 		if (isValid()) {
 			// Check if the source country has enough armies to airlift.
 			// If not, set the airlift amount to the number of armies available.
-			int l_armiesAvailable = d_sourceCountry.getArmies();
-			if (l_armiesAvailable < d_armiesToAirlift) {
-				d_status = d_player.getName() + " airlift " + l_armiesAvailable + " armies (out of " + d_armiesToAirlift
-						+ " requested) from " + d_sourceCountry.getName() + " to " + d_targetCountry.getName();
-				d_armiesToAirlift = l_armiesAvailable;
-			} else {
-				d_status = d_player.getName() + " airlift " + d_armiesToAirlift + " armies from "
-						+ d_sourceCountry.getName() + " to " + d_targetCountry.getName();
-			}
+			d_armiesAirlifted = Math.min(d_sourceCountry.getArmies(), d_armiesToAirlift);
+			d_result = Result.AIRLIFTED;
 
 			// Perform the transfer of armies
-			d_sourceCountry.removeArmies(d_armiesToAirlift);
-			d_targetCountry.addArmies(d_armiesToAirlift);
+			d_sourceCountry.removeArmies(d_armiesAirlifted);
+			d_targetCountry.addArmies(d_armiesAirlifted);
 		}
 	}
 
@@ -69,8 +66,25 @@ public class AirliftOrder implements Order {
 	 * {@inheritDoc}
 	 */
 	@Override
-	public String getStatus() {
-		return d_status;
+	public LogEvent getStatusEvent() {
+		switch (d_result) {
+		case AIRLIFTED:
+			if (d_armiesAirlifted < d_armiesToAirlift) {
+				return new LogEvent(LogEvent.Type.AIRLIFTED_REDUCED, d_player.getName(), d_armiesAirlifted,
+						d_armiesToAirlift, d_sourceCountry.getName(), d_targetCountry.getName());
+			}
+			return new LogEvent(LogEvent.Type.AIRLIFTED, d_player.getName(), d_armiesAirlifted,
+					d_sourceCountry.getName(), d_targetCountry.getName());
+		case SOURCE_NOT_OWNED:
+			return new LogEvent(LogEvent.Type.AIRLIFT_FAILED_NOT_OWNED, d_sourceCountry.getName(), d_player.getName());
+		case TARGET_NOT_OWNED:
+			return new LogEvent(LogEvent.Type.AIRLIFT_FAILED_NOT_OWNED, d_targetCountry.getName(), d_player.getName());
+		case NO_ARMIES:
+			return new LogEvent(LogEvent.Type.AIRLIFT_FAILED_NO_ARMIES, d_sourceCountry.getName());
+		default:
+			return new LogEvent(LogEvent.Type.AIRLIFT_ISSUED, d_armiesToAirlift, d_sourceCountry.getName(),
+					d_targetCountry.getName());
+		}
 	}
 
 	/**
@@ -85,19 +99,19 @@ public class AirliftOrder implements Order {
 	private boolean isValid() {
 		// Check if the player owns the source country
 		if (!d_player.ownsCountry(d_sourceCountry)) {
-			d_status = "Airlift failed: " + d_sourceCountry.getName() + " not owned by " + d_player.getName();
+			d_result = Result.SOURCE_NOT_OWNED;
 			return false;
 		}
 
 		// Check if the player owns the target country
 		if (!d_player.ownsCountry(d_targetCountry)) {
-			d_status = "Airlift failed: " + d_targetCountry.getName() + " not owned by " + d_player.getName();
+			d_result = Result.TARGET_NOT_OWNED;
 			return false;
 		}
 
 		// Check if the source country has armies
 		if (d_sourceCountry.getArmies() == 0) {
-			d_status = "Airlift failed: " + d_sourceCountry.getName() + " has no armies";
+			d_result = Result.NO_ARMIES;
 			return false;
 		}
 
@@ -2,7 +2,9 @@ package ca.concordia.risk.game.orders;
 
 import ca.concordia.risk.GameEngine;
 import ca.concordia.risk.game.Country;
+import ca.concordia.risk.game.GameContext;
 import ca.concordia.risk.game.Player;
+import ca.concordia.risk.utils.LogEvent;
 
 /**
  * This class provides the implementation for the Blockade order.
@@ -10,9 +12,15 @@ import ca.concordia.risk.game.Player;
  */
 public class BlockadeOrder implements Order {
 
+	/** Possible results of the order. */
+	private enum Result {
+		ISSUED, BLOCKADED, NOT_OWNED
+	}
+
 	private Player d_player;
 	private Country d_blockadeCountry;
-	private String d_status;
+	private GameContext d_context;
+	private Result d_result = Result.ISSUED;
 
 	/**
 	 * Creates a new <code>BlockadeOrder</code>.
@@ -22,16 +30,36 @@ public class BlockadeOrder implements Order {
 	 *                          executed.
 	 */
 	public BlockadeOrder(Player p_player, Country p_blockadeCountry) {
+		this(p_player, p_blockadeCountry, GameEngine.GetContext());
+	}
+
+	/**
+	 * Creates a new <code>BlockadeOrder</code> in the given game.
+	 * 
+	 * @param p_player          player giving the order.
+	 * @param p_blockadeCountry target country on which the blockade order is
+	 *                          executed.
+	 * @param p_context         game whose neutral player receives the country.
+	 */
+	public BlockadeOrder(Player p_player, Country p_blockadeCountry, GameContext p_context) {
 		d_player = p_player;
 		d_blockadeCountry = p_blockadeCountry;
-		d_status = "blockade " + p_blockadeCountry.getName();
+		d_context = p_context;
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
-	public String getStatus() {
-		return d_status;
+	public LogEvent getStatusEvent() {
+		switch (d_result) {
+		case BLOCKADED:
+			return new LogEvent(LogEvent.Type.BLOCKADED, d_player.getName(), d_blockadeCountry.getName());
+		case NOT_OWNED:
+			return new LogEvent(LogEvent.Type.BLOCKADE_FAILED_NOT_OWNED, d_blockadeCountry.getName(),
+					d_player.getName());
+		default:
+			return new LogEvent(LogEvent.Type.BLOCKADE_ISSUED, d_blockadeCountry.getName());
+		}
 	}
 
 	/**
@@ -46,12 +74,9 @@ public class BlockadeOrder implements Order {
 			// triples no. of armies to the respective country.
 			d_blockadeCountry.addArmies(d_blockadeCountry.getArmies() * 2);
 			// makes the respective country as a neutral territory.
-			d_player.removeCountry(d_blockadeCountry);
-			Player l_neutralPlayer = GameEngine.GetNeutralPlayer();
-			d_blockadeCountry.setOwner(l_neutralPlayer);
-			l_neutralPlayer.addCountry(d_blockadeCountry);
+			d_blockadeCountry.getMap().transferOwnership(d_blockadeCountry, d_context.getNeutralPlayer());
 
-			d_status = d_player.getName() + " blockaded " + d_blockadeCountry.getName();
+			d_result = Result.BLOCKADED;
 		}
 	}
 
@@ -66,7 +91,7 @@ public class BlockadeOrder implements Order {
 	 */
 	private boolean isValid() {
 		if (!d_player.ownsCountry(d_blockadeCountry)) {
-			d_status = "Blockade failed: " + d_blockadeCountry.getName() + " is not owned by " + d_player.getName();
+			d_result = Result.NOT_OWNED;
 			return false;
 		}
 
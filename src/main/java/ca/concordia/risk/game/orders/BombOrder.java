@@ -2,6 +2,7 @@ package ca.concordia.risk.game.orders;
 
 import ca.concordia.risk.game.Country;
 import ca.concordia.risk.game.Player;
+import ca.concordia.risk.utils.LogEvent;
 
 /**
  * This class represents a bomb order.
@@ -11,9 +12,15 @@ import ca.concordia.risk.game.Player;
  */
 public class BombOrder implements Order {
 
+	/** Possible results of the order. */
+	private enum Result {
+		ISSUED, BOMBED, OWNED, NOT_ADJACENT, NEGOTIATING
+	}
+
 	private Player d_player;
 	private Country d_bombCountry;
-	private String d_status;
+	private Result d_result = Result.ISSUED;
+	private Player d_negotiatingPlayer;
 
 	/**
 	 * Creates a new <code>BombOrder</code>.
@@ -24,7 +31,6 @@ public class BombOrder implements Order {
 	public BombOrder(Player p_player, Country p_country) {
 		d_player = p_player;
 		d_bombCountry = p_country;
-		d_status = "bomb " + d_bombCountry.getName();
 	}
 
 	/**
@@ -40,7 +46,7 @@ public class BombOrder implements Order {
 			int l_armiesToBeDestroyed = (d_bombCountry.getArmies()) / 2;
 			d_bombCountry.removeArmies(l_armiesToBeDestroyed);
 
-			d_status = d_player.getName() + " bombed the country " + d_bombCountry.getName();
+			d_result = Result.BOMBED;
 		}
 	}
 
@@ -48,8 +54,20 @@ public class BombOrder implements Order {
 	 * {@inheritDoc}
 	 */
 	@Override
-	public String getStatus() {
-		return d_status;
+	public LogEvent getStatusEvent() {
+		switch (d_result) {
+		case BOMBED:
+			return new LogEvent(LogEvent.Type.BOMBED, d_player.getName(), d_bombCountry.getName());
+		case OWNED:
+			return new LogEvent(LogEvent.Type.BOMB_FAILED_OWNED, d_player.getName());
+		case NOT_ADJACENT:
+			return new LogEvent(LogEvent.Type.BOMB_FAILED_NOT_ADJACENT, d_bombCountry.getName(), d_player.getName());
+		case NEGOTIATING:
+			return new LogEvent(LogEvent.Type.BOMB_FAILED_NEGOTIATING, d_player.getName(),
+					d_negotiatingPlayer.getName());
+		default:
+			return new LogEvent(LogEvent.Type.BOMB_ISSUED, d_bombCountry.getName());
+		}
 	}
 
 	/**
@@ -82,21 +100,20 @@ public class BombOrder implements Order {
 	private boolean isValid() {
 		// Check if the player is the owner of the country
 		if (d_player.ownsCountry(d_bombCountry)) {
-			d_status = "Bombing failed: " + d_player.getName() + " owns the country to be bombed";
+			d_result = Result.OWNED;
 			return false;
 		}
 		// Checks if the target country is adjacent to one of the current player’s
 		// territories
 		if (!isAdjacent()) {
-			d_status = "Bombing failed: country " + d_bombCountry.getName()
-					+ " is not adjacent to any country owned by " + d_player.getName();
+			d_result = Result.NOT_ADJACENT;
 			return false;
 		}
 
 		// Validate that there is no negotiation in place
 		if (d_player.isNegotiating(d_bombCountry.getOwner())) {
-			d_status = "Bombing failed: players " + d_player.getName() + " and " + d_bombCountry.getOwner().getName()
-					+ " are currently negotiating";
+			d_result = Result.NEGOTIATING;
+			d_negotiatingPlayer = d_bombCountry.getOwner();
 			return false;
 		}
 
@@ -2,6 +2,7 @@ package ca.concordia.risk.game.orders;
 
 import ca.concordia.risk.game.Country;
 import ca.concordia.risk.game.Player;
+import ca.concordia.risk.utils.LogEvent;
 
 /**
  * This class represents a deploy order.
@@ -11,10 +12,15 @@ import ca.concordia.risk.game.Player;
  */
 public class DeployOrder implements Order {
 
+	/** Possible results of the order. */
+	private enum Result {
+		ISSUED, DEPLOYED, NOT_OWNED
+	}
+
 	private Player d_player;
 	private Country d_deployCountry;
 	private int d_armiesToDeploy;
-	private String d_status;
+	private Result d_result = Result.ISSUED;
 
 	/**
 	 * Creates a new <code>DeployOrder</code>.
@@ -27,8 +33,6 @@ public class DeployOrder implements Order {
 		d_player = p_player;
 		d_deployCountry = p_country;
 		d_armiesToDeploy = p_numArmies;
-
-		d_status = "deploy " + d_armiesToDeploy + " armies to " + d_deployCountry.getName();
 	}
 
 	/**
@@ -40,7 +44,7 @@ public class DeployOrder implements Order {
 	@Override
 	public void execute() {
 		if (isValid()) {
-			d_status = d_player.getName() + " deployed " + d_armiesToDeploy + " armies to " + d_deployCountry.getName();
+			d_result = Result.DEPLOYED;
 			d_deployCountry.addArmies(d_armiesToDeploy);
 		}
 	}
@@ -49,8 +53,15 @@ public class DeployOrder implements Order {
 	 * {@inheritDoc}
 	 */
 	@Override
-	public String getStatus() {
-		return d_status;
+	public LogEvent getStatusEvent() {
+		switch (d_result) {
+		case DEPLOYED:
+			return new LogEvent(LogEvent.Type.DEPLOYED, d_player.getName(), d_armiesToDeploy, d_deployCountry.getName());
+		case NOT_OWNED:
+			return new LogEvent(LogEvent.Type.DEPLOY_FAILED_NOT_OWNED, d_deployCountry.getName(), d_player.getName());
+		default:
+			return new LogEvent(LogEvent.Type.DEPLOY_ISSUED, d_armiesToDeploy, d_deployCountry.getName());
+		}
 	}
 
 	/**
@@ -61,7 +72,7 @@ public class DeployOrder implements Order {
 	 */
 	private boolean isValid() {
 		if (!d_player.ownsCountry(d_deployCountry)) {
-			d_status = "Deployment failed: " + d_deployCountry.getName() + " not owned by " + d_player.getName();
+			d_result = Result.NOT_OWNED;
 			return false;
 		}
 
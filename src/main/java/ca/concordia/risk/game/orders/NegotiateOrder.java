@@ -1,6 +1,7 @@
 package ca.concordia.risk.game.orders;
 
 import ca.concordia.risk.game.Player;
+import ca.concordia.risk.utils.LogEvent;
 
 /**
  * This class represents a negotiate order.
@@ -9,7 +10,7 @@ public class NegotiateOrder implements Order {
 
 	private Player d_player1;
 	private Player d_player2;
-	private String d_status;
+	private boolean d_executed;
 
 	/**
 	 * Creates a new <code>NegotiateOrder</code>.
@@ -20,8 +21,6 @@ public class NegotiateOrder implements Order {
 	public NegotiateOrder(Player p_player1, Player p_player2) {
 		d_player1 = p_player1;
 		d_player2 = p_player2;
-
-		d_status = "negotiate with " + p_player2.getName();
 	}
 
 	/**
@@ -35,15 +34,18 @@ public class NegotiateOrder implements Order {
 		d_player1.addActiveNegotiation(d_player2);
 		d_player2.addActiveNegotiation(d_player1);
 
-		d_status = "Player " + d_player1.getName() + " negotiating with " + d_player2.getName();
+		d_executed = true;
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
-	public String getStatus() {
-		return d_status;
+	public LogEvent getStatusEvent() {
+		if (d_executed) {
+			return new LogEvent(LogEvent.Type.NEGOTIATED, d_player1.getName(), d_player2.getName());
+		}
+		return new LogEvent(LogEvent.Type.NEGOTIATE_ISSUED, d_player2.getName());
 	}
 
 }
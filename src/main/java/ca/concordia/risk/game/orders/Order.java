@@ -1,5 +1,7 @@
 package ca.concordia.risk.game.orders;
 
+import ca.concordia.risk.utils.LogEvent;
+
 /**
  * Interface for player orders.
  * 
@@ -13,6 +15,17 @@ public interface Order {
 	 */
 	public void execute();
 
+	/**
+	 * Returns the current status of the order as a log event.
+	 * <p>
+	 * Order status represents the result of executing an order. The event only
+	 * holds the names and numbers describing the status, so building it does not
+	 * build any string.
+	 * 
+	 * @return order status event.
+	 */
+	public LogEvent getStatusEvent();
+
 	/**
 	 * Returns the current status of the order.
 	 * <p>
@@ -20,5 +33,7 @@ public interface Order {
 	 * 
 	 * @return order status string.
 	 */
-	public String getStatus();
+	public default String getStatus() {
+		return getStatusEvent().format();
+	}
 }
@@ -1,77 +1,119 @@
 package ca.concordia.risk.game.phases;
 
 import java.io.FileNotFoundException;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
-import ca.concordia.risk.GameEngine;
 import ca.concordia.risk.game.Card;
+import ca.concordia.risk.game.GameContext;
+import ca.concordia.risk.game.GameResult;
 import ca.concordia.risk.game.Player;
 import ca.concordia.risk.game.orders.Order;
 import ca.concordia.risk.io.parsers.GameplayCommandParser;
-import ca.concordia.risk.io.views.ConsoleView;
+import ca.concordia.risk.io.views.View;
+import ca.concordia.risk.utils.AsyncObserver;
+import ca.concordia.risk.utils.GameJournal;
 import ca.concordia.risk.utils.LogEntryBuffer;
+import ca.concordia.risk.utils.LogEvent;
 import ca.concordia.risk.utils.LogFileWriter;
+import ca.concordia.risk.utils.LogLevel;
+import ca.concordia.risk.utils.Observer;
 
 /**
  * Class representing the Gameplay Phase.
  * 
  * <p>
- * Executing this phase runs one iteration of the gameplay loop.
+ * Executing this phase runs one iteration of the gameplay loop. When the game
+ * ends, a <code>GameResult</code> is stored in the game context.
  * 
  * @author Enrique
  *
  */
 public class GameplayPhase extends Phase {
 
-	private static final int d_TurnLimit = 10000;
+	private static final int d_DefaultTurnLimit = 10000;
+	private static final int d_LogSinkCapacity = 4096;
 
 	private LogEntryBuffer d_logBuffer = new LogEntryBuffer();
-	private LogFileWriter d_logFileWriter = new LogFileWriter();
+	private LogFileWriter d_logFileWriter;
+	private GameJournal d_journal;
+	private List<AsyncObserver> d_logSinks = new ArrayList<AsyncObserver>();
 	private int d_turnNumber;
+	private int d_turnLimit = d_DefaultTurnLimit;
+	private List<String> d_eliminationOrder = new ArrayList<String>();
 
 	/**
-	 * Creates a new <code>StartupPhase</code> object.
+	 * Creates a new <code>GameplayPhase</code> object.
+	 * 
+	 * @param p_context game context the phase belongs to.
 	 */
-	public GameplayPhase() {
+	public GameplayPhase(GameContext p_context) {
+		super(p_context);
 		d_commandParser = new GameplayCommandParser();
 	}
 
 	/**
 	 * {@inheritDoc}
 	 * <p>
-	 * Sets up the log buffer and log file writer.
+	 * Sets up the log buffer and its sinks: the log file writer, the game journal
+	 * and the log observers of the game context. The log file writer already
+	 * writes on its own thread, so it is attached directly. Every other sink
+	 * receives the log events on its own thread, so sinks never slow down the
+	 * gameplay loop. Only the log levels enabled in the game context are logged.
 	 */
 	@Override
 	public void executeOnPhaseStart() {
 		try {
 			d_turnNumber = 1;
+			d_eliminationOrder.clear();
+			d_context.setGameResult(null);
+
+			closeLogSinks();
+			List<Observer> l_sinks = new ArrayList<Observer>();
+			if (d_context.isFileLoggingEnabled()) {
+				d_logFileWriter = new LogFileWriter(d_context.getLogOverflowPolicy());
+				d_logFileWriter.openLogFile(d_context.getLogDirectory(), d_context.getGameId());
+				d_logBuffer.attach(d_logFileWriter);
+			}
+			if (d_context.isJournalEnabled()) {
+				d_journal = new GameJournal();
+				d_journal.openJournal(d_context.getLogDirectory(), d_context.getGameId());
+				l_sinks.add(d_journal);
+			}
+			l_sinks.addAll(d_context.getLogObservers());
+			for (Observer l_sink : l_sinks) {
+				AsyncObserver l_asyncSink = new AsyncObserver(l_sink, d_LogSinkCapacity,
+						d_context.getLogOverflowPolicy());
+				d_logSinks.add(l_asyncSink);
+				d_logBuffer.attach(l_asyncSink);
+			}
+			d_logBuffer.setEnabledLevels(d_context.getLogLevels());
 
-			d_logFileWriter.openLogFile();
-			d_logBuffer.attach(d_logFileWriter);
-
-			d_logBuffer.write("Game started");
+			d_logBuffer.write(LogEvent.Type.GAME_STARTED);
 		} catch (FileNotFoundException l_e) {
-			GameEngine.GetView().display("\nError: Failed to open the log file");
+			d_context.getView().display("\nError: Failed to open the log file");
 		}
 	}
 
 	/**
 	 * {@inheritDoc}
 	 * <p>
-	 * Cleans up the log buffer and writer.
+	 * Cleans up the log buffer and its sinks. All entries of the game are
+	 * delivered to every sink, and written to the log file and the journal, before
+	 * the phase ends.
 	 */
 	@Override
 	public void executeOnPhaseEnd() {
 		// Report the game ending
-		d_logBuffer.write("\nGame Ended");
+		d_logBuffer.write(LogEvent.Type.GAME_ENDED);
 
-		d_logBuffer.detach(d_logFileWriter);
-		d_logFileWriter.closeLogFile();
+		closeLogSinks();
 
 		// Clean up the players
-		GameEngine.ClearPlayers();
+		d_context.clearPlayers();
 	}
 
 	/**
@@ -80,8 +122,8 @@ public class GameplayPhase extends Phase {
 	@Override
 	public void execute() {
 		try {
-			GameEngine.GetView().display("\nTurn " + d_turnNumber + " begins");
-			d_logBuffer.write("\nTurn " + d_turnNumber + " begins");
+			d_context.getView().display(() -> "\nTurn " + d_turnNumber + " begins");
+			d_logBuffer.write(LogEvent.Type.TURN_STARTED, d_turnNumber);
 
 			assignReinforcements();
 			issueCards();
@@ -95,7 +137,7 @@ public class GameplayPhase extends Phase {
 		} catch (GameInterruptedException l_e) {
 			// Game was interrupted, skip the following phases in the loop
 			// and return early
-			d_logBuffer.write("Game interrupted");
+			d_logBuffer.write(LogEvent.Type.GAME_INTERRUPTED);
 		}
 	}
 
@@ -115,20 +157,73 @@ public class GameplayPhase extends Phase {
 	 */
 	public void setTurnNumber(int p_turnNumber) {
 		d_turnNumber = p_turnNumber;
-		d_logBuffer.write("\nGame restarted from turn " + d_turnNumber);
+		d_logBuffer.write(LogEvent.Type.GAME_RESTARTED, d_turnNumber);
+	}
+
+	/**
+	 * Gets the number of turns after which the game is declared a draw.
+	 * 
+	 * @return turn limit.
+	 */
+	public int getTurnLimit() {
+		return d_turnLimit;
+	}
+
+	/**
+	 * Sets the number of turns after which the game is declared a draw.
+	 * 
+	 * @param p_turnLimit turn limit to set.
+	 */
+	public void setTurnLimit(int p_turnLimit) {
+		d_turnLimit = p_turnLimit;
+	}
+
+	/**
+	 * Detaches the log sinks, once every pending log event is delivered to them,
+	 * and closes the log file and the game journal.
+	 * <p>
+	 * The number of events each sink dropped is written at the end of the log
+	 * file, along with the entries the log file dropped itself, or displayed if
+	 * file logging is disabled.
+	 */
+	private void closeLogSinks() {
+		for (AsyncObserver l_sink : d_logSinks) {
+			d_logBuffer.detach(l_sink);
+			l_sink.close();
+
+			long l_numDropped = l_sink.getDroppedCount();
+			if (l_numDropped > 0) {
+				String l_sinkName = l_sink.getObserver().getClass().getSimpleName();
+				if (d_logFileWriter != null) {
+					d_logFileWriter.reportDropped(l_sinkName, l_numDropped);
+				} else {
+					d_context.getView().display("\n" + l_numDropped + " log entries were dropped by " + l_sinkName);
+				}
+			}
+		}
+		d_logSinks.clear();
+
+		if (d_logFileWriter != null) {
+			d_logBuffer.detach(d_logFileWriter);
+			d_logFileWriter.closeLogFile();
+			d_logFileWriter = null;
+		}
+		if (d_journal != null) {
+			d_journal.closeJournal();
+			d_journal = null;
+		}
 	}
 
 	/**
 	 * Assigns reinforcements to each player.
 	 */
 	private void assignReinforcements() {
-		d_logBuffer.write("\nAssigning reinforcements...");
+		d_logBuffer.write(LogEvent.Type.ASSIGNING_REINFORCEMENTS);
 
-		for (Player l_p : GameEngine.GetPlayers()) {
+		for (Player l_p : d_context.getPlayers()) {
 			l_p.assignReinfocements();
 
-			d_logBuffer.write(
-					"Player " + l_p.getName() + " assigned " + l_p.getRemainingReinforcements() + " reinforcements");
+			d_logBuffer.write(LogEvent.Type.REINFORCEMENTS_ASSIGNED, l_p.getName(), l_p.getRemainingReinforcements());
 		}
 	}
 
@@ -136,15 +231,15 @@ public class GameplayPhase extends Phase {
 	 * Issues a random card to each player that conquered a country last turn.
 	 */
 	private void issueCards() {
-		d_logBuffer.write("\nIssuing cards...");
+		d_logBuffer.write(LogEvent.Type.ISSUING_CARDS);
 
-		for (Player l_p : GameEngine.GetPlayers()) {
+		for (Player l_p : d_context.getPlayers()) {
 			if (l_p.getEarnedCard()) {
-				Card l_card = Card.issueCard();
+				Card l_card = Card.issueCard(d_context.getRandom());
 				l_p.addCard(l_card);
 				l_p.setEarnedCard(false);
 
-				d_logBuffer.write("Player " + l_p.getName() + " issued " + l_card.toString());
+				d_logBuffer.write(LogEvent.Type.CARD_ISSUED, l_p.getName(), l_card);
 			}
 		}
 	}
@@ -153,7 +248,7 @@ public class GameplayPhase extends Phase {
 	 * Clears all active negotiations from the previous turn.
 	 */
 	private void clearNegotiations() {
-		for (Player l_p : GameEngine.GetPlayers()) {
+		for (Player l_p : d_context.getPlayers()) {
 			l_p.clearActiveNegotiations();
 		}
 	}
@@ -166,10 +261,11 @@ public class GameplayPhase extends Phase {
 	 *                                  for example when loading a save file.
 	 */
 	private void issueOrders() throws GameInterruptedException {
-		d_logBuffer.write("\nIssuing orders...");
+		d_logBuffer.write(LogEvent.Type.ISSUING_ORDERS);
+		boolean l_logOrders = d_logBuffer.isEnabled(LogLevel.ORDER);
 
 		// Clear the issued order flag for all players
-		for (Player l_p : GameEngine.GetPlayers()) {
+		for (Player l_p : d_context.getPlayers()) {
 			l_p.setFinishedIssuingOrder(false);
 		}
 
@@ -177,13 +273,15 @@ public class GameplayPhase extends Phase {
 		boolean l_allPlayersIssued = false;
 		while (!l_allPlayersIssued) {
 			l_allPlayersIssued = true;
-			for (Player l_p : GameEngine.GetPlayers()) {
+			for (Player l_p : d_context.getPlayers()) {
 				if (!l_p.getFinishedIssuingOrders()) {
 					l_p.issueOrder();
 					l_allPlayersIssued = false;
 
 					if (l_p.getFinishedIssuingOrders()) {
-						d_logBuffer.write("Player " + l_p.getName() + " passed");
+						if (l_logOrders) {
+							d_logBuffer.write(LogEvent.Type.PLAYER_PASSED, l_p.getName());
+						}
 					} else {
 						Order l_issuedOrder = l_p.peekLastOrder();
 						if (l_issuedOrder == null) {
@@ -191,7 +289,9 @@ public class GameplayPhase extends Phase {
 							// Interrupt the turn
 							throw new GameInterruptedException();
 						}
-						d_logBuffer.write("Player " + l_p.getName() + " issued order: " + l_issuedOrder.getStatus());
+						if (l_logOrders) {
+							d_logBuffer.write(LogEvent.Type.ORDER_ISSUED, l_p.getName(), l_issuedOrder.getStatusEvent());
+						}
 					}
 				}
 			}
@@ -201,23 +301,29 @@ public class GameplayPhase extends Phase {
 	/**
 	 * Asks each player to execute their orders in a round-robin fashion one order
 	 * at a time until no players have orders remaining in their order queue.
+	 * <p>
+	 * Order statuses are only built if the view or the log reads them.
 	 */
 	private void executeOrders() {
-		ConsoleView l_view = GameEngine.GetView();
+		View l_view = d_context.getView();
 		l_view.display("\nExecuting orders...");
-		d_logBuffer.write("\nExecuting orders...");
+		d_logBuffer.write(LogEvent.Type.EXECUTING_ORDERS);
+		boolean l_logOrders = d_logBuffer.isEnabled(LogLevel.ORDER);
+		boolean l_logBattles = d_logBuffer.isEnabled(LogLevel.BATTLE);
 
 		boolean l_allOrdersExecuted = false;
 		while (!l_allOrdersExecuted) {
 			l_allOrdersExecuted = true;
-			for (Player l_p : GameEngine.GetPlayers()) {
+			for (Player l_p : d_context.getPlayers()) {
 				Order l_order = l_p.nextOrder();
 				if (l_order != null) {
 					l_order.execute();
 					l_allOrdersExecuted = false;
 
-					l_view.display(l_order.getStatus());
-					d_logBuffer.write(l_order.getStatus());
+					l_view.display(l_order::getStatus);
+					if (l_logOrders || l_logBattles) {
+						d_logBuffer.write(l_order.getStatusEvent());
+					}
 				}
 			}
 		}
@@ -229,8 +335,8 @@ public class GameplayPhase extends Phase {
 	 */
 	private void checkForEliminations() {
 		// Check for eliminated players
-		Collection<Player> l_players = GameEngine.GetPlayers();
-		Set<Player> l_eliminatedPlayers = new HashSet<Player>();
+		Collection<Player> l_players = d_context.getPlayers();
+		List<Player> l_eliminatedPlayers = new ArrayList<Player>();
 		for (Player l_player : l_players) {
 			// If a player owns zero countries, it has been eliminated
 			if (l_player.getCountries().size() == 0) {
@@ -242,36 +348,59 @@ public class GameplayPhase extends Phase {
 		// Remove eliminated players from the game and report on their elimination
 		for (Player l_player : l_eliminatedPlayers) {
 			// Remove the player from the game
-			GameEngine.RemovePlayer(l_player.getName());
+			d_context.removePlayer(l_player.getName());
+			d_eliminationOrder.add(l_player.getName());
 
 			// Report that the player was eliminated
-			String l_eliminationMessage = "\nPlayer " + l_player.getName() + " eliminated";
-			d_logBuffer.write(l_eliminationMessage);
-			GameEngine.GetView().display(l_eliminationMessage);
+			d_logBuffer.write(LogEvent.Type.PLAYER_ELIMINATED, l_player.getName());
+			d_context.getView().display(() -> "\nPlayer " + l_player.getName() + " eliminated");
 		}
 
 		// If only one player remain, report their victory and end the game
 		if (l_players.size() == 1) {
 			// Report player victory
 			Player l_winner = l_players.iterator().next();
-			String l_victoryMessage = "\nPlayer " + l_winner.getName() + " wins the game in " + d_turnNumber + " turns";
-			d_logBuffer.write(l_victoryMessage);
-			GameEngine.GetView().display(l_victoryMessage);
-
-			// End the Gameplay Phase
-			GameEngine.SwitchToNextPhase();
-		} else if (d_turnNumber == d_TurnLimit) {
+			d_logBuffer.write(LogEvent.Type.PLAYER_WON, l_winner.getName(), d_turnNumber);
+			d_context.getView()
+					.display(() -> "\nPlayer " + l_winner.getName() + " wins the game in " + d_turnNumber + " turns");
+
+			// Record the result and end the Gameplay Phase
+			d_context.setGameResult(buildGameResult(l_winner.getName()));
+			d_context.switchToNextPhase();
+		} else if (d_turnNumber >= d_turnLimit) {
 			// If no victor is found and we reached the turn limit, declare a draw and end
 			// the game
-			String l_turnLimitMessage = "\nTurn limit of " + d_TurnLimit + " turns reached. The game is a draw";
-			d_logBuffer.write(l_turnLimitMessage);
-			GameEngine.GetView().display(l_turnLimitMessage);
+			d_logBuffer.write(LogEvent.Type.TURN_LIMIT_REACHED, d_turnLimit);
+			d_context.getView().display(() -> "\nTurn limit of " + d_turnLimit + " turns reached. The game is a draw");
 
-			// End the Gameplay Phase
-			GameEngine.SwitchToNextPhase();
+			// Record the result and end the Gameplay Phase
+			d_context.setGameResult(buildGameResult(null));
+			d_context.switchToNextPhase();
 		}
 	}
 
+	/**
+	 * Builds the result of the game from the current game state.
+	 * 
+	 * @param p_winner name of the winning player, or <code>null</code> if the game
+	 *                 is a draw.
+	 * @return result of the game.
+	 */
+	private GameResult buildGameResult(String p_winner) {
+		// Count countries owned by each remaining player, including the neutral player
+		Map<String, Integer> l_territoryCounts = new LinkedHashMap<String, Integer>();
+		for (Player l_player : d_context.getPlayers()) {
+			l_territoryCounts.put(l_player.getName(), l_player.getCountries().size());
+		}
+		Player l_neutralPlayer = d_context.getNeutralPlayer();
+		if (!l_neutralPlayer.getCountries().isEmpty()) {
+			l_territoryCounts.put(l_neutralPlayer.getName(), l_neutralPlayer.getCountries().size());
+		}
+
+		return new GameResult(p_winner, d_turnNumber, d_eliminationOrder, l_territoryCounts,
+				d_context.getRandom().getSeed());
+	}
+
 	/**
 	 * A custom <code>Exception</code> class thrown when the game is interrupted mid
 	 * turn.
@@ -1,5 +1,7 @@
 package ca.concordia.risk.game.phases;
 
+import ca.concordia.risk.game.GameContext;
+import ca.concordia.risk.game.GameMap;
 import ca.concordia.risk.io.parsers.EditorCommandParser;
 
 /**
@@ -9,6 +11,9 @@ import ca.concordia.risk.io.parsers.EditorCommandParser;
  * Inherits the default implementation of the parent <code>Phase</code> class
  * for it's execution method. Executing this phase waits for and processes one
  * user command using the <code>EditorCommandParser</code>.
+ * <p>
+ * The active map is frozen when the phase ends, and unfrozen when the phase
+ * starts again.
  * 
  * @author Enrique
  *
@@ -16,8 +21,37 @@ import ca.concordia.risk.io.parsers.EditorCommandParser;
 public class MapEditorPhase extends Phase {
 	/**
 	 * Creates a new <code>MapEditorPhase</code> object.
+	 * 
+	 * @param p_context game context the phase belongs to.
 	 */
-	public MapEditorPhase() {
+	public MapEditorPhase(GameContext p_context) {
+		super(p_context);
 		d_commandParser = new EditorCommandParser();
 	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Allows the active map to be edited again.
+	 */
+	@Override
+	public void executeOnPhaseStart() {
+		GameMap l_map = d_context.getMap();
+		if (l_map != null) {
+			l_map.unfreeze();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Freezes the active map, as editing is over.
+	 */
+	@Override
+	public void executeOnPhaseEnd() {
+		GameMap l_map = d_context.getMap();
+		if (l_map != null) {
+			l_map.freeze();
+		}
+	}
 }
@@ -1,6 +1,7 @@
 package ca.concordia.risk.game.phases;
 
 import ca.concordia.risk.GameEngine;
+import ca.concordia.risk.game.GameContext;
 import ca.concordia.risk.io.commands.Command;
 import ca.concordia.risk.io.parsers.CommandParser;
 
@@ -16,8 +17,19 @@ public abstract class Phase {
 
 	/** Phase specific command parser. */
 	protected CommandParser d_commandParser;
+	/** Game context the phase operates on. */
+	protected GameContext d_context;
 	private Phase d_nextPhase;
 
+	/**
+	 * Creates a new phase operating on the given game context.
+	 * 
+	 * @param p_context game context the phase belongs to.
+	 */
+	public Phase(GameContext p_context) {
+		d_context = p_context;
+	}
+
 	/**
 	 * Executes the phase once.
 	 * <p>
@@ -1,5 +1,6 @@
 package ca.concordia.risk.game.phases;
 
+import ca.concordia.risk.game.GameContext;
 import ca.concordia.risk.io.parsers.StartupCommandParser;
 
 /**
@@ -16,8 +17,11 @@ import ca.concordia.risk.io.parsers.StartupCommandParser;
 public class StartupPhase extends Phase {
 	/**
 	 * Creates a new <code>StartupPhase</code> object.
+	 * 
+	 * @param p_context game context the phase belongs to.
 	 */
-	public StartupPhase() {
+	public StartupPhase(GameContext p_context) {
+		super(p_context);
 		d_commandParser = new StartupCommandParser();
 	}
 }
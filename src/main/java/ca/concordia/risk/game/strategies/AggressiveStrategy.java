@@ -1,12 +1,14 @@
 package ca.concordia.risk.game.strategies;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.LinkedList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Stack;
 
+import ca.concordia.risk.GameEngine;
 import ca.concordia.risk.game.Country;
+import ca.concordia.risk.game.GameContext;
+import ca.concordia.risk.game.MapTopology;
 import ca.concordia.risk.game.Player;
 import ca.concordia.risk.game.orders.AdvanceOrder;
 import ca.concordia.risk.game.orders.DeployOrder;
@@ -19,8 +21,9 @@ import ca.concordia.risk.game.orders.Order;
  * attack!
  */
 public class AggressiveStrategy extends PlayerStrategy {
-	// Key = node , Value = backtrack node
-	private HashMap<Country, Country> d_backtrack = new HashMap<Country, Country>();
+	// Index = node id, Value = backtrack node id (-1 if none)
+	private int[] d_backtrack = new int[0];
+	private MapTopology d_topology;
 	private Stack<Country> d_path = new Stack<Country>();
 	private ArrayList<Country> d_countryList;
 	private Country d_countryToDeploy = null;
@@ -33,7 +36,17 @@ public class AggressiveStrategy extends PlayerStrategy {
 	 * @param p_player player using this strategy to set as context.
 	 */
 	public AggressiveStrategy(Player p_player) {
-		super(p_player);
+		this(p_player, GameEngine.GetContext());
+	}
+
+	/**
+	 * Creates a new aggressive strategy operating on the given game.
+	 * 
+	 * @param p_player  player using this strategy to set as context.
+	 * @param p_context game the player is taking part in.
+	 */
+	public AggressiveStrategy(Player p_player, GameContext p_context) {
+		super(p_player, p_context);
 	}
 
 	/**
@@ -62,13 +75,10 @@ public class AggressiveStrategy extends PlayerStrategy {
 
 				// If no country has armies, look up for a country with enemies
 				if (d_countryToDeploy == null) {
-					for (Country l_c : d_countryList) {
-						for (Country l_n : l_c.getNeighbors()) {
-							if (!l_n.getOwner().getName().equals(d_player.getName())) {
-								d_countryToDeploy = l_c;
-								return new DeployOrder(d_player, d_countryToDeploy, d_amountToDeploy);
-							}
-						}
+					List<Country> l_frontier = d_countryList.get(0).getMap().getFrontierIndex().getFrontier(d_player);
+					if (!l_frontier.isEmpty()) {
+						d_countryToDeploy = l_frontier.get(0);
+						return new DeployOrder(d_player, d_countryToDeploy, d_amountToDeploy);
 					}
 				}
 			}
@@ -82,7 +92,7 @@ public class AggressiveStrategy extends PlayerStrategy {
 			if (!d_path.isEmpty()) {
 				d_hasAdvance = true;
 				return new AdvanceOrder(d_player, d_countryToDeploy, d_path.pop(),
-						d_countryToDeploy.getArmies() + d_amountToDeploy);
+						d_countryToDeploy.getArmies() + d_amountToDeploy, d_context);
 			}
 		}
 
@@ -96,33 +106,52 @@ public class AggressiveStrategy extends PlayerStrategy {
 
 	/**
 	 * Populate d_backtrack with a BFS approach, until finding an enemy.
+	 * <p>
+	 * The search runs over the compiled topology of the map.
 	 * 
 	 * @param p_fromCountry Current country to trace a path to an enemy country.
 	 * @return Enemy Country to advance towards
 	 */
 	public Country findEnemy(Country p_fromCountry) {
-		LinkedList<Country> l_queue = new LinkedList<Country>();
-		HashSet<Country> l_visited = new HashSet<Country>();
-		Country l_tmp;
-
-		l_queue.add(p_fromCountry);
-		l_visited.add(p_fromCountry);
-		d_backtrack.put(p_fromCountry, null);
-
-		while (l_queue.size() > 0) {
-			l_tmp = l_queue.poll();
-
-			for (Country l_c : l_tmp.getNeighbors()) {
-				if (l_c.getOwner().getName().equals(d_player.getName())) {
-					if (!l_visited.contains(l_c)) {
-						l_queue.add(l_c);
-						l_visited.add(l_c);
-						d_backtrack.put(l_c, l_tmp);
+		if (p_fromCountry == null) {
+			return null;
+		}
+
+		d_topology = p_fromCountry.getMap().getTopology();
+		int[] l_offsets = d_topology.getNeighborOffsets();
+		int[] l_targets = d_topology.getNeighborTargets();
+		int l_numCountries = d_topology.getNumberOfCountries();
+
+		// Reset the backtrack table, reusing it when the size did not change
+		if (d_backtrack.length != l_numCountries) {
+			d_backtrack = new int[l_numCountries];
+		}
+		Arrays.fill(d_backtrack, -1);
+
+		int[] l_queue = new int[l_numCountries];
+		boolean[] l_visited = new boolean[l_numCountries];
+		int l_head = 0;
+		int l_tail = 0;
+
+		int l_fromId = p_fromCountry.getId();
+		l_queue[l_tail++] = l_fromId;
+		l_visited[l_fromId] = true;
+
+		while (l_head < l_tail) {
+			int l_tmp = l_queue[l_head++];
+
+			for (int l_i = l_offsets[l_tmp]; l_i < l_offsets[l_tmp + 1]; l_i++) {
+				int l_c = l_targets[l_i];
+				if (d_topology.getCountry(l_c).getOwner() == d_player) {
+					if (!l_visited[l_c]) {
+						l_queue[l_tail++] = l_c;
+						l_visited[l_c] = true;
+						d_backtrack[l_c] = l_tmp;
 					}
 					continue;
 				}
-				d_backtrack.put(l_c, l_tmp);
-				return l_c;
+				d_backtrack[l_c] = l_tmp;
+				return d_topology.getCountry(l_c);
 			}
 		}
 
@@ -132,14 +161,21 @@ public class AggressiveStrategy extends PlayerStrategy {
 	/**
 	 * Populate d_path walking back in d_backtrack from the target enemy until the
 	 * current source country.
+	 * <p>
+	 * Steps left over from a previous path are discarded.
 	 * 
 	 * @param p_enemy Enemy Country to trace a path to.
 	 */
 	public void buildPath(Country p_enemy) {
-		Country l_tmp = p_enemy;
-		while (d_backtrack.get(l_tmp) != null) {
-			d_path.push(l_tmp);
-			l_tmp = d_backtrack.get(l_tmp);
+		d_path.clear();
+		if (p_enemy == null) {
+			return;
+		}
+
+		int l_tmp = p_enemy.getId();
+		while (d_backtrack[l_tmp] != -1) {
+			d_path.push(d_topology.getCountry(l_tmp));
+			l_tmp = d_backtrack[l_tmp];
 		}
 	}
 
@@ -1,10 +1,11 @@
 package ca.concordia.risk.game.strategies;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import ca.concordia.risk.GameEngine;
 import ca.concordia.risk.game.Card;
 import ca.concordia.risk.game.Country;
+import ca.concordia.risk.game.GameContext;
+import ca.concordia.risk.game.MapTopology;
 import ca.concordia.risk.game.Player;
 import ca.concordia.risk.game.orders.AdvanceOrder;
 import ca.concordia.risk.game.orders.AirliftOrder;
@@ -30,7 +31,17 @@ public class BenevolentStrategy extends PlayerStrategy {
 	 * @param p_player player using this strategy to set as context.
 	 */
 	public BenevolentStrategy(Player p_player) {
-		super(p_player);
+		this(p_player, GameEngine.GetContext());
+	}
+
+	/**
+	 * Creates a new benevolent strategy operating on the given game.
+	 * 
+	 * @param p_player  player using this strategy to set as context.
+	 * @param p_context game the player is taking part in.
+	 */
+	public BenevolentStrategy(Player p_player, GameContext p_context) {
+		super(p_player, p_context);
 		d_hasAdvanced = new ArrayList<Country>();
 	}
 
@@ -68,8 +79,8 @@ public class BenevolentStrategy extends PlayerStrategy {
 
 			// Diplomacy
 			if (d_player.useCard(Card.getDiplomacyCard())) {
-				ArrayList<Player> l_players = new ArrayList<Player>(GameEngine.GetPlayers());
-				Collections.shuffle(l_players);
+				ArrayList<Player> l_players = new ArrayList<Player>(d_context.getPlayers());
+				d_context.getRandom().shuffle(l_players);
 
 				for (Player l_otherPlayer : l_players) {
 					if (!l_otherPlayer.getName().equals(d_player.getName())) {
@@ -87,9 +98,13 @@ public class BenevolentStrategy extends PlayerStrategy {
 				continue;
 			}
 			// Otherwise, check all neighbors and look for the weakest ally neighbor
+			MapTopology l_topology = l_c.getMap().getTopology();
+			int[] l_offsets = l_topology.getNeighborOffsets();
+			int[] l_targets = l_topology.getNeighborTargets();
 			Country l_weakestNeighbor = null;
-			for (Country l_neighbor : l_c.getNeighbors()) {
-				boolean l_playerOwnsNeighbour = l_neighbor.getOwner().equals(d_player);
+			for (int l_i = l_offsets[l_c.getId()]; l_i < l_offsets[l_c.getId() + 1]; l_i++) {
+				Country l_neighbor = l_topology.getCountry(l_targets[l_i]);
+				boolean l_playerOwnsNeighbour = l_neighbor.getOwner() == d_player;
 				boolean l_armyDifferenceMoreThanOne = (l_c.getArmies() - l_neighbor.getArmies() > 1);
 				// If player owns the neighbor and difference of armies between the country and
 				// the neighbor is more than 1, the neighbor is considered a weaker neighbor and
@@ -107,7 +122,7 @@ public class BenevolentStrategy extends PlayerStrategy {
 			if (l_weakestNeighbor != null) {
 				d_hasAdvanced.add(l_c);
 				return new AdvanceOrder(d_player, l_c, l_weakestNeighbor,
-						((l_c.getArmies() - l_weakestNeighbor.getArmies()) / 2));
+						((l_c.getArmies() - l_weakestNeighbor.getArmies()) / 2), d_context);
 			}
 		}
 		// Finish issuing orders
@@ -142,12 +157,9 @@ public class BenevolentStrategy extends PlayerStrategy {
 	private Country weakestCountry() {
 		d_countryList = new ArrayList<Country>(d_player.getCountries());
 		Country l_weakest = d_countryList.get(0);
-		for (Country l_c : d_countryList) {
-			for (Country l_n : l_c.getNeighbors()) {
-				if (l_c.getArmies() < l_weakest.getArmies() && !l_n.getOwner().equals(d_player)) {
-					l_weakest = l_c;
-					break;
-				}
+		for (Country l_c : l_weakest.getMap().getFrontierIndex().getFrontier(d_player)) {
+			if (l_c.getArmies() < l_weakest.getArmies()) {
+				l_weakest = l_c;
 			}
 		}
 		return l_weakest;
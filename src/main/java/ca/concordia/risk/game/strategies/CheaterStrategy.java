@@ -4,6 +4,10 @@ import java.util.ArrayList;
 
 import ca.concordia.risk.GameEngine;
 import ca.concordia.risk.game.Country;
+import ca.concordia.risk.game.FrontierIndex;
+import ca.concordia.risk.game.GameContext;
+import ca.concordia.risk.game.GameMap;
+import ca.concordia.risk.game.MapTopology;
 import ca.concordia.risk.game.Player;
 import ca.concordia.risk.game.orders.Order;
 
@@ -22,7 +26,17 @@ public class CheaterStrategy extends PlayerStrategy {
 	 * @param p_player player using this strategy to set as context.
 	 */
 	public CheaterStrategy(Player p_player) {
-		super(p_player);
+		this(p_player, GameEngine.GetContext());
+	}
+
+	/**
+	 * Creates a new cheater strategy operating on the given game.
+	 * 
+	 * @param p_player  player using this strategy to set as context.
+	 * @param p_context game the player is taking part in.
+	 */
+	public CheaterStrategy(Player p_player, GameContext p_context) {
+		super(p_player, p_context);
 	}
 
 	/**
@@ -33,50 +47,42 @@ public class CheaterStrategy extends PlayerStrategy {
 	@Override
 	public Order issueOrder() {
 		d_countryList = new ArrayList<Country>(d_player.getCountries());
-
-		for (Country l_c : d_countryList) {
-			for (Country l_n : l_c.getNeighbors()) {
-				if (!l_n.getOwner().getName().equals(d_player.getName())) {
-					// Get the instance of the game engine
-					Country l_conqueredCountry = GameEngine.GetMap().getCountry(l_n.getName());
-
-					l_conqueredCountry.getOwner().removeCountry(l_conqueredCountry);
-					l_conqueredCountry.setOwner(d_player);
-					d_player.addCountry(l_conqueredCountry);
-				}
-			}
+		if (d_countryList.isEmpty()) {
+			d_player.setFinishedIssuingOrder(true);
+			return null;
 		}
 
-		d_countryList = new ArrayList<Country>(d_player.getCountries());
-		for (Country l_c : d_countryList) {
-			boolean l_duplicateArmies = false;
-			int l_maxArmies = 0;
-			for (Country l_n : l_c.getNeighbors()) {
-				// If a country has a neighbor enemy, double the armies.
-				if (!l_n.getOwner().getName().equals(d_player.getName())) {
-					l_duplicateArmies = true;
+		GameMap l_map = d_countryList.get(0).getMap();
+		FrontierIndex l_frontierIndex = l_map.getFrontierIndex();
+		MapTopology l_topology = l_map.getTopology();
+		int[] l_offsets = l_topology.getNeighborOffsets();
+		int[] l_targets = l_topology.getNeighborTargets();
 
-					if (l_c.getArmies() > 0) {
-						break;
-					}
+		// Conquer all enemy neighbors
+		for (Country l_conqueredCountry : l_frontierIndex.getTargets(d_player)) {
+			l_map.transferOwnership(l_conqueredCountry, d_player);
+		}
 
-					// If owned country does not has armies, then calculate the strongest enemy
-					if (l_maxArmies < l_n.getArmies()) {
+		// Double the armies of every country that still has an enemy neighbor
+		for (Country l_c : l_frontierIndex.getFrontier(d_player)) {
+			// If owned country does not has armies, then calculate the strongest enemy
+			if (l_c.getArmies() == 0) {
+				int l_maxArmies = 0;
+				int l_id = l_c.getId();
+				for (int l_i = l_offsets[l_id]; l_i < l_offsets[l_id + 1]; l_i++) {
+					Country l_n = l_topology.getCountry(l_targets[l_i]);
+					if (l_n.getOwner() != d_player && l_maxArmies < l_n.getArmies()) {
 						l_maxArmies = l_n.getArmies();
 					}
 				}
-			}
-			if (l_duplicateArmies) {
-				Country l_gameCountry = GameEngine.GetMap().getCountry(l_c.getName());
-
 				// Add initial armies based on strongest country if owned country does not has
 				// an army
-				if (l_gameCountry.getArmies() == 0 && l_maxArmies > 0) {
-					l_gameCountry.addArmies(l_maxArmies);
+				if (l_maxArmies > 0) {
+					l_c.addArmies(l_maxArmies);
 				}
-
-				l_gameCountry.addArmies(l_gameCountry.getArmies() * 2);
 			}
+
+			l_c.addArmies(l_c.getArmies() * 2);
 		}
 
 		d_player.setFinishedIssuingOrder(true);
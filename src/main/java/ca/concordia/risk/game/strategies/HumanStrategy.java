@@ -1,6 +1,7 @@
 package ca.concordia.risk.game.strategies;
 
 import ca.concordia.risk.GameEngine;
+import ca.concordia.risk.game.GameContext;
 import ca.concordia.risk.game.Player;
 import ca.concordia.risk.game.orders.Order;
 
@@ -18,7 +19,17 @@ public class HumanStrategy extends PlayerStrategy {
 	 * @param p_player player using this strategy to set as context.
 	 */
 	public HumanStrategy(Player p_player) {
-		super(p_player);
+		this(p_player, GameEngine.GetContext());
+	}
+
+	/**
+	 * Creates a new human strategy operating on the given game.
+	 * 
+	 * @param p_player  player using this strategy to set as context.
+	 * @param p_context game the player is taking part in.
+	 */
+	public HumanStrategy(Player p_player, GameContext p_context) {
+		super(p_player, p_context);
 	}
 
 	/**
@@ -1,5 +1,8 @@
 package ca.concordia.risk.game.strategies;
 
+import ca.concordia.risk.GameEngine;
+import ca.concordia.risk.game.Country;
+import ca.concordia.risk.game.GameContext;
 import ca.concordia.risk.game.Player;
 import ca.concordia.risk.game.orders.Order;
 
@@ -12,14 +15,31 @@ public abstract class PlayerStrategy {
 
 	/** Player context for this strategy. */
 	protected Player d_player;
+	/** Game the player is taking part in. */
+	protected GameContext d_context;
 
 	/**
 	 * Creates a new player strategy with the specified player as its context.
+	 * <p>
+	 * The strategy operates on the game context currently held by the
+	 * <code>GameEngine</code>.
 	 * 
 	 * @param p_player player to use as strategy context.
 	 */
 	public PlayerStrategy(Player p_player) {
+		this(p_player, GameEngine.GetContext());
+	}
+
+	/**
+	 * Creates a new player strategy with the specified player as its context,
+	 * operating on the given game.
+	 * 
+	 * @param p_player  player to use as strategy context.
+	 * @param p_context game the player is taking part in.
+	 */
+	public PlayerStrategy(Player p_player, GameContext p_context) {
 		d_player = p_player;
+		d_context = p_context;
 	}
 
 	/**
@@ -29,4 +49,18 @@ public abstract class PlayerStrategy {
 	 *         <code>null</code> if no valid order was issued.
 	 */
 	public abstract Order issueOrder();
+
+	/**
+	 * Checks if a country borders a country owned by another player.
+	 * <p>
+	 * Reads the frontier index of the country's map.
+	 * 
+	 * @param p_country country owned by the player to check.
+	 * @return <code>true</code> if at least one neighbor is not owned by the
+	 *         player.<br>
+	 *         <code>false</code> otherwise.
+	 */
+	protected boolean hasEnemyNeighbor(Country p_country) {
+		return p_country.getMap().getFrontierIndex().isFrontier(p_country);
+	}
 }
@@ -1,14 +1,14 @@
 package ca.concordia.risk.game.strategies;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.Random;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 import ca.concordia.risk.GameEngine;
 import ca.concordia.risk.game.Card;
 import ca.concordia.risk.game.Country;
+import ca.concordia.risk.game.GameContext;
+import ca.concordia.risk.game.MapTopology;
 import ca.concordia.risk.game.Player;
 import ca.concordia.risk.game.orders.AdvanceOrder;
 import ca.concordia.risk.game.orders.AirliftOrder;
@@ -28,7 +28,6 @@ public class RandomStrategy extends PlayerStrategy {
 	private ArrayList<Country> d_countryList;
 	private ArrayList<Country> d_countryToAdvance;
 	private Set<Country> d_countrySet;
-	private Random d_rand;
 	private int d_randomCount = 1;
 	private int d_advanceIndex = 0;
 	private boolean d_hasThisRoundRand = false;
@@ -39,9 +38,18 @@ public class RandomStrategy extends PlayerStrategy {
 	 * @param p_player player using this strategy to set as context.
 	 */
 	public RandomStrategy(Player p_player) {
-		super(p_player);
-		d_countrySet = new HashSet<Country>();
-		d_rand = new Random();
+		this(p_player, GameEngine.GetContext());
+	}
+
+	/**
+	 * Creates a new random strategy operating on the given game.
+	 * 
+	 * @param p_player  player using this strategy to set as context.
+	 * @param p_context game the player is taking part in.
+	 */
+	public RandomStrategy(Player p_player, GameContext p_context) {
+		super(p_player, p_context);
+		d_countrySet = new LinkedHashSet<Country>();
 	}
 
 	/**
@@ -55,10 +63,10 @@ public class RandomStrategy extends PlayerStrategy {
 		if (d_countryList.size() > 0) {
 			if (d_player.getRemainingReinforcements() > 0) {
 				// We will deploy to a random country
-				Collections.shuffle(d_countryList);
+				d_context.getRandom().shuffle(d_countryList);
 
 				// Random amount to deploy
-				int l_amountToDeploy = d_rand.nextInt(d_player.getRemainingReinforcements()) + 1;
+				int l_amountToDeploy = d_context.getRandom().nextInt(d_player.getRemainingReinforcements()) + 1;
 
 				// Retrieve reinforcements from the player
 				d_player.retrieveReinforcements(l_amountToDeploy);
@@ -79,7 +87,7 @@ public class RandomStrategy extends PlayerStrategy {
 
 				// Randomize the countries to advance armies
 				d_countryToAdvance = new ArrayList<Country>(d_countrySet);
-				Collections.shuffle(d_countryToAdvance);
+				d_context.getRandom().shuffle(d_countryToAdvance);
 			}
 
 			// Play cards if available
@@ -89,7 +97,7 @@ public class RandomStrategy extends PlayerStrategy {
 					if (!d_countryToAdvance.isEmpty()) {
 						Country l_c = d_countryToAdvance.get(0);
 						d_countryToAdvance.remove(0);
-						return new BlockadeOrder(d_player, l_c);
+						return new BlockadeOrder(d_player, l_c, d_context);
 					}
 				}
 				// Airlift
@@ -102,8 +110,8 @@ public class RandomStrategy extends PlayerStrategy {
 				}
 				// Diplomacy
 				if (d_player.useCard(Card.getDiplomacyCard())) {
-					ArrayList<Player> l_players = new ArrayList<Player>(GameEngine.GetPlayers());
-					Collections.shuffle(l_players);
+					ArrayList<Player> l_players = new ArrayList<Player>(d_context.getPlayers());
+					d_context.getRandom().shuffle(l_players);
 
 					for (Player l_otherPlayer : l_players) {
 						if (!l_otherPlayer.getName().equals(d_player.getName())) {
@@ -113,18 +121,16 @@ public class RandomStrategy extends PlayerStrategy {
 				}
 				// Bomb
 				if (d_player.useCard(Card.getBombCard())) {
-					for (Country l_c : d_countryList) {
-						for (Country l_n : l_c.getNeighbors()) {
-							if ((!l_n.getOwner().getName().equals(d_player.getName())) && l_n.getArmies() > 0) {
-								return new BombOrder(d_player, l_n);
-							}
+					for (Country l_n : d_countryList.get(0).getMap().getFrontierIndex().getTargets(d_player)) {
+						if (l_n.getArmies() > 0) {
+							return new BombOrder(d_player, l_n);
 						}
 					}
 				}
 			}
 
 			// At least advance armies from 1 country per round
-			if (d_advanceIndex < d_countryToAdvance.size() && d_rand.nextInt(d_randomCount) < 1) {
+			if (d_advanceIndex < d_countryToAdvance.size() && d_context.getRandom().nextInt(d_randomCount) < 1) {
 
 				// After each advance, the probabilities to advance again are reduced
 				d_randomCount++;
@@ -134,10 +140,13 @@ public class RandomStrategy extends PlayerStrategy {
 				d_advanceIndex++;
 
 				// Get a Random neighbor
-				ArrayList<Country> l_neighborList = new ArrayList<Country>(l_c.getNeighbors());
-				Collections.shuffle(l_neighborList);
+				MapTopology l_topology = l_c.getMap().getTopology();
+				int l_neighborIndex = l_topology.getNeighborOffsets()[l_c.getId()]
+						+ d_context.getRandom().nextInt(l_topology.getDegree(l_c.getId()));
+				Country l_neighbor = l_topology.getCountry(l_topology.getNeighborTargets()[l_neighborIndex]);
 
-				return new AdvanceOrder(d_player, l_c, l_neighborList.get(0), d_rand.nextInt(l_c.getArmies()) + 1);
+				return new AdvanceOrder(d_player, l_c, l_neighbor, d_context.getRandom().nextInt(l_c.getArmies()) + 1,
+						d_context);
 			}
 		}
 
@@ -145,7 +154,7 @@ public class RandomStrategy extends PlayerStrategy {
 		d_advanceIndex = 0;
 		d_randomCount = 1;
 		d_hasThisRoundRand = false;
-		d_countrySet = new HashSet<Country>();
+		d_countrySet = new LinkedHashSet<Country>();
 
 		// Finish issuing orders
 		d_player.setFinishedIssuingOrder(true);
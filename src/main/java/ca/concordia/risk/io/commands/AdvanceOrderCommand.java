@@ -6,7 +6,7 @@ import ca.concordia.risk.game.GameMap;
 import ca.concordia.risk.game.Player;
 import ca.concordia.risk.game.orders.AdvanceOrder;
 import ca.concordia.risk.game.orders.Order;
-import ca.concordia.risk.io.views.ConsoleView;
+import ca.concordia.risk.io.views.View;
 
 /**
  * Command representing <i>"advance"</i> operation.
@@ -42,7 +42,7 @@ public class AdvanceOrderCommand implements OrderCommand {
 	 */
 	@Override
 	public Order buildOrder(Player p_player) {
-		ConsoleView l_view = GameEngine.GetView();
+		View l_view = GameEngine.GetView();
 		GameMap l_map = GameEngine.GetMap();
 
 		// Validate if the source country exists
@@ -73,7 +73,7 @@ public class AdvanceOrderCommand implements OrderCommand {
 	/** Displays information about the order. */
 	@Override
 	public void execute() {
-		ConsoleView l_view = GameEngine.GetView();
+		View l_view = GameEngine.GetView();
 		l_view.display("\nAdvance command to move " + d_numberOfArmies + " armies from country " + d_sourceCountry
 				+ " to country " + d_targetCountry + "\n");
 	}
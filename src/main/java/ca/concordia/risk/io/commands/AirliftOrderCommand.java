@@ -6,7 +6,7 @@ import ca.concordia.risk.game.Country;
 import ca.concordia.risk.game.Player;
 import ca.concordia.risk.game.orders.AirliftOrder;
 import ca.concordia.risk.game.orders.Order;
-import ca.concordia.risk.io.views.ConsoleView;
+import ca.concordia.risk.io.views.View;
 
 /** Command representing <i>"airlift"</i> operation. */
 public class AirliftOrderCommand implements OrderCommand {
@@ -31,7 +31,7 @@ public class AirliftOrderCommand implements OrderCommand {
 	/** Displays information about the order. */
 	@Override
 	public void execute() {
-		ConsoleView l_view = GameEngine.GetView();
+		View l_view = GameEngine.GetView();
 		l_view.display("\nAirlift command to airlift " + d_numberOfArmies + " armies from country " + d_sourceCountry
 				+ " to country " + d_targetCountry + "\n");
 	}
@@ -45,7 +45,7 @@ public class AirliftOrderCommand implements OrderCommand {
 	 */
 	@Override
 	public Order buildOrder(Player p_player) {
-		ConsoleView l_view = GameEngine.GetView();
+		View l_view = GameEngine.GetView();
 
 		// Validate if the source country exists
 		Country l_sourceCountry = GameEngine.GetMap().getCountry(d_sourceCountry);
@@ -1,7 +1,7 @@
 package ca.concordia.risk.io.commands;
 
 import ca.concordia.risk.GameEngine;
-import ca.concordia.risk.io.views.ConsoleView;
+import ca.concordia.risk.io.views.View;
 
 /** Command representing <i>"assigncountries"</i> operation. */
 public class AssignCountriesCommand implements Command {
@@ -9,7 +9,7 @@ public class AssignCountriesCommand implements Command {
 	/** Assigns countries to Players. */
 	@Override
 	public void execute() {
-		ConsoleView l_view = GameEngine.GetView();
+		View l_view = GameEngine.GetView();
 
 		if (GameEngine.GetNumberOfPlayers() > GameEngine.GetMap().getCountries().size()) {
 			l_view.display("There can not be more players than countries on the map.");
@@ -0,0 +1,30 @@
+package ca.concordia.risk.io.commands;
+
+import ca.concordia.risk.GameEngine;
+import ca.concordia.risk.game.GameContext;
+import ca.concordia.risk.io.views.View;
+
+/** Command representing <i>"begin"</i> operation. */
+public class BeginCommand implements Command {
+
+	/**
+	 * Opens a transaction on the active map.
+	 * <p>
+	 * Map edits are recorded until the transaction is committed or rolled back.
+	 */
+	@Override
+	public void execute() {
+		View l_view = GameEngine.GetView();
+		GameContext l_context = GameEngine.GetContext();
+
+		if (l_context.getMap() == null) {
+			l_view.display("No map to edit - please load a map first");
+		} else if (l_context.getMapTransaction() != null) {
+			l_view.display("A transaction is already open - please commit or rollback first");
+		} else {
+			l_context.beginMapTransaction();
+			l_view.display("Transaction started - edits will be applied on commit");
+		}
+	}
+
+}
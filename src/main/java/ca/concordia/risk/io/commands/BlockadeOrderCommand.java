@@ -6,7 +6,7 @@ import ca.concordia.risk.game.Country;
 import ca.concordia.risk.game.Player;
 import ca.concordia.risk.game.orders.BlockadeOrder;
 import ca.concordia.risk.game.orders.Order;
-import ca.concordia.risk.io.views.ConsoleView;
+import ca.concordia.risk.io.views.View;
 
 /** Command representing <i>"blockade"</i> operation. */
 public class BlockadeOrderCommand implements OrderCommand {
@@ -25,7 +25,7 @@ public class BlockadeOrderCommand implements OrderCommand {
 	/** This method displays information about the order. */
 	@Override
 	public void execute() {
-		ConsoleView l_view = GameEngine.GetView();
+		View l_view = GameEngine.GetView();
 		l_view.display("\nBlockade command to blockade " + d_blockadeCountry + "\n");
 	}
 
@@ -38,7 +38,7 @@ public class BlockadeOrderCommand implements OrderCommand {
 	 */
 	@Override
 	public Order buildOrder(Player p_player) {
-		ConsoleView l_view = GameEngine.GetView();
+		View l_view = GameEngine.GetView();
 
 		// Validate if country to be blockade exists
 		Country l_blockadeCountry = GameEngine.GetMap().getCountry(d_blockadeCountry);
@@ -6,7 +6,7 @@ import ca.concordia.risk.game.Country;
 import ca.concordia.risk.game.Player;
 import ca.concordia.risk.game.orders.BombOrder;
 import ca.concordia.risk.game.orders.Order;
-import ca.concordia.risk.io.views.ConsoleView;
+import ca.concordia.risk.io.views.View;
 
 /** Command representing <i>"bomb"</i> operation. */
 public class BombOrderCommand implements OrderCommand {
@@ -25,7 +25,7 @@ public class BombOrderCommand implements OrderCommand {
 	/** Displays information about the order. */
 	@Override
 	public void execute() {
-		ConsoleView l_view = GameEngine.GetView();
+		View l_view = GameEngine.GetView();
 		l_view.display("\nBomb command to bomb the country " + d_bombCountry + "\n");
 	}
 
@@ -38,7 +38,7 @@ public class BombOrderCommand implements OrderCommand {
 	 */
 	@Override
 	public Order buildOrder(Player p_player) {
-		ConsoleView l_view = GameEngine.GetView();
+		View l_view = GameEngine.GetView();
 
 		// Validate if country to be bombed exists
 		Country l_bombCountry = GameEngine.GetMap().getCountry(d_bombCountry);
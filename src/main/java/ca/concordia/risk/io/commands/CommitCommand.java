@@ -0,0 +1,34 @@
+package ca.concordia.risk.io.commands;
+
+import ca.concordia.risk.GameEngine;
+import ca.concordia.risk.game.MapTransaction;
+import ca.concordia.risk.io.views.View;
+
+/** Command representing <i>"commit"</i> operation. */
+public class CommitCommand implements Command {
+
+	/**
+	 * Applies all edits recorded in the open map transaction and closes it.
+	 * <p>
+	 * If an edit fails, none of the edits are applied.
+	 */
+	@Override
+	public void execute() {
+		View l_view = GameEngine.GetView();
+		MapTransaction l_transaction = GameEngine.GetContext().endMapTransaction();
+
+		if (l_transaction == null) {
+			l_view.display("No transaction to commit - please begin one first");
+			return;
+		}
+
+		int l_numEdits = l_transaction.size();
+		try {
+			l_transaction.commit();
+			l_view.display("Transaction committed - " + l_numEdits + " edits applied");
+		} catch (MapTransaction.TransactionException l_e) {
+			l_view.display("Transaction rolled back, no edits were applied: " + l_e.getMessage());
+		}
+	}
+
+}
@@ -5,7 +5,7 @@ import ca.concordia.risk.game.Country;
 import ca.concordia.risk.game.Player;
 import ca.concordia.risk.game.orders.DeployOrder;
 import ca.concordia.risk.game.orders.Order;
-import ca.concordia.risk.io.views.ConsoleView;
+import ca.concordia.risk.io.views.View;
 
 /** Command representing <i>"deploy"</i> operation. */
 public class DeployOrderCommand implements OrderCommand {
@@ -27,7 +27,7 @@ public class DeployOrderCommand implements OrderCommand {
 	/** Displays information about the order. */
 	@Override
 	public void execute() {
-		ConsoleView l_view = GameEngine.GetView();
+		View l_view = GameEngine.GetView();
 		l_view.display(
 				"\nDeploy command to deploy " + d_numberOfArmies + " armies to country " + d_deployCountry + "\n");
 	}
@@ -41,7 +41,7 @@ public class DeployOrderCommand implements OrderCommand {
 	 */
 	@Override
 	public Order buildOrder(Player p_player) {
-		ConsoleView l_view = GameEngine.GetView();
+		View l_view = GameEngine.GetView();
 
 		// Validate if deploy country exists
 		Country l_deployCountry = GameEngine.GetMap().getCountry(d_deployCountry);
@@ -0,0 +1,103 @@
+package ca.concordia.risk.io.commands;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import ca.concordia.risk.GameEngine;
+import ca.concordia.risk.game.GameMap;
+import ca.concordia.risk.game.MapTransaction;
+import ca.concordia.risk.io.parsers.EditorCommandParser;
+import ca.concordia.risk.io.views.View;
+
+/**
+ * Command representing <i>"editbatch"</i> operation.
+ * <p>
+ * Reads a file with one <i>"editcontinent"</i>, <i>"editcountry"</i> or
+ * <i>"editneighbor"</i> command per line, and applies all of their edits to the
+ * active map as a single <code>MapTransaction</code>. Blank lines and lines
+ * starting with <i>"#"</i> are ignored. If a transaction is already open, the
+ * edits are recorded into it instead.
+ */
+public class EditBatchCommand implements Command {
+
+	private String d_filename;
+
+	/**
+	 * Creates a new <code>EditBatchCommand</code> object.
+	 * 
+	 * @param p_filename path of the file containing the edit commands.
+	 */
+	public EditBatchCommand(String p_filename) {
+		d_filename = p_filename;
+	}
+
+	/**
+	 * Parses every command of the batch file, then applies all edits at once.
+	 * <p>
+	 * Nothing is applied if a line of the file is not a valid edit command, or if
+	 * one of the edits fails.
+	 */
+	@Override
+	public void execute() {
+		View l_view = GameEngine.GetView();
+		GameMap l_gameMap = GameEngine.GetMap();
+		if (l_gameMap == null) {
+			l_view.display("No map to edit - please load a map first");
+			return;
+		}
+
+		// Parse all commands before recording any edit
+		List<MapEditCommand> l_commands = new ArrayList<MapEditCommand>();
+		EditorCommandParser l_parser = new EditorCommandParser();
+		try (BufferedReader l_reader = new BufferedReader(new FileReader(d_filename))) {
+			String l_line;
+			int l_lineNumber = 0;
+			while ((l_line = l_reader.readLine()) != null) {
+				l_lineNumber++;
+				l_line = l_line.trim();
+				if (l_line.isEmpty() || l_line.startsWith("#")) {
+					continue;
+				}
+
+				Command l_command = l_parser.parse(l_line);
+				if (l_command instanceof MapEditCommand) {
+					l_commands.add((MapEditCommand) l_command);
+				} else if (l_command instanceof InvalidCommand) {
+					l_view.display("Error in batch file line " + l_lineNumber + ": "
+							+ ((InvalidCommand) l_command).getMessage());
+					return;
+				} else {
+					l_view.display("Error in batch file line " + l_lineNumber + ": only map edit commands are allowed");
+					return;
+				}
+			}
+		} catch (IOException l_e) {
+			l_view.display("Error when reading the batch file: " + l_e.getMessage());
+			return;
+		}
+
+		// Record the edits into the open transaction, or apply them in a new one
+		MapTransaction l_openTransaction = GameEngine.GetContext().getMapTransaction();
+		MapTransaction l_transaction = l_openTransaction != null ? l_openTransaction : new MapTransaction(l_gameMap);
+		int l_numPendingEdits = l_transaction.size();
+		for (MapEditCommand l_command : l_commands) {
+			l_command.addTo(l_transaction);
+		}
+		int l_numEdits = l_transaction.size() - l_numPendingEdits;
+
+		if (l_openTransaction != null) {
+			l_view.display(l_numEdits + " edits recorded - " + l_transaction.size() + " edits pending");
+			return;
+		}
+		try {
+			l_transaction.commit();
+			l_view.display("Batch applied - " + l_numEdits + " edits");
+		} catch (MapTransaction.TransactionException l_e) {
+			l_view.display("Batch rolled back, no edits were applied: " + l_e.getMessage());
+		}
+	}
+
+}
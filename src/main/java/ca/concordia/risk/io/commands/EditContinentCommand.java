@@ -6,17 +6,18 @@ import java.util.List;
 import ca.concordia.risk.GameEngine;
 import ca.concordia.risk.game.Continent;
 import ca.concordia.risk.game.GameMap;
-import ca.concordia.risk.io.views.ConsoleView;
+import ca.concordia.risk.game.MapTransaction;
+import ca.concordia.risk.io.views.View;
 
 /** Command representing <i>"editcontinent"</i> operation. */
-public class EditContinentCommand implements Command {
+public class EditContinentCommand implements MapEditCommand {
 
 	private List<NewContinentData> d_continentsToAdd = new ArrayList<NewContinentData>();
 	private List<String> d_continentsToRemove = new ArrayList<String>();
 
 	/**
 	 * Performs requested continent add and remove operations on the active
-	 * <code>GameMap</code>.
+	 * <code>GameMap</code>, or records them into the open map transaction.
 	 * <p>
 	 * New continent is added only if a continent with the specified name does not
 	 * already exist.<br>
@@ -24,9 +25,16 @@ public class EditContinentCommand implements Command {
 	 */
 	@Override
 	public void execute() {
-		ConsoleView l_view = GameEngine.GetView();
+		View l_view = GameEngine.GetView();
 		GameMap l_gameMap = GameEngine.GetMap();
 
+		MapTransaction l_transaction = GameEngine.GetContext().getMapTransaction();
+		if (l_transaction != null) {
+			addTo(l_transaction);
+			l_view.display("Edits recorded - " + l_transaction.size() + " edits pending");
+			return;
+		}
+
 		if (l_gameMap != null) {
 			for (NewContinentData l_continentData : d_continentsToAdd) {
 				executeAddContinent(l_view, l_gameMap, l_continentData);
@@ -39,6 +47,17 @@ public class EditContinentCommand implements Command {
 		}
 	}
 
+	/** {@inheritDoc} */
+	@Override
+	public void addTo(MapTransaction p_transaction) {
+		for (NewContinentData l_continentData : d_continentsToAdd) {
+			p_transaction.addContinent(l_continentData.d_continentName, l_continentData.d_continentValue);
+		}
+		for (String l_continentName : d_continentsToRemove) {
+			p_transaction.removeContinent(l_continentName);
+		}
+	}
+
 	/**
 	 * Adds a continent to the list of continents to be added.
 	 * 
@@ -65,7 +84,7 @@ public class EditContinentCommand implements Command {
 	 * @param p_gameMap       active game map to add the continent to.
 	 * @param p_continentData data of the continent to add.
 	 */
-	private void executeAddContinent(ConsoleView p_view, GameMap p_gameMap, NewContinentData p_continentData) {
+	private void executeAddContinent(View p_view, GameMap p_gameMap, NewContinentData p_continentData) {
 		Continent l_newContinent = new Continent(p_continentData.d_continentName, p_continentData.d_continentValue);
 		if (p_gameMap.addContinent(l_newContinent)) {
 			p_view.display("Continent " + p_continentData.d_continentName + " added");
@@ -82,7 +101,7 @@ public class EditContinentCommand implements Command {
 	 * @param p_gameMap       active game map to remove the continent from.
 	 * @param p_continentName name of the continent to remove.
 	 */
-	private void executeRemoveContinent(ConsoleView p_view, GameMap p_gameMap, String p_continentName) {
+	private void executeRemoveContinent(View p_view, GameMap p_gameMap, String p_continentName) {
 		if (p_gameMap.removeContinent(p_continentName)) {
 			p_view.display("Continent " + p_continentName + " removed");
 		} else {
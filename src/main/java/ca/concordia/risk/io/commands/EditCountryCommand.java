@@ -7,17 +7,18 @@ import ca.concordia.risk.GameEngine;
 import ca.concordia.risk.game.Continent;
 import ca.concordia.risk.game.Country;
 import ca.concordia.risk.game.GameMap;
-import ca.concordia.risk.io.views.ConsoleView;
+import ca.concordia.risk.game.MapTransaction;
+import ca.concordia.risk.io.views.View;
 
 /** Command representing <i>"editcountry"</i> operation. */
-public class EditCountryCommand implements Command {
+public class EditCountryCommand implements MapEditCommand {
 
 	private List<NewCountryData> d_countriesToAdd = new ArrayList<NewCountryData>();
 	private List<String> d_countriesToRemove = new ArrayList<String>();
 
 	/**
 	 * Performs requested country add and remove operations on the active
-	 * <code>GameMap</code>.
+	 * <code>GameMap</code>, or records them into the open map transaction.
 	 * <p>
 	 * New country is added only if a country with the specified name does not
 	 * already exist.<br>
@@ -25,9 +26,16 @@ public class EditCountryCommand implements Command {
 	 */
 	@Override
 	public void execute() {
-		ConsoleView l_view = GameEngine.GetView();
+		View l_view = GameEngine.GetView();
 		GameMap l_gameMap = GameEngine.GetMap();
 
+		MapTransaction l_transaction = GameEngine.GetContext().getMapTransaction();
+		if (l_transaction != null) {
+			addTo(l_transaction);
+			l_view.display("Edits recorded - " + l_transaction.size() + " edits pending");
+			return;
+		}
+
 		if (l_gameMap != null) {
 			for (NewCountryData l_countryData : d_countriesToAdd) {
 				executeAddCountry(l_view, l_gameMap, l_countryData);
@@ -40,6 +48,17 @@ public class EditCountryCommand implements Command {
 		}
 	}
 
+	/** {@inheritDoc} */
+	@Override
+	public void addTo(MapTransaction p_transaction) {
+		for (NewCountryData l_countryData : d_countriesToAdd) {
+			p_transaction.addCountry(l_countryData.d_countryName, l_countryData.d_continentName);
+		}
+		for (String l_countryName : d_countriesToRemove) {
+			p_transaction.removeCountry(l_countryName);
+		}
+	}
+
 	/**
 	 * Adds a country to the list of countries to be added.
 	 * 
@@ -66,7 +85,7 @@ public class EditCountryCommand implements Command {
 	 * @param p_gameMap     active game map to add the country to.
 	 * @param p_countryData data of the country to add.
 	 */
-	private void executeAddCountry(ConsoleView p_view, GameMap p_gameMap, NewCountryData p_countryData) {
+	private void executeAddCountry(View p_view, GameMap p_gameMap, NewCountryData p_countryData) {
 		// Check if the specified continent exists
 		Continent l_countryContinent = p_gameMap.getContinent(p_countryData.d_continentName);
 		if (l_countryContinent == null) {
@@ -92,7 +111,7 @@ public class EditCountryCommand implements Command {
 	 * @param p_gameMap     active game map to remove the country from.
 	 * @param p_countryName name of the country to remove.
 	 */
-	private void executeRemoveCountry(ConsoleView p_view, GameMap p_gameMap, String p_countryName) {
+	private void executeRemoveCountry(View p_view, GameMap p_gameMap, String p_countryName) {
 		if (p_gameMap.removeCountry(p_countryName)) {
 			p_view.display("Country " + p_countryName + " removed");
 		} else {
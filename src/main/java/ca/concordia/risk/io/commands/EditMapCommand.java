@@ -4,7 +4,7 @@ import java.io.FileNotFoundException;
 
 import ca.concordia.risk.GameEngine;
 import ca.concordia.risk.game.GameMap;
-import ca.concordia.risk.io.views.ConsoleView;
+import ca.concordia.risk.io.views.View;
 import ca.concordia.risk.utils.MapLoader;
 import ca.concordia.risk.utils.MapValidator;
 
@@ -25,7 +25,7 @@ public class EditMapCommand implements Command {
 	/** Loads the requested map file in edit mode. */
 	@Override
 	public void execute() {
-		ConsoleView l_view = GameEngine.GetView();
+		View l_view = GameEngine.GetView();
 		GameMap l_gameMap = null;
 		try {
 			l_gameMap = MapLoader.LoadMap(d_filename);
@@ -6,17 +6,18 @@ import java.util.List;
 import ca.concordia.risk.GameEngine;
 import ca.concordia.risk.game.Country;
 import ca.concordia.risk.game.GameMap;
-import ca.concordia.risk.io.views.ConsoleView;
+import ca.concordia.risk.game.MapTransaction;
+import ca.concordia.risk.io.views.View;
 
 /** Command representing <i>"editneighbor"</i> operation. */
-public class EditNeighborCommand implements Command {
+public class EditNeighborCommand implements MapEditCommand {
 
 	private List<NeighborData> d_neighborsToAdd = new ArrayList<NeighborData>();
 	private List<NeighborData> d_neighborsToRemove = new ArrayList<NeighborData>();
 
 	/**
 	 * Performs requested country neighbor add and remove operations on the active
-	 * <code>GameMap</code>.
+	 * <code>GameMap</code>, or records them into the open map transaction.
 	 * <p>
 	 * New neighbor is added only if both the specified target and neighbor
 	 * countries exist, and neighbor is not already a neighbor of the target
@@ -26,9 +27,16 @@ public class EditNeighborCommand implements Command {
 	 */
 	@Override
 	public void execute() {
-		ConsoleView l_view = GameEngine.GetView();
+		View l_view = GameEngine.GetView();
 		GameMap l_gameMap = GameEngine.GetMap();
 
+		MapTransaction l_transaction = GameEngine.GetContext().getMapTransaction();
+		if (l_transaction != null) {
+			addTo(l_transaction);
+			l_view.display("Edits recorded - " + l_transaction.size() + " edits pending");
+			return;
+		}
+
 		if (l_gameMap != null) {
 			for (NeighborData l_neighborData : d_neighborsToAdd) {
 				executeAddNeighbor(l_view, l_gameMap, l_neighborData);
@@ -41,6 +49,17 @@ public class EditNeighborCommand implements Command {
 		}
 	}
 
+	/** {@inheritDoc} */
+	@Override
+	public void addTo(MapTransaction p_transaction) {
+		for (NeighborData l_neighborData : d_neighborsToAdd) {
+			p_transaction.addNeighbor(l_neighborData.d_countryName, l_neighborData.d_neighborCountryName);
+		}
+		for (NeighborData l_neighborData : d_neighborsToRemove) {
+			p_transaction.removeNeighbor(l_neighborData.d_countryName, l_neighborData.d_neighborCountryName);
+		}
+	}
+
 	/**
 	 * Adds a {CountryName, NeighborCountryName} pair to the list of neighbors to be
 	 * added.
@@ -70,7 +89,7 @@ public class EditNeighborCommand implements Command {
 	 * @param p_gameMap      active game map to add the neighbor to.
 	 * @param p_neighborData data of the neighbor to add.
 	 */
-	private void executeAddNeighbor(ConsoleView p_view, GameMap p_gameMap, NeighborData p_neighborData) {
+	private void executeAddNeighbor(View p_view, GameMap p_gameMap, NeighborData p_neighborData) {
 		// Check if the target country exists
 		Country l_country = p_gameMap.getCountry(p_neighborData.d_countryName);
 		if (l_country == null) {
@@ -103,7 +122,7 @@ public class EditNeighborCommand implements Command {
 	 * @param p_gameMap      active game map to remove the neighbor from.
 	 * @param p_neighborData data of the neighbor to remove.
 	 */
-	private void executeRemoveNeighbor(ConsoleView p_view, GameMap p_gameMap, NeighborData p_neighborData) {
+	private void executeRemoveNeighbor(View p_view, GameMap p_gameMap, NeighborData p_neighborData) {
 		// Check if the target country exists
 		Country l_country = p_gameMap.getCountry(p_neighborData.d_countryName);
 		if (l_country == null) {
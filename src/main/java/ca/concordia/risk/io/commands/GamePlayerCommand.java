@@ -10,7 +10,7 @@ import ca.concordia.risk.game.strategies.BenevolentStrategy;
 import ca.concordia.risk.game.strategies.CheaterStrategy;
 import ca.concordia.risk.game.strategies.HumanStrategy;
 import ca.concordia.risk.game.strategies.RandomStrategy;
-import ca.concordia.risk.io.views.ConsoleView;
+import ca.concordia.risk.io.views.View;
 
 /** Command representing <i>"gameplayer"</i> operation. */
 public class GamePlayerCommand implements Command {
@@ -21,7 +21,7 @@ public class GamePlayerCommand implements Command {
 	/** Adds or removes requested players. */
 	@Override
 	public void execute() {
-		ConsoleView l_view = GameEngine.GetView();
+		View l_view = GameEngine.GetView();
 
 		// Add players
 		for (NewPlayerData l_playerData : d_playersToAdd) {
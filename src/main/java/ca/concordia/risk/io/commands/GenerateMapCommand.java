@@ -0,0 +1,57 @@
+package ca.concordia.risk.io.commands;
+
+import java.io.IOException;
+
+import ca.concordia.risk.GameEngine;
+import ca.concordia.risk.game.GameMap;
+import ca.concordia.risk.io.views.View;
+import ca.concordia.risk.utils.MapGenerator;
+import ca.concordia.risk.utils.MapLoader;
+import ca.concordia.risk.utils.MapValidator;
+
+/** Command representing <i>"generatemap"</i> operation. */
+public class GenerateMapCommand implements Command {
+
+	private String d_filename;
+	private String d_fileFormat;
+	private MapGenerator d_generator;
+	private long d_seed;
+
+	/**
+	 * Creates a new <code>GenerateMapCommand</code> object.
+	 *
+	 * @param p_filename   filename of the map file to save the generated map into.
+	 * @param p_fileFormat file format to use for the map file.
+	 * @param p_generator  generator of the map.
+	 * @param p_seed       seed the generator was created with.
+	 */
+	public GenerateMapCommand(String p_filename, String p_fileFormat, MapGenerator p_generator, long p_seed) {
+		d_filename = p_filename;
+		d_fileFormat = p_fileFormat;
+		d_generator = p_generator;
+		d_seed = p_seed;
+	}
+
+	/** Generates a map and saves it into the requested map file. */
+	@Override
+	public void execute() {
+		View l_view = GameEngine.GetView();
+
+		l_view.display("Generating the map with seed " + d_seed + "...");
+		GameMap l_gameMap = d_generator.generate();
+
+		l_view.display("Validating the map...");
+		if (!MapValidator.Validate(l_gameMap)) {
+			l_view.display("Generated map is invalid: " + MapValidator.getStatus());
+			return;
+		}
+
+		try {
+			MapLoader.SaveMap(d_filename, l_gameMap, d_fileFormat);
+			l_view.display("Map with " + l_gameMap.getCountries().size() + " countries saved to " + d_filename);
+		} catch (IOException | IllegalArgumentException l_e) {
+			l_view.display("Error when saving the map: " + l_e.getMessage());
+		}
+	}
+
+}
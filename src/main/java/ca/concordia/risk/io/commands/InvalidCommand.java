@@ -20,6 +20,15 @@ public class InvalidCommand implements Command {
 		d_message = p_message;
 	}
 
+	/**
+	 * Gets the error message of the command.
+	 * 
+	 * @return error message.
+	 */
+	public String getMessage() {
+		return d_message;
+	}
+
 	/** Displays the error message to the user. */
 	@Override
 	public void execute() {
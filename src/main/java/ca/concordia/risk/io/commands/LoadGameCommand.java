@@ -1,7 +1,7 @@
 package ca.concordia.risk.io.commands;
 
 import ca.concordia.risk.GameEngine;
-import ca.concordia.risk.io.views.ConsoleView;
+import ca.concordia.risk.io.views.View;
 import ca.concordia.risk.utils.GameLoader;
 import ca.concordia.risk.utils.GameLoader.GameLoaderException;
 
@@ -22,7 +22,7 @@ public class LoadGameCommand implements Command {
 	/** Loads the game from the requested map file. */
 	@Override
 	public void execute() {
-		ConsoleView l_view = GameEngine.GetView();
+		View l_view = GameEngine.GetView();
 		l_view.display("Loading the save file " + d_filename + "...");
 		try {
 			GameLoader.LoadGame(d_filename);
@@ -0,0 +1,19 @@
+package ca.concordia.risk.io.commands;
+
+import ca.concordia.risk.game.MapTransaction;
+
+/**
+ * Interface implemented by all map edit commands.
+ * <p>
+ * Extends the <code>Command</code> interface so that the edits of a command can
+ * be recorded into a <code>MapTransaction</code> instead of being applied
+ * immediately.
+ */
+public interface MapEditCommand extends Command {
+	/**
+	 * Records the edits of the command into a transaction.
+	 * 
+	 * @param p_transaction transaction to record the edits into.
+	 */
+	public void addTo(MapTransaction p_transaction);
+}
@@ -5,7 +5,7 @@ import ca.concordia.risk.game.Card;
 import ca.concordia.risk.game.Player;
 import ca.concordia.risk.game.orders.NegotiateOrder;
 import ca.concordia.risk.game.orders.Order;
-import ca.concordia.risk.io.views.ConsoleView;
+import ca.concordia.risk.io.views.View;
 
 /** Command representing <i>"negotiate"</i> operation. */
 public class NegotiateOrderCommand implements OrderCommand {
@@ -28,7 +28,7 @@ public class NegotiateOrderCommand implements OrderCommand {
 	 */
 	@Override
 	public void execute() {
-		ConsoleView l_view = GameEngine.GetView();
+		View l_view = GameEngine.GetView();
 		l_view.display("\nNegotiate command to negotiate with " + d_playerName);
 
 	}
@@ -41,7 +41,7 @@ public class NegotiateOrderCommand implements OrderCommand {
 	 */
 	@Override
 	public Order buildOrder(Player p_player) {
-		ConsoleView l_view = GameEngine.GetView();
+		View l_view = GameEngine.GetView();
 
 		// Ensure target player exists
 		Player l_targetPlayer = GameEngine.GetPlayer(d_playerName);
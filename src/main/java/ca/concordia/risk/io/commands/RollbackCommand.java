@@ -0,0 +1,26 @@
+package ca.concordia.risk.io.commands;
+
+import ca.concordia.risk.GameEngine;
+import ca.concordia.risk.game.MapTransaction;
+import ca.concordia.risk.io.views.View;
+
+/** Command representing <i>"rollback"</i> operation. */
+public class RollbackCommand implements Command {
+
+	/** Discards all edits recorded in the open map transaction and closes it. */
+	@Override
+	public void execute() {
+		View l_view = GameEngine.GetView();
+		MapTransaction l_transaction = GameEngine.GetContext().endMapTransaction();
+
+		if (l_transaction == null) {
+			l_view.display("No transaction to roll back");
+			return;
+		}
+
+		int l_numEdits = l_transaction.size();
+		l_transaction.rollback();
+		l_view.display("Transaction rolled back - " + l_numEdits + " edits discarded");
+	}
+
+}
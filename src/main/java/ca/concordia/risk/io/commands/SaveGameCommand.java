@@ -1,7 +1,7 @@
 package ca.concordia.risk.io.commands;
 
 import ca.concordia.risk.GameEngine;
-import ca.concordia.risk.io.views.ConsoleView;
+import ca.concordia.risk.io.views.View;
 import ca.concordia.risk.utils.GameLoader;
 import ca.concordia.risk.utils.GameLoader.GameLoaderException;
 
@@ -22,7 +22,7 @@ public class SaveGameCommand implements Command {
 	/** Saves the active game into the requested game file. */
 	@Override
 	public void execute() {
-		ConsoleView l_view = GameEngine.GetView();
+		View l_view = GameEngine.GetView();
 		l_view.display("Saving the game into save file " + d_filename + "...");
 		try {
 			GameLoader.SaveGame(d_filename);
@@ -4,9 +4,9 @@ import java.io.IOException;
 
 import ca.concordia.risk.GameEngine;
 import ca.concordia.risk.game.GameMap;
-import ca.concordia.risk.io.views.ConsoleView;
+import ca.concordia.risk.io.views.View;
 import ca.concordia.risk.utils.MapLoader;
-import ca.concordia.risk.utils.MapValidator;
+import ca.concordia.risk.utils.ValidationResult;
 
 /** Command representing <i>"savemap"</i> operation. */
 public class SaveMapCommand implements Command {
@@ -28,18 +28,19 @@ public class SaveMapCommand implements Command {
 	/** Saves the active map into the requested map file. */
 	@Override
 	public void execute() {
-		ConsoleView l_view = GameEngine.GetView();
+		View l_view = GameEngine.GetView();
 		GameMap l_gameMap = GameEngine.GetMap();
 
 		if (l_gameMap != null) {
 			try {
 				l_view.display("Validating the map...");
-				if (MapValidator.Validate(l_gameMap)) {
+				ValidationResult l_result = GameEngine.GetContext().getMapValidator().getResult();
+				if (l_result.isValid()) {
 					l_view.display("Map is valid. Saving...");
 					MapLoader.SaveMap(d_filename, l_gameMap, d_fileFormat);
 					l_view.display("Map saved");
 				} else {
-					l_view.display("Map is invalid: " + MapValidator.getStatus());
+					l_view.display("Map is invalid: " + l_result.getStatus());
 					l_view.display("Please fix the map before saving");
 				}
 			} catch (IOException | IllegalArgumentException l_e) {
@@ -6,7 +6,7 @@ import java.util.Iterator;
 import ca.concordia.risk.GameEngine;
 import ca.concordia.risk.game.Card;
 import ca.concordia.risk.game.Player;
-import ca.concordia.risk.io.views.ConsoleView;
+import ca.concordia.risk.io.views.View;
 
 /** Command representing <i>"showcards"</i> operation. */
 public class ShowCardsCommand implements Command {
@@ -20,7 +20,7 @@ public class ShowCardsCommand implements Command {
 	 */
 	@Override
 	public void execute() {
-		ConsoleView l_view = GameEngine.GetView();
+		View l_view = GameEngine.GetView();
 
 		if (d_player == null) {
 			l_view.display("Error: Player is null in showcards command");
@@ -2,7 +2,7 @@ package ca.concordia.risk.io.commands;
 
 import ca.concordia.risk.GameEngine;
 import ca.concordia.risk.game.GameMap;
-import ca.concordia.risk.io.views.ConsoleView;
+import ca.concordia.risk.io.views.View;
 
 /** Command representing <i>"showmap"</i> operation. */
 public class ShowMapCommand implements Command {
@@ -27,7 +27,7 @@ public class ShowMapCommand implements Command {
 	 */
 	@Override
 	public void execute() {
-		ConsoleView l_view = GameEngine.GetView();
+		View l_view = GameEngine.GetView();
 		GameMap l_gameMap = GameEngine.GetMap();
 		if (l_gameMap != null) {
 			if (d_showGameplayInfo) {
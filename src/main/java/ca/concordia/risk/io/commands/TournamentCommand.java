@@ -2,12 +2,14 @@ package ca.concordia.risk.io.commands;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Set;
 
 import ca.concordia.risk.GameEngine;
 import ca.concordia.risk.game.gamemodes.Tournament;
-import ca.concordia.risk.io.views.ConsoleView;
+import ca.concordia.risk.io.views.View;
+import ca.concordia.risk.utils.LogLevel;
 import ca.concordia.risk.utils.MapLoader;
 
 /** Command representing <i>"tournament"</i> operation. */
@@ -20,6 +22,9 @@ public class TournamentCommand implements Command {
 	private List<String> d_playerStrategies = new ArrayList<String>();
 	private int d_numberOfGames;
 	private int d_maxTurns;
+	private int d_numberOfThreads = 1;
+	private Long d_seed;
+	private Set<LogLevel> d_logLevels = EnumSet.allOf(LogLevel.class);
 
 	/**
 	 * {@inheritDoc}
@@ -28,13 +33,19 @@ public class TournamentCommand implements Command {
 	 */
 	@Override
 	public void execute() {
-		ConsoleView l_view = GameEngine.GetView();
+		View l_view = GameEngine.GetView();
 
 		l_view.display("Creating the tournament...");
 		Tournament l_tournament = new Tournament(d_mapFilenames, d_numberOfGames, d_maxTurns);
+		l_tournament.setNumberOfThreads(d_numberOfThreads);
+		if (d_seed != null) {
+			l_tournament.setSeed(d_seed);
+		}
+		l_tournament.setLogLevels(d_logLevels);
+		l_tournament.setFileLoggingEnabled(!d_logLevels.isEmpty());
 		if (configureTournament(l_tournament)) {
 			try {
-				l_view.display("Running the tournament games...");
+				l_view.display("Running the tournament games with seed " + l_tournament.getSeed() + "...");
 				l_tournament.run();
 
 				l_view.display("Tournament finished. Displaying results\n");
@@ -82,6 +93,35 @@ public class TournamentCommand implements Command {
 		d_maxTurns = p_maxTurns;
 	}
 
+	/**
+	 * Sets the number of threads used to play the tournament games.
+	 * 
+	 * @param p_numThreads number of threads to play the games on.
+	 */
+	public void setNumberOfThreads(int p_numThreads) {
+		d_numberOfThreads = p_numThreads;
+	}
+
+	/**
+	 * Sets the seed of the tournament, making its results reproducible.
+	 * 
+	 * @param p_seed seed of the tournament.
+	 */
+	public void setSeed(long p_seed) {
+		d_seed = p_seed;
+	}
+
+	/**
+	 * Sets the levels of the events logged by the tournament games.
+	 * <p>
+	 * The games write no log file if no level is enabled.
+	 * 
+	 * @param p_levels log levels to enable, all other levels are disabled.
+	 */
+	public void setLogLevels(Set<LogLevel> p_levels) {
+		d_logLevels = p_levels.isEmpty() ? EnumSet.noneOf(LogLevel.class) : EnumSet.copyOf(p_levels);
+	}
+
 	/**
 	 * Validates and configures the tournament.
 	 * 
@@ -91,7 +131,7 @@ public class TournamentCommand implements Command {
 	 *         configuration failed.
 	 */
 	private boolean configureTournament(Tournament p_tournament) {
-		ConsoleView l_view = GameEngine.GetView();
+		View l_view = GameEngine.GetView();
 
 		// Ensure all map files exist
 		if (!validateMapFiles()) {
@@ -1,8 +1,9 @@
 package ca.concordia.risk.io.commands;
 
 import ca.concordia.risk.GameEngine;
-import ca.concordia.risk.io.views.ConsoleView;
-import ca.concordia.risk.utils.MapValidator;
+import ca.concordia.risk.io.views.View;
+import ca.concordia.risk.utils.IncrementalValidator;
+import ca.concordia.risk.utils.ValidationResult;
 
 /**
  * Command representing <i>"validatemap"</i> operation.
@@ -11,17 +12,31 @@ import ca.concordia.risk.utils.MapValidator;
  */
 public class ValidateMapCommand implements Command {
 
-	/** Validates the active map. */
+	/**
+	 * Validates the active map and displays every problem found.
+	 * <p>
+	 * The validation result is kept up to date while the map is edited, so only
+	 * the edits made since the last validation are checked.
+	 */
 	@Override
 	public void execute() {
 
-		ConsoleView l_view = GameEngine.GetView();
+		View l_view = GameEngine.GetView();
+		IncrementalValidator l_validator = GameEngine.GetContext().getMapValidator();
+		if (l_validator == null) {
+			l_view.display("No map to validate - please load a map first");
+			return;
+		}
 		l_view.display("Validating the active map...");
 
-		if (MapValidator.Validate(GameEngine.GetMap())) {
+		ValidationResult l_result = l_validator.getResult();
+		if (l_result.isValid()) {
 			l_view.display("The map is valid");
 		} else {
-			l_view.display("The map is not valid: " + MapValidator.getStatus());
+			l_view.display("The map is not valid:");
+			for (String l_error : l_result.getErrors()) {
+				l_view.display(" - " + l_error);
+			}
 		}
 	}
 }
\ No newline at end of file
@@ -83,6 +83,11 @@ public abstract class CommandParser {
 		d_commandParsers.put("editcountry", this::createUnavailableCommand);
 		d_commandParsers.put("editneighbor", this::createUnavailableCommand);
 		d_commandParsers.put("loadmap", this::createUnavailableCommand);
+		d_commandParsers.put("generatemap", this::createUnavailableCommand);
+		d_commandParsers.put("editbatch", this::createUnavailableCommand);
+		d_commandParsers.put("begin", this::createUnavailableCommand);
+		d_commandParsers.put("commit", this::createUnavailableCommand);
+		d_commandParsers.put("rollback", this::createUnavailableCommand);
 
 		d_commandParsers.put("tournament ", this::createUnavailableCommand);
 
@@ -1,17 +1,28 @@
 package ca.concordia.risk.io.parsers;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.SplittableRandom;
 
+import ca.concordia.risk.io.commands.BeginCommand;
 import ca.concordia.risk.io.commands.Command;
+import ca.concordia.risk.io.commands.CommitCommand;
+import ca.concordia.risk.io.commands.EditBatchCommand;
 import ca.concordia.risk.io.commands.EditContinentCommand;
 import ca.concordia.risk.io.commands.EditCountryCommand;
 import ca.concordia.risk.io.commands.EditMapCommand;
 import ca.concordia.risk.io.commands.EditNeighborCommand;
+import ca.concordia.risk.io.commands.GenerateMapCommand;
 import ca.concordia.risk.io.commands.InvalidCommand;
 import ca.concordia.risk.io.commands.LoadMapCommand;
+import ca.concordia.risk.io.commands.RollbackCommand;
 import ca.concordia.risk.io.commands.SaveMapCommand;
 import ca.concordia.risk.io.commands.TournamentCommand;
 import ca.concordia.risk.io.commands.ValidateMapCommand;
+import ca.concordia.risk.utils.LogLevel;
+import ca.concordia.risk.utils.MapGenerator;
 
 /**
  * A <code>CommandParser</code> implementation for the Editor mode.
@@ -34,6 +45,11 @@ public class EditorCommandParser extends CommandParser {
 		d_commandParsers.put("editcountry", this::parseEditCountryCommand);
 		d_commandParsers.put("editneighbor", this::parseEditNeighborCommand);
 		d_commandParsers.put("loadmap", this::parseLoadMapCommand);
+		d_commandParsers.put("generatemap", this::parseGenerateMapCommand);
+		d_commandParsers.put("editbatch", this::parseEditBatchCommand);
+		d_commandParsers.put("begin", this::parseBeginCommand);
+		d_commandParsers.put("commit", this::parseCommitCommand);
+		d_commandParsers.put("rollback", this::parseRollbackCommand);
 
 		d_commandParsers.put("tournament", this::parseTournamentCommand);
 	}
@@ -98,6 +114,53 @@ public class EditorCommandParser extends CommandParser {
 		return new LoadMapCommand(l_filename);
 	}
 
+	/**
+	 * Parses an <i>"editbatch"</i> command.
+	 * 
+	 * @param p_argumentList list of command arguments.
+	 * @return <code>EditBatchCommand</code> if the command was parsed
+	 *         successfully. <code>InvalidCommand</code> if a parsing error
+	 *         occurred.
+	 */
+	private Command parseEditBatchCommand(List<String> p_argumentList) {
+		if (p_argumentList.isEmpty()) {
+			return new InvalidCommand("no parameters supplied to editbatch command");
+		}
+
+		String l_filename = p_argumentList.remove(0);
+		return new EditBatchCommand(l_filename);
+	}
+
+	/**
+	 * Parses a <i>"begin"</i> command.
+	 * 
+	 * @param p_argumentList list of command arguments.
+	 * @return <code>BeginCommand</code>.
+	 */
+	private Command parseBeginCommand(List<String> p_argumentList) {
+		return new BeginCommand();
+	}
+
+	/**
+	 * Parses a <i>"commit"</i> command.
+	 * 
+	 * @param p_argumentList list of command arguments.
+	 * @return <code>CommitCommand</code>.
+	 */
+	private Command parseCommitCommand(List<String> p_argumentList) {
+		return new CommitCommand();
+	}
+
+	/**
+	 * Parses a <i>"rollback"</i> command.
+	 * 
+	 * @param p_argumentList list of command arguments.
+	 * @return <code>RollbackCommand</code>.
+	 */
+	private Command parseRollbackCommand(List<String> p_argumentList) {
+		return new RollbackCommand();
+	}
+
 	/**
 	 * Parses an <i>"editcontinent"</i> command.
 	 * 
@@ -331,6 +394,83 @@ public class EditorCommandParser extends CommandParser {
 		p_command.removeNeighbor(l_countryName, l_neighborCountryName);
 	}
 
+	/**
+	 * Parses a <i>"generatemap"</i> command.
+	 * <p>
+	 * The command takes the filename and file format of the map file, followed by
+	 * the number of countries (<code>-N</code>), the number of continents
+	 * (<code>-K</code>), the topology (<code>-T</code>) and optionally the seed
+	 * (<code>-S</code>) of the generated map.
+	 * 
+	 * @param p_argumentList list of command arguments.
+	 * @return <code>GenerateMapCommand</code> if the command was parsed
+	 *         successfully. <code>InvalidCommand</code> if a parsing error
+	 *         occurred.
+	 */
+	private Command parseGenerateMapCommand(List<String> p_argumentList) {
+		if (p_argumentList.size() < 2) {
+			return new InvalidCommand("generatemap command expects a filename and a file format");
+		}
+		String l_filename = p_argumentList.remove(0);
+		String l_fileFormat = p_argumentList.remove(0);
+		if (!Set.of("domination", "conquest", "binary").contains(l_fileFormat)) {
+			return new InvalidCommand("unknown map file format " + l_fileFormat);
+		}
+
+		Integer l_numCountries = null;
+		Integer l_numContinents = null;
+		MapGenerator.Topology l_topology = null;
+		long l_seed = new SplittableRandom().nextLong();
+		try {
+			while (!p_argumentList.isEmpty()) {
+				String l_flag = p_argumentList.remove(0);
+				if (p_argumentList.isEmpty()) {
+					return new InvalidCommand(l_flag + " flag must have one argument");
+				}
+				String l_value = p_argumentList.remove(0);
+
+				switch (l_flag) {
+				case "-N":
+					l_numCountries = Integer.parseInt(l_value);
+					break;
+				case "-K":
+					l_numContinents = Integer.parseInt(l_value);
+					break;
+				case "-T":
+					l_topology = MapGenerator.Topology.valueOf(l_value.toUpperCase());
+					break;
+				case "-S":
+					l_seed = Long.parseLong(l_value);
+					break;
+				default:
+					return new InvalidCommand("invalid generatemap command flag " + l_flag);
+				}
+			}
+		} catch (NumberFormatException l_e) {
+			return new InvalidCommand("generatemap numeric parameter was not a number");
+		} catch (IllegalArgumentException l_e) {
+			return new InvalidCommand("topology should be one of grid, planar or hubs");
+		}
+
+		// Ensure all parameters were provided
+		if (l_numCountries == null) {
+			return new InvalidCommand("number of countries was not provided");
+		}
+		if (l_numContinents == null) {
+			return new InvalidCommand("number of continents was not provided");
+		}
+		if (l_topology == null) {
+			return new InvalidCommand("topology was not provided");
+		}
+
+		try {
+			MapGenerator l_generator = new MapGenerator(l_numCountries, l_numContinents, l_topology, l_seed);
+			return new GenerateMapCommand(l_filename, l_fileFormat, l_generator, l_seed);
+		} catch (IllegalArgumentException l_e) {
+			return new InvalidCommand(l_e.getMessage());
+		}
+	}
+
 	/**
 	 * Parses a <i>"tournament"</i> command.
 	 * 
@@ -372,6 +512,15 @@ public class EditorCommandParser extends CommandParser {
 					parseTournamentMaxTurns(p_argumentList, l_command);
 					l_maxTurnsSet = true;
 					break;
+				case "-T":
+					parseTournamentNumThreads(p_argumentList, l_command);
+					break;
+				case "-S":
+					parseTournamentSeed(p_argumentList, l_command);
+					break;
+				case "-L":
+					parseTournamentLogLevels(p_argumentList, l_command);
+					break;
 				default:
 					return new InvalidCommand("invalid tournament command flag " + l_flag);
 				}
@@ -518,4 +667,94 @@ public class EditorCommandParser extends CommandParser {
 		}
 	}
 
+	/**
+	 * Parses the number of threads to play the games on for the tournament
+	 * command.
+	 * <p>
+	 * This parameter is optional. Games are played sequentially if it is omitted.
+	 * 
+	 * @param p_argumentList list of command arguments.
+	 * @param p_command      command to set the number of threads for.
+	 * @throws ParsingException thrown if the number of threads is invalid or not a
+	 *                          number.
+	 */
+	private void parseTournamentNumThreads(List<String> p_argumentList, TournamentCommand p_command)
+			throws ParsingException {
+		try {
+			if (p_argumentList.size() < 1) {
+				throw new ParsingException("-T flag must have one argument");
+			}
+
+			int l_numThreads = Integer.parseInt(p_argumentList.remove(0));
+
+			if (l_numThreads < 1) {
+				throw new ParsingException("number of threads should be at least 1");
+			}
+
+			p_command.setNumberOfThreads(l_numThreads);
+		} catch (NumberFormatException l_e) {
+			throw new ParsingException("number of threads was not a number");
+		}
+	}
+
+	/**
+	 * Parses the seed of the tournament command.
+	 * <p>
+	 * This parameter is optional. A random seed is used if it is omitted.
+	 * 
+	 * @param p_argumentList list of command arguments.
+	 * @param p_command      command to set the seed for.
+	 * @throws ParsingException thrown if the seed is not a number.
+	 */
+	private void parseTournamentSeed(List<String> p_argumentList, TournamentCommand p_command)
+			throws ParsingException {
+		try {
+			if (p_argumentList.size() < 1) {
+				throw new ParsingException("-S flag must have one argument");
+			}
+
+			p_command.setSeed(Long.parseLong(p_argumentList.remove(0)));
+		} catch (NumberFormatException l_e) {
+			throw new ParsingException("seed was not a number");
+		}
+	}
+
+	/**
+	 * Parses the log levels of the tournament command.
+	 * <p>
+	 * This parameter is optional. All levels are logged if it is omitted, and
+	 * <i>"none"</i> disables logging to files altogether.
+	 * 
+	 * @param p_argumentList list of command arguments.
+	 * @param p_command      command to set the log levels for.
+	 * @throws ParsingException thrown if no level was provided or a level is
+	 *                          unknown.
+	 */
+	private void parseTournamentLogLevels(List<String> p_argumentList, TournamentCommand p_command)
+			throws ParsingException {
+		Set<LogLevel> l_levels = EnumSet.noneOf(LogLevel.class);
+		boolean l_none = false;
+		int l_levelsParsed = 0;
+		while (!p_argumentList.isEmpty() && !p_argumentList.get(0).startsWith("-")) {
+			String l_level = p_argumentList.remove(0);
+			l_levelsParsed++;
+			if (l_level.equals("none")) {
+				l_none = true;
+				continue;
+			}
+			try {
+				l_levels.add(LogLevel.valueOf(l_level.toUpperCase(Locale.ROOT)));
+			} catch (IllegalArgumentException l_e) {
+				throw new ParsingException("invalid log level " + l_level);
+			}
+		}
+
+		if (l_levelsParsed == 0) {
+			throw new ParsingException("-L flag must have at least one argument");
+		}
+		if (l_none && !l_levels.isEmpty()) {
+			throw new ParsingException("log level none cannot be combined with other levels");
+		}
+		p_command.setLogLevels(l_levels);
+	}
 }
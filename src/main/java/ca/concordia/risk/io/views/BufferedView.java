@@ -0,0 +1,50 @@
+package ca.concordia.risk.io.views;
+
+/**
+ * A view that keeps the displayed messages in memory.
+ * <p>
+ * Each message is stored on its own line. This view does not support user
+ * input.
+ */
+public class BufferedView implements View {
+
+	private StringBuilder d_buffer = new StringBuilder();
+
+	/**
+	 * Appends the given message to the buffer.
+	 * 
+	 * @param p_message message to be stored.
+	 */
+	@Override
+	public void display(String p_message) {
+		d_buffer.append(p_message).append('\n');
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Always throws, as a buffered view has no input source.
+	 * 
+	 * @throws UnsupportedOperationException always.
+	 */
+	@Override
+	public String getInput() {
+		throw new UnsupportedOperationException("buffered view does not support user input");
+	}
+
+	/**
+	 * Gets the content of the buffer.
+	 * 
+	 * @return all messages displayed since the last clear.
+	 */
+	public String getContent() {
+		return d_buffer.toString();
+	}
+
+	/**
+	 * Clears all messages stored in the buffer.
+	 */
+	public void clear() {
+		d_buffer.setLength(0);
+	}
+}
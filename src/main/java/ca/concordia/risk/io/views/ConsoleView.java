@@ -1,21 +1,44 @@
 package ca.concordia.risk.io.views;
 
+import java.io.PrintStream;
 import java.util.Scanner;
 
 /**
  * A simple view that displays messages and reads user input from the Console.
  */
-public class ConsoleView {
+public class ConsoleView implements View {
 
 	private Scanner d_scanner = new Scanner(System.in);
+	private PrintStream d_outStream;
+
+	/**
+	 * Creates a new view printing to the standard output stream.
+	 */
+	public ConsoleView() {
+		d_outStream = null;
+	}
+
+	/**
+	 * Creates a new view printing to the given stream instead of the standard
+	 * output stream.
+	 * 
+	 * @param p_outStream stream to print messages to.
+	 */
+	public ConsoleView(PrintStream p_outStream) {
+		d_outStream = p_outStream;
+	}
 
 	/**
 	 * Prints the given message to the Console.
 	 * 
 	 * @param p_message message to be printed.
 	 */
+	@Override
 	public void display(String p_message) {
-		System.out.println(p_message);
+		// Resolve the standard output stream on each call so that redirections of
+		// System.out are respected
+		PrintStream l_outStream = d_outStream != null ? d_outStream : System.out;
+		l_outStream.println(p_message);
 	}
 
 	/**
@@ -23,6 +46,7 @@ public class ConsoleView {
 	 * 
 	 * @return user input string.
 	 */
+	@Override
 	public String getInput() {
 		return d_scanner.nextLine();
 	}
@@ -0,0 +1,45 @@
+package ca.concordia.risk.io.views;
+
+import java.util.function.Supplier;
+
+/**
+ * A view that discards all messages.
+ * <p>
+ * Used for headless games, such as tournament games, where nobody reads the
+ * output. Messages given as a <code>Supplier</code> are never built. This view
+ * does not support user input.
+ */
+public class NullView implements View {
+
+	/**
+	 * Discards the given message.
+	 * 
+	 * @param p_message ignored.
+	 */
+	@Override
+	public void display(String p_message) {
+		// Do nothing
+	}
+
+	/**
+	 * Discards the message without building it.
+	 * 
+	 * @param p_messageSupplier ignored.
+	 */
+	@Override
+	public void display(Supplier<String> p_messageSupplier) {
+		// Do nothing
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Always throws, as a null view has no input source.
+	 * 
+	 * @throws UnsupportedOperationException always.
+	 */
+	@Override
+	public String getInput() {
+		throw new UnsupportedOperationException("null view does not support user input");
+	}
+}
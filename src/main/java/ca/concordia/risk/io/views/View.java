@@ -0,0 +1,38 @@
+package ca.concordia.risk.io.views;
+
+import java.util.function.Supplier;
+
+/**
+ * This interface represents a view used by the game to display messages and to
+ * read user input.
+ * <p>
+ * Messages that are expensive to build should be passed as a
+ * <code>Supplier</code>, so that views discarding the output never build them.
+ */
+public interface View {
+
+	/**
+	 * Displays the given message.
+	 * 
+	 * @param p_message message to be displayed.
+	 */
+	public void display(String p_message);
+
+	/**
+	 * Displays the message built by the given supplier.
+	 * <p>
+	 * Default implementation builds the message and displays it.
+	 * 
+	 * @param p_messageSupplier supplier building the message to be displayed.
+	 */
+	public default void display(Supplier<String> p_messageSupplier) {
+		display(p_messageSupplier.get());
+	}
+
+	/**
+	 * Reads a line of user input.
+	 * 
+	 * @return user input string.
+	 */
+	public String getInput();
+}
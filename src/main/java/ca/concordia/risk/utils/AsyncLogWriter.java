@@ -0,0 +1,278 @@
+package ca.concordia.risk.utils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * This class writes log entries to a <code>Writer</code> on a background
+ * thread.
+ * <p>
+ * Entries are handed to the writer thread through a bounded ring buffer. The
+ * writer thread takes every entry available at once, writes the whole batch and
+ * flushes the underlying writer a single time per batch, so the thread logging
+ * the entries never waits for the disk. Entries are either text or a
+ * <code>LogEvent</code>, which is only formatted on the writer thread. When the ring buffer is full, the
+ * <code>OverflowPolicy</code> decides whether the logging thread waits for free
+ * space or drops the entry.
+ * <p>
+ * Errors of the underlying writer are kept until the writer is closed, and
+ * the entries written after an error are discarded.
+ */
+public class AsyncLogWriter {
+
+	/** Policy applied when an entry is appended to a full ring buffer. */
+	public enum OverflowPolicy {
+		/** Wait until the writer thread frees space in the ring buffer. */
+		BLOCK,
+		/** Drop the entry and count it as dropped. */
+		DROP
+	}
+
+	private final Writer d_out;
+	private final OverflowPolicy d_policy;
+	private final Object[] d_ring;
+	private final ReentrantLock d_lock = new ReentrantLock();
+	private final Condition d_notEmpty = d_lock.newCondition();
+	private final Condition d_notFull = d_lock.newCondition();
+	private final Condition d_written = d_lock.newCondition();
+	private final Thread d_thread;
+
+	private int d_head;
+	private int d_size;
+	private long d_numAppended;
+	private long d_numWritten;
+	private long d_numDropped;
+	private boolean d_closed;
+	private IOException d_error;
+
+	/**
+	 * Creates a new asynchronous writer and starts its writer thread.
+	 *
+	 * @param p_out      writer to write the entries to.
+	 * @param p_capacity number of entries the ring buffer can hold.
+	 * @param p_policy   policy applied when the ring buffer is full.
+	 * @throws IllegalArgumentException thrown if the capacity is not positive.
+	 */
+	public AsyncLogWriter(Writer p_out, int p_capacity, OverflowPolicy p_policy) {
+		if (p_capacity < 1) {
+			throw new IllegalArgumentException("capacity should be positive");
+		}
+		d_out = p_out;
+		d_policy = p_policy;
+		d_ring = new Object[p_capacity];
+
+		d_thread = new Thread(this::writeLoop, "log-writer");
+		d_thread.setDaemon(true);
+		d_thread.start();
+	}
+
+	/**
+	 * Hands an entry to the writer thread.
+	 * <p>
+	 * If the ring buffer is full, waits for free space or drops the entry,
+	 * depending on the overflow policy. Entries appended after the writer is
+	 * closed are dropped.
+	 *
+	 * @param p_entry entry to write.
+	 * @return <code>true</code> if the entry will be written.<br>
+	 *         <code>false</code> if the entry was dropped.
+	 */
+	public boolean append(String p_entry) {
+		return enqueue(p_entry);
+	}
+
+	/**
+	 * Hands an event to the writer thread, which formats it and writes it as one
+	 * line.
+	 * <p>
+	 * Like <code>append(String)</code>, waits for free space or drops the event
+	 * when the ring buffer is full.
+	 *
+	 * @param p_event event to write.
+	 * @return <code>true</code> if the event will be written.<br>
+	 *         <code>false</code> if the event was dropped.
+	 */
+	public boolean append(LogEvent p_event) {
+		return enqueue(p_event);
+	}
+
+	/**
+	 * Puts an entry in the ring buffer, applying the overflow policy.
+	 *
+	 * @param p_entry text or event to write.
+	 * @return <code>true</code> if the entry will be written.<br>
+	 *         <code>false</code> if the entry was dropped.
+	 */
+	private boolean enqueue(Object p_entry) {
+		d_lock.lock();
+		try {
+			while (d_size == d_ring.length && !d_closed && d_policy == OverflowPolicy.BLOCK) {
+				d_notFull.awaitUninterruptibly();
+			}
+			if (d_closed || d_size == d_ring.length) {
+				d_numDropped++;
+				return false;
+			}
+
+			d_ring[(d_head + d_size) % d_ring.length] = p_entry;
+			d_size++;
+			d_numAppended++;
+			d_notEmpty.signal();
+			return true;
+		} finally {
+			d_lock.unlock();
+		}
+	}
+
+	/**
+	 * Waits until every entry appended so far is written and flushed to the
+	 * underlying writer.
+	 */
+	public void flush() {
+		d_lock.lock();
+		try {
+			long l_target = d_numAppended;
+			while (d_numWritten < l_target && d_thread.isAlive()) {
+				d_written.awaitUninterruptibly();
+			}
+		} finally {
+			d_lock.unlock();
+		}
+	}
+
+	/**
+	 * Writes every pending entry, stops the writer thread and closes the
+	 * underlying writer.
+	 *
+	 * @throws IOException thrown if writing an entry or closing the writer failed.
+	 */
+	public void close() throws IOException {
+		d_lock.lock();
+		try {
+			if (d_closed) {
+				return;
+			}
+			d_closed = true;
+			d_notEmpty.signal();
+			d_notFull.signalAll();
+		} finally {
+			d_lock.unlock();
+		}
+
+		boolean l_interrupted = false;
+		while (d_thread.isAlive()) {
+			try {
+				d_thread.join();
+			} catch (InterruptedException l_e) {
+				l_interrupted = true;
+			}
+		}
+		if (l_interrupted) {
+			Thread.currentThread().interrupt();
+		}
+
+		try {
+			d_out.close();
+		} catch (IOException l_e) {
+			if (d_error == null) {
+				d_error = l_e;
+			}
+		}
+		if (d_error != null) {
+			throw d_error;
+		}
+	}
+
+	/**
+	 * Gets the number of entries dropped because the ring buffer was full or the
+	 * writer was closed.
+	 *
+	 * @return number of dropped entries.
+	 */
+	public long getDroppedCount() {
+		d_lock.lock();
+		try {
+			return d_numDropped;
+		} finally {
+			d_lock.unlock();
+		}
+	}
+
+	/**
+	 * Main loop of the writer thread.
+	 * <p>
+	 * Takes all available entries out of the ring buffer at once, then writes and
+	 * flushes them outside of the lock. Ends once the writer is closed and the
+	 * ring buffer is empty.
+	 */
+	private void writeLoop() {
+		Object[] l_batch = new Object[d_ring.length];
+		while (true) {
+			int l_batchSize;
+			d_lock.lock();
+			try {
+				while (d_size == 0 && !d_closed) {
+					d_notEmpty.awaitUninterruptibly();
+				}
+				if (d_size == 0) {
+					d_written.signalAll();
+					return;
+				}
+
+				// Move the whole content of the ring buffer into the batch
+				l_batchSize = d_size;
+				for (int l_i = 0; l_i < l_batchSize; l_i++) {
+					int l_index = (d_head + l_i) % d_ring.length;
+					l_batch[l_i] = d_ring[l_index];
+					d_ring[l_index] = null;
+				}
+				d_head = (d_head + l_batchSize) % d_ring.length;
+				d_size = 0;
+				d_notFull.signalAll();
+			} finally {
+				d_lock.unlock();
+			}
+
+			writeBatch(l_batch, l_batchSize);
+
+			d_lock.lock();
+			try {
+				d_numWritten += l_batchSize;
+				d_written.signalAll();
+			} finally {
+				d_lock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Writes a batch of entries and flushes the underlying writer once.
+	 * <p>
+	 * Events are formatted here, each followed by a line break.
+	 *
+	 * @param p_batch     entries to write.
+	 * @param p_batchSize number of entries in the batch.
+	 */
+	private void writeBatch(Object[] p_batch, int p_batchSize) {
+		try {
+			if (d_error == null) {
+				for (int l_i = 0; l_i < p_batchSize; l_i++) {
+					if (p_batch[l_i] instanceof LogEvent) {
+						d_out.write(((LogEvent) p_batch[l_i]).format());
+						d_out.write('\n');
+					} else {
+						d_out.write((String) p_batch[l_i]);
+					}
+				}
+				d_out.flush();
+			}
+		} catch (IOException l_e) {
+			d_error = l_e;
+		}
+		for (int l_i = 0; l_i < p_batchSize; l_i++) {
+			p_batch[l_i] = null;
+		}
+	}
+}
@@ -0,0 +1,168 @@
+package ca.concordia.risk.utils;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class delivers notifications to an observer on its own thread.
+ * <p>
+ * An <code>AsyncObserver</code> is attached to an Observable in place of the
+ * observer it wraps. Each notification takes a snapshot of the Observable with
+ * <code>Observable.getSnapshot()</code> and queues the delivery of that
+ * snapshot on a single thread executor with a bounded queue. The thread
+ * notifying the observers therefore only pays for the snapshot, however slow
+ * the wrapped observer is. Each wrapped observer has its own executor, so a
+ * slow observer does not delay the others either.
+ * <p>
+ * Snapshots are delivered in the order of the notifications. When the queue is
+ * full, the <code>OverflowPolicy</code> decides whether the notifying thread
+ * waits for free space or the snapshot is dropped.
+ */
+public class AsyncObserver implements Observer {
+
+	private static final long d_FlushPollMillis = 10;
+
+	private Observer d_observer;
+	private AsyncLogWriter.OverflowPolicy d_policy;
+	private ThreadPoolExecutor d_executor;
+	private AtomicLong d_numDropped = new AtomicLong();
+
+	/**
+	 * Creates a new asynchronous observer and starts its thread.
+	 *
+	 * @param p_observer observer to deliver the notifications to.
+	 * @param p_capacity number of notifications that can be pending.
+	 * @param p_policy   policy applied when too many notifications are pending.
+	 */
+	public AsyncObserver(Observer p_observer, int p_capacity, AsyncLogWriter.OverflowPolicy p_policy) {
+		d_observer = p_observer;
+		d_policy = p_policy;
+		d_executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<Runnable>(p_capacity), p_task -> {
+					Thread l_thread = new Thread(p_task, "observer-" + p_observer.getClass().getSimpleName());
+					l_thread.setDaemon(true);
+					return l_thread;
+				}, (p_task, p_executor) -> enqueueRejected(p_task));
+		// Start the thread up front, so tasks put directly in the queue are run
+		d_executor.prestartCoreThread();
+	}
+
+	/**
+	 * Gets the observer the notifications are delivered to.
+	 *
+	 * @return wrapped observer.
+	 */
+	public Observer getObserver() {
+		return d_observer;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Queues the delivery of a snapshot of the Observable to the wrapped
+	 * observer. Notifications received after the observer is closed are dropped.
+	 */
+	@Override
+	public void update(Observable p_observable) {
+		Observable l_snapshot = p_observable.getSnapshot();
+		try {
+			d_executor.execute(() -> d_observer.update(l_snapshot));
+		} catch (RejectedExecutionException l_e) {
+			d_numDropped.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Waits until every notification queued so far is delivered.
+	 * <p>
+	 * Waits for free space in the queue whatever the overflow policy, as the
+	 * caller waits for the deliveries anyway. Returns early if the observer is
+	 * closed meanwhile, as closing delivers every pending notification.
+	 */
+	public void flush() {
+		FutureTask<Void> l_marker = new FutureTask<Void>(() -> {
+		}, null);
+		boolean l_interrupted = false;
+		while (true) {
+			if (d_executor.isShutdown()) {
+				// Closed, nothing left to deliver
+				return;
+			}
+			try {
+				if (d_executor.getQueue().offer(l_marker, d_FlushPollMillis, TimeUnit.MILLISECONDS)) {
+					break;
+				}
+			} catch (InterruptedException l_e) {
+				l_interrupted = true;
+			}
+		}
+		// The thread stops without running the marker if the observer is closed
+		// between the check above and queuing the marker
+		while (!l_marker.isDone() && !d_executor.isTerminated()) {
+			try {
+				l_marker.get(d_FlushPollMillis, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException l_e) {
+				l_interrupted = true;
+			} catch (ExecutionException | TimeoutException l_e) {
+				// Check again if the thread stopped
+			}
+		}
+		if (l_interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Delivers every pending notification and stops the thread.
+	 */
+	public void close() {
+		d_executor.shutdown();
+		boolean l_interrupted = false;
+		while (true) {
+			try {
+				d_executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+				break;
+			} catch (InterruptedException l_e) {
+				l_interrupted = true;
+			}
+		}
+		if (l_interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Gets the number of notifications dropped because the queue was full or the
+	 * observer was closed.
+	 *
+	 * @return number of dropped notifications.
+	 */
+	public long getDroppedCount() {
+		return d_numDropped.get();
+	}
+
+	/**
+	 * Handles a delivery rejected by the executor, because its queue is full or
+	 * it is shut down.
+	 *
+	 * @param p_task delivery that was rejected.
+	 * @throws RejectedExecutionException thrown if the delivery is dropped.
+	 */
+	private void enqueueRejected(Runnable p_task) {
+		if (d_policy == AsyncLogWriter.OverflowPolicy.BLOCK && !d_executor.isShutdown()) {
+			try {
+				d_executor.getQueue().put(p_task);
+				return;
+			} catch (InterruptedException l_e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		throw new RejectedExecutionException();
+	}
+}
@@ -0,0 +1,287 @@
+package ca.concordia.risk.utils;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import ca.concordia.risk.game.Continent;
+import ca.concordia.risk.game.Country;
+import ca.concordia.risk.game.GameMap;
+import ca.concordia.risk.game.MapTemplate;
+import ca.concordia.risk.game.MapTopology;
+import ca.concordia.risk.utils.MapLoader.FileParsingException;
+
+/**
+ * This class provides functionality to load the map from and save the map to
+ * compiled binary <i>.rmapb</i> files.
+ * <p>
+ * All values are big-endian 32-bit integers. A binary map file is laid out as
+ * follows:
+ * <ol>
+ * <li>Header: the magic bytes <i>"RMPB"</i>, the format version, and the number
+ * of names, continents, countries and borders.</li>
+ * <li>Name table: each distinct continent and country name, stored once as its
+ * UTF-8 length followed by its UTF-8 bytes.</li>
+ * <li>Continent table: the name index and bonus value of each continent.</li>
+ * <li>Country table: the name index and continent index of each country,
+ * ordered by country id, which is the order of the country names.</li>
+ * <li>Borders: the compressed sparse row offsets and neighbor ids of the
+ * compiled <code>MapTopology</code>, each row sorted by id.</li>
+ * </ol>
+ * The tables after the name table are read with bulk reads, and the border
+ * arrays read are installed as the topology of the loaded map, so loading a
+ * map costs little more than reading the file.
+ */
+public class BinaryMapLoader extends DominationMapLoader {
+
+	/** Magic bytes identifying a binary map file. */
+	static final int d_Magic = 0x524D5042;
+	/** Version of the binary map format. */
+	private static final int d_Version = 1;
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Reads a binary map file.
+	 */
+	@Override
+	public GameMap LoadMap(String p_fileName) throws FileParsingException, FileNotFoundException {
+		File l_file = new File(MapLoader.d_MapFolder + p_fileName);
+		if (!l_file.exists()) {
+			throw new FileNotFoundException(p_fileName + " not found in the maps folder");
+		}
+
+		return ReadMap(MapFileParser.ReadFile(l_file));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Writes a binary map file.
+	 */
+	@Override
+	public void SaveMap(String p_fileName, GameMap p_map) throws IOException {
+		File l_file = new File(MapLoader.d_MapFolder + p_fileName);
+		try (DataOutputStream l_out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(l_file)))) {
+			WriteMap(l_out, p_map);
+		} catch (IOException l_e) {
+			// In case if we have a partially written file, delete it
+			if (l_file.exists()) {
+				l_file.delete();
+			}
+			throw l_e;
+		}
+	}
+
+	/**
+	 * Checks if the contents of a file start with the binary map magic bytes.
+	 *
+	 * @param p_contents contents of the file.
+	 * @return <code>true</code> if the file is a binary map file.<br>
+	 *         <code>false</code> otherwise.
+	 */
+	static boolean IsBinaryMap(ByteBuffer p_contents) {
+		return p_contents.limit() >= Integer.BYTES && p_contents.getInt(0) == d_Magic;
+	}
+
+	/**
+	 * Reads a map from the contents of a binary map file.
+	 *
+	 * @param p_contents contents of the file, positioned at <code>0</code>.
+	 * @return game map read from the file.
+	 * @throws FileParsingException thrown if the file is not a valid binary map.
+	 */
+	static GameMap ReadMap(ByteBuffer p_contents) throws FileParsingException {
+		try {
+			// Header
+			if (p_contents.getInt() != d_Magic) {
+				throw new FileParsingException("not a binary map file");
+			}
+			int l_version = p_contents.getInt();
+			if (l_version != d_Version) {
+				throw new FileParsingException("unsupported binary map version " + l_version);
+			}
+			int l_numNames = ReadCount(p_contents);
+			int l_numContinents = ReadCount(p_contents);
+			int l_numCountries = ReadCount(p_contents);
+			int l_numBorders = ReadCount(p_contents);
+
+			// Name table, each name takes at least the four bytes of its length
+			if (4L * l_numNames > p_contents.remaining()) {
+				throw new BufferUnderflowException();
+			}
+			String[] l_names = new String[l_numNames];
+			for (int l_i = 0; l_i < l_numNames; l_i++) {
+				int l_length = ReadCount(p_contents);
+				if (l_length > p_contents.remaining()) {
+					throw new BufferUnderflowException();
+				}
+				byte[] l_bytes = new byte[l_length];
+				p_contents.get(l_bytes);
+				l_names[l_i] = new String(l_bytes, StandardCharsets.UTF_8);
+			}
+
+			// Fixed size tables, checked against the file size before allocating them
+			IntBuffer l_ints = p_contents.asIntBuffer();
+			long l_tableSize = 2L * l_numContinents + 2L * l_numCountries + l_numCountries + 1 + l_numBorders;
+			if (l_tableSize > l_ints.remaining()) {
+				throw new BufferUnderflowException();
+			}
+			int[] l_continentTable = new int[2 * l_numContinents];
+			int[] l_countryTable = new int[2 * l_numCountries];
+			int[] l_offsets = new int[l_numCountries + 1];
+			int[] l_targets = new int[l_numBorders];
+			l_ints.get(l_continentTable);
+			l_ints.get(l_countryTable);
+			l_ints.get(l_offsets);
+			l_ints.get(l_targets);
+
+			return CreateMap(l_names, l_continentTable, l_countryTable, l_offsets, l_targets);
+		} catch (BufferUnderflowException l_e) {
+			throw new FileParsingException("binary map file is truncated");
+		}
+	}
+
+	/**
+	 * Writes a map in the binary map format.
+	 *
+	 * @param p_out stream to write the map to.
+	 * @param p_map map to write.
+	 * @throws IOException thrown if an error occurs while writing.
+	 */
+	static void WriteMap(DataOutputStream p_out, GameMap p_map) throws IOException {
+		List<Continent> l_continents = p_map.getContinents();
+		MapTopology l_topology = p_map.getTopology();
+		int l_numCountries = l_topology.getNumberOfCountries();
+
+		// Intern the names and index the continents
+		Map<String, Integer> l_names = new LinkedHashMap<String, Integer>();
+		Map<Continent, Integer> l_continentIndices = new HashMap<Continent, Integer>();
+		for (Continent l_continent : l_continents) {
+			l_names.putIfAbsent(l_continent.getName(), l_names.size());
+			l_continentIndices.put(l_continent, l_continentIndices.size());
+		}
+		for (int l_id = 0; l_id < l_numCountries; l_id++) {
+			l_names.putIfAbsent(l_topology.getCountry(l_id).getName(), l_names.size());
+		}
+
+		// Header
+		p_out.writeInt(d_Magic);
+		p_out.writeInt(d_Version);
+		p_out.writeInt(l_names.size());
+		p_out.writeInt(l_continents.size());
+		p_out.writeInt(l_numCountries);
+		p_out.writeInt(l_topology.getNumberOfBorders());
+
+		// Name table
+		for (String l_name : l_names.keySet()) {
+			byte[] l_bytes = l_name.getBytes(StandardCharsets.UTF_8);
+			p_out.writeInt(l_bytes.length);
+			p_out.write(l_bytes);
+		}
+
+		// Continent and country tables
+		for (Continent l_continent : l_continents) {
+			p_out.writeInt(l_names.get(l_continent.getName()));
+			p_out.writeInt(l_continent.getValue());
+		}
+		for (int l_id = 0; l_id < l_numCountries; l_id++) {
+			Country l_country = l_topology.getCountry(l_id);
+			Integer l_continentIndex = l_continentIndices.get(l_country.getContinent());
+			if (l_continentIndex == null) {
+				throw new IOException("continent of country " + l_country.getName() + " is not in the map");
+			}
+			p_out.writeInt(l_names.get(l_country.getName()));
+			p_out.writeInt(l_continentIndex);
+		}
+
+		// Borders
+		for (int l_offset : l_topology.getNeighborOffsets()) {
+			p_out.writeInt(l_offset);
+		}
+		for (int l_target : l_topology.getNeighborTargets()) {
+			p_out.writeInt(l_target);
+		}
+	}
+
+	/**
+	 * Reads a count, which must not be negative.
+	 *
+	 * @param p_contents buffer to read from.
+	 * @return count read.
+	 * @throws FileParsingException thrown if the count is negative.
+	 */
+	private static int ReadCount(ByteBuffer p_contents) throws FileParsingException {
+		int l_count = p_contents.getInt();
+		if (l_count < 0) {
+			throw new FileParsingException("binary map file has a negative count");
+		}
+		return l_count;
+	}
+
+	/**
+	 * Creates the game map from the tables of a binary map file.
+	 * <p>
+	 * The border arrays read from the file are installed as the compiled topology
+	 * of the map, through a <code>MapTemplate</code>, instead of adding the
+	 * borders one at a time.
+	 *
+	 * @param p_names          name table.
+	 * @param p_continentTable name index and bonus value of each continent.
+	 * @param p_countryTable   name index and continent index of each country.
+	 * @param p_offsets        row offsets of the border array.
+	 * @param p_targets        neighbor ids of each country.
+	 * @return game map.
+	 * @throws FileParsingException thrown if an index is out of range or the
+	 *                              tables are not consistent.
+	 */
+	private static GameMap CreateMap(String[] p_names, int[] p_continentTable, int[] p_countryTable,
+			int[] p_offsets, int[] p_targets) throws FileParsingException {
+		String[] l_continentNames = new String[p_continentTable.length / 2];
+		int[] l_continentValues = new int[l_continentNames.length];
+		for (int l_i = 0; l_i < l_continentNames.length; l_i++) {
+			l_continentNames[l_i] = p_names[CheckIndex(p_continentTable[2 * l_i], p_names.length)];
+			l_continentValues[l_i] = p_continentTable[2 * l_i + 1];
+		}
+
+		String[] l_countryNames = new String[p_countryTable.length / 2];
+		int[] l_countryContinents = new int[l_countryNames.length];
+		for (int l_id = 0; l_id < l_countryNames.length; l_id++) {
+			l_countryNames[l_id] = p_names[CheckIndex(p_countryTable[2 * l_id], p_names.length)];
+			l_countryContinents[l_id] = CheckIndex(p_countryTable[2 * l_id + 1], l_continentNames.length);
+		}
+
+		try {
+			return new MapTemplate(l_continentNames, l_continentValues, l_countryNames, l_countryContinents,
+					p_offsets, p_targets).createMap();
+		} catch (IllegalArgumentException l_e) {
+			throw new FileParsingException("binary map file is inconsistent: " + l_e.getMessage());
+		}
+	}
+
+	/**
+	 * Checks that an index read from the file is in range.
+	 *
+	 * @param p_index index to check.
+	 * @param p_size  size of the table the index refers to.
+	 * @return the index.
+	 * @throws FileParsingException thrown if the index is out of range.
+	 */
+	private static int CheckIndex(int p_index, int p_size) throws FileParsingException {
+		if (p_index < 0 || p_index >= p_size) {
+			throw new FileParsingException("binary map file has an index out of range");
+		}
+		return p_index;
+	}
+}
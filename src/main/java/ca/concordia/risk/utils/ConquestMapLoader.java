@@ -10,7 +10,6 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Scanner;
 import ca.concordia.risk.game.Continent;
 import ca.concordia.risk.game.Country;
 import ca.concordia.risk.game.GameMap;
@@ -26,8 +25,7 @@ public class ConquestMapLoader {
 	/**
 	 * Loads a map file.
 	 * <p>
-	 * Reads a (.map) file by calling appropriate functions for reading the
-	 * continents, countries and borders.
+	 * Reads a (.map) file in a single pass with a <code>MapFileParser</code>.
 	 * 
 	 * @param p_fileName filename of the (.map) file
 	 * @return game map loaded from the file.
@@ -42,26 +40,7 @@ public class ConquestMapLoader {
 			throw new FileNotFoundException(p_fileName + " not found in the maps folder");
 		}
 
-		// Use ISO-8859-1 encoding, since most map files are encoded with it.
-		// UTF encoded map files are theoretically possible, however we haven't found
-		// any in practice.
-		// If required, encoding detection can be added later on.
-		Scanner l_sc = new Scanner(l_file, MapLoader.d_Encoding);
-
-		seekToTag("[Continents]", l_sc);
-		Map<Integer, Continent> l_continentMap = readContinents(l_sc);
-
-		seekToTag("[Territories]", l_sc);
-		Map<String, Country> l_countryMap = readCountries(l_sc, l_continentMap);
-
-		l_sc.close();
-		l_sc = new Scanner(l_file, MapLoader.d_Encoding);
-
-		seekToTag("[Territories]", l_sc);
-		readBorders(l_sc, l_countryMap);
-		l_sc.close();
-
-		return createMap(l_continentMap, l_countryMap);
+		return new MapFileParser(MapFileParser.ReadFile(l_file)).parseConquest();
 	}
 
 	/**
@@ -93,168 +72,6 @@ public class ConquestMapLoader {
 		}
 	}
 
-	/**
-	 * Skips through the file until it finds a line that starts with
-	 * <code>p_tag</code>.
-	 * <p>
-	 * Scanner <code>p_sc</code> will point to the line after the line with the tag
-	 * after the method returns.
-	 * 
-	 * @param p_tag tag to look for.
-	 * @param p_sc  scanner to use.
-	 * @throws FileParsingException thrown if end of file is reached before
-	 *                              encountering the tag.
-	 */
-	private void seekToTag(String p_tag, Scanner p_sc) throws FileParsingException {
-		while (p_sc.hasNextLine()) {
-			String l_line = p_sc.nextLine().trim();
-			if (l_line.startsWith(p_tag)) {
-				return;
-			}
-		}
-
-		throw new FileParsingException(p_tag + " tag not found");
-	}
-
-	/**
-	 * This method parses Continent names and their corresponding reinforcement
-	 * value from the .map file.
-	 * 
-	 * @param p_sc Scanner object.
-	 * @return HashMap with Continent ID mapped to its corresponding Continent
-	 *         object.
-	 * @throws FileParsingException thrown if an invalid line is encountered.
-	 */
-	private Map<Integer, Continent> readContinents(Scanner p_sc) throws FileParsingException {
-		Map<Integer, Continent> l_continentMap = new HashMap<Integer, Continent>();
-
-		int l_runningId = 1;
-		while (p_sc.hasNextLine()) {
-			String l_line = p_sc.nextLine().trim();
-
-			// Stop reading when we come across an empty line
-			if (l_line.isBlank()) {
-				break;
-			}
-			try {
-				String l_continentName;
-				int l_continentValue;
-				String[] l_tokens = l_line.split("=");
-				l_continentName = l_tokens[0];
-				l_continentValue = Integer.parseInt(l_tokens[1]);
-
-				l_continentMap.put(l_runningId, new Continent(l_continentName, l_continentValue));
-				l_runningId++;
-			} catch (Exception l_e) {
-				throw new FileParsingException("error when parsing - invalid line format \"" + l_line + "\"");
-			}
-		}
-
-		return l_continentMap;
-	}
-
-	/**
-	 * This method parses Territory names and IDs and maps them to their respective
-	 * Continent.
-	 * 
-	 * @param p_sc           Scanner object.
-	 * @param p_continentMap HashMap with Continent ID mapped to its corresponding
-	 *                       Continent object.
-	 * @return HashMap with Country name mapped to its corresponding Country object.
-	 * @throws FileParsingException thrown if an invalid line is encountered.
-	 */
-	private Map<String, Country> readCountries(Scanner p_sc, Map<Integer, Continent> p_continentMap)
-			throws FileParsingException {
-		Map<String, Country> l_countryMap = new HashMap<String, Country>();
-
-		int l_continentId = 0;
-		String l_continentName = "";
-		while (p_sc.hasNextLine()) {
-			String l_line = p_sc.nextLine().trim();
-			// Go to next line when we come across an empty line
-			if (l_line.isBlank()) {
-				continue;
-			}
-			try {
-				String[] l_tokens = l_line.split(",");
-				String l_countryName = l_tokens[0];
-				String l_tmpContinentName = l_tokens[3];
-
-				if (!l_continentName.equalsIgnoreCase(l_tmpContinentName)) {
-					l_continentId++;
-					l_continentName = l_tmpContinentName;
-				}
-
-				// Get country continent
-				Continent l_continent = p_continentMap.get(l_continentId);
-
-				// Create country
-				Country l_country = new Country(l_countryName, l_continent);
-				// Add country to continent
-				l_continent.addCountry(l_country);
-
-				// Add country to country map
-				l_countryMap.put(l_countryName, l_country);
-			} catch (Exception l_e) {
-				throw new FileParsingException("error when parsing - invalid line format \"" + l_line + "\"");
-			}
-		}
-
-		return l_countryMap;
-	}
-
-	/**
-	 * This method parses the borders and adds the neighbors for each country.
-	 * 
-	 * @param p_sc         Scanner object.
-	 * @param p_countryMap HashMap with Country name mapped to its corresponding
-	 *                     Country object.
-	 * @throws FileParsingException thrown if an invalid line is encountered.
-	 */
-
-	private void readBorders(Scanner p_sc, Map<String, Country> p_countryMap) throws FileParsingException {
-		while (p_sc.hasNextLine()) {
-			String l_line = p_sc.nextLine().trim();
-			if (l_line.isBlank()) {
-				continue;
-			}
-			try {
-				String[] l_tokens = l_line.split(",");
-				String l_countryName = l_tokens[0];
-				for (int l_i = 4; l_i < l_tokens.length; l_i++) {
-					// Add neighbors to country
-					String l_neighborName = l_tokens[l_i].trim();
-					Country l_neighbor = p_countryMap.get(l_neighborName);
-					p_countryMap.get(l_countryName).addNeighbor(l_neighbor);
-				}
-			} catch (Exception l_e) {
-				throw new FileParsingException("error when parsing - invalid line format \"" + l_line + "\"");
-			}
-		}
-	}
-
-	/**
-	 * This method creates the Risk game map.
-	 * 
-	 * @param p_continentMap HashMap with Continent ID mapped to its corresponding
-	 *                       Continent object.
-	 * @param p_countryMap   HashMap with Country name mapped to its corresponding
-	 *                       Country object.
-	 * @return game map.
-	 */
-	private GameMap createMap(Map<Integer, Continent> p_continentMap, Map<String, Country> p_countryMap) {
-		GameMap l_gameMap = new GameMap();
-
-		for (Continent l_c : p_continentMap.values()) {
-			l_gameMap.addContinent(l_c);
-		}
-		for (Country l_c : p_countryMap.values()) {
-			l_gameMap.addCountry(l_c);
-		}
-
-		return l_gameMap;
-	}
-
 	/**
 	 * This method builds and returns a map of continents mapped to generated
 	 * continent ID.
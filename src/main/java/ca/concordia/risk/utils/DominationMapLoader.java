@@ -9,7 +9,6 @@ import java.io.OutputStreamWriter;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Scanner;
 import java.util.Set;
 
 import ca.concordia.risk.game.Continent;
@@ -26,8 +25,7 @@ public class DominationMapLoader {
 	/**
 	 * Loads a map file.
 	 * <p>
-	 * Reads a (.map) file by calling appropriate functions for reading the
-	 * continents, countries and borders.
+	 * Reads a (.map) file in a single pass with a <code>MapFileParser</code>.
 	 * 
 	 * @param p_fileName filename of the (.map) file
 	 * @return game map loaded from the file.
@@ -42,22 +40,7 @@ public class DominationMapLoader {
 			throw new FileNotFoundException(p_fileName + " not found in the maps folder");
 		}
 
-		// Use ISO-8859-1 encoding, since most map files are encoded with it.
-		// UTF encoded map files are theoretically possible, however we haven't found
-		// any in practice.
-		// If required, encoding detection can be added later on.
-		try (Scanner l_sc = new Scanner(l_file, MapLoader.d_Encoding)) {
-			SeekToTag("[continents]", l_sc);
-			Map<Integer, Continent> l_continentMap = ReadContinents(l_sc);
-
-			SeekToTag("[countries]", l_sc);
-			Map<Integer, Country> l_countryMap = ReadCountries(l_sc, l_continentMap);
-
-			SeekToTag("[borders]", l_sc);
-			ReadBorders(l_sc, l_countryMap);
-
-			return CreateMap(l_continentMap, l_countryMap);
-		}
+		return new MapFileParser(MapFileParser.ReadFile(l_file)).parseDomination();
 	}
 
 	/**
@@ -90,173 +73,6 @@ public class DominationMapLoader {
 		}
 	}
 
-	/**
-	 * Skips through the file until it finds a line that starts with
-	 * <code>p_tag</code>.
-	 * <p>
-	 * Scanner <code>p_sc</code> will point to the line after the line with the tag
-	 * after the method returns.
-	 * 
-	 * @param p_tag tag to look for.
-	 * @param p_sc  scanner to use.
-	 * @throws FileParsingException thrown if end of file is reached before
-	 *                              encountering the tag.
-	 */
-	private static void SeekToTag(String p_tag, Scanner p_sc) throws FileParsingException {
-		while (p_sc.hasNextLine()) {
-			String l_line = p_sc.nextLine().trim();
-			if (l_line.startsWith(p_tag)) {
-				return;
-			}
-		}
-
-		throw new FileParsingException(p_tag + " tag not found");
-	}
-
-	/**
-	 * This method parses Continent names and their corresponding reinforcement
-	 * value from the .map file.
-	 * 
-	 * @param p_sc Scanner object.
-	 * @return HashMap with Continent ID mapped to its corresponding Continent
-	 *         object.
-	 * @throws FileParsingException thrown if an invalid line is encountered.
-	 */
-	private static Map<Integer, Continent> ReadContinents(Scanner p_sc) throws FileParsingException {
-		Map<Integer, Continent> l_continentMap = new HashMap<Integer, Continent>();
-
-		int l_runningId = 1;
-		while (p_sc.hasNextLine()) {
-			String l_line = p_sc.nextLine().trim();
-
-			// Stop reading when we come across an empty line
-			if (l_line.isBlank()) {
-				break;
-			}
-			try {
-				String l_continentName;
-				int l_continentValue;
-
-				String[] l_tokens = l_line.split("\\s+");
-				l_continentName = l_tokens[0].replace('_', ' ');
-				l_continentValue = Integer.parseInt(l_tokens[1]);
-
-				l_continentMap.put(l_runningId, new Continent(l_continentName, l_continentValue));
-				l_runningId++;
-			} catch (Exception l_e) {
-				throw new FileParsingException("error when parsing - invalid line format \"" + l_line + "\"");
-			}
-		}
-
-		return l_continentMap;
-	}
-
-	/**
-	 * This method parses Country names and IDs and maps them to their respective
-	 * Continent.
-	 * 
-	 * @param p_sc           Scanner object.
-	 * @param p_continentMap HashMap with Continent ID mapped to its corresponding
-	 *                       Continent object.
-	 * @return HashMap with Country ID mapped to its corresponding Country object.
-	 * @throws FileParsingException thrown if an invalid line is encountered.
-	 */
-	private static Map<Integer, Country> ReadCountries(Scanner p_sc, Map<Integer, Continent> p_continentMap)
-			throws FileParsingException {
-		Map<Integer, Country> l_countryMap = new HashMap<Integer, Country>();
-
-		while (p_sc.hasNextLine()) {
-			String l_line = p_sc.nextLine().trim();
-			// Stop reading when we come across an empty line
-			if (l_line.isBlank()) {
-				break;
-			}
-			// Skip comments
-			if (l_line.startsWith(";")) {
-				continue;
-			}
-
-			try {
-				String[] l_tokens = l_line.split("\\s+");
-				int l_countryId = Integer.parseInt(l_tokens[0]);
-				String l_countryName = l_tokens[1].replace('_', ' ');
-				int l_continentId = Integer.parseInt(l_tokens[2]);
-
-				// Get country continent
-				Continent l_continent = p_continentMap.get(l_continentId);
-
-				// Create country
-				Country l_country = new Country(l_countryName, l_continent);
-				// Add country to continent
-				l_continent.addCountry(l_country);
-
-				// Add country to country map
-				l_countryMap.put(l_countryId, l_country);
-			} catch (Exception l_e) {
-				throw new FileParsingException("error when parsing - invalid line format \"" + l_line + "\"");
-			}
-		}
-
-		return l_countryMap;
-	}
-
-	/**
-	 * This method parses the borders and adds the neighbors for each country.
-	 * 
-	 * @param p_sc         Scanner object.
-	 * @param p_countryMap HashMap with Country ID mapped to its corresponding
-	 *                     Country object.
-	 * @throws FileParsingException thrown if an invalid line is encountered.
-	 */
-	private static void ReadBorders(Scanner p_sc, Map<Integer, Country> p_countryMap) throws FileParsingException {
-		while (p_sc.hasNextLine()) {
-			String l_line = p_sc.nextLine().trim();
-
-			// Stop reading when we come across an empty line
-			if (l_line.isBlank()) {
-				break;
-			}
-			// Skip comments
-			if (l_line.startsWith(";")) {
-				continue;
-			}
-
-			try {
-				String[] l_tokens = l_line.split("\\s+");
-				int l_countryId = Integer.parseInt(l_tokens[0]);
-				for (int l_i = 1; l_i < l_tokens.length; l_i++) {
-					// Add neighbors to country
-					int l_neighborId = Integer.parseInt(l_tokens[l_i]);
-					p_countryMap.get(l_countryId).addNeighbor(p_countryMap.get(l_neighborId));
-				}
-			} catch (Exception l_e) {
-				throw new FileParsingException("error when parsing - invalid line format \"" + l_line + "\"");
-			}
-		}
-	}
-
-	/**
-	 * This method creates the Risk game map.
-	 * 
-	 * @param p_continentMap HashMap with Continent ID mapped to its corresponding
-	 *                       Continent object.
-	 * @param p_countryMap   HashMap with Country ID mapped to its corresponding
-	 *                       Country object.
-	 * @return game map.
-	 */
-	private static GameMap CreateMap(Map<Integer, Continent> p_continentMap, Map<Integer, Country> p_countryMap) {
-		GameMap l_gameMap = new GameMap();
-
-		for (Continent l_c : p_continentMap.values()) {
-			l_gameMap.addContinent(l_c);
-		}
-		for (Country l_c : p_countryMap.values()) {
-			l_gameMap.addCountry(l_c);
-		}
-
-		return l_gameMap;
-	}
-
 	/**
 	 * This method builds and returns a map of continents mapped to generated
 	 * continent ID.
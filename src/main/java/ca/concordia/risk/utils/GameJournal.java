@@ -0,0 +1,335 @@
+package ca.concordia.risk.utils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IllegalFormatException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class writes the game log as a compact binary journal.
+ * <p>
+ * Like <code>LogFileWriter</code>, it acts as an observer of
+ * <code>LogEntryBuffer</code>, but it writes the <code>LogEvent</code> of the
+ * buffer instead of its text. A journal starts with a header made of magic
+ * bytes and a format version, followed by one record per event:
+ * <ol>
+ * <li>the event type, as a varint,</li>
+ * <li>each value of the event, as a varint.</li>
+ * </ol>
+ * The number and the kind of the values follow from the event type. Integers
+ * are written as zigzag varints. Names of players, countries and cards are
+ * written in full the first time they appear and get the next id, later
+ * occurrences only write the id. The status events of issued orders are written
+ * in place as nested records. The two low bits of the varint of a name or event
+ * value tell which of these three it is.
+ * <p>
+ * <code>Decode()</code> renders a journal in the same text format as the log
+ * file. Event types are written by ordinal, so new types must be added at the
+ * end of <code>LogEvent.Type</code>.
+ */
+public class GameJournal implements Observer {
+
+	/** Magic bytes identifying a game journal. */
+	static final int d_Magic = 0x524A4E4C;
+	/** Version of the journal format. */
+	private static final int d_Version = 1;
+
+	private static final String d_JournalFilePrefix = "game-";
+	private static final String d_JournalFileExtension = ".journal";
+	private static final int d_BufferSize = 1 << 16;
+	private static final int d_MaxNameLength = 1 << 16;
+
+	private static final int d_NameValue = 0;
+	private static final int d_NewNameValue = 1;
+	private static final int d_EventValue = 2;
+
+	private DataOutputStream d_out;
+	private Map<String, Integer> d_nameIds = new HashMap<String, Integer>();
+
+	/**
+	 * Opens the journal file of a game to write the events to.
+	 * <p>
+	 * Creates the journal file if it does not exist and overwrites it otherwise.
+	 *
+	 * @param p_logDirectory path of the directory to write the journal file to.
+	 * @param p_gameId       id of the game, naming the journal file.
+	 * @throws FileNotFoundException thrown if opening the journal file fails.
+	 */
+	public void openJournal(String p_logDirectory, String p_gameId) throws FileNotFoundException {
+		File l_journalFile = new File(p_logDirectory, d_JournalFilePrefix + p_gameId + d_JournalFileExtension);
+		if (!l_journalFile.exists()) {
+			l_journalFile.getParentFile().mkdirs();
+		}
+		openJournal(new FileOutputStream(l_journalFile, false));
+	}
+
+	/**
+	 * Opens a journal on a stream.
+	 *
+	 * @param p_out stream to write the journal to.
+	 */
+	public void openJournal(OutputStream p_out) {
+		d_out = new DataOutputStream(new BufferedOutputStream(p_out, d_BufferSize));
+		d_nameIds.clear();
+		try {
+			d_out.writeInt(d_Magic);
+			d_out.writeByte(d_Version);
+		} catch (IOException l_e) {
+			// Stop writing the journal, as a log file stops after a write error
+			closeJournal();
+		}
+	}
+
+	/**
+	 * Writes the pending records and closes the journal.
+	 */
+	public void closeJournal() {
+		if (d_out != null) {
+			try {
+				d_out.close();
+			} catch (IOException l_e) {
+				// Like a failed write, a failed close only loses journal records
+			}
+			d_out = null;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Writes the latest event of the log buffer to the journal.
+	 */
+	@Override
+	public void update(Observable p_observable) {
+		if (p_observable instanceof LogEntryBuffer && d_out != null) {
+			try {
+				writeEvent(((LogEntryBuffer) p_observable).getEvent());
+			} catch (IOException l_e) {
+				closeJournal();
+			}
+		}
+	}
+
+	/**
+	 * Reads a journal and writes its events in the text format of the log file.
+	 *
+	 * @param p_in  stream to read the journal from.
+	 * @param p_out writer to write the text log to.
+	 * @throws IOException             thrown if reading or writing fails.
+	 * @throws JournalFormatException thrown if the stream is not a valid journal.
+	 */
+	public static void Decode(InputStream p_in, Writer p_out) throws IOException, JournalFormatException {
+		DataInputStream l_in = new DataInputStream(new BufferedInputStream(p_in, d_BufferSize));
+		if (l_in.readInt() != d_Magic) {
+			throw new JournalFormatException("not a game journal");
+		}
+		int l_version = l_in.readUnsignedByte();
+		if (l_version != d_Version) {
+			throw new JournalFormatException("unsupported journal version " + l_version);
+		}
+
+		List<String> l_names = new ArrayList<String>();
+		while (true) {
+			int l_type;
+			try {
+				l_type = ReadVarint(l_in);
+			} catch (EOFException l_e) {
+				// A journal ends after its last complete record
+				return;
+			}
+			LogEvent l_event = ReadEvent(l_in, l_type, l_names);
+			try {
+				p_out.write(l_event.format());
+			} catch (IllegalFormatException l_e) {
+				throw new JournalFormatException("values do not match event type " + l_event.getType());
+			}
+			p_out.write("\n");
+		}
+	}
+
+	/**
+	 * Writes an event record.
+	 *
+	 * @param p_event event to write.
+	 * @throws IOException thrown if writing fails.
+	 */
+	private void writeEvent(LogEvent p_event) throws IOException {
+		WriteVarint(d_out, p_event.getType().ordinal());
+		writeValues(p_event);
+	}
+
+	/**
+	 * Writes the values of an event.
+	 *
+	 * @param p_event event to write the values of.
+	 * @throws IOException thrown if writing fails.
+	 */
+	private void writeValues(LogEvent p_event) throws IOException {
+		LogEvent.Type l_type = p_event.getType();
+		if (p_event.getNumValues() != l_type.getNumValues()) {
+			throw new IllegalArgumentException(l_type + " events have " + l_type.getNumValues() + " values");
+		}
+
+		for (int l_i = 0; l_i < p_event.getNumValues(); l_i++) {
+			Object l_value = p_event.getValue(l_i);
+			if (l_type.isIntValue(l_i)) {
+				int l_int = (Integer) l_value;
+				WriteVarint(d_out, (l_int << 1) ^ (l_int >> 31));
+			} else if (l_value instanceof LogEvent) {
+				LogEvent l_event = (LogEvent) l_value;
+				WriteVarint(d_out, l_event.getType().ordinal() << 2 | d_EventValue);
+				writeValues(l_event);
+			} else {
+				writeName(String.valueOf(l_value));
+			}
+		}
+	}
+
+	/**
+	 * Writes a name, in full if it was not written before.
+	 * <p>
+	 * Names longer than the decoder accepts are cut to the maximum length, at a
+	 * character boundary, so the journal stays readable.
+	 *
+	 * @param p_name name to write.
+	 * @throws IOException thrown if writing fails.
+	 */
+	private void writeName(String p_name) throws IOException {
+		Integer l_id = d_nameIds.get(p_name);
+		if (l_id != null) {
+			WriteVarint(d_out, l_id << 2 | d_NameValue);
+		} else {
+			d_nameIds.put(p_name, d_nameIds.size());
+			byte[] l_bytes = p_name.getBytes(StandardCharsets.UTF_8);
+			int l_length = Math.min(l_bytes.length, d_MaxNameLength);
+			// Do not split the UTF-8 sequence of a character, whose continuation
+			// bytes start with the bits 10
+			while (l_length < l_bytes.length && (l_bytes[l_length] & 0xC0) == 0x80) {
+				l_length--;
+			}
+			WriteVarint(d_out, l_length << 2 | d_NewNameValue);
+			d_out.write(l_bytes, 0, l_length);
+		}
+	}
+
+	/**
+	 * Reads the values of an event record.
+	 *
+	 * @param p_in    stream to read from.
+	 * @param p_type  ordinal of the event type, already read.
+	 * @param p_names names read so far, indexed by id.
+	 * @return event read.
+	 * @throws IOException             thrown if reading fails.
+	 * @throws JournalFormatException thrown if the record is not valid.
+	 */
+	private static LogEvent ReadEvent(DataInputStream p_in, int p_type, List<String> p_names)
+			throws IOException, JournalFormatException {
+		LogEvent.Type[] l_types = LogEvent.Type.values();
+		if (p_type < 0 || p_type >= l_types.length) {
+			throw new JournalFormatException("unknown event type " + p_type);
+		}
+		LogEvent.Type l_type = l_types[p_type];
+
+		Object[] l_values = new Object[l_type.getNumValues()];
+		for (int l_i = 0; l_i < l_values.length; l_i++) {
+			int l_varint = ReadVarint(p_in);
+			if (l_type.isIntValue(l_i)) {
+				l_values[l_i] = (l_varint >>> 1) ^ -(l_varint & 1);
+				continue;
+			}
+
+			int l_payload = l_varint >>> 2;
+			switch (l_varint & 3) {
+			case d_NameValue:
+				if (l_payload >= p_names.size()) {
+					throw new JournalFormatException("unknown name id " + l_payload);
+				}
+				l_values[l_i] = p_names.get(l_payload);
+				break;
+			case d_NewNameValue:
+				if (l_payload > d_MaxNameLength) {
+					throw new JournalFormatException("name of " + l_payload + " bytes is too long");
+				}
+				byte[] l_bytes = new byte[l_payload];
+				p_in.readFully(l_bytes);
+				String l_name = new String(l_bytes, StandardCharsets.UTF_8);
+				p_names.add(l_name);
+				l_values[l_i] = l_name;
+				break;
+			case d_EventValue:
+				l_values[l_i] = ReadEvent(p_in, l_payload, p_names);
+				break;
+			default:
+				throw new JournalFormatException("unknown value tag " + (l_varint & 3));
+			}
+		}
+		return new LogEvent(l_type, l_values);
+	}
+
+	/**
+	 * Writes an unsigned varint, seven bits per byte, low bits first.
+	 *
+	 * @param p_out   stream to write to.
+	 * @param p_value value to write, read as unsigned.
+	 * @throws IOException thrown if writing fails.
+	 */
+	private static void WriteVarint(DataOutputStream p_out, int p_value) throws IOException {
+		while ((p_value & ~0x7F) != 0) {
+			p_out.writeByte((p_value & 0x7F) | 0x80);
+			p_value >>>= 7;
+		}
+		p_out.writeByte(p_value);
+	}
+
+	/**
+	 * Reads an unsigned varint.
+	 *
+	 * @param p_in stream to read from.
+	 * @return value read.
+	 * @throws IOException             thrown if reading fails.
+	 * @throws JournalFormatException thrown if the varint is longer than five
+	 *                                bytes.
+	 */
+	private static int ReadVarint(DataInputStream p_in) throws IOException, JournalFormatException {
+		int l_value = 0;
+		for (int l_shift = 0; l_shift < 35; l_shift += 7) {
+			int l_byte = p_in.readUnsignedByte();
+			l_value |= (l_byte & 0x7F) << l_shift;
+			if ((l_byte & 0x80) == 0) {
+				return l_value;
+			}
+		}
+		throw new JournalFormatException("varint is too long");
+	}
+
+	/**
+	 * A custom <code>Exception</code> class thrown when a journal cannot be
+	 * decoded.
+	 */
+	@SuppressWarnings("serial")
+	public static class JournalFormatException extends Exception {
+
+		/**
+		 * Creates a new <code>JournalFormatException</code> object.
+		 *
+		 * @param p_message exception message.
+		 */
+		public JournalFormatException(String p_message) {
+			super(p_message);
+		}
+	}
+}
@@ -1,37 +1,90 @@
 package ca.concordia.risk.utils;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
 
 import ca.concordia.risk.GameEngine;
 import ca.concordia.risk.game.Card;
 import ca.concordia.risk.game.Country;
+import ca.concordia.risk.game.GameContext;
 import ca.concordia.risk.game.GameMap;
+import ca.concordia.risk.game.MapTopology;
 import ca.concordia.risk.game.Player;
 import ca.concordia.risk.game.phases.GameplayPhase;
 import ca.concordia.risk.game.phases.MapEditorPhase;
 import ca.concordia.risk.game.phases.Phase;
 import ca.concordia.risk.game.phases.StartupPhase;
+import ca.concordia.risk.game.strategies.AggressiveStrategy;
+import ca.concordia.risk.game.strategies.BenevolentStrategy;
+import ca.concordia.risk.game.strategies.CheaterStrategy;
+import ca.concordia.risk.game.strategies.HumanStrategy;
 import ca.concordia.risk.game.strategies.PlayerStrategy;
+import ca.concordia.risk.game.strategies.RandomStrategy;
 import ca.concordia.risk.utils.MapLoader.FileParsingException;
 
 /**
  * This class provides functionality to save and load the game as its being
  * played.
+ * <p>
+ * Games are saved in a versioned binary format. A save file starts with a
+ * header made of magic bytes, a format version and flags, followed by the body:
+ * <ol>
+ * <li>the map file name and the turn number,</li>
+ * <li>for each player, its name, the code of its strategy and the number of
+ * cards it holds of each type,</li>
+ * <li>for each country of the map, in the order of the country ids, the index
+ * of its owner and its number of armies.</li>
+ * </ol>
+ * When the compressed flag is set, the body is compressed with a
+ * <code>Deflater</code>. Country ids follow from the map file, so a save can
+ * only be loaded with the map file it was saved with.
+ * <p>
+ * Saves written with Java serialization by earlier versions are still loaded.
+ * They are told apart by the magic bytes of a serialization stream.
  */
 public class GameLoader {
 
-	private static final String d_SaveDirectoryPath = "save/";
+	/** Magic bytes identifying a save file. */
+	static final int d_Magic = 0x52534156;
+	/** Version of the save format. */
+	private static final int d_Version = 1;
+	/** Magic bytes of a Java serialization stream, starting older save files. */
+	private static final int d_SerializationMagic = 0xACED;
+
+	private static final int d_CompressedFlag = 1;
+	private static final int d_NoOwner = 0;
+	private static final int d_NeutralOwner = 1;
+	private static final int d_FirstPlayerOwner = 2;
+	private static final int d_BufferSize = 1 << 16;
+
+	/**
+	 * Strategies that can be saved, indexed by their code in the save file. New
+	 * strategies must be added at the end.
+	 */
+	private static final List<Class<? extends PlayerStrategy>> d_StrategyClasses = List.of(HumanStrategy.class,
+			BenevolentStrategy.class, AggressiveStrategy.class, RandomStrategy.class, CheaterStrategy.class);
+
+	/** Card of each type, indexed by their position in the save file. */
+	private static final List<Card> d_CardTypes = List.of(Card.getBombCard(), Card.getBlockadeCard(),
+			Card.getAirliftCard(), Card.getDiplomacyCard());
 
 	/**
 	 * Saves the current game state into the save file with the given path.
@@ -40,23 +93,63 @@ public class GameLoader {
 	 * @throws GameLoaderException thrown if an error occurs while saving.
 	 */
 	public static void SaveGame(String p_saveFilePath) throws GameLoaderException {
+		SaveGame(GameEngine.GetContext(), p_saveFilePath);
+	}
+
+	/**
+	 * Saves the state of the given game into the save file with the given path,
+	 * without compressing it.
+	 * 
+	 * @param p_context      game to save.
+	 * @param p_saveFilePath path to the save file.
+	 * @throws GameLoaderException thrown if an error occurs while saving.
+	 */
+	public static void SaveGame(GameContext p_context, String p_saveFilePath) throws GameLoaderException {
+		SaveGame(p_context, p_saveFilePath, false);
+	}
+
+	/**
+	 * Saves the state of the given game into the save file with the given path.
+	 * 
+	 * @param p_context      game to save.
+	 * @param p_saveFilePath path to the save file.
+	 * @param p_compress     <code>true</code> to compress the body of the save
+	 *                       file.
+	 * @throws GameLoaderException thrown if an error occurs while saving.
+	 */
+	public static void SaveGame(GameContext p_context, String p_saveFilePath, boolean p_compress)
+			throws GameLoaderException {
 		// Ensure the active phase is Gameplay
-		if (!(GameEngine.GetActivePhase() instanceof GameplayPhase)) {
+		if (!(p_context.getActivePhase() instanceof GameplayPhase)) {
 			throw new GameLoaderException("invalid state - can only save game in Gameplay Phase");
 		}
 
 		// Create the file path if it does not already exists
-		File l_saveFile = new File(d_SaveDirectoryPath + p_saveFilePath);
+		File l_saveFile = new File(p_context.getSaveDirectory(), p_saveFilePath);
 		if (!l_saveFile.exists()) {
 			l_saveFile.getParentFile().mkdirs();
 		}
 
-		// Create the save data
-		SaveData l_saveData = BuildSaveData();
-
-		// Write the save data to the save file
-		try (ObjectOutputStream l_objectStream = new ObjectOutputStream(new FileOutputStream(l_saveFile))) {
-			l_objectStream.writeObject(l_saveData);
+		// Write the header, then the body
+		try (DataOutputStream l_out = new DataOutputStream(
+				new BufferedOutputStream(new FileOutputStream(l_saveFile), d_BufferSize))) {
+			l_out.writeInt(d_Magic);
+			l_out.writeByte(d_Version);
+			l_out.writeByte(p_compress ? d_CompressedFlag : 0);
+
+			if (p_compress) {
+				Deflater l_deflater = new Deflater(Deflater.BEST_SPEED);
+				try {
+					DataOutputStream l_body = new DataOutputStream(
+							new DeflaterOutputStream(l_out, l_deflater, d_BufferSize));
+					WriteBody(p_context, l_body);
+					l_body.close();
+				} finally {
+					l_deflater.end();
+				}
+			} else {
+				WriteBody(p_context, l_out);
+			}
 		} catch (IOException l_e) {
 			throw new GameLoaderException("error writing to the save file " + p_saveFilePath, l_e);
 		}
@@ -69,124 +162,277 @@ public class GameLoader {
 	 * @throws GameLoaderException thrown if an error occurs while loading.
 	 */
 	public static void LoadGame(String p_saveFilePath) throws GameLoaderException {
+		LoadGame(GameEngine.GetContext(), p_saveFilePath);
+	}
+
+	/**
+	 * Load the state of the given game from the save with the given path.
+	 * <p>
+	 * Both the binary save format and the serialized saves of earlier versions
+	 * are loaded.
+	 * 
+	 * @param p_context      game to restore the save into.
+	 * @param p_saveFilePath path to the save file.
+	 * @throws GameLoaderException thrown if an error occurs while loading.
+	 */
+	public static void LoadGame(GameContext p_context, String p_saveFilePath) throws GameLoaderException {
 		// Ensure the active phase is Gameplay. If it's not, switch to Gameplay phase
-		Phase l_activePhase = GameEngine.GetActivePhase();
+		Phase l_activePhase = p_context.getActivePhase();
 		if (l_activePhase instanceof MapEditorPhase) {
-			GameEngine.SwitchToNextPhase();
-			GameEngine.SwitchToNextPhase();
+			p_context.switchToNextPhase();
+			p_context.switchToNextPhase();
 		} else if (l_activePhase instanceof StartupPhase) {
-			GameEngine.SwitchToNextPhase();
+			p_context.switchToNextPhase();
 		}
 
 		// Ensure the save file exists
-		File l_saveFile = new File(d_SaveDirectoryPath + p_saveFilePath);
+		File l_saveFile = new File(p_context.getSaveDirectory(), p_saveFilePath);
 		if (!l_saveFile.exists()) {
 			throw new GameLoaderException("save file " + p_saveFilePath + " does not exist");
 		}
 
 		// Load and restore the save data
-		try (ObjectInputStream l_objectStream = new ObjectInputStream(new FileInputStream(l_saveFile))) {
-			// Load the save data from file
-			Object l_saveObject = l_objectStream.readObject();
-			// Ensure the loaded object correctly represents the save data
-			if (l_saveObject instanceof SaveData) {
-				// Restore the save data
-				SaveData l_saveData = (SaveData) l_saveObject;
-				RestoreSaveData(l_saveData);
+		try (BufferedInputStream l_stream = new BufferedInputStream(new FileInputStream(l_saveFile), d_BufferSize)) {
+			// Peek at the magic bytes to tell the format of the save file
+			DataInputStream l_in = new DataInputStream(l_stream);
+			l_stream.mark(Short.BYTES);
+			int l_magic = l_in.readUnsignedShort();
+			l_stream.reset();
+
+			if (l_magic == d_SerializationMagic) {
+				LoadSerializedGame(p_context, l_stream, p_saveFilePath);
+				return;
+			}
+
+			// Read the header
+			if (l_in.readInt() != d_Magic) {
+				throw new GameLoaderException("invalid save file " + p_saveFilePath);
+			}
+			int l_version = l_in.readUnsignedByte();
+			if (l_version != d_Version) {
+				throw new GameLoaderException(
+						"unsupported version " + l_version + " of the save file " + p_saveFilePath);
+			}
+			int l_flags = l_in.readUnsignedByte();
+
+			// Read the body
+			if ((l_flags & d_CompressedFlag) != 0) {
+				try (DataInputStream l_body = new DataInputStream(new InflaterInputStream(l_stream))) {
+					ReadBody(p_context, l_body, p_saveFilePath);
+				}
 			} else {
-				// Report invalid save data file
-				throw new GameLoaderException("invalid save file " + p_saveFilePath, null);
+				ReadBody(p_context, l_in, p_saveFilePath);
 			}
-		} catch (IOException | ClassNotFoundException l_e) {
+		} catch (IOException l_e) {
 			throw new GameLoaderException("error reading from the save file " + p_saveFilePath, l_e);
 		}
 	}
 
 	/**
-	 * Builds the save data structure from the current game state.
+	 * Writes the body of a save file from the given game state.
 	 * 
-	 * @return the built save data.
+	 * @param p_context game to save.
+	 * @param p_out     stream to write the body to.
+	 * @throws IOException         thrown if writing fails.
+	 * @throws GameLoaderException thrown if a player strategy cannot be saved.
 	 */
-	private static SaveData BuildSaveData() {
-		// Ensure the active phase is Gameplay
-		if (!(GameEngine.GetActivePhase() instanceof GameplayPhase)) {
-			throw new IllegalStateException("Invalid state: can only load game in Gameplay Phase");
-		}
-
-		// Create the new save state
-		SaveData l_saveData = new SaveData();
-
-		// Save the active map filename
-		l_saveData.d_mapFilename = GameEngine.GetActiveMapFile();
-
-		// Save turn number
-		GameplayPhase l_phase = (GameplayPhase) GameEngine.GetActivePhase();
-		l_saveData.d_turn = l_phase.getTurnNumber();
+	private static void WriteBody(GameContext p_context, DataOutputStream p_out)
+			throws IOException, GameLoaderException {
+		// Save the active map filename and the turn number
+		GameplayPhase l_phase = (GameplayPhase) p_context.getActivePhase();
+		p_out.writeUTF(p_context.getActiveMapFile());
+		p_out.writeInt(l_phase.getTurnNumber());
+
+		// Save the name, strategy and cards of each player
+		Map<Player, Integer> l_ownerIndices = new HashMap<Player, Integer>();
+		l_ownerIndices.put(p_context.getNeutralPlayer(), d_NeutralOwner);
+		p_out.writeInt(p_context.getNumberOfPlayers());
+		for (Player l_player : p_context.getPlayers()) {
+			l_ownerIndices.put(l_player, d_FirstPlayerOwner + l_ownerIndices.size() - 1);
+			p_out.writeUTF(l_player.getName());
+
+			int l_strategyCode = d_StrategyClasses.indexOf(l_player.GetStrategy().getClass());
+			if (l_strategyCode < 0) {
+				throw new GameLoaderException(
+						"strategy " + l_player.GetStrategy().getClass().getName() + " cannot be saved");
+			}
+			p_out.writeByte(l_strategyCode);
 
-		// Save player data for each players
-		Collection<Player> l_players = GameEngine.GetPlayers();
-		for (Player l_player : l_players) {
-			// Create new player data
-			SaveData.PlayerData l_playerData = new SaveData.PlayerData();
+			for (Card l_cardType : d_CardTypes) {
+				p_out.writeShort(Collections.frequency(l_player.getCards(), l_cardType));
+			}
+		}
 
-			// Save player name and strategy
-			l_playerData.d_name = l_player.getName();
-			l_playerData.d_strategy = l_player.GetStrategy().getClass().getName();
+		// Save the owner and the armies of each country
+		MapTopology l_topology = p_context.getMap().getTopology();
+		p_out.writeInt(l_topology.getNumberOfCountries());
+		for (int l_id = 0; l_id < l_topology.getNumberOfCountries(); l_id++) {
+			Country l_country = l_topology.getCountry(l_id);
+			Integer l_ownerIndex = l_ownerIndices.get(l_country.getOwner());
+			p_out.writeShort(l_ownerIndex == null ? d_NoOwner : l_ownerIndex);
+			p_out.writeInt(l_country.getArmies());
+		}
+	}
 
-			// Save player cards
-			for (Card l_card : l_player.getCards()) {
-				l_playerData.d_cards.add(l_card.toString());
+	/**
+	 * Restores the game state from the body of a save file.
+	 * 
+	 * @param p_context      game to restore the save into.
+	 * @param p_in           stream to read the body from.
+	 * @param p_saveFilePath path to the save file, for error messages.
+	 * @throws IOException         thrown if reading fails.
+	 * @throws GameLoaderException thrown if the save file is not valid.
+	 */
+	private static void ReadBody(GameContext p_context, DataInputStream p_in, String p_saveFilePath)
+			throws IOException, GameLoaderException {
+		// Load the map file and restore the game turn
+		GameMap l_map = LoadSavedMap(p_context, p_in.readUTF());
+		GameplayPhase l_phase = (GameplayPhase) p_context.getActivePhase();
+		l_phase.setTurnNumber(p_in.readInt());
+
+		// Restore the players with their strategy and cards
+		p_context.clearPlayers();
+		int l_numPlayers = p_in.readInt();
+		List<Player> l_owners = new ArrayList<Player>();
+		l_owners.add(null);
+		l_owners.add(p_context.getNeutralPlayer());
+		for (int l_i = 0; l_i < l_numPlayers; l_i++) {
+			Player l_player = new Player(p_in.readUTF(), p_context);
+			l_player.SetStrategy(CreateStrategy(p_in.readUnsignedByte(), l_player, p_context));
+			for (Card l_cardType : d_CardTypes) {
+				for (int l_count = p_in.readUnsignedShort(); l_count > 0; l_count--) {
+					l_player.addCard(l_cardType);
+				}
 			}
+			p_context.addPlayer(l_player);
+			l_owners.add(l_player);
+		}
 
-			// Save countries owned by the player as well as the number of armies deployed
-			// on them
-			for (Country l_country : l_player.getCountries()) {
-				l_playerData.d_ownedCountryDataList.put(l_country.getName(), l_country.getArmies());
+		// Restore country ownership and armies
+		MapTopology l_topology = l_map.getTopology();
+		int l_numCountries = p_in.readInt();
+		if (l_numCountries != l_topology.getNumberOfCountries()) {
+			throw new GameLoaderException("save file " + p_saveFilePath + " does not match the map file");
+		}
+		for (int l_id = 0; l_id < l_numCountries; l_id++) {
+			Country l_country = l_topology.getCountry(l_id);
+			int l_ownerIndex = p_in.readUnsignedShort();
+			if (l_ownerIndex >= l_owners.size()) {
+				throw new GameLoaderException("invalid owner of country " + l_country.getName() + " in the save file "
+						+ p_saveFilePath);
+			}
+			l_country.addArmies(p_in.readInt());
+			if (l_ownerIndex != d_NoOwner) {
+				l_map.transferOwnership(l_country, l_owners.get(l_ownerIndex));
 			}
+		}
+	}
 
-			// Add player data to the list of player data
-			l_saveData.d_playerDataList.add(l_playerData);
+	/**
+	 * Creates the strategy with the given code in the save file.
+	 * 
+	 * @param p_code    code of the strategy.
+	 * @param p_player  player using the strategy.
+	 * @param p_context game the player belongs to.
+	 * @return created strategy.
+	 * @throws GameLoaderException thrown if the code is unknown.
+	 */
+	private static PlayerStrategy CreateStrategy(int p_code, Player p_player, GameContext p_context)
+			throws GameLoaderException {
+		if (p_code >= d_StrategyClasses.size()) {
+			throw new GameLoaderException("unknown strategy code " + p_code);
+		}
+		Class<? extends PlayerStrategy> l_strategyClass = d_StrategyClasses.get(p_code);
+		if (l_strategyClass == HumanStrategy.class) {
+			return new HumanStrategy(p_player, p_context);
+		} else if (l_strategyClass == BenevolentStrategy.class) {
+			return new BenevolentStrategy(p_player, p_context);
+		} else if (l_strategyClass == AggressiveStrategy.class) {
+			return new AggressiveStrategy(p_player, p_context);
+		} else if (l_strategyClass == RandomStrategy.class) {
+			return new RandomStrategy(p_player, p_context);
+		} else if (l_strategyClass == CheaterStrategy.class) {
+			return new CheaterStrategy(p_player, p_context);
 		}
+		throw new GameLoaderException("strategy " + l_strategyClass.getName() + " cannot be loaded");
+	}
 
-		// Save country data for neutral player
-		l_saveData.d_neutralPlayerData = new SaveData.PlayerData();
-		for (Country l_country : GameEngine.GetNeutralPlayer().getCountries()) {
-			l_saveData.d_neutralPlayerData.d_ownedCountryDataList.put(l_country.getName(), l_country.getArmies());
+	/**
+	 * Loads the map file of a save and sets it as the map of the game.
+	 * 
+	 * @param p_context     game to restore the save into.
+	 * @param p_mapFilename path to the map file.
+	 * @return loaded map.
+	 * @throws GameLoaderException thrown if loading the map file fails.
+	 */
+	private static GameMap LoadSavedMap(GameContext p_context, String p_mapFilename) throws GameLoaderException {
+		try {
+			GameMap l_map = MapLoader.LoadMap(p_mapFilename);
+			l_map.freeze();
+			p_context.setMap(l_map);
+			p_context.setActiveMapFile(p_mapFilename);
+			return l_map;
+		} catch (FileNotFoundException | FileParsingException l_e) {
+			// Report map loading error
+			throw new GameLoaderException("failed to load the map file " + p_mapFilename, l_e);
 		}
+	}
 
-		// Return built save data
-		return l_saveData;
+	/**
+	 * Loads a save file written with Java serialization by earlier versions.
+	 * 
+	 * @param p_context      game to restore the save into.
+	 * @param p_in           stream to read the save file from.
+	 * @param p_saveFilePath path to the save file, for error messages.
+	 * @throws IOException         thrown if reading fails.
+	 * @throws GameLoaderException thrown if the save file is not valid.
+	 */
+	private static void LoadSerializedGame(GameContext p_context, BufferedInputStream p_in, String p_saveFilePath)
+			throws IOException, GameLoaderException {
+		try (ObjectInputStream l_objectStream = new ObjectInputStream(p_in)) {
+			// Load the save data from file
+			Object l_saveObject = l_objectStream.readObject();
+			// Ensure the loaded object correctly represents the save data
+			if (l_saveObject instanceof SaveData) {
+				// Restore the save data
+				SaveData l_saveData = (SaveData) l_saveObject;
+				RestoreSaveData(p_context, l_saveData);
+			} else {
+				// Report invalid save data file
+				throw new GameLoaderException("invalid save file " + p_saveFilePath, null);
+			}
+		} catch (ClassNotFoundException l_e) {
+			throw new GameLoaderException("error reading from the save file " + p_saveFilePath, l_e);
+		}
 	}
 
 	/**
-	 * Restores the game state using the given save data.
+	 * Restores the game state using the given serialized save data.
 	 * 
+	 * @param p_context  game to restore the save data into.
 	 * @param p_saveData save data to restore.
 	 * @throws GameLoaderException thrown if an error occurs while restoring the
 	 *                             save data.
 	 */
-	private static void RestoreSaveData(SaveData p_saveData) throws GameLoaderException {
+	private static void RestoreSaveData(GameContext p_context, SaveData p_saveData) throws GameLoaderException {
 		// Load the map file
+		GameMap l_map = LoadSavedMap(p_context, p_saveData.d_mapFilename);
 		try {
-			GameMap l_map = MapLoader.LoadMap(p_saveData.d_mapFilename);
-			GameEngine.SetMap(l_map);
-			GameEngine.SetActiveMapFile(p_saveData.d_mapFilename);
-
 			// Restore the game turn
-			GameplayPhase l_phase = (GameplayPhase) GameEngine.GetActivePhase();
+			GameplayPhase l_phase = (GameplayPhase) p_context.getActivePhase();
 			l_phase.setTurnNumber(p_saveData.d_turn);
 
 			// Restore players and countries
-			GameEngine.ClearPlayers();
+			p_context.clearPlayers();
 			for (SaveData.PlayerData l_playerData : p_saveData.d_playerDataList) {
 				// Create a player with save name
-				Player l_player = new Player(l_playerData.d_name);
+				Player l_player = new Player(l_playerData.d_name, p_context);
 
 				// Restore player strategy
 				Class<?> l_strategyClass;
 				l_strategyClass = Class.forName(l_playerData.d_strategy);
-				PlayerStrategy l_strategy = (PlayerStrategy) l_strategyClass.getConstructor(Player.class)
-						.newInstance(l_player);
+				PlayerStrategy l_strategy = (PlayerStrategy) l_strategyClass
+						.getConstructor(Player.class, GameContext.class).newInstance(l_player, p_context);
 				l_player.SetStrategy(l_strategy);
 
 				// Restore player cards
@@ -195,7 +441,7 @@ public class GameLoader {
 				}
 
 				// Add the player to the game
-				GameEngine.AddPlayer(l_player);
+				p_context.addPlayer(l_player);
 
 				// Restore country ownership and armies
 				for (Entry<String, Integer> l_countryData : l_playerData.d_ownedCountryDataList.entrySet()) {
@@ -204,13 +450,12 @@ public class GameLoader {
 					// Restore armies
 					l_country.addArmies(l_countryData.getValue());
 					// Restore ownership
-					l_player.addCountry(l_country);
-					l_country.setOwner(l_player);
+					l_map.transferOwnership(l_country, l_player);
 				}
 			}
 
 			// Restore neutral player countries
-			Player l_neutralPlayer = GameEngine.GetNeutralPlayer();
+			Player l_neutralPlayer = p_context.getNeutralPlayer();
 			SaveData.PlayerData l_neutralPlayerData = p_saveData.d_neutralPlayerData;
 			for (Entry<String, Integer> l_countryData : l_neutralPlayerData.d_ownedCountryDataList.entrySet()) {
 				// Find the target country
@@ -218,12 +463,8 @@ public class GameLoader {
 				// Restore armies
 				l_country.addArmies(l_countryData.getValue());
 				// Restore ownership
-				l_neutralPlayer.addCountry(l_country);
-				l_country.setOwner(l_neutralPlayer);
+				l_map.transferOwnership(l_country, l_neutralPlayer);
 			}
-		} catch (FileNotFoundException | FileParsingException l_e) {
-			// Report map loading error
-			throw new GameLoaderException("failed to load the map file " + p_saveData.d_mapFilename, l_e);
 		} catch (ReflectiveOperationException l_e) {
 			// Report reflection error when restoring the strategy class
 			throw new GameLoaderException("failed restore the strategy class", l_e);
@@ -232,31 +473,33 @@ public class GameLoader {
 
 	/**
 	 * Serializable data class that store the game save data.
+	 * <p>
+	 * Only used to load the serialized saves of earlier versions.
 	 */
-	private static class SaveData implements Serializable {
+	static class SaveData implements Serializable {
 
 		// Coding convention violated, because Serial ID has to have the exact name as
 		// required by Serializable
 		private static final long serialVersionUID = 5396464616800481951L;
 
-		private int d_turn;
-		private String d_mapFilename;
-		private ArrayList<PlayerData> d_playerDataList = new ArrayList<PlayerData>();
-		private PlayerData d_neutralPlayerData;
+		int d_turn;
+		String d_mapFilename;
+		ArrayList<PlayerData> d_playerDataList = new ArrayList<PlayerData>();
+		PlayerData d_neutralPlayerData;
 
 		/**
 		 * Serializable data class that stores the save data of a Player.
 		 */
-		private static class PlayerData implements Serializable {
+		static class PlayerData implements Serializable {
 
 			// Coding convention violated, because Serial ID has to have the exact name as
 			// required by Serializable
 			private static final long serialVersionUID = 7598765309358696165L;
 
-			private String d_name;
-			private String d_strategy;
-			private ArrayList<String> d_cards = new ArrayList<String>();
-			private HashMap<String, Integer> d_ownedCountryDataList = new HashMap<String, Integer>();
+			String d_name;
+			String d_strategy;
+			ArrayList<String> d_cards = new ArrayList<String>();
+			HashMap<String, Integer> d_ownedCountryDataList = new HashMap<String, Integer>();
 		}
 	}
 
@@ -0,0 +1,199 @@
+package ca.concordia.risk.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import ca.concordia.risk.game.Continent;
+import ca.concordia.risk.game.Country;
+import ca.concordia.risk.game.GameMap;
+import ca.concordia.risk.game.TopologyListener;
+
+/**
+ * This class keeps the validation result of a map up to date while the map is
+ * edited.
+ * <p>
+ * The validator is attached to the map as a <code>TopologyListener</code> and
+ * keeps the last <code>ValidationResult</code> until an edit may have changed
+ * it:
+ * <ul>
+ * <li>Adding a border to a valid map keeps it valid, as the map and the
+ * continent subgraphs only gain borders.</li>
+ * <li>Removing a border from a valid map keeps it valid if the neighbor can
+ * still be reached from the country, in the map and, for a border inside a
+ * continent, in the continent. This is checked with a search that stops as soon
+ * as the neighbor is reached. Past a few removed borders, one full check is
+ * cheaper than a search per border, so the map is checked again instead.</li>
+ * <li>Any other edit, or any edit of an invalid map, runs
+ * <code>MapValidator.Check()</code> again, which takes linear time.</li>
+ * </ul>
+ * Checks are only run when the result is requested, so a batch of edits costs
+ * at most one check.
+ */
+public class IncrementalValidator implements TopologyListener {
+
+	/** Number of removed borders above which the map is checked again instead. */
+	private static final int d_MaxRemovedBorders = 8;
+
+	private GameMap d_map;
+	private ValidationResult d_result;
+	private List<Country[]> d_removedBorders = new ArrayList<Country[]>();
+
+	/**
+	 * Creates a new incremental validator and attaches it to a map.
+	 *
+	 * @param p_map map to validate.
+	 */
+	public IncrementalValidator(GameMap p_map) {
+		d_map = p_map;
+		d_map.attachTopologyListener(this);
+	}
+
+	/** Detaches the validator from its map. */
+	public void detach() {
+		d_map.detachTopologyListener(this);
+	}
+
+	/**
+	 * Gets the validation result of the map as it is now.
+	 *
+	 * @return validation result.
+	 */
+	public ValidationResult getResult() {
+		if (d_result != null && !d_removedBorders.isEmpty()) {
+			for (Country[] l_border : d_removedBorders) {
+				if (!isRemovalSafe(l_border[0], l_border[1])) {
+					d_result = null;
+					break;
+				}
+			}
+			d_removedBorders.clear();
+		}
+
+		if (d_result == null) {
+			d_result = MapValidator.Check(d_map);
+		}
+		return d_result;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Adding a border keeps a valid map valid.
+	 */
+	@Override
+	public void onNeighborAdded(Country p_country, Country p_neighbor) {
+		if (d_result != null && !d_result.isValid()) {
+			invalidate();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Removed borders of a valid map are checked when the result is next
+	 * requested, unless too many borders are removed before that.
+	 */
+	@Override
+	public void onNeighborRemoved(Country p_country, Country p_neighbor) {
+		if (d_result != null && d_result.isValid() && d_removedBorders.size() < d_MaxRemovedBorders) {
+			d_removedBorders.add(new Country[] { p_country, p_neighbor });
+		} else {
+			invalidate();
+		}
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void onCountryAdded(Country p_country) {
+		invalidate();
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void onCountryRemoved(Country p_country) {
+		invalidate();
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void onContinentAdded(Continent p_continent) {
+		invalidate();
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void onContinentRemoved(Continent p_continent) {
+		invalidate();
+	}
+
+	/** Discards the last validation result. */
+	private void invalidate() {
+		d_result = null;
+		d_removedBorders.clear();
+	}
+
+	/**
+	 * Checks that a map which was valid before a border was removed is still
+	 * valid.
+	 * <p>
+	 * Every path of the map that used the border can go through a path between
+	 * its two countries instead, so the map stays strongly connected if the
+	 * neighbor can still be reached from the country. The same holds for the
+	 * continent of a border between two countries of the same continent.
+	 *
+	 * @param p_country  country the border started from.
+	 * @param p_neighbor former neighbor of the country.
+	 * @return <code>true</code> if the map is still valid.<br>
+	 *         <code>false</code> if the map has to be checked again.
+	 */
+	private boolean isRemovalSafe(Country p_country, Country p_neighbor) {
+		if (p_country.getMap() != d_map || p_neighbor.getMap() != d_map) {
+			return false;
+		}
+		if (p_country.getNeighbors().contains(p_neighbor)) {
+			return true;
+		}
+
+		if (!IsReachable(p_country, p_neighbor, null)) {
+			return false;
+		}
+		Continent l_continent = p_country.getContinent();
+		return l_continent != p_neighbor.getContinent() || IsReachable(p_country, p_neighbor, l_continent);
+	}
+
+	/**
+	 * Searches the borders of the map from a country until a target country is
+	 * reached.
+	 *
+	 * @param p_start     country to start from.
+	 * @param p_target    country to reach.
+	 * @param p_continent continent to search within, or <code>null</code> to
+	 *                    search the whole map.
+	 * @return <code>true</code> if the target country can be reached.<br>
+	 *         <code>false</code> otherwise.
+	 */
+	private static boolean IsReachable(Country p_start, Country p_target, Continent p_continent) {
+		Set<Country> l_visited = new HashSet<Country>();
+		Deque<Country> l_stack = new ArrayDeque<Country>();
+		l_visited.add(p_start);
+		l_stack.push(p_start);
+
+		while (!l_stack.isEmpty()) {
+			for (Country l_neighbor : l_stack.pop().getNeighbors()) {
+				if (l_neighbor == p_target) {
+					return true;
+				}
+				if (l_neighbor.getMap() == p_start.getMap()
+						&& (p_continent == null || l_neighbor.getContinent() == p_continent) && l_visited.add(l_neighbor)) {
+					l_stack.push(l_neighbor);
+				}
+			}
+		}
+
+		return false;
+	}
+}
@@ -1,31 +1,111 @@
 package ca.concordia.risk.utils;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
- * This class keeps a log entry of the latest gameplay event.
+ * This class keeps the latest gameplay event of the game log.
  * <p>
  * <code>LogEntryBuffer</code> is an Observable, notifying attached observers
- * whenever changes to its internal log entry buffer occur.
+ * whenever a new event is written to it. Events are kept as a
+ * <code>LogEvent</code> and only formatted when an observer reads the buffer
+ * content. Events of a disabled level, and all events while no observer is
+ * attached, are dropped before any event is created.
  */
 public class LogEntryBuffer extends Observable {
 
-	private String d_buffer;
+	private Set<LogLevel> d_enabledLevels = EnumSet.allOf(LogLevel.class);
+	private LogEvent d_event;
+
+	/**
+	 * Sets the levels of the events kept by the buffer.
+	 *
+	 * @param p_levels levels to enable, all other levels are disabled.
+	 */
+	public void setEnabledLevels(Set<LogLevel> p_levels) {
+		d_enabledLevels = p_levels.isEmpty() ? EnumSet.noneOf(LogLevel.class) : EnumSet.copyOf(p_levels);
+	}
+
+	/**
+	 * Checks if events of a level would be passed on to observers.
+	 * <p>
+	 * Callers can check this before gathering the values of an event.
+	 *
+	 * @param p_level level to check.
+	 * @return <code>true</code> if the level is enabled and an observer is
+	 *         attached.<br>
+	 *         <code>false</code> otherwise.
+	 */
+	public boolean isEnabled(LogLevel p_level) {
+		return d_enabledLevels.contains(p_level) && hasObservers();
+	}
+
+	/**
+	 * Sets the buffer to a new event and notifies the observers, unless the level
+	 * of the event is disabled.
+	 *
+	 * @param p_type   type of the event.
+	 * @param p_values values describing the event.
+	 */
+	public void write(LogEvent.Type p_type, Object... p_values) {
+		if (isEnabled(p_type.getLevel())) {
+			d_event = new LogEvent(p_type, p_values);
+			notifyObservers();
+		}
+	}
 
 	/**
-	 * Sets the buffer to a log message.
-	 * 
+	 * Sets the buffer to an event and notifies the observers, unless the level of
+	 * the event is disabled.
+	 *
+	 * @param p_event event to write.
+	 */
+	public void write(LogEvent p_event) {
+		if (isEnabled(p_event.getLevel())) {
+			d_event = p_event;
+			notifyObservers();
+		}
+	}
+
+	/**
+	 * Sets the buffer to a free text log message.
+	 *
 	 * @param p_logMessage log message to set the buffer to.
 	 */
 	public void write(String p_logMessage) {
-		d_buffer = p_logMessage + "\n";
-		notifyObservers();
+		write(LogEvent.Type.MESSAGE, p_logMessage);
+	}
+
+	/**
+	 * Gets the latest event of the buffer.
+	 *
+	 * @return latest event.
+	 */
+	public LogEvent getEvent() {
+		return d_event;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The snapshot holds the latest event, which is not changed by later writes.
+	 */
+	@Override
+	public LogEntryBuffer getSnapshot() {
+		LogEntryBuffer l_snapshot = new LogEntryBuffer();
+		l_snapshot.d_enabledLevels = d_enabledLevels;
+		l_snapshot.d_event = d_event;
+		return l_snapshot;
 	}
 
 	/**
 	 * Returns the contents of the buffer.
-	 * 
+	 * <p>
+	 * The latest event is formatted on each call.
+	 *
 	 * @return string representing the buffer contents.
 	 */
 	public String getBufferContent() {
-		return d_buffer;
+		return d_event == null ? null : d_event.format() + "\n";
 	}
 }
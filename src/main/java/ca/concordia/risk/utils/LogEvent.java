@@ -0,0 +1,275 @@
+package ca.concordia.risk.utils;
+
+import java.util.Locale;
+
+/**
+ * This class represents an event of the game log.
+ * <p>
+ * An event only holds its type and the values describing it, such as player
+ * names and numbers of armies. The text of the event is built when
+ * <code>format()</code> is called, so events nobody reads cost no string work.
+ * <p>
+ * Values are integers, strings, or other events, such as the status event of an
+ * issued order, which are formatted in place.
+ * <p>
+ * Values are kept boxed in one array rather than in primitive fields, as the
+ * event types take different numbers and kinds of values. The boxing only
+ * happens for events that are logged: <code>LogEntryBuffer</code> creates no
+ * event for a disabled level, and the gameplay loop checks
+ * <code>LogEntryBuffer.isEnabled()</code> before gathering the values of order
+ * and battle events.
+ */
+public class LogEvent {
+
+	/** Types of game log events, with their level and text pattern. */
+	public enum Type {
+		/** The game started. */
+		GAME_STARTED(LogLevel.TURN, "Game started"),
+		/** The game ended. */
+		GAME_ENDED(LogLevel.TURN, "\nGame Ended"),
+		/** The game was interrupted mid-turn. */
+		GAME_INTERRUPTED(LogLevel.TURN, "Game interrupted"),
+		/** The game was restarted from a turn. Values: turn number. */
+		GAME_RESTARTED(LogLevel.TURN, "\nGame restarted from turn %d"),
+		/** A turn started. Values: turn number. */
+		TURN_STARTED(LogLevel.TURN, "\nTurn %d begins"),
+		/** Reinforcements are about to be assigned. */
+		ASSIGNING_REINFORCEMENTS(LogLevel.DEBUG, "\nAssigning reinforcements..."),
+		/** A player was assigned reinforcements. Values: player, reinforcements. */
+		REINFORCEMENTS_ASSIGNED(LogLevel.TURN, "Player %s assigned %d reinforcements"),
+		/** Cards are about to be issued. */
+		ISSUING_CARDS(LogLevel.DEBUG, "\nIssuing cards..."),
+		/** A player was issued a card. Values: player, card. */
+		CARD_ISSUED(LogLevel.TURN, "Player %s issued %s"),
+		/** Orders are about to be issued. */
+		ISSUING_ORDERS(LogLevel.DEBUG, "\nIssuing orders..."),
+		/** A player finished issuing orders. Values: player. */
+		PLAYER_PASSED(LogLevel.ORDER, "Player %s passed"),
+		/** A player issued an order. Values: player, status event of the order. */
+		ORDER_ISSUED(LogLevel.ORDER, "Player %s issued order: %s"),
+		/** Orders are about to be executed. */
+		EXECUTING_ORDERS(LogLevel.DEBUG, "\nExecuting orders..."),
+		/** A player was eliminated. Values: player. */
+		PLAYER_ELIMINATED(LogLevel.TURN, "\nPlayer %s eliminated"),
+		/** A player won the game. Values: player, turn number. */
+		PLAYER_WON(LogLevel.TURN, "\nPlayer %s wins the game in %d turns"),
+		/** The turn limit was reached. Values: turn limit. */
+		TURN_LIMIT_REACHED(LogLevel.TURN, "\nTurn limit of %d turns reached. The game is a draw"),
+		/** A free text message. Values: message. */
+		MESSAGE(LogLevel.DEBUG, "%s"),
+
+		/** A deploy order was issued. Values: armies, country. */
+		DEPLOY_ISSUED(LogLevel.ORDER, "deploy %d armies to %s"),
+		/** Armies were deployed. Values: player, armies, country. */
+		DEPLOYED(LogLevel.ORDER, "%s deployed %d armies to %s"),
+		/** A deploy order failed. Values: country, player. */
+		DEPLOY_FAILED_NOT_OWNED(LogLevel.ORDER, "Deployment failed: %s not owned by %s"),
+
+		/** An advance order was issued. Values: armies, source, target. */
+		ADVANCE_ISSUED(LogLevel.ORDER, "advance %d armies from %s to %s"),
+		/** Armies were advanced. Values: player, armies, source, target. */
+		ADVANCED(LogLevel.ORDER, "%s advanced %d armies from %s to %s"),
+		/**
+		 * Fewer armies than requested were advanced. Values: player, armies,
+		 * requested armies, source, target.
+		 */
+		ADVANCED_REDUCED(LogLevel.ORDER, "%s advanced %d armies (out of %d requested) from %s to %s"),
+		/** An advance order failed. Values: source, player. */
+		ADVANCE_FAILED_NOT_OWNED(LogLevel.ORDER, "Advance failed: %s not owned by %s"),
+		/** An advance order failed. Values: player, other player. */
+		ADVANCE_FAILED_NEGOTIATING(LogLevel.ORDER, "Advance failed: players %s and %s are currently negotiating"),
+		/** An advance order failed. Values: source. */
+		ADVANCE_FAILED_NO_ARMIES(LogLevel.ORDER, "Advance failed: %s has no armies"),
+		/**
+		 * A country was conquered. Values: player, target, defender, source,
+		 * attacker armies, defender armies, remaining attacker armies.
+		 */
+		ATTACK_CONQUERED(LogLevel.BATTLE,
+				"%s attacked %s belonging to %s from %s. Attacker armies: %d, defender armies: %d. "
+						+ "Country conquered succesfully with %d armies remaining"),
+		/**
+		 * A country was conquered with fewer armies than requested. Values: player,
+		 * target, defender, source, attacker armies, requested armies, defender
+		 * armies, remaining attacker armies.
+		 */
+		ATTACK_CONQUERED_REDUCED(LogLevel.BATTLE,
+				"%s attacked %s belonging to %s from %s. Attacker armies: %d (out of %d requested), "
+						+ "defender armies: %d. Country conquered succesfully with %d armies remaining"),
+		/**
+		 * An attack was repelled. Values: player, target, defender, source, attacker
+		 * armies, defender armies, remaining attacker armies, remaining defender
+		 * armies.
+		 */
+		ATTACK_REPELLED(LogLevel.BATTLE,
+				"%s attacked %s belonging to %s from %s. Attacker armies: %d, defender armies: %d. "
+						+ "Country was not conquered. %d attacker armies and %d defender armies remained."),
+		/**
+		 * An attack with fewer armies than requested was repelled. Values: player,
+		 * target, defender, source, attacker armies, requested armies, defender
+		 * armies, remaining attacker armies, remaining defender armies.
+		 */
+		ATTACK_REPELLED_REDUCED(LogLevel.BATTLE,
+				"%s attacked %s belonging to %s from %s. Attacker armies: %d (out of %d requested), "
+						+ "defender armies: %d. Country was not conquered. %d attacker armies and %d defender "
+						+ "armies remained."),
+
+		/** An airlift order was issued. Values: armies, source, target. */
+		AIRLIFT_ISSUED(LogLevel.ORDER, "airlift %d armies from %s to %s"),
+		/** Armies were airlifted. Values: player, armies, source, target. */
+		AIRLIFTED(LogLevel.ORDER, "%s airlift %d armies from %s to %s"),
+		/**
+		 * Fewer armies than requested were airlifted. Values: player, armies,
+		 * requested armies, source, target.
+		 */
+		AIRLIFTED_REDUCED(LogLevel.ORDER, "%s airlift %d armies (out of %d requested) from %s to %s"),
+		/** An airlift order failed. Values: country, player. */
+		AIRLIFT_FAILED_NOT_OWNED(LogLevel.ORDER, "Airlift failed: %s not owned by %s"),
+		/** An airlift order failed. Values: source. */
+		AIRLIFT_FAILED_NO_ARMIES(LogLevel.ORDER, "Airlift failed: %s has no armies"),
+
+		/** A bomb order was issued. Values: country. */
+		BOMB_ISSUED(LogLevel.ORDER, "bomb %s"),
+		/** A country was bombed. Values: player, country. */
+		BOMBED(LogLevel.ORDER, "%s bombed the country %s"),
+		/** A bomb order failed. Values: player. */
+		BOMB_FAILED_OWNED(LogLevel.ORDER, "Bombing failed: %s owns the country to be bombed"),
+		/** A bomb order failed. Values: country, player. */
+		BOMB_FAILED_NOT_ADJACENT(LogLevel.ORDER,
+				"Bombing failed: country %s is not adjacent to any country owned by %s"),
+		/** A bomb order failed. Values: player, other player. */
+		BOMB_FAILED_NEGOTIATING(LogLevel.ORDER, "Bombing failed: players %s and %s are currently negotiating"),
+
+		/** A blockade order was issued. Values: country. */
+		BLOCKADE_ISSUED(LogLevel.ORDER, "blockade %s"),
+		/** A country was blockaded. Values: player, country. */
+		BLOCKADED(LogLevel.ORDER, "%s blockaded %s"),
+		/** A blockade order failed. Values: country, player. */
+		BLOCKADE_FAILED_NOT_OWNED(LogLevel.ORDER, "Blockade failed: %s is not owned by %s"),
+
+		/** A negotiate order was issued. Values: other player. */
+		NEGOTIATE_ISSUED(LogLevel.ORDER, "negotiate with %s"),
+		/** Two players started negotiating. Values: player, other player. */
+		NEGOTIATED(LogLevel.ORDER, "Player %s negotiating with %s");
+
+		private final LogLevel d_level;
+		private final String d_pattern;
+		private final char[] d_valueKinds;
+
+		/**
+		 * Creates a new event type.
+		 *
+		 * @param p_level   level of the events of this type.
+		 * @param p_pattern pattern the values of the event are formatted with.
+		 */
+		private Type(LogLevel p_level, String p_pattern) {
+			d_level = p_level;
+			d_pattern = p_pattern;
+
+			// Keep the conversion of each value of the pattern
+			StringBuilder l_kinds = new StringBuilder();
+			for (int l_i = p_pattern.indexOf('%'); l_i >= 0; l_i = p_pattern.indexOf('%', l_i + 2)) {
+				l_kinds.append(p_pattern.charAt(l_i + 1));
+			}
+			d_valueKinds = l_kinds.toString().toCharArray();
+		}
+
+		/**
+		 * Gets the level of the events of this type.
+		 *
+		 * @return event level.
+		 */
+		public LogLevel getLevel() {
+			return d_level;
+		}
+
+		/**
+		 * Gets the number of values of the events of this type.
+		 *
+		 * @return number of values.
+		 */
+		public int getNumValues() {
+			return d_valueKinds.length;
+		}
+
+		/**
+		 * Checks if a value of the events of this type is an integer.
+		 *
+		 * @param p_index index of the value.
+		 * @return <code>true</code> if the value is an integer.<br>
+		 *         <code>false</code> if the value is a name or an event.
+		 */
+		public boolean isIntValue(int p_index) {
+			return d_valueKinds[p_index] == 'd';
+		}
+	}
+
+	private Type d_type;
+	private Object[] d_values;
+
+	/**
+	 * Creates a new <code>LogEvent</code>.
+	 *
+	 * @param p_type   type of the event.
+	 * @param p_values values describing the event, in the order of the type
+	 *                 pattern.
+	 */
+	public LogEvent(Type p_type, Object... p_values) {
+		d_type = p_type;
+		d_values = p_values;
+	}
+
+	/**
+	 * Gets the type of the event.
+	 *
+	 * @return event type.
+	 */
+	public Type getType() {
+		return d_type;
+	}
+
+	/**
+	 * Gets the level of the event.
+	 *
+	 * @return event level.
+	 */
+	public LogLevel getLevel() {
+		return d_type.getLevel();
+	}
+
+	/**
+	 * Gets the number of values describing the event.
+	 *
+	 * @return number of values.
+	 */
+	public int getNumValues() {
+		return d_values.length;
+	}
+
+	/**
+	 * Gets a value describing the event.
+	 *
+	 * @param p_index index of the value.
+	 * @return value at the given index.
+	 */
+	public Object getValue(int p_index) {
+		return d_values[p_index];
+	}
+
+	/**
+	 * Builds the text of the event.
+	 *
+	 * @return text of the event.
+	 */
+	public String format() {
+		if (d_values.length == 0) {
+			return d_type.d_pattern;
+		}
+
+		Object[] l_args = new Object[d_values.length];
+		for (int l_i = 0; l_i < d_values.length; l_i++) {
+			Object l_value = d_values[l_i];
+			l_args[l_i] = l_value instanceof LogEvent ? ((LogEvent) l_value).format() : l_value;
+		}
+		return String.format(Locale.ROOT, d_type.d_pattern, l_args);
+	}
+}
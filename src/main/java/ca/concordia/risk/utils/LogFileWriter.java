@@ -2,69 +2,150 @@ package ca.concordia.risk.utils;
 
 import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
-import java.io.OutputStreamWriter;
-import java.io.PrintWriter;
+import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.text.SimpleDateFormat;
-import java.util.Date;
 
 /**
  * This class represents a log file writer.
  * <p>
  * It acts as an observer of <code>LogEntryBuffer</code> and updates the content
- * of the log file whenever it is notified that the buffer changed.
+ * of the log file whenever it is notified that the buffer changed. Events are
+ * handed as is to an <code>AsyncLogWriter</code>, which formats and writes them
+ * on its own thread, so logging an event neither formats it nor waits for the
+ * disk.
+ * <p>
+ * Each game logs to its own file, <code>game-&lt;id&gt;.log</code> in the log
+ * directory, named after the game id. The file is a
+ * <code>RotatingFileWriter</code>: it is rotated once it reaches the maximum
+ * segment size, and rotated segments are compressed in the background. Only
+ * the most recent rotated segments are kept, so a long game cannot fill the
+ * disk.
  */
 public class LogFileWriter implements Observer {
 
-	private static final String d_LogFilePath = "logs/gamelog";
-	private static final String d_LogFileExtension = ".log";
+	private static final String d_LogFilePrefix = "game-";
 	private static final Charset d_Encoding = StandardCharsets.ISO_8859_1;
-	private static final boolean d_UseTimestamps = false;
+	private static final int d_BufferCapacity = 4096;
+	private static final long d_DefaultMaxSegmentSize = 16L << 20;
+	private static final int d_DefaultMaxRotatedSegments = 8;
+
+	private AsyncLogWriter.OverflowPolicy d_overflowPolicy;
+	private long d_maxSegmentSize;
+	private int d_maxRotatedSegments;
+	private AsyncLogWriter d_logWriter;
 
-	private PrintWriter d_logWriter;
+	/**
+	 * Creates a new log file writer that waits for free space when too many
+	 * entries are pending.
+	 */
+	public LogFileWriter() {
+		this(AsyncLogWriter.OverflowPolicy.BLOCK);
+	}
 
 	/**
-	 * Opens the game log file to write the logs to.
+	 * Creates a new log file writer.
+	 * 
+	 * @param p_overflowPolicy policy applied when too many entries are pending.
+	 */
+	public LogFileWriter(AsyncLogWriter.OverflowPolicy p_overflowPolicy) {
+		this(p_overflowPolicy, d_DefaultMaxSegmentSize, d_DefaultMaxRotatedSegments);
+	}
+
+	/**
+	 * Creates a new log file writer.
+	 * 
+	 * @param p_overflowPolicy     policy applied when too many entries are
+	 *                             pending.
+	 * @param p_maxSegmentSize     number of bytes after which the log file is
+	 *                             rotated.
+	 * @param p_maxRotatedSegments number of rotated segments kept, older ones are
+	 *                             deleted.
+	 */
+	public LogFileWriter(AsyncLogWriter.OverflowPolicy p_overflowPolicy, long p_maxSegmentSize,
+			int p_maxRotatedSegments) {
+		d_overflowPolicy = p_overflowPolicy;
+		d_maxSegmentSize = p_maxSegmentSize;
+		d_maxRotatedSegments = p_maxRotatedSegments;
+	}
+
+	/**
+	 * Opens the log file of a game to write the logs to.
 	 * <p>
 	 * Creates the the log file if it does not exist.
 	 * 
+	 * @param p_logDirectory path of the directory to write the log file to.
+	 * @param p_gameId       id of the game, naming the log file.
 	 * @throws FileNotFoundException thrown if opening the log file fails.
 	 */
-	public void openLogFile() throws FileNotFoundException {
-		String l_timeStamp = "";
-		if (d_UseTimestamps) {
-			l_timeStamp = new SimpleDateFormat("yyyyMMddHHmmssSSS").format(new Date());
-		}
+	public void openLogFile(String p_logDirectory, String p_gameId) throws FileNotFoundException {
+		String l_basePath = new File(p_logDirectory, d_LogFilePrefix + p_gameId).getPath();
+		RotatingFileWriter l_file = new RotatingFileWriter(l_basePath, d_maxSegmentSize, d_maxRotatedSegments,
+				d_Encoding);
+		d_logWriter = new AsyncLogWriter(l_file, d_BufferCapacity, d_overflowPolicy);
+	}
 
-		File l_logFile = new File(d_LogFilePath + l_timeStamp + d_LogFileExtension);
-		if (!l_logFile.exists()) {
-			l_logFile.getParentFile().mkdirs();
+	/**
+	 * Waits until every entry logged so far is written to the log file.
+	 */
+	public void flush() {
+		if (d_logWriter != null) {
+			d_logWriter.flush();
 		}
+	}
 
-		d_logWriter = new PrintWriter(new OutputStreamWriter(new FileOutputStream(l_logFile, false), d_Encoding));
+	/**
+	 * Writes the number of log entries another log sink dropped to the log file.
+	 * <p>
+	 * Pending entries are written first, so the report is not dropped itself.
+	 * 
+	 * @param p_sinkName   name of the sink that dropped entries.
+	 * @param p_numDropped number of entries dropped by the sink.
+	 */
+	public void reportDropped(String p_sinkName, long p_numDropped) {
+		if (d_logWriter != null) {
+			d_logWriter.flush();
+			d_logWriter.append(p_numDropped + " log entries were dropped by " + p_sinkName + "\n");
+		}
 	}
 
 	/**
 	 * Closes the log file.
+	 * <p>
+	 * Pending entries are written first. If entries were dropped, their number is
+	 * written at the end of the log file. Waits until the rotated segments of the
+	 * log file are compressed.
 	 */
 	public void closeLogFile() {
-		d_logWriter.close();
+		if (d_logWriter != null) {
+			d_logWriter.flush();
+			long l_numDropped = d_logWriter.getDroppedCount();
+			if (l_numDropped > 0) {
+				d_logWriter.append(l_numDropped + " log entries were dropped\n");
+			}
+
+			try {
+				d_logWriter.close();
+			} catch (IOException l_e) {
+				// Like a failed write, a failed close only loses log entries
+			}
+			d_logWriter = null;
+		}
 	}
 
 	/**
 	 * {@inheritDoc}
 	 * <p>
-	 * Writes updated log buffer content to the log file.
+	 * Writes the latest event of the log buffer to the log file. The event is
+	 * formatted by the writer thread.
 	 */
 	@Override
 	public void update(Observable p_observable) {
 		if (p_observable instanceof LogEntryBuffer) {
-			LogEntryBuffer l_entryBuffer = (LogEntryBuffer) p_observable;
-
-			d_logWriter.print(l_entryBuffer.getBufferContent());
-			d_logWriter.flush();
+			LogEvent l_event = ((LogEntryBuffer) p_observable).getEvent();
+			if (l_event != null) {
+				d_logWriter.append(l_event);
+			}
 		}
 	}
 }
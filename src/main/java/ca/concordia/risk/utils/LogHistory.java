@@ -0,0 +1,62 @@
+package ca.concordia.risk.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class keeps the latest entries of the game log in memory.
+ * <p>
+ * It acts as an observer of <code>LogEntryBuffer</code> and keeps the text of
+ * the last entries in a ring buffer of fixed capacity, overwriting the oldest
+ * entry once full. It can be read from any thread while it is notified.
+ */
+public class LogHistory implements Observer {
+
+	private String[] d_entries;
+	private int d_head;
+	private int d_size;
+
+	/**
+	 * Creates a new empty log history.
+	 *
+	 * @param p_capacity number of entries kept.
+	 * @throws IllegalArgumentException thrown if the capacity is not positive.
+	 */
+	public LogHistory(int p_capacity) {
+		if (p_capacity < 1) {
+			throw new IllegalArgumentException("capacity should be positive");
+		}
+		d_entries = new String[p_capacity];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Adds the content of the log buffer to the history.
+	 */
+	@Override
+	public synchronized void update(Observable p_observable) {
+		if (p_observable instanceof LogEntryBuffer) {
+			String l_entry = ((LogEntryBuffer) p_observable).getBufferContent();
+			d_entries[(d_head + d_size) % d_entries.length] = l_entry;
+			if (d_size < d_entries.length) {
+				d_size++;
+			} else {
+				d_head = (d_head + 1) % d_entries.length;
+			}
+		}
+	}
+
+	/**
+	 * Gets the entries kept, from the oldest to the latest.
+	 *
+	 * @return list of log entries.
+	 */
+	public synchronized List<String> getEntries() {
+		List<String> l_entries = new ArrayList<String>(d_size);
+		for (int l_i = 0; l_i < d_size; l_i++) {
+			l_entries.add(d_entries[(d_head + l_i) % d_entries.length]);
+		}
+		return l_entries;
+	}
+}
@@ -0,0 +1,18 @@
+package ca.concordia.risk.utils;
+
+/**
+ * Levels of the game log events.
+ * <p>
+ * Each level can be enabled or disabled on its own in the
+ * <code>LogEntryBuffer</code>.
+ */
+public enum LogLevel {
+	/** Game and turn progress: turns, reinforcements, cards and eliminations. */
+	TURN,
+	/** Orders issued and executed by the players. */
+	ORDER,
+	/** Results of the battles fought by advance orders. */
+	BATTLE,
+	/** Details of the gameplay loop, such as the start of each step of a turn. */
+	DEBUG
+}
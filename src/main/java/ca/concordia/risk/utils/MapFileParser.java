@@ -0,0 +1,635 @@
+package ca.concordia.risk.utils;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import ca.concordia.risk.game.Continent;
+import ca.concordia.risk.game.Country;
+import ca.concordia.risk.game.GameMap;
+import ca.concordia.risk.utils.MapLoader.FileParsingException;
+
+/**
+ * This class parses domination and conquest <i>.map</i> files.
+ * <p>
+ * The whole file is read once through a <code>FileChannel</code>, memory-mapped
+ * if it is large, and parsed in a single pass directly from its bytes. Lines and
+ * tokens are delimited in place, and a <code>String</code> is only created for
+ * the names of continents and countries. Domination country ids are resolved
+ * through a primitive hash map.
+ * <p>
+ * Map files are decoded as ISO-8859-1, in which each byte is one character.
+ */
+final class MapFileParser {
+
+	/** Files at least this large are memory-mapped rather than read. */
+	private static final long d_MappingThreshold = 1 << 20;
+
+	private final ByteBuffer d_buffer;
+	private final int d_limit;
+	private int d_position;
+	private int d_lineStart;
+	private int d_lineEnd;
+	private byte[] d_nameBuffer = new byte[64];
+	private int[] d_fieldBounds = new int[16];
+
+	/**
+	 * Creates a parser over the contents of a map file.
+	 *
+	 * @param p_contents contents of the map file, from position <code>0</code> to
+	 *                   the limit of the buffer.
+	 */
+	MapFileParser(ByteBuffer p_contents) {
+		d_buffer = p_contents;
+		d_limit = p_contents.limit();
+	}
+
+	/**
+	 * Reads a whole map file into memory.
+	 * <p>
+	 * Files of at least 1 MiB are memory-mapped, smaller files are read into a
+	 * heap buffer with a single bulk read.
+	 *
+	 * @param p_file map file to read.
+	 * @return buffer holding the contents of the file, positioned at
+	 *         <code>0</code>.
+	 * @throws FileNotFoundException thrown if the map file does not exist.
+	 * @throws FileParsingException  thrown if the map file cannot be read.
+	 */
+	static ByteBuffer ReadFile(File p_file) throws FileNotFoundException, FileParsingException {
+		try (FileChannel l_channel = FileChannel.open(p_file.toPath(), StandardOpenOption.READ)) {
+			long l_size = l_channel.size();
+			if (l_size > Integer.MAX_VALUE) {
+				throw new FileParsingException("map file is too large");
+			}
+
+			if (l_size >= d_MappingThreshold) {
+				return l_channel.map(FileChannel.MapMode.READ_ONLY, 0, l_size);
+			}
+
+			ByteBuffer l_buffer = ByteBuffer.allocate((int) l_size);
+			while (l_buffer.hasRemaining() && l_channel.read(l_buffer) >= 0) {
+				// Keep reading until the buffer is full or the file ends
+			}
+			l_buffer.flip();
+			return l_buffer;
+		} catch (NoSuchFileException l_e) {
+			throw new FileNotFoundException(p_file.getName() + " not found in the maps folder");
+		} catch (IOException l_e) {
+			throw new FileParsingException("error when reading - " + l_e.getMessage());
+		}
+	}
+
+	/**
+	 * Parses the map file, detecting its type.
+	 * <p>
+	 * The file is a conquest map if its first non-blank line starts with a
+	 * <i>"[Map]"</i> tag, and a domination map otherwise.
+	 *
+	 * @return game map parsed from the file.
+	 * @throws FileParsingException thrown if the file is empty or a parsing error
+	 *                              occurs.
+	 */
+	GameMap parse() throws FileParsingException {
+		while (nextLine()) {
+			if (d_lineStart == d_lineEnd) {
+				continue;
+			}
+
+			boolean l_conquest = lineStartsWith("[Map]");
+			d_position = 0;
+			return l_conquest ? parseConquest() : parseDomination();
+		}
+
+		throw new FileParsingException("map file is empty or blank");
+	}
+
+	/**
+	 * Parses the map file as a domination map.
+	 *
+	 * @return game map parsed from the file.
+	 * @throws FileParsingException thrown if a section is missing or a parsing
+	 *                              error occurs.
+	 */
+	GameMap parseDomination() throws FileParsingException {
+		GameMap l_map = new GameMap();
+
+		// Continents are numbered from 1 in the order they appear
+		seekToTag("[continents]");
+		List<Continent> l_continents = new ArrayList<Continent>();
+		while (nextLine() && d_lineStart != d_lineEnd) {
+			int l_fields = splitWhitespace();
+			if (l_fields < 2) {
+				throw invalidLine();
+			}
+			Continent l_continent = new Continent(readName(0, true), readInt(1));
+			l_continents.add(l_continent);
+			l_map.addContinent(l_continent);
+		}
+
+		// Countries are identified by the id given in the file
+		seekToTag("[countries]");
+		List<Country> l_countries = new ArrayList<Country>();
+		IntIndexMap l_countryIndices = new IntIndexMap();
+		while (nextLine() && d_lineStart != d_lineEnd) {
+			if (isComment()) {
+				continue;
+			}
+			int l_fields = splitWhitespace();
+			if (l_fields < 3) {
+				throw invalidLine();
+			}
+			int l_countryId = readInt(0);
+			String l_countryName = readName(1, true);
+			int l_continentId = readInt(2);
+			if (l_continentId < 1 || l_continentId > l_continents.size()) {
+				throw invalidLine();
+			}
+
+			Country l_country = new Country(l_countryName, l_continents.get(l_continentId - 1));
+			l_countryIndices.put(l_countryId, l_countries.size());
+			l_countries.add(l_country);
+			l_map.addCountry(l_country);
+		}
+
+		// Each border line lists the ids of the neighbors of a country
+		seekToTag("[borders]");
+		while (nextLine() && d_lineStart != d_lineEnd) {
+			if (isComment()) {
+				continue;
+			}
+			int l_fields = splitWhitespace();
+			Country l_country = getCountry(l_countries, l_countryIndices, readInt(0));
+			for (int l_i = 1; l_i < l_fields; l_i++) {
+				l_country.addNeighbor(getCountry(l_countries, l_countryIndices, readInt(l_i)));
+			}
+		}
+
+		return l_map;
+	}
+
+	/**
+	 * Parses the map file as a conquest map.
+	 * <p>
+	 * Neighbors are listed by name and may be defined further down the file, so
+	 * the neighbor fields of each territory are kept and resolved once all
+	 * territories are read.
+	 *
+	 * @return game map parsed from the file.
+	 * @throws FileParsingException thrown if a section is missing or a parsing
+	 *                              error occurs.
+	 */
+	GameMap parseConquest() throws FileParsingException {
+		GameMap l_map = new GameMap();
+
+		seekToTag("[Continents]");
+		List<Continent> l_continents = new ArrayList<Continent>();
+		while (nextLine() && d_lineStart != d_lineEnd) {
+			int l_fields = splitValue();
+			if (l_fields < 2) {
+				throw invalidLine();
+			}
+			Continent l_continent = new Continent(readName(0, false), readInt(1));
+			l_continents.add(l_continent);
+			l_map.addContinent(l_continent);
+		}
+
+		// Territories are listed in blocks, each block belonging to the next continent
+		seekToTag("[Territories]");
+		Map<String, Country> l_countryMap = new HashMap<String, Country>();
+		List<Country> l_countries = new ArrayList<Country>();
+		List<String[]> l_neighborNames = new ArrayList<String[]>();
+		int l_continentIndex = -1;
+		String l_continentName = "";
+		while (nextLine()) {
+			if (d_lineStart == d_lineEnd) {
+				continue;
+			}
+			int l_fields = splitCommas();
+			if (l_fields < 4) {
+				throw invalidLine();
+			}
+
+			String l_countryName = readName(0, false);
+			String l_fieldContinentName = readName(3, false);
+			if (!l_continentName.equalsIgnoreCase(l_fieldContinentName)) {
+				l_continentIndex++;
+				l_continentName = l_fieldContinentName;
+			}
+			if (l_continentIndex < 0 || l_continentIndex >= l_continents.size()) {
+				throw invalidLine();
+			}
+
+			String[] l_names = new String[l_fields - 4];
+			for (int l_i = 4; l_i < l_fields; l_i++) {
+				trimField(l_i);
+				l_names[l_i - 4] = readName(l_i, false);
+			}
+
+			Country l_country = new Country(l_countryName, l_continents.get(l_continentIndex));
+			l_countryMap.put(l_countryName, l_country);
+			l_countries.add(l_country);
+			l_neighborNames.add(l_names);
+			l_map.addCountry(l_country);
+		}
+
+		// Resolve the neighbors now that every territory is known
+		for (int l_i = 0; l_i < l_countries.size(); l_i++) {
+			Country l_country = l_countryMap.get(l_countries.get(l_i).getName());
+			for (String l_neighborName : l_neighborNames.get(l_i)) {
+				Country l_neighbor = l_countryMap.get(l_neighborName);
+				if (l_neighbor == null) {
+					throw new FileParsingException("error when parsing - territory " + l_country.getName()
+							+ " has unknown neighbor \"" + l_neighborName + "\"");
+				}
+				l_country.addNeighbor(l_neighbor);
+			}
+		}
+
+		return l_map;
+	}
+
+	/**
+	 * Advances to the next line.
+	 * <p>
+	 * Lines end with <code>\n</code>, <code>\r\n</code>, <code>\r</code> or the
+	 * ISO-8859-1 next line character. The bounds of the line are trimmed of
+	 * leading and trailing whitespace and control characters.
+	 *
+	 * @return <code>true</code> if a line was read.<br>
+	 *         <code>false</code> if the end of the file was reached.
+	 */
+	private boolean nextLine() {
+		if (d_position >= d_limit) {
+			return false;
+		}
+
+		int l_start = d_position;
+		int l_end = l_start;
+		while (l_end < d_limit) {
+			byte l_byte = d_buffer.get(l_end);
+			if (l_byte == '\n' || l_byte == '\r' || l_byte == (byte) 0x85) {
+				break;
+			}
+			l_end++;
+		}
+
+		// Skip the line terminator
+		d_position = l_end + 1;
+		if (l_end < d_limit && d_buffer.get(l_end) == '\r' && d_position < d_limit
+				&& d_buffer.get(d_position) == '\n') {
+			d_position++;
+		}
+
+		// Trim the line
+		while (l_start < l_end && (d_buffer.get(l_start) & 0xFF) <= ' ') {
+			l_start++;
+		}
+		while (l_end > l_start && (d_buffer.get(l_end - 1) & 0xFF) <= ' ') {
+			l_end--;
+		}
+		d_lineStart = l_start;
+		d_lineEnd = l_end;
+		return true;
+	}
+
+	/**
+	 * Skips lines until a line that starts with the given tag.
+	 *
+	 * @param p_tag tag to look for.
+	 * @throws FileParsingException thrown if the end of the file is reached before
+	 *                              encountering the tag.
+	 */
+	private void seekToTag(String p_tag) throws FileParsingException {
+		while (nextLine()) {
+			if (lineStartsWith(p_tag)) {
+				return;
+			}
+		}
+
+		throw new FileParsingException(p_tag + " tag not found");
+	}
+
+	/**
+	 * Checks if the current line starts with the given prefix.
+	 *
+	 * @param p_prefix prefix to look for.
+	 * @return <code>true</code> if the line starts with the prefix.<br>
+	 *         <code>false</code> otherwise.
+	 */
+	private boolean lineStartsWith(String p_prefix) {
+		if (d_lineEnd - d_lineStart < p_prefix.length()) {
+			return false;
+		}
+		for (int l_i = 0; l_i < p_prefix.length(); l_i++) {
+			if ((d_buffer.get(d_lineStart + l_i) & 0xFF) != p_prefix.charAt(l_i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks if the current line is a comment.
+	 *
+	 * @return <code>true</code> if the line starts with <code>;</code>.<br>
+	 *         <code>false</code> otherwise.
+	 */
+	private boolean isComment() {
+		return d_buffer.get(d_lineStart) == ';';
+	}
+
+	/**
+	 * Splits the current line into fields separated by whitespace.
+	 *
+	 * @return number of fields.
+	 */
+	private int splitWhitespace() {
+		int l_fields = 0;
+		int l_i = d_lineStart;
+		while (l_i < d_lineEnd) {
+			int l_start = l_i;
+			while (l_i < d_lineEnd && !isWhitespace(d_buffer.get(l_i))) {
+				l_i++;
+			}
+			setField(l_fields++, l_start, l_i);
+			while (l_i < d_lineEnd && isWhitespace(d_buffer.get(l_i))) {
+				l_i++;
+			}
+		}
+		return l_fields;
+	}
+
+	/**
+	 * Splits the current line into a key and a value separated by <code>=</code>.
+	 *
+	 * @return number of fields, <code>2</code> if the line has a value.
+	 */
+	private int splitValue() {
+		int l_i = d_lineStart;
+		while (l_i < d_lineEnd && d_buffer.get(l_i) != '=') {
+			l_i++;
+		}
+		setField(0, d_lineStart, l_i);
+		if (l_i == d_lineEnd) {
+			return 1;
+		}
+
+		int l_start = l_i + 1;
+		l_i = l_start;
+		while (l_i < d_lineEnd && d_buffer.get(l_i) != '=') {
+			l_i++;
+		}
+		setField(1, l_start, l_i);
+		return 2;
+	}
+
+	/**
+	 * Splits the current line into fields separated by commas.
+	 * <p>
+	 * Trailing empty fields are dropped.
+	 *
+	 * @return number of fields.
+	 */
+	private int splitCommas() {
+		int l_fields = 0;
+		int l_start = d_lineStart;
+		for (int l_i = d_lineStart; l_i <= d_lineEnd; l_i++) {
+			if (l_i == d_lineEnd || d_buffer.get(l_i) == ',') {
+				setField(l_fields++, l_start, l_i);
+				l_start = l_i + 1;
+			}
+		}
+		while (l_fields > 0 && d_fieldBounds[2 * l_fields - 2] == d_fieldBounds[2 * l_fields - 1]) {
+			l_fields--;
+		}
+		return l_fields;
+	}
+
+	/**
+	 * Records the bounds of a field of the current line.
+	 *
+	 * @param p_field index of the field.
+	 * @param p_start start of the field (inclusive).
+	 * @param p_end   end of the field (exclusive).
+	 */
+	private void setField(int p_field, int p_start, int p_end) {
+		if (2 * p_field + 1 >= d_fieldBounds.length) {
+			d_fieldBounds = Arrays.copyOf(d_fieldBounds, 2 * d_fieldBounds.length);
+		}
+		d_fieldBounds[2 * p_field] = p_start;
+		d_fieldBounds[2 * p_field + 1] = p_end;
+	}
+
+	/**
+	 * Trims leading and trailing whitespace and control characters from a field.
+	 *
+	 * @param p_field index of the field.
+	 */
+	private void trimField(int p_field) {
+		int l_start = d_fieldBounds[2 * p_field];
+		int l_end = d_fieldBounds[2 * p_field + 1];
+		while (l_start < l_end && (d_buffer.get(l_start) & 0xFF) <= ' ') {
+			l_start++;
+		}
+		while (l_end > l_start && (d_buffer.get(l_end - 1) & 0xFF) <= ' ') {
+			l_end--;
+		}
+		setField(p_field, l_start, l_end);
+	}
+
+	/**
+	 * Reads a field of the current line as a name.
+	 *
+	 * @param p_field              index of the field.
+	 * @param p_underscoresAsSpace <code>true</code> if underscores stand for
+	 *                             spaces.
+	 * @return name read from the field.
+	 */
+	private String readName(int p_field, boolean p_underscoresAsSpace) {
+		int l_start = d_fieldBounds[2 * p_field];
+		int l_length = d_fieldBounds[2 * p_field + 1] - l_start;
+		if (l_length > d_nameBuffer.length) {
+			d_nameBuffer = new byte[Math.max(l_length, 2 * d_nameBuffer.length)];
+		}
+		for (int l_i = 0; l_i < l_length; l_i++) {
+			byte l_byte = d_buffer.get(l_start + l_i);
+			d_nameBuffer[l_i] = p_underscoresAsSpace && l_byte == '_' ? (byte) ' ' : l_byte;
+		}
+		return new String(d_nameBuffer, 0, l_length, StandardCharsets.ISO_8859_1);
+	}
+
+	/**
+	 * Reads a field of the current line as a decimal integer.
+	 *
+	 * @param p_field index of the field.
+	 * @return integer read from the field.
+	 * @throws FileParsingException thrown if the field is not a valid integer.
+	 */
+	private int readInt(int p_field) throws FileParsingException {
+		int l_i = d_fieldBounds[2 * p_field];
+		int l_end = d_fieldBounds[2 * p_field + 1];
+		boolean l_negative = false;
+		if (l_i < l_end && (d_buffer.get(l_i) == '-' || d_buffer.get(l_i) == '+')) {
+			l_negative = d_buffer.get(l_i) == '-';
+			l_i++;
+		}
+		if (l_i == l_end) {
+			throw invalidLine();
+		}
+
+		// Accumulate negatively so that the smallest integer can be represented
+		long l_value = 0;
+		for (; l_i < l_end; l_i++) {
+			int l_digit = d_buffer.get(l_i) - '0';
+			if (l_digit < 0 || l_digit > 9) {
+				throw invalidLine();
+			}
+			l_value = l_value * 10 - l_digit;
+			if (l_value < Integer.MIN_VALUE) {
+				throw invalidLine();
+			}
+		}
+		if (!l_negative && l_value == Integer.MIN_VALUE) {
+			throw invalidLine();
+		}
+		return (int) (l_negative ? l_value : -l_value);
+	}
+
+	/**
+	 * Gets a domination country by its id.
+	 *
+	 * @param p_countries      countries in the order they were read.
+	 * @param p_countryIndices index of each country id in the list.
+	 * @param p_countryId      id of the country.
+	 * @return country with the given id.
+	 * @throws FileParsingException thrown if no country has the id.
+	 */
+	private Country getCountry(List<Country> p_countries, IntIndexMap p_countryIndices, int p_countryId)
+			throws FileParsingException {
+		int l_index = p_countryIndices.get(p_countryId);
+		if (l_index < 0) {
+			throw invalidLine();
+		}
+		return p_countries.get(l_index);
+	}
+
+	/**
+	 * Creates the exception reporting that the current line is invalid.
+	 *
+	 * @return exception to throw.
+	 */
+	private FileParsingException invalidLine() {
+		String l_line = readLine();
+		return new FileParsingException("error when parsing - invalid line format \"" + l_line + "\"");
+	}
+
+	/**
+	 * Reads the current line as a string.
+	 *
+	 * @return trimmed current line.
+	 */
+	private String readLine() {
+		byte[] l_bytes = new byte[d_lineEnd - d_lineStart];
+		for (int l_i = 0; l_i < l_bytes.length; l_i++) {
+			l_bytes[l_i] = d_buffer.get(d_lineStart + l_i);
+		}
+		return new String(l_bytes, StandardCharsets.ISO_8859_1);
+	}
+
+	/**
+	 * Checks if a byte is a whitespace separator.
+	 *
+	 * @param p_byte byte to check.
+	 * @return <code>true</code> if the byte is a space, tab, vertical tab, form
+	 *         feed or line terminator.<br>
+	 *         <code>false</code> otherwise.
+	 */
+	private static boolean isWhitespace(byte p_byte) {
+		return p_byte == ' ' || p_byte == '\t' || p_byte == '\n' || p_byte == 0x0B || p_byte == '\f'
+				|| p_byte == '\r';
+	}
+
+	/**
+	 * Open addressing hash map from <code>int</code> keys to non-negative
+	 * <code>int</code> indices.
+	 */
+	private static class IntIndexMap {
+		private int[] d_keys = new int[64];
+		private int[] d_values = new int[64];
+		private int d_size;
+
+		/**
+		 * Maps a key to an index, replacing any previous index of the key.
+		 *
+		 * @param p_key   key to map.
+		 * @param p_index non-negative index to map the key to.
+		 */
+		private void put(int p_key, int p_index) {
+			if (2 * (d_size + 1) > d_keys.length) {
+				grow();
+			}
+			int l_slot = findSlot(p_key);
+			if (d_values[l_slot] == 0) {
+				d_keys[l_slot] = p_key;
+				d_size++;
+			}
+			// Indices are stored plus one so that zero marks an empty slot
+			d_values[l_slot] = p_index + 1;
+		}
+
+		/**
+		 * Gets the index mapped to a key.
+		 *
+		 * @param p_key key to look up.
+		 * @return index of the key.<br>
+		 *         <code>-1</code> if the key is not mapped.
+		 */
+		private int get(int p_key) {
+			return d_values[findSlot(p_key)] - 1;
+		}
+
+		/**
+		 * Finds the slot holding a key, or the empty slot where it belongs.
+		 *
+		 * @param p_key key to look for.
+		 * @return slot of the key.
+		 */
+		private int findSlot(int p_key) {
+			int l_mask = d_keys.length - 1;
+			int l_hash = p_key * 0x9E3779B9;
+			int l_slot = (l_hash ^ l_hash >>> 16) & l_mask;
+			while (d_values[l_slot] != 0 && d_keys[l_slot] != p_key) {
+				l_slot = (l_slot + 1) & l_mask;
+			}
+			return l_slot;
+		}
+
+		/**
+		 * Doubles the capacity of the map.
+		 */
+		private void grow() {
+			int[] l_keys = d_keys;
+			int[] l_values = d_values;
+			d_keys = new int[2 * l_keys.length];
+			d_values = new int[2 * l_values.length];
+			for (int l_i = 0; l_i < l_keys.length; l_i++) {
+				if (l_values[l_i] != 0) {
+					int l_slot = findSlot(l_keys[l_i]);
+					d_keys[l_slot] = l_keys[l_i];
+					d_values[l_slot] = l_values[l_i];
+				}
+			}
+		}
+	}
+}
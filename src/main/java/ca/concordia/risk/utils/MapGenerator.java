@@ -0,0 +1,245 @@
+package ca.concordia.risk.utils;
+
+import java.util.SplittableRandom;
+
+import ca.concordia.risk.game.Continent;
+import ca.concordia.risk.game.Country;
+import ca.concordia.risk.game.GameMap;
+
+/**
+ * This class generates synthetic maps of any size.
+ * <p>
+ * Generated maps are always valid: all borders go both ways, the map is
+ * connected, and each continent is a connected block of countries. Continents
+ * get a bonus value that grows with their size. The same parameters and seed
+ * always generate the same map.
+ * <p>
+ * Three topologies are supported:
+ * <ul>
+ * <li><i>grid</i>: countries are laid out on a square grid and border the
+ * countries above, below, left and right of them.</li>
+ * <li><i>planar</i>: a random planar map, made from the grid by dropping some
+ * vertical borders and adding a random diagonal across some grid cells.</li>
+ * <li><i>hubs</i>: a scale-free map grown by preferential attachment, in which
+ * a few hub countries have a very large number of neighbors.</li>
+ * </ul>
+ */
+public class MapGenerator {
+
+	/** Topology of the generated map. */
+	public enum Topology {
+		/** Square grid. */
+		GRID,
+		/** Random planar map. */
+		PLANAR,
+		/** Scale-free map with hub countries. */
+		HUBS
+	}
+
+	private int d_numCountries;
+	private int d_numContinents;
+	private Topology d_topology;
+	private long d_seed;
+
+	/**
+	 * Creates a new map generator.
+	 *
+	 * @param p_numCountries  number of countries to generate, at least
+	 *                        <code>2</code>.
+	 * @param p_numContinents number of continents to generate, between
+	 *                        <code>1</code> and the number of countries.
+	 * @param p_topology      topology of the generated map.
+	 * @param p_seed          seed of the random choices made while generating.
+	 * @throws IllegalArgumentException thrown if the number of countries or
+	 *                                  continents is out of range.
+	 */
+	public MapGenerator(int p_numCountries, int p_numContinents, Topology p_topology, long p_seed) {
+		if (p_numCountries < 2) {
+			throw new IllegalArgumentException("number of countries should be at least 2");
+		}
+		if (p_numContinents < 1 || p_numContinents > p_numCountries) {
+			throw new IllegalArgumentException("number of continents should be between 1 and the number of countries");
+		}
+		d_numCountries = p_numCountries;
+		d_numContinents = p_numContinents;
+		d_topology = p_topology;
+		d_seed = p_seed;
+	}
+
+	/**
+	 * Generates the map.
+	 * <p>
+	 * Countries are named <i>"Territory1"</i>, <i>"Territory2"</i>, ... and
+	 * continents <i>"Continent1"</i>, <i>"Continent2"</i>, ..., so that the names
+	 * are kept as is in every map file format.
+	 *
+	 * @return generated map.
+	 */
+	public GameMap generate() {
+		GameMap l_map = new GameMap();
+		SplittableRandom l_random = new SplittableRandom(d_seed);
+
+		// Split the countries into continents of consecutive indices
+		int[] l_continentStarts = new int[d_numContinents + 1];
+		for (int l_k = 0; l_k <= d_numContinents; l_k++) {
+			l_continentStarts[l_k] = (int) ((long) l_k * d_numCountries / d_numContinents);
+		}
+
+		// Create the continents and countries
+		Country[] l_countries = new Country[d_numCountries];
+		for (int l_k = 0; l_k < d_numContinents; l_k++) {
+			int l_size = l_continentStarts[l_k + 1] - l_continentStarts[l_k];
+			Continent l_continent = new Continent("Continent" + (l_k + 1),
+					Math.max(1, (int) Math.round(Math.sqrt(l_size))));
+			l_map.addContinent(l_continent);
+			for (int l_i = l_continentStarts[l_k]; l_i < l_continentStarts[l_k + 1]; l_i++) {
+				l_countries[l_i] = new Country("Territory" + (l_i + 1), l_continent);
+				l_map.addCountry(l_countries[l_i]);
+			}
+		}
+
+		// Connect the countries
+		switch (d_topology) {
+		case GRID:
+			ConnectGrid(l_countries, l_random, false);
+			break;
+		case PLANAR:
+			ConnectGrid(l_countries, l_random, true);
+			break;
+		case HUBS:
+			ConnectHubs(l_countries, l_continentStarts, l_random);
+			break;
+		}
+
+		return l_map;
+	}
+
+	/**
+	 * Connects the countries laid out on a grid.
+	 * <p>
+	 * Countries are placed row by row, alternating direction on each row, so that
+	 * countries with consecutive indices are always neighbors. The borders between
+	 * consecutive countries are always kept, which keeps every continent
+	 * connected.
+	 *
+	 * @param p_countries countries to connect.
+	 * @param p_random    source of random choices.
+	 * @param p_planar    <code>true</code> to randomize the grid into a planar
+	 *                    map.
+	 */
+	private static void ConnectGrid(Country[] p_countries, SplittableRandom p_random, boolean p_planar) {
+		int l_width = (int) Math.ceil(Math.sqrt(p_countries.length));
+		int l_height = (p_countries.length + l_width - 1) / l_width;
+
+		for (int l_row = 0; l_row < l_height; l_row++) {
+			for (int l_col = 0; l_col < l_width; l_col++) {
+				int l_index = GridIndex(l_row, l_col, l_width, p_countries.length);
+				if (l_index < 0) {
+					continue;
+				}
+
+				// Border to the right, always between consecutive countries
+				int l_right = GridIndex(l_row, l_col + 1, l_width, p_countries.length);
+				if (l_right >= 0) {
+					Connect(p_countries[l_index], p_countries[l_right]);
+				}
+
+				// Border below, kept at random on planar maps unless it links
+				// consecutive countries
+				int l_below = GridIndex(l_row + 1, l_col, l_width, p_countries.length);
+				if (l_below >= 0 && (!p_planar || Math.abs(l_below - l_index) == 1 || p_random.nextBoolean())) {
+					Connect(p_countries[l_index], p_countries[l_below]);
+				}
+
+				// Diagonal across the cell, in a random direction, on planar maps
+				int l_belowRight = GridIndex(l_row + 1, l_col + 1, l_width, p_countries.length);
+				if (p_planar && l_right >= 0 && l_below >= 0 && l_belowRight >= 0 && p_random.nextBoolean()) {
+					if (p_random.nextBoolean()) {
+						Connect(p_countries[l_index], p_countries[l_belowRight]);
+					} else {
+						Connect(p_countries[l_right], p_countries[l_below]);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Gets the index of the country at a grid position.
+	 *
+	 * @param p_row          row of the position.
+	 * @param p_col          column of the position.
+	 * @param p_width        number of columns of the grid.
+	 * @param p_numCountries number of countries.
+	 * @return index of the country at the position.<br>
+	 *         <code>-1</code> if there is no country at the position.
+	 */
+	private static int GridIndex(int p_row, int p_col, int p_width, int p_numCountries) {
+		if (p_col >= p_width) {
+			return -1;
+		}
+		int l_index = p_row * p_width + (p_row % 2 == 0 ? p_col : p_width - 1 - p_col);
+		return l_index < p_numCountries ? l_index : -1;
+	}
+
+	/**
+	 * Connects the countries by preferential attachment.
+	 * <p>
+	 * Countries are added one at a time. Each country borders a random earlier
+	 * country of its own continent, which keeps the continent connected, and one
+	 * earlier country chosen with a probability proportional to its number of
+	 * neighbors, which grows hubs. The first country of each continent makes both
+	 * of its borders by preferential attachment. A country never borders itself.
+	 *
+	 * @param p_countries       countries to connect.
+	 * @param p_continentStarts index of the first country of each continent.
+	 * @param p_random          source of random choices.
+	 */
+	private static void ConnectHubs(Country[] p_countries, int[] p_continentStarts, SplittableRandom p_random) {
+		// Each border adds both of its countries to the list, so picking a random
+		// entry picks a country with a probability proportional to its degree
+		int[] l_endpoints = new int[4 * p_countries.length];
+		int l_numEndpoints = 0;
+
+		int l_continent = 0;
+		for (int l_i = 1; l_i < p_countries.length; l_i++) {
+			while (p_continentStarts[l_continent + 1] <= l_i) {
+				l_continent++;
+			}
+			int l_start = p_continentStarts[l_continent];
+
+			for (int l_border = 0; l_border < 2; l_border++) {
+				int l_target;
+				if (l_border == 0 && l_i > l_start) {
+					l_target = l_start + p_random.nextInt(l_i - l_start);
+				} else if (l_numEndpoints == 0) {
+					l_target = 0;
+				} else {
+					// Resample when the country itself is picked, it is at most half of
+					// the endpoints
+					do {
+						l_target = l_endpoints[p_random.nextInt(l_numEndpoints)];
+					} while (l_target == l_i);
+				}
+
+				if (Connect(p_countries[l_i], p_countries[l_target])) {
+					l_endpoints[l_numEndpoints++] = l_i;
+					l_endpoints[l_numEndpoints++] = l_target;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Adds a border in both directions between two countries.
+	 *
+	 * @param p_country1 first country.
+	 * @param p_country2 second country.
+	 * @return <code>true</code> if the border was added.<br>
+	 *         <code>false</code> if the countries were already neighbors.
+	 */
+	private static boolean Connect(Country p_country1, Country p_country2) {
+		p_country2.addNeighbor(p_country1);
+		return p_country1.addNeighbor(p_country2);
+	}
+}
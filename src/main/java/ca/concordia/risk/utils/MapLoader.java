@@ -3,13 +3,14 @@ package ca.concordia.risk.utils;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.util.Scanner;
+import java.nio.ByteBuffer;
 
 import ca.concordia.risk.game.GameMap;
 
 /**
  * This class provides functionality to load the map from and save the map to
- * <i>.map</i> files of various types.
+ * <i>.map</i> files of various types, and to compiled binary <i>.rmapb</i>
+ * files.
  */
 public class MapLoader {
 
@@ -18,16 +19,12 @@ public class MapLoader {
 	/** Encoding to use when reading and writing map files. */
 	protected static final String d_Encoding = "ISO-8859-1";
 
-	/** Represents the map file type. */
-	private enum MapType {
-		DOMINATION, CONQUEST
-	};
-
 	/**
 	 * Loads a map file.
 	 * <p>
-	 * Reads a (.map) file by finding its file type and delegating the file parsing
-	 * to the appropriate map loader for the given type.
+	 * Reads a map file once and finds its file type. Binary map files are
+	 * recognized by their magic bytes. Text files are conquest maps if their first
+	 * non-blank line is a <i>"[Map]"</i> tag, and domination maps otherwise.
 	 * 
 	 * @param p_fileName filename of the (.map) file
 	 * @return game map loaded from the file.
@@ -43,19 +40,12 @@ public class MapLoader {
 			throw new FileNotFoundException(p_fileName + " not found in the maps folder");
 		}
 
-		// Determine the map file type
-		MapType l_mapType = GetMapFileType(l_file);
-
-		// Instantiate the appropriate map loader depending on the map file type
-		DominationMapLoader l_mapLoader;
-		if (l_mapType == MapType.DOMINATION) {
-			l_mapLoader = new DominationMapLoader();
-		} else {
-			l_mapLoader = new ConquestMapLoaderAdapter(new ConquestMapLoader());
+		// Detect the map file type and parse the map in a single read
+		ByteBuffer l_contents = MapFileParser.ReadFile(l_file);
+		if (BinaryMapLoader.IsBinaryMap(l_contents)) {
+			return BinaryMapLoader.ReadMap(l_contents);
 		}
-
-		// Load and return the map
-		return l_mapLoader.LoadMap(p_fileName);
+		return new MapFileParser(l_contents).parse();
 	}
 
 	/**
@@ -81,6 +71,9 @@ public class MapLoader {
 		case "conquest":
 			l_mapLoader = new ConquestMapLoaderAdapter(new ConquestMapLoader());
 			break;
+		case "binary":
+			l_mapLoader = new BinaryMapLoader();
+			break;
 		default:
 			throw new IllegalArgumentException("unknown map file type " + p_fileType);
 		}
@@ -98,40 +91,6 @@ public class MapLoader {
 		return d_MapFolder;
 	}
 
-	/**
-	 * Returns the types of the map file being read.
-	 * 
-	 * @param p_file the map file to determine the type of.
-	 * @return the type of the map file.
-	 * @throws FileParsingException  thrown if the map file is empty or blank.
-	 * @throws FileNotFoundException thrown if map file was not found.
-	 */
-	private static MapType GetMapFileType(File p_file) throws FileParsingException, FileNotFoundException {
-		try (Scanner l_sc = new Scanner(p_file, d_Encoding)) {
-			// Check if the first non-blank line has a "[Map]" tag
-			while (l_sc.hasNextLine()) {
-				// Read the line
-				String l_line = l_sc.nextLine().trim();
-
-				// Skip the line if its blank
-				if (l_line.isBlank()) {
-					continue;
-				}
-
-				// For the first non-blank line, check if it is a "[Map] tag
-				// If so the map is a conquest map, otherwise it is a domination map
-				if (l_line.startsWith("[Map]")) {
-					return MapType.CONQUEST;
-				} else {
-					return MapType.DOMINATION;
-				}
-			}
-
-			// Error: map file was empty or blank
-			throw new FileParsingException("map file is empty or blank");
-		}
-	}
-
 	/**
 	 * A custom <code>Exception</code> class thrown when a parsing error occurs
 	 * while parsing the .map file.
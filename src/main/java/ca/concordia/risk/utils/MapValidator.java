@@ -1,14 +1,15 @@
 package ca.concordia.risk.utils;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
-import java.util.Stack;
 
 import ca.concordia.risk.game.Continent;
 import ca.concordia.risk.game.Country;
 import ca.concordia.risk.game.GameMap;
+import ca.concordia.risk.game.MapTopology;
 
 /** This class validates the game maps. */
 public class MapValidator {
@@ -24,27 +25,18 @@ public class MapValidator {
 
 	/**
 	 * Checks the validity of a map as a whole and of each continent in the map.
+	 * <p>
+	 * Sets the validation status to the first problem found. Use
+	 * <code>Check(GameMap)</code> to get every problem of the map.
 	 * 
 	 * @param p_map map to validate.
 	 * @return <code>true</code> if map is a valid map.<br>
 	 *         <code>false</code> if map is not a valid map.
 	 */
 	public static boolean Validate(GameMap p_map) {
-		// Validate the map graph as a whole
-		boolean l_mapGraphValid = ValidateMapGraph(p_map);
-		if (!l_mapGraphValid) {
-			return false;
-		}
-
-		// Validate the subgraphs of each continent
-		boolean l_continentGraphsValid = ValidateContinentGraphs(p_map);
-		if (!l_continentGraphsValid) {
-			return false;
-		}
-
-		// Map is valid, set status and return
-		SetStatus(d_ValidMapStatus);
-		return true;
+		ValidationResult l_result = Check(p_map);
+		d_Status = l_result.isValid() ? d_ValidMapStatus : l_result.getStatus();
+		return l_result.isValid();
 	}
 
 	/**
@@ -57,107 +49,86 @@ public class MapValidator {
 	}
 
 	/**
-	 * Validates the map graph as a whole.
+	 * Checks the validity of a map as a whole and of each continent in the map,
+	 * and reports every problem found.
+	 * <p>
+	 * The strongly connected components of the map and of each continent
+	 * subgraph are found in a single pass over their borders, so the whole check
+	 * runs in time linear in the size of the map. The validation status is left
+	 * unchanged.
 	 * 
 	 * @param p_map map to validate.
-	 * @return <code>true</code> if map graph is valid.<br>
-	 *         <code>false</code> if map graph is not valid.
+	 * @return result listing every problem of the map.
 	 */
-	private static boolean ValidateMapGraph(GameMap p_map) {
-		// Ensure map has more than two countries
-		Set<Country> l_countries = new HashSet<Country>(p_map.getCountries());
-		if (l_countries.size() < 2) {
-			SetStatus(d_LessThanTwoCountriesStatus);
-			return false;
-		}
+	public static ValidationResult Check(GameMap p_map) {
+		ValidationResult l_result = new ValidationResult();
+		MapTopology l_topology = p_map.getTopology();
+		int l_numCountries = l_topology.getNumberOfCountries();
+		ComponentFinder l_finder = new ComponentFinder(l_topology);
 
-		// Validate the map graph to be connected
-		for (Country l_country : l_countries) {
-			Set<Country> l_visited = new HashSet<Country>();
-			Dfs(l_country, l_visited, l_countries);
+		// Validate the map graph as a whole
+		boolean[] l_included = new boolean[l_numCountries];
+		if (l_numCountries < 2) {
+			l_result.setLessThanTwoCountries();
+			l_result.setStatus(d_LessThanTwoCountriesStatus);
+		} else {
+			int[] l_nodes = new int[l_numCountries];
+			for (int l_id = 0; l_id < l_numCountries; l_id++) {
+				l_nodes[l_id] = l_id;
+			}
+			Arrays.fill(l_included, true);
 
-			if (l_visited.size() != l_countries.size()) {
-				l_countries.removeAll(l_visited);
-				SetStatus(d_MapGraphErrorStatus, BuildCountryListString(l_countries), l_country.getName());
-				return false;
+			List<List<Country>> l_components = l_finder.find(l_nodes, l_included);
+			if (l_components.size() > 1) {
+				l_result.setMapComponents(l_components);
+				if (!l_result.hasStatus()) {
+					int l_sourceId = l_finder.findUnreachable(l_nodes, l_included);
+					l_result.setStatus(String.format(d_MapGraphErrorStatus,
+							BuildCountryListString(l_finder.getUnvisited(l_nodes)),
+							l_topology.getCountry(l_sourceId).getName()));
+				}
 			}
+			Arrays.fill(l_included, false);
 		}
 
-		return true;
-	}
-
-	/**
-	 * Validates the continent subgraphs.
-	 * 
-	 * @param p_map map to validate.
-	 * @return <code>true</code> if all continent subgraphs are valid.<br>
-	 *         <code>false</code> if there are continents with invalid subgraphs.
-	 */
-	private static boolean ValidateContinentGraphs(GameMap p_map) {
-		List<Continent> l_continents = p_map.getContinents();
-
-		// Validate each continent subgraph
-		for (Continent l_continent : l_continents) {
+		// Validate the subgraphs of each continent
+		for (Continent l_continent : p_map.getContinents()) {
 			// Ensure continent is not empty
 			Set<Country> l_continentCountries = l_continent.getCountries();
 			if (l_continentCountries.isEmpty()) {
-				SetStatus(d_EmptyContinentStatus, l_continent.getName());
-				return false;
+				l_result.addEmptyContinent(l_continent);
+				l_result.setStatus(String.format(d_EmptyContinentStatus, l_continent.getName()));
+				continue;
 			}
 
-			// Validate the continent subgraph to be connected
+			// Include only the countries of the continent in the search
+			int[] l_nodes = new int[l_continentCountries.size()];
+			int l_numNodes = 0;
 			for (Country l_country : l_continentCountries) {
-				Set<Country> l_visited = new HashSet<Country>();
-				Dfs(l_country, l_visited, l_continentCountries);
-
-				if (l_visited.size() != l_continentCountries.size()) {
-					Set<Country> l_unreachableCountries = new HashSet<Country>(l_continentCountries);
-					l_unreachableCountries.removeAll(l_visited);
+				l_nodes[l_numNodes++] = l_country.getId();
+			}
+			Arrays.sort(l_nodes);
+			for (int l_id : l_nodes) {
+				l_included[l_id] = true;
+			}
 
-					SetStatus(d_ContinentGraphErrorStatus, BuildCountryListString(l_unreachableCountries),
-							l_country.getName(), l_continent.getName());
-					return false;
+			List<List<Country>> l_components = l_finder.find(l_nodes, l_included);
+			if (l_components.size() > 1) {
+				l_result.addContinentComponents(l_continent, l_components);
+				if (!l_result.hasStatus()) {
+					int l_sourceId = l_finder.findUnreachable(l_nodes, l_included);
+					l_result.setStatus(String.format(d_ContinentGraphErrorStatus,
+							BuildCountryListString(l_finder.getUnvisited(l_nodes)),
+							l_topology.getCountry(l_sourceId).getName(), l_continent.getName()));
 				}
 			}
-		}
-
-		return true;
-	}
 
-	/**
-	 * 
-	 * Implements the depth first search algorithm using stacks for map validation.
-	 * 
-	 * @param p_startNode The starting node.
-	 * @param p_visited   A set of visited nodes.
-	 * @param p_included  A set of nodes included in the search.
-	 */
-	private static void Dfs(Country p_startNode, Set<Country> p_visited, Set<Country> p_included) {
-		Stack<Country> l_stack = new Stack<Country>();
-
-		l_stack.push(p_startNode);
-		p_visited.add(p_startNode);
-
-		while (!l_stack.isEmpty()) {
-			Country l_node = l_stack.pop();
-			Set<Country> l_neighbourSet = l_node.getNeighbors();
-			for (Country l_neighbour : l_neighbourSet) {
-				if (!p_visited.contains(l_neighbour) && p_included.contains(l_neighbour)) {
-					l_stack.push(l_neighbour);
-					p_visited.add(l_neighbour);
-				}
+			for (int l_id : l_nodes) {
+				l_included[l_id] = false;
 			}
 		}
-	}
 
-	/**
-	 * Sets the validation status using the provided status message pattern.
-	 * 
-	 * @param p_messagePattern message pattern.
-	 * @param p_arguments      arguments to insert in the message pattern.
-	 */
-	private static void SetStatus(String p_messagePattern, Object... p_arguments) {
-		d_Status = String.format(p_messagePattern, p_arguments);
+		return l_result;
 	}
 
 	/**
@@ -166,7 +137,7 @@ public class MapValidator {
 	 * @param p_countries list of countries to build the list from.
 	 * @return string list of country names.
 	 */
-	private static String BuildCountryListString(Set<Country> p_countries) {
+	static String BuildCountryListString(List<Country> p_countries) {
 		StringBuilder l_sb = new StringBuilder();
 
 		l_sb.append("[");
@@ -181,4 +152,219 @@ public class MapValidator {
 
 		return l_sb.toString();
 	}
+
+	/**
+	 * This class finds the strongly connected components of subgraphs of a
+	 * compiled map topology.
+	 * <p>
+	 * Components are found with an iterative version of Tarjan's algorithm, which
+	 * visits each country and border of the subgraph once. The working arrays are
+	 * allocated once for the whole topology and only the entries of the searched
+	 * subgraph are reset, so searching many small subgraphs stays linear in the
+	 * size of the map as a whole.
+	 */
+	private static final class ComponentFinder {
+
+		private final MapTopology d_topology;
+		private final int[] d_index;
+		private final int[] d_lowLink;
+		private final boolean[] d_onStack;
+		private final int[] d_componentStack;
+		private final int[] d_callStack;
+		private final int[] d_edgeCursor;
+		private final boolean[] d_visited;
+
+		/**
+		 * Creates a new component finder for the given topology.
+		 * 
+		 * @param p_topology compiled map topology.
+		 */
+		ComponentFinder(MapTopology p_topology) {
+			int l_numCountries = p_topology.getNumberOfCountries();
+			d_topology = p_topology;
+			d_index = new int[l_numCountries];
+			d_lowLink = new int[l_numCountries];
+			d_onStack = new boolean[l_numCountries];
+			d_componentStack = new int[l_numCountries];
+			d_callStack = new int[l_numCountries];
+			d_edgeCursor = new int[l_numCountries];
+			d_visited = new boolean[l_numCountries];
+		}
+
+		/**
+		 * Finds the strongly connected components of a subgraph.
+		 * 
+		 * @param p_nodes    ids of the nodes of the subgraph, sorted.
+		 * @param p_included flags of the nodes of the subgraph, indexed by country
+		 *                   id.
+		 * @return list of components, ordered by the id of their first country.
+		 */
+		List<List<Country>> find(int[] p_nodes, boolean[] p_included) {
+			int[] l_offsets = d_topology.getNeighborOffsets();
+			int[] l_targets = d_topology.getNeighborTargets();
+
+			for (int l_id : p_nodes) {
+				d_index[l_id] = -1;
+			}
+
+			List<int[]> l_components = new ArrayList<int[]>();
+			int l_nextIndex = 0;
+			int l_componentTop = 0;
+			for (int l_startId : p_nodes) {
+				if (d_index[l_startId] != -1) {
+					continue;
+				}
+
+				int l_callTop = 0;
+				d_callStack[l_callTop] = l_startId;
+				d_edgeCursor[l_callTop++] = l_offsets[l_startId];
+				d_index[l_startId] = d_lowLink[l_startId] = l_nextIndex++;
+				d_componentStack[l_componentTop++] = l_startId;
+				d_onStack[l_startId] = true;
+
+				while (l_callTop > 0) {
+					int l_node = d_callStack[l_callTop - 1];
+					if (d_edgeCursor[l_callTop - 1] < l_offsets[l_node + 1]) {
+						// Follow the next border of the node
+						int l_neighbor = l_targets[d_edgeCursor[l_callTop - 1]++];
+						if (!p_included[l_neighbor]) {
+							continue;
+						}
+						if (d_index[l_neighbor] == -1) {
+							d_callStack[l_callTop] = l_neighbor;
+							d_edgeCursor[l_callTop++] = l_offsets[l_neighbor];
+							d_index[l_neighbor] = d_lowLink[l_neighbor] = l_nextIndex++;
+							d_componentStack[l_componentTop++] = l_neighbor;
+							d_onStack[l_neighbor] = true;
+						} else if (d_onStack[l_neighbor]) {
+							d_lowLink[l_node] = Math.min(d_lowLink[l_node], d_index[l_neighbor]);
+						}
+						continue;
+					}
+
+					// All borders followed, pop the node and its component if it is the root
+					l_callTop--;
+					if (d_lowLink[l_node] == d_index[l_node]) {
+						int l_componentStart = l_componentTop;
+						do {
+							d_onStack[d_componentStack[--l_componentStart]] = false;
+						} while (d_componentStack[l_componentStart] != l_node);
+						int[] l_component = Arrays.copyOfRange(d_componentStack, l_componentStart, l_componentTop);
+						Arrays.sort(l_component);
+						l_components.add(l_component);
+						l_componentTop = l_componentStart;
+					}
+					if (l_callTop > 0) {
+						int l_parent = d_callStack[l_callTop - 1];
+						d_lowLink[l_parent] = Math.min(d_lowLink[l_parent], d_lowLink[l_node]);
+					}
+				}
+			}
+
+			// Order the components and resolve their countries
+			l_components.sort((p_a, p_b) -> Integer.compare(p_a[0], p_b[0]));
+			List<List<Country>> l_result = new ArrayList<List<Country>>(l_components.size());
+			for (int[] l_component : l_components) {
+				List<Country> l_countries = new ArrayList<Country>(l_component.length);
+				for (int l_id : l_component) {
+					l_countries.add(d_topology.getCountry(l_id));
+				}
+				l_result.add(l_countries);
+			}
+			return l_result;
+		}
+
+		/**
+		 * Finds the first node of a subgraph, in id order, from which some nodes of
+		 * the subgraph are unreachable.
+		 * <p>
+		 * If every node can be reached from the first node, the nodes that cannot
+		 * reach the first node are exactly the ones that cannot reach every node,
+		 * so at most three searches are needed. Leaves the nodes reached from the
+		 * returned node marked as visited.
+		 * 
+		 * @param p_nodes    ids of the nodes of a subgraph that is not strongly
+		 *                   connected, sorted.
+		 * @param p_included flags of the nodes of the subgraph, indexed by country
+		 *                   id.
+		 * @return id of the node.
+		 */
+		int findUnreachable(int[] p_nodes, boolean[] p_included) {
+			int[] l_offsets = d_topology.getNeighborOffsets();
+			int[] l_targets = d_topology.getNeighborTargets();
+
+			// Search forward from the first node
+			int l_firstId = p_nodes[0];
+			if (search(l_firstId, l_offsets, l_targets, p_nodes, p_included) != p_nodes.length) {
+				return l_firstId;
+			}
+
+			// Search backward from the first node, to find the first node that cannot
+			// reach it
+			search(l_firstId, d_topology.getIncomingOffsets(), d_topology.getIncomingSources(), p_nodes, p_included);
+			int l_sourceId = l_firstId;
+			for (int l_id : p_nodes) {
+				if (!d_visited[l_id]) {
+					l_sourceId = l_id;
+					break;
+				}
+			}
+
+			search(l_sourceId, l_offsets, l_targets, p_nodes, p_included);
+			return l_sourceId;
+		}
+
+		/**
+		 * Gets the nodes of a subgraph that were not visited by the last search.
+		 * 
+		 * @param p_nodes ids of the nodes of the subgraph, sorted.
+		 * @return list of unvisited countries, ordered by name.
+		 */
+		List<Country> getUnvisited(int[] p_nodes) {
+			List<Country> l_unvisited = new ArrayList<Country>();
+			for (int l_id : p_nodes) {
+				if (!d_visited[l_id]) {
+					l_unvisited.add(d_topology.getCountry(l_id));
+				}
+			}
+			return l_unvisited;
+		}
+
+		/**
+		 * Implements the depth first search algorithm over a border array, using the
+		 * call stack storage as the search stack.
+		 * 
+		 * @param p_startId  id of the starting node.
+		 * @param p_offsets  row offsets of the border array.
+		 * @param p_targets  border array.
+		 * @param p_nodes    ids of the nodes of the subgraph.
+		 * @param p_included flags of the nodes of the subgraph, indexed by country
+		 *                   id.
+		 * @return number of nodes visited.
+		 */
+		private int search(int p_startId, int[] p_offsets, int[] p_targets, int[] p_nodes, boolean[] p_included) {
+			for (int l_id : p_nodes) {
+				d_visited[l_id] = false;
+			}
+
+			int l_top = 0;
+			d_callStack[l_top++] = p_startId;
+			d_visited[p_startId] = true;
+			int l_numVisited = 1;
+
+			while (l_top > 0) {
+				int l_node = d_callStack[--l_top];
+				for (int l_i = p_offsets[l_node]; l_i < p_offsets[l_node + 1]; l_i++) {
+					int l_neighbor = p_targets[l_i];
+					if (!d_visited[l_neighbor] && p_included[l_neighbor]) {
+						d_callStack[l_top++] = l_neighbor;
+						d_visited[l_neighbor] = true;
+						l_numVisited++;
+					}
+				}
+			}
+
+			return l_numVisited;
+		}
+	}
 }
@@ -1,17 +1,20 @@
 package ca.concordia.risk.utils;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Observable abstract class.
  * <p>
  * Represents an object that keeps a list of subscribed Observers and notifies
  * them whenever its state changes.
+ * <p>
+ * The list of observers is copied on write, so observers can be attached and
+ * detached from any thread, even while observers are being notified. A
+ * notification is delivered to the observers attached when it started.
  */
 public abstract class Observable {
 
-	private Set<Observer> d_observers = new HashSet<>();
+	private CopyOnWriteArrayList<Observer> d_observers = new CopyOnWriteArrayList<>();
 
 	/**
 	 * Attaches a new Observer to this Observable by adding it to the set of
@@ -20,7 +23,7 @@ public abstract class Observable {
 	 * @param p_observer observer to attach.
 	 */
 	public void attach(Observer p_observer) {
-		d_observers.add(p_observer);
+		d_observers.addIfAbsent(p_observer);
 	}
 
 	/**
@@ -33,6 +36,29 @@ public abstract class Observable {
 		d_observers.remove(p_observer);
 	}
 
+	/**
+	 * Gets a copy of the current state of this Observable, for observers that
+	 * read it after it may have changed, such as an <code>AsyncObserver</code>.
+	 * <p>
+	 * Default implementation returns this Observable itself, which is only
+	 * correct for Observables whose state never changes.
+	 * 
+	 * @return Observable holding the current state, without observers.
+	 */
+	public Observable getSnapshot() {
+		return this;
+	}
+
+	/**
+	 * Checks if any observer is attached to this Observable.
+	 * 
+	 * @return <code>true</code> if at least one observer is attached.<br>
+	 *         <code>false</code> otherwise.
+	 */
+	protected boolean hasObservers() {
+		return !d_observers.isEmpty();
+	}
+
 	/**
 	 * Notifies all attached observers that a change of state occurred.
 	 */
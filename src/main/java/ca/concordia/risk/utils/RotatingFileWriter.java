@@ -0,0 +1,239 @@
+package ca.concordia.risk.utils;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * This class writes text to a series of size-limited files.
+ * <p>
+ * Text is written to the active segment <code>&lt;base&gt;.log</code>. Once the
+ * active segment reaches the maximum segment size, the next write closes it,
+ * renames it to <code>&lt;base&gt;.&lt;n&gt;.log</code>, with <code>n</code>
+ * counting from 1, and opens a new active segment. Each closed segment is then
+ * compressed to <code>&lt;base&gt;.&lt;n&gt;.log.gz</code> on a background
+ * thread shared by all writers, so rotating a segment costs the writing thread
+ * no more than a rename. Only the most recent rotated segments are kept: once a
+ * segment is compressed, the segment that falls out of the limit is deleted.
+ * Closing the writer waits for the pending compressions, so no segment is left
+ * half compressed when the program exits.
+ * <p>
+ * Segments are only rotated between two calls to <code>write()</code>, so a
+ * string written at once is never split across two segments.
+ */
+public class RotatingFileWriter extends Writer {
+
+	private static final String d_Extension = ".log";
+	private static final String d_CompressedExtension = ".gz";
+	private static final ExecutorService d_Compressor = Executors.newSingleThreadExecutor(p_task -> {
+		Thread l_thread = new Thread(p_task, "log-compressor");
+		l_thread.setDaemon(true);
+		return l_thread;
+	});
+
+	private String d_basePath;
+	private long d_maxSegmentSize;
+	private int d_maxRotatedSegments;
+	private Charset d_encoding;
+	private Writer d_segment;
+	private long d_segmentSize;
+	private int d_numRotatedSegments;
+	private List<Future<?>> d_compressions = new ArrayList<Future<?>>();
+
+	/**
+	 * Creates a new rotating writer and opens its active segment.
+	 * <p>
+	 * An existing active segment is overwritten. Segments left by an earlier
+	 * writer with the same base path are overwritten as they are rotated again.
+	 *
+	 * @param p_basePath           path of the segments without extension.
+	 * @param p_maxSegmentSize     number of bytes after which a segment is
+	 *                             rotated.
+	 * @param p_maxRotatedSegments number of rotated segments kept, older ones are
+	 *                             deleted.
+	 * @param p_encoding           encoding of the text. It must encode each
+	 *                             character as one byte for the segment size to
+	 *                             be exact.
+	 * @throws FileNotFoundException    thrown if opening the active segment fails.
+	 * @throws IllegalArgumentException thrown if the number of rotated segments
+	 *                                  kept is not positive.
+	 */
+	public RotatingFileWriter(String p_basePath, long p_maxSegmentSize, int p_maxRotatedSegments,
+			Charset p_encoding) throws FileNotFoundException {
+		if (p_maxRotatedSegments < 1) {
+			throw new IllegalArgumentException("number of rotated segments kept should be positive");
+		}
+		d_basePath = p_basePath;
+		d_maxSegmentSize = p_maxSegmentSize;
+		d_maxRotatedSegments = p_maxRotatedSegments;
+		d_encoding = p_encoding;
+
+		File l_activeFile = getActiveFile();
+		if (l_activeFile.getParentFile() != null) {
+			l_activeFile.getParentFile().mkdirs();
+		}
+		openSegment();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Rotates the active segment first if it is full.
+	 */
+	@Override
+	public void write(String p_text) throws IOException {
+		rotateIfFull();
+		d_segment.write(p_text);
+		d_segmentSize += p_text.length();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Rotates the active segment first if it is full.
+	 */
+	@Override
+	public void write(char[] p_buffer, int p_offset, int p_length) throws IOException {
+		rotateIfFull();
+		d_segment.write(p_buffer, p_offset, p_length);
+		d_segmentSize += p_length;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void flush() throws IOException {
+		d_segment.flush();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The active segment is left uncompressed. Waits until every segment rotated
+	 * so far is compressed.
+	 *
+	 * @throws IOException thrown if closing the active segment or compressing a
+	 *                     segment failed.
+	 */
+	@Override
+	public void close() throws IOException {
+		d_segment.close();
+		awaitCompression();
+	}
+
+	/**
+	 * Gets the number of segments rotated so far.
+	 *
+	 * @return number of rotated segments.
+	 */
+	public int getNumRotatedSegments() {
+		return d_numRotatedSegments;
+	}
+
+	/**
+	 * Waits until every segment rotated so far is compressed.
+	 *
+	 * @throws IOException thrown if compressing a segment failed.
+	 */
+	public void awaitCompression() throws IOException {
+		boolean l_interrupted = false;
+		try {
+			for (Future<?> l_compression : d_compressions) {
+				while (true) {
+					try {
+						l_compression.get();
+						break;
+					} catch (InterruptedException l_e) {
+						l_interrupted = true;
+					} catch (ExecutionException l_e) {
+						throw new IOException("failed to compress a log segment", l_e.getCause());
+					}
+				}
+			}
+		} finally {
+			if (l_interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * Closes the active segment and opens a new one if the active segment is
+	 * full.
+	 *
+	 * @throws IOException thrown if closing or renaming the segment fails.
+	 */
+	private void rotateIfFull() throws IOException {
+		if (d_segmentSize < d_maxSegmentSize) {
+			return;
+		}
+
+		d_segment.close();
+		File l_rotatedFile = new File(d_basePath + "." + (d_numRotatedSegments + 1) + d_Extension);
+		l_rotatedFile.delete();
+		if (!getActiveFile().renameTo(l_rotatedFile)) {
+			throw new IOException("failed to rotate log segment " + getActiveFile());
+		}
+		d_numRotatedSegments++;
+		int l_expiredSegment = d_numRotatedSegments - d_maxRotatedSegments;
+		d_compressions.add(d_Compressor.submit(() -> {
+			Compress(l_rotatedFile);
+			// Compressions run in order, so the expired segment is compressed already
+			if (l_expiredSegment > 0) {
+				new File(d_basePath + "." + l_expiredSegment + d_Extension + d_CompressedExtension).delete();
+			}
+			return null;
+		}));
+
+		openSegment();
+	}
+
+	/**
+	 * Opens a new empty active segment.
+	 *
+	 * @throws FileNotFoundException thrown if opening the segment fails.
+	 */
+	private void openSegment() throws FileNotFoundException {
+		d_segment = new OutputStreamWriter(new FileOutputStream(getActiveFile(), false), d_encoding);
+		d_segmentSize = 0;
+	}
+
+	/**
+	 * Gets the file of the active segment.
+	 *
+	 * @return active segment file.
+	 */
+	private File getActiveFile() {
+		return new File(d_basePath + d_Extension);
+	}
+
+	/**
+	 * Compresses a file with gzip and deletes the original.
+	 *
+	 * @param p_file file to compress.
+	 * @throws IOException thrown if reading or writing fails.
+	 */
+	private static void Compress(File p_file) throws IOException {
+		File l_compressedFile = new File(p_file.getPath() + d_CompressedExtension);
+		try (InputStream l_in = new FileInputStream(p_file);
+				OutputStream l_out = new GZIPOutputStream(
+						new BufferedOutputStream(new FileOutputStream(l_compressedFile, false)))) {
+			l_in.transferTo(l_out);
+		}
+		p_file.delete();
+	}
+}
@@ -0,0 +1,200 @@
+package ca.concordia.risk.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import ca.concordia.risk.game.Continent;
+import ca.concordia.risk.game.Country;
+
+/**
+ * This class represents the full result of validating a map.
+ * <p>
+ * Unlike the status message of <code>MapValidator</code>, which only describes
+ * the first problem found, a result lists every problem of the map: whether the
+ * map has too few countries, every empty continent, and every strongly
+ * connected component of the map and of each continent that is split into
+ * several components.
+ * <p>
+ * Components are ordered by the id of their first country, and the countries
+ * of a component are ordered by id.
+ */
+public class ValidationResult {
+
+	private static final String d_LessThanTwoCountriesError = "map has less than two countries";
+	private static final String d_EmptyContinentError = "continent %s has no countries";
+	private static final String d_MapComponentsError = "map is split into %d strongly connected components: %s";
+	private static final String d_ContinentComponentsError = "continent %s is split into %d strongly connected components: %s";
+
+	private boolean d_lessThanTwoCountries;
+	private List<Continent> d_emptyContinents = new ArrayList<Continent>();
+	private List<List<Country>> d_mapComponents = new ArrayList<List<Country>>();
+	private Map<Continent, List<List<Country>>> d_continentComponents = new LinkedHashMap<Continent, List<List<Country>>>();
+	private String d_status;
+
+	/** Creates a new empty <code>ValidationResult</code>, describing a valid map. */
+	ValidationResult() {
+	}
+
+	/**
+	 * Checks if the validated map is valid.
+	 *
+	 * @return <code>true</code> if the map has no problems.<br>
+	 *         <code>false</code> otherwise.
+	 */
+	public boolean isValid() {
+		return d_status == null;
+	}
+
+	/**
+	 * Checks if the validated map has less than two countries.
+	 *
+	 * @return <code>true</code> if the map has less than two countries.<br>
+	 *         <code>false</code> otherwise.
+	 */
+	public boolean hasLessThanTwoCountries() {
+		return d_lessThanTwoCountries;
+	}
+
+	/**
+	 * Gets the continents without countries.
+	 *
+	 * @return list of empty continents, in map order.
+	 */
+	public List<Continent> getEmptyContinents() {
+		return Collections.unmodifiableList(d_emptyContinents);
+	}
+
+	/**
+	 * Gets the strongly connected components of the map.
+	 *
+	 * @return list of components if the map is split into several components.<br>
+	 *         empty list otherwise.
+	 */
+	public List<List<Country>> getMapComponents() {
+		return Collections.unmodifiableList(d_mapComponents);
+	}
+
+	/**
+	 * Gets the strongly connected components of each continent split into
+	 * several components.
+	 *
+	 * @return components of each disconnected continent, in map order.
+	 */
+	public Map<Continent, List<List<Country>>> getContinentComponents() {
+		return Collections.unmodifiableMap(d_continentComponents);
+	}
+
+	/**
+	 * Gets the message describing the first problem found, in the same form as
+	 * <code>MapValidator.getStatus()</code>.
+	 *
+	 * @return status message of the first problem.<br>
+	 *         <code>null</code> if the map is valid.
+	 */
+	public String getStatus() {
+		return d_status;
+	}
+
+	/**
+	 * Gets a message for every problem of the map.
+	 *
+	 * @return list of error messages, empty if the map is valid.
+	 */
+	public List<String> getErrors() {
+		List<String> l_errors = new ArrayList<String>();
+		if (d_lessThanTwoCountries) {
+			l_errors.add(d_LessThanTwoCountriesError);
+		}
+		for (Continent l_continent : d_emptyContinents) {
+			l_errors.add(String.format(d_EmptyContinentError, l_continent.getName()));
+		}
+		if (!d_mapComponents.isEmpty()) {
+			l_errors.add(String.format(d_MapComponentsError, d_mapComponents.size(),
+					BuildComponentListString(d_mapComponents)));
+		}
+		for (Map.Entry<Continent, List<List<Country>>> l_entry : d_continentComponents.entrySet()) {
+			l_errors.add(String.format(d_ContinentComponentsError, l_entry.getKey().getName(),
+					l_entry.getValue().size(), BuildComponentListString(l_entry.getValue())));
+		}
+		return l_errors;
+	}
+
+	/** Records that the map has less than two countries. */
+	void setLessThanTwoCountries() {
+		d_lessThanTwoCountries = true;
+	}
+
+	/**
+	 * Records an empty continent.
+	 *
+	 * @param p_continent continent without countries.
+	 */
+	void addEmptyContinent(Continent p_continent) {
+		d_emptyContinents.add(p_continent);
+	}
+
+	/**
+	 * Records the components of a map split into several components.
+	 *
+	 * @param p_components strongly connected components of the map.
+	 */
+	void setMapComponents(List<List<Country>> p_components) {
+		d_mapComponents = p_components;
+	}
+
+	/**
+	 * Records the components of a continent split into several components.
+	 *
+	 * @param p_continent  disconnected continent.
+	 * @param p_components strongly connected components of the continent.
+	 */
+	void addContinentComponents(Continent p_continent, List<List<Country>> p_components) {
+		d_continentComponents.put(p_continent, p_components);
+	}
+
+	/**
+	 * Records the status message of a problem, unless a problem was already
+	 * recorded.
+	 *
+	 * @param p_status status message of the problem.
+	 */
+	void setStatus(String p_status) {
+		if (d_status == null) {
+			d_status = p_status;
+		}
+	}
+
+	/**
+	 * Checks if a problem was already recorded.
+	 *
+	 * @return <code>true</code> if a status message was recorded.<br>
+	 *         <code>false</code> otherwise.
+	 */
+	boolean hasStatus() {
+		return d_status != null;
+	}
+
+	/**
+	 * Builds a list of components, each as a list of country names.
+	 *
+	 * @param p_components components to build the list from.
+	 * @return string list of components.
+	 */
+	private static String BuildComponentListString(List<List<Country>> p_components) {
+		StringBuilder l_sb = new StringBuilder();
+
+		Iterator<List<Country>> l_it = p_components.iterator();
+		while (l_it.hasNext()) {
+			l_sb.append(MapValidator.BuildCountryListString(l_it.next()));
+			if (l_it.hasNext()) {
+				l_sb.append(", ");
+			}
+		}
+
+		return l_sb.toString();
+	}
+}
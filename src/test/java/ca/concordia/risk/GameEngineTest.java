@@ -18,6 +18,7 @@ import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.io.TempDir;
 
 import ca.concordia.risk.game.Country;
 import ca.concordia.risk.game.Player;
@@ -31,6 +32,9 @@ import ca.concordia.risk.utils.MapLoader;
 @TestMethodOrder(OrderAnnotation.class)
 class GameEngineTest {
 
+	@TempDir
+	static File d_LogFolder;
+
 	private static String d_TestMapPath = "test/testmap.map";
 	private static PrintWriter d_MockInputStreamWriter;
 
@@ -61,6 +65,7 @@ class GameEngineTest {
 
 		// Initialize game engine
 		GameEngine.Initialize();
+		GameEngine.GetContext().setLogDirectory(d_LogFolder.getPath());
 	}
 
 	/**
@@ -0,0 +1,95 @@
+package ca.concordia.risk.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test class for the <code>BinomialSampler</code>.
+ */
+class BinomialSamplerTest {
+
+	/**
+	 * Tests the trivial and invalid cases.
+	 */
+	@Test
+	void testEdgeCases() {
+		Random l_random = new Random(1);
+		assertEquals(0, BinomialSampler.Sample(0, 0.6, l_random::nextDouble));
+		assertEquals(0, BinomialSampler.Sample(10, 0, l_random::nextDouble));
+		assertEquals(10, BinomialSampler.Sample(10, 1, l_random::nextDouble));
+		assertThrows(IllegalArgumentException.class, () -> BinomialSampler.Sample(-1, 0.5, l_random::nextDouble));
+		assertThrows(IllegalArgumentException.class, () -> BinomialSampler.Sample(10, 1.5, l_random::nextDouble));
+	}
+
+	/**
+	 * Tests that the sampled distribution matches the exact binomial distribution
+	 * for army counts handled by both sampling methods.
+	 */
+	@Test
+	void testDistribution() {
+		Random l_random = new Random(7);
+		// Inversion is used for n = 12, rejection for n = 60
+		for (int l_n : new int[] { 12, 60 }) {
+			for (double l_p : new double[] { 0.6, 0.7 }) {
+				int l_numSamples = 200000;
+				int[] l_counts = new int[l_n + 1];
+				for (int l_i = 0; l_i < l_numSamples; l_i++) {
+					int l_sample = BinomialSampler.Sample(l_n, l_p, l_random::nextDouble);
+					assertTrue(l_sample >= 0 && l_sample <= l_n);
+					l_counts[l_sample]++;
+				}
+
+				// Total variation distance to the exact probabilities must be small
+				double l_distance = 0;
+				for (int l_k = 0; l_k <= l_n; l_k++) {
+					l_distance += Math.abs((double) l_counts[l_k] / l_numSamples - probability(l_n, l_k, l_p));
+				}
+				assertTrue(l_distance / 2 < 0.01, "n = " + l_n + ", p = " + l_p + ", distance = " + l_distance / 2);
+			}
+		}
+	}
+
+	/**
+	 * Tests the mean and variance of samples for a stack of millions of armies.
+	 */
+	@Test
+	void testLargeArmies() {
+		Random l_random = new Random(3);
+		int l_n = 5000000;
+		int l_numSamples = 20000;
+		double l_sum = 0;
+		double l_sumSquares = 0;
+		for (int l_i = 0; l_i < l_numSamples; l_i++) {
+			double l_sample = BinomialSampler.Sample(l_n, 0.6, l_random::nextDouble);
+			l_sum += l_sample;
+			l_sumSquares += l_sample * l_sample;
+		}
+		double l_mean = l_sum / l_numSamples;
+		double l_variance = l_sumSquares / l_numSamples - l_mean * l_mean;
+
+		// Expected mean is 3,000,000 with a variance of 1,200,000
+		assertEquals(l_n * 0.6, l_mean, 30);
+		assertEquals(l_n * 0.6 * 0.4, l_variance, 1200000 * 0.05);
+	}
+
+	/**
+	 * Computes the exact binomial probability of <code>p_k</code> successes.
+	 *
+	 * @param p_n number of trials.
+	 * @param p_k number of successes.
+	 * @param p_p probability of success.
+	 * @return probability of exactly <code>p_k</code> successes.
+	 */
+	private double probability(int p_n, int p_k, double p_p) {
+		double l_logCoefficient = 0;
+		for (int l_i = 1; l_i <= p_k; l_i++) {
+			l_logCoefficient += Math.log(p_n - p_k + l_i) - Math.log(l_i);
+		}
+		return Math.exp(l_logCoefficient + p_k * Math.log(p_p) + (p_n - p_k) * Math.log(1 - p_p));
+	}
+}
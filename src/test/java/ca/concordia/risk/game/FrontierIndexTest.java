@@ -0,0 +1,105 @@
+package ca.concordia.risk.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test class for the <code>FrontierIndex</code>.
+ */
+class FrontierIndexTest {
+
+	private GameMap d_map;
+	private List<Country> d_countries;
+	private Player d_player1;
+	private Player d_player2;
+
+	/**
+	 * Creates a line of four countries connected in both directions, with the
+	 * first two owned by one player and the last two by another.
+	 */
+	@BeforeEach
+	void setUp() {
+		d_map = new GameMap();
+		Continent l_continent = new Continent("Test Continent", 1);
+		d_map.addContinent(l_continent);
+		for (int l_i = 0; l_i < 4; l_i++) {
+			d_map.addCountry(new Country("Country " + l_i, l_continent));
+		}
+		d_countries = d_map.getCountries();
+		for (int l_i = 0; l_i < 3; l_i++) {
+			d_countries.get(l_i).addNeighbor(d_countries.get(l_i + 1));
+			d_countries.get(l_i + 1).addNeighbor(d_countries.get(l_i));
+		}
+
+		d_player1 = new Player("Player 1");
+		d_player2 = new Player("Player 2");
+		d_map.transferOwnership(d_countries.get(0), d_player1);
+		d_map.transferOwnership(d_countries.get(1), d_player1);
+		d_map.transferOwnership(d_countries.get(2), d_player2);
+		d_map.transferOwnership(d_countries.get(3), d_player2);
+	}
+
+	/**
+	 * Tests the frontier and targets of each player, before and after a transfer.
+	 */
+	@Test
+	void testFrontier() {
+		FrontierIndex l_index = d_map.getFrontierIndex();
+		assertEquals(List.of(d_countries.get(1)), l_index.getFrontier(d_player1));
+		assertEquals(List.of(d_countries.get(2)), l_index.getTargets(d_player1));
+		assertFalse(l_index.isFrontier(d_countries.get(0)));
+
+		// Conquering country 2 moves the frontier of both players
+		d_map.transferOwnership(d_countries.get(2), d_player1);
+		assertEquals(List.of(d_countries.get(2)), l_index.getFrontier(d_player1));
+		assertEquals(List.of(d_countries.get(3)), l_index.getTargets(d_player1));
+		assertEquals(List.of(d_countries.get(3)), l_index.getFrontier(d_player2));
+		assertEquals(List.of(d_countries.get(2)), l_index.getTargets(d_player2));
+		assertFalse(l_index.isFrontier(d_countries.get(1)));
+		assertEquals(1, l_index.getNumberOfEnemyNeighbors(d_countries.get(2)));
+	}
+
+	/**
+	 * Tests that the incrementally updated index matches an index built from
+	 * scratch after many random transfers.
+	 */
+	@Test
+	void testIncrementalUpdatesMatchRebuild() {
+		FrontierIndex l_index = d_map.getFrontierIndex();
+		Player[] l_players = { d_player1, d_player2, new Player("Player 3") };
+		Random l_random = new Random(42);
+
+		for (int l_i = 0; l_i < 100; l_i++) {
+			Country l_country = d_countries.get(l_random.nextInt(d_countries.size()));
+			d_map.transferOwnership(l_country, l_players[l_random.nextInt(l_players.length)]);
+
+			FrontierIndex l_rebuilt = new FrontierIndex(d_map.getTopology(), d_map.getState());
+			for (Player l_player : l_players) {
+				assertEquals(l_rebuilt.getFrontier(l_player), l_index.getFrontier(l_player));
+				assertEquals(l_rebuilt.getTargets(l_player), l_index.getTargets(l_player));
+			}
+		}
+	}
+
+	/**
+	 * Tests that the index is rebuilt when owners change without a transfer.
+	 */
+	@Test
+	void testRebuildAfterDirectChange() {
+		FrontierIndex l_index = d_map.getFrontierIndex();
+		GameState l_snapshot = d_map.getState().copy();
+
+		d_map.transferOwnership(d_countries.get(2), d_player1);
+		d_map.getState().copyFrom(l_snapshot);
+
+		assertTrue(l_index.isFrontier(d_countries.get(1)));
+		assertEquals(List.of(d_countries.get(2)), l_index.getTargets(d_player1));
+	}
+}
@@ -0,0 +1,62 @@
+package ca.concordia.risk.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+import ca.concordia.risk.game.orders.BlockadeOrder;
+import ca.concordia.risk.game.phases.MapEditorPhase;
+import ca.concordia.risk.io.views.NullView;
+
+/**
+ * Unit test class for the <code>GameContext</code> class.
+ * <p>
+ * Tests that the state of separate games is kept independent.
+ */
+class GameContextTest {
+
+	/**
+	 * Tests that the map, players and neutral player of two contexts are separate.
+	 */
+	@Test
+	void testContextsAreIndependent() {
+		GameContext l_context1 = new GameContext(new NullView());
+		GameContext l_context2 = new GameContext(new NullView());
+
+		// Both contexts start in the Map Editor phase with no map
+		assertEquals(MapEditorPhase.class, l_context1.getActivePhase().getClass());
+		assertNull(l_context1.getMap());
+
+		// Changes to one context must not be visible in the other one
+		l_context1.setMap(new GameMap());
+		l_context1.addPlayer(new Player("Player 1"));
+
+		assertNull(l_context2.getMap());
+		assertEquals(0, l_context2.getNumberOfPlayers());
+		assertNotSame(l_context1.getNeutralPlayer(), l_context2.getNeutralPlayer());
+	}
+
+	/**
+	 * Tests that a blockade hands the country to the neutral player of the game the
+	 * order belongs to.
+	 */
+	@Test
+	void testBlockadeUsesOwnContext() {
+		GameContext l_context = new GameContext(new NullView());
+
+		GameMap l_map = new GameMap();
+		Continent l_continent = new Continent("Continent", 1);
+		l_map.addContinent(l_continent);
+		Country l_country = new Country("Country", l_continent);
+		l_map.addCountry(l_country);
+		Player l_player = new Player("Player");
+		l_map.transferOwnership(l_country, l_player);
+
+		new BlockadeOrder(l_player, l_country, l_context).execute();
+
+		assertSame(l_context.getNeutralPlayer(), l_country.getOwner());
+	}
+}
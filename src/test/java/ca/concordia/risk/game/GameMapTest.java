@@ -2,9 +2,16 @@ package ca.concordia.risk.game;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -121,6 +128,35 @@ class GameMapTest {
 		assertFalse(l_country1.getNeighbors().contains(l_country2));
 	}
 
+	/**
+	 * Tests removing several countries at once, and that the borders from and to
+	 * the removed countries are removed.
+	 */
+	@Test
+	void testRemoveCountries() {
+		Continent l_continent = new Continent("Test Continent", 5);
+		d_Map.addContinent(l_continent);
+		Country l_country1 = new Country("Test Country 1", l_continent);
+		Country l_country2 = new Country("Test Country 2", l_continent);
+		Country l_country3 = new Country("Test Country 3", l_continent);
+		d_Map.addCountry(l_country1);
+		d_Map.addCountry(l_country2);
+		d_Map.addCountry(l_country3);
+		l_country1.addNeighbor(l_country2);
+		l_country2.addNeighbor(l_country3);
+		l_country3.addNeighbor(l_country1);
+		l_country3.addNeighbor(l_country2);
+		assertEquals(Set.of(l_country1, l_country3), l_country2.getIncomingNeighbors());
+
+		assertEquals(2, d_Map.removeCountries(List.of(l_country2.getName(), l_country3.getName(), "Unknown")));
+		assertEquals(List.of(l_country1), d_Map.getCountries());
+		assertEquals(Set.of(l_country1), l_continent.getCountries());
+		assertTrue(l_country1.getNeighbors().isEmpty());
+		assertTrue(l_country1.getIncomingNeighbors().isEmpty());
+		assertTrue(l_country2.getNeighbors().isEmpty());
+		assertTrue(l_country2.getIncomingNeighbors().isEmpty());
+	}
+
 	/**
 	 * Tests the removal of countries.
 	 */
@@ -142,4 +178,126 @@ class GameMapTest {
 		assertTrue(l_country1.removeNeighbor(l_country2));
 		assertFalse(l_country1.getNeighbors().contains(l_country2));
 	}
+
+	/**
+	 * Tests compiling the map topology and recompiling it after an edit.
+	 */
+	@Test
+	void testTopology() {
+		// Setup
+		Continent l_continent = new Continent("Test Continent", 5);
+		d_Map.addContinent(l_continent);
+		Country l_country1 = new Country("Test Country 1", l_continent);
+		Country l_country2 = new Country("Test Country 2", l_continent);
+		Country l_country3 = new Country("Test Country 3", l_continent);
+		d_Map.addCountry(l_country1);
+		d_Map.addCountry(l_country2);
+		d_Map.addCountry(l_country3);
+		l_country1.addNeighbor(l_country2);
+		l_country1.addNeighbor(l_country3);
+		l_country3.addNeighbor(l_country1);
+
+		// Test that ids follow name order and borders are directed
+		MapTopology l_topology = d_Map.getTopology();
+		assertEquals(3, l_topology.getNumberOfCountries());
+		assertEquals(3, l_topology.getNumberOfBorders());
+		assertEquals(l_country2, l_topology.getCountry(l_country2.getId()));
+		assertEquals(2, l_topology.getDegree(l_country1.getId()));
+		assertTrue(l_topology.hasBorder(l_country1.getId(), l_country2.getId()));
+		assertFalse(l_topology.hasBorder(l_country2.getId(), l_country1.getId()));
+		assertTrue(l_country1.hasNeighbor(l_country3));
+		assertFalse(l_country2.hasNeighbor(l_country1));
+
+		// Test that editing the map discards the compiled topology
+		l_country2.addNeighbor(l_country1);
+		assertNotSame(l_topology, d_Map.getTopology());
+		assertTrue(l_country2.hasNeighbor(l_country1));
+	}
+
+	/**
+	 * Tests that a frozen map cannot be edited.
+	 */
+	@Test
+	void testFreeze() {
+		// Setup
+		Continent l_continent = new Continent("Test Continent", 5);
+		d_Map.addContinent(l_continent);
+		Country l_country1 = new Country("Test Country 1", l_continent);
+		Country l_country2 = new Country("Test Country 2", l_continent);
+		d_Map.addCountry(l_country1);
+		d_Map.addCountry(l_country2);
+
+		// Test that edits are rejected while the map is frozen
+		d_Map.freeze();
+		assertTrue(d_Map.isFrozen());
+		assertThrows(IllegalStateException.class, () -> l_country1.addNeighbor(l_country2));
+		assertThrows(IllegalStateException.class, () -> d_Map.removeCountry(l_country2.getName()));
+		assertFalse(l_country1.getNeighbors().contains(l_country2));
+
+		// Test that edits are allowed again once the map is unfrozen
+		d_Map.unfreeze();
+		assertTrue(l_country1.addNeighbor(l_country2));
+	}
+
+	/**
+	 * Tests that adding an existing continent or country, or removing a missing
+	 * one, neither discards the compiled topology nor fails on a frozen map.
+	 */
+	@Test
+	void testNoOpEdits() {
+		// Setup
+		Continent l_continent = new Continent("Test Continent", 5);
+		d_Map.addContinent(l_continent);
+		Country l_country = new Country("Test Country", l_continent);
+		d_Map.addCountry(l_country);
+		d_Map.freeze();
+		MapTopology l_topology = d_Map.getTopology();
+		GameState l_state = d_Map.getState();
+
+		assertFalse(d_Map.addContinent(new Continent("Test Continent", 3)));
+		assertFalse(d_Map.addCountry(new Country("Test Country", l_continent)));
+		assertFalse(d_Map.removeContinent("Missing Continent"));
+		assertFalse(d_Map.removeCountry("Missing Country"));
+		assertEquals(0, d_Map.removeCountries(List.of("Missing Country 1", "Missing Country 2")));
+		assertSame(l_topology, d_Map.getTopology());
+		assertSame(l_state, d_Map.getState());
+	}
+
+	/**
+	 * Tests transferring a country between players and notifying the ownership
+	 * listeners.
+	 */
+	@Test
+	void testTransferOwnership() {
+		// Setup
+		Continent l_continent = new Continent("Test Continent", 5);
+		d_Map.addContinent(l_continent);
+		Country l_country = new Country("Test Country", l_continent);
+		d_Map.addCountry(l_country);
+		Player l_player1 = new Player("Player 1");
+		Player l_player2 = new Player("Player 2");
+
+		List<String> l_events = new ArrayList<String>();
+		OwnershipListener l_listener = (l_c, l_previous, l_new) -> l_events
+				.add(l_c.getName() + ": " + (l_previous == null ? "none" : l_previous.getName()) + " -> " + l_new.getName());
+		d_Map.attachOwnershipListener(l_listener);
+
+		// Test that both player sets, continent counters and the owner are updated
+		d_Map.transferOwnership(l_country, l_player1);
+		d_Map.transferOwnership(l_country, l_player2);
+		assertEquals(l_player2, l_country.getOwner());
+		assertFalse(l_player1.ownsCountry(l_country));
+		assertTrue(l_player2.ownsCountry(l_country));
+		assertTrue(l_player2.ownsContinent(l_continent));
+		assertEquals(0, l_player1.getNumberOfCountriesOwned(l_continent));
+
+		// Test that transferring to the current owner does not notify listeners
+		d_Map.transferOwnership(l_country, l_player2);
+		assertEquals(List.of("Test Country: none -> Player 1", "Test Country: Player 1 -> Player 2"), l_events);
+
+		// Test that a detached listener is no longer notified
+		d_Map.detachOwnershipListener(l_listener);
+		d_Map.transferOwnership(l_country, l_player1);
+		assertEquals(2, l_events.size());
+	}
 }
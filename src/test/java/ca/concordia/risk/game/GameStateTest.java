@@ -0,0 +1,146 @@
+package ca.concordia.risk.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test class for the <code>GameState</code>.
+ */
+class GameStateTest {
+
+	private GameMap d_map;
+	private Country d_country1;
+	private Country d_country2;
+	private Player d_player1;
+	private Player d_player2;
+
+	/**
+	 * Creates a map of two countries, each owned by a different player.
+	 */
+	@BeforeEach
+	void setUp() {
+		d_map = new GameMap();
+		Continent l_continent = new Continent("Test Continent", 1);
+		d_map.addContinent(l_continent);
+		d_country1 = new Country("Test Country 1", l_continent);
+		d_country2 = new Country("Test Country 2", l_continent);
+		d_map.addCountry(d_country1);
+		d_map.addCountry(d_country2);
+
+		d_player1 = new Player("Player 1");
+		d_player2 = new Player("Player 2");
+		d_country1.setOwner(d_player1);
+		d_country1.addArmies(5);
+		d_country2.setOwner(d_player2);
+	}
+
+	/**
+	 * Tests that armies and owners set before the map is compiled are moved into
+	 * the state of the map, and back out of it when the map is edited.
+	 */
+	@Test
+	void testAttachAndDetach() {
+		GameState l_state = d_map.getState();
+		assertEquals(5, l_state.getArmies(d_country1.getId()));
+		assertSame(d_player2, l_state.getOwner(d_country2.getId()));
+
+		// Changes made through the country are stored in the state
+		d_country2.addArmies(3);
+		assertEquals(3, l_state.getArmies(d_country2.getId()));
+
+		// Editing the map moves the values back into the countries
+		d_country1.addNeighbor(d_country2);
+		assertEquals(3, d_country2.getArmies());
+		assertSame(d_player1, d_country1.getOwner());
+	}
+
+	/**
+	 * Tests that adding an existing neighbor or removing a missing one keeps the
+	 * compiled topology and the state of the map.
+	 */
+	@Test
+	void testNoOpEditKeepsState() {
+		d_country1.addNeighbor(d_country2);
+		MapTopology l_topology = d_map.getTopology();
+		GameState l_state = d_map.getState();
+
+		assertFalse(d_country1.addNeighbor(d_country2));
+		assertFalse(d_country2.removeNeighbor(d_country1));
+		assertSame(l_topology, d_map.getTopology());
+		assertSame(l_state, d_map.getState());
+		assertEquals(5, l_state.getArmies(d_country1.getId()));
+	}
+
+	/**
+	 * Tests restoring the state of the map from a snapshot, including the
+	 * countries owned by the players.
+	 */
+	@Test
+	void testSnapshot() {
+		d_player1.addCountry(d_country1);
+		d_player2.addCountry(d_country2);
+		GameState l_snapshot = d_map.getState().copy();
+
+		d_country1.removeArmies(4);
+		d_map.transferOwnership(d_country2, d_player1);
+		assertEquals(1, d_country1.getArmies());
+		assertTrue(d_player1.ownsContinent(d_country1.getContinent()));
+
+		d_map.getState().copyFrom(l_snapshot);
+		assertEquals(5, d_country1.getArmies());
+		assertSame(d_player2, d_country2.getOwner());
+		assertTrue(d_player2.ownsCountry(d_country2));
+		assertFalse(d_player1.ownsCountry(d_country2));
+		assertEquals(1, d_player1.getCountries().size());
+		assertEquals(1, d_player1.getNumberOfCountriesOwned(d_country1.getContinent()));
+		assertTrue(d_player1.getOwnedContinents().isEmpty());
+
+		// Reinforcements agree with the restored owners
+		d_player1.assignReinfocements();
+		assertEquals(3, d_player1.getRemainingReinforcements());
+	}
+
+	/**
+	 * Tests that negotiations are stored in the state the players are bound to.
+	 */
+	@Test
+	void testNegotiations() {
+		d_map.getState();
+		d_player1.addActiveNegotiation(d_player2);
+
+		assertTrue(d_player1.isNegotiating(d_player2));
+		assertFalse(d_player2.isNegotiating(d_player1));
+
+		d_player1.clearActiveNegotiations();
+		assertFalse(d_player1.isNegotiating(d_player2));
+	}
+
+	/**
+	 * Tests that the player registry grows past 64 players and keeps the active
+	 * negotiations when it does.
+	 */
+	@Test
+	void testManyPlayers() {
+		GameState l_state = d_map.getState();
+		d_player1.addActiveNegotiation(d_player2);
+
+		Player l_lastPlayer = null;
+		for (int l_i = 0; l_i < 100; l_i++) {
+			l_lastPlayer = new Player("Extra Player " + l_i);
+			l_state.registerPlayer(l_lastPlayer);
+		}
+		d_country2.setOwner(l_lastPlayer);
+		l_lastPlayer.addActiveNegotiation(d_player1);
+
+		assertEquals(102, l_state.getNumberOfPlayers());
+		assertSame(l_lastPlayer, d_country2.getOwner());
+		assertTrue(d_player1.isNegotiating(d_player2));
+		assertTrue(l_lastPlayer.isNegotiating(d_player1));
+		assertFalse(d_player1.isNegotiating(l_lastPlayer));
+	}
+}
@@ -0,0 +1,96 @@
+package ca.concordia.risk.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test class for the <code>MapTemplate</code>.
+ */
+class MapTemplateTest {
+
+	private GameMap d_map;
+
+	/**
+	 * Creates a map with two continents and three countries, with one border in
+	 * a single direction.
+	 */
+	@BeforeEach
+	void setUp() {
+		d_map = new GameMap();
+		Continent l_continent1 = new Continent("Continent 1", 3);
+		Continent l_continent2 = new Continent("Continent 2", 5);
+		d_map.addContinent(l_continent1);
+		d_map.addContinent(l_continent2);
+
+		Country l_country1 = new Country("Country 1", l_continent1);
+		Country l_country2 = new Country("Country 2", l_continent1);
+		Country l_country3 = new Country("Country 3", l_continent2);
+		d_map.addCountry(l_country1);
+		d_map.addCountry(l_country2);
+		d_map.addCountry(l_country3);
+		l_country1.addNeighbor(l_country2);
+		l_country2.addNeighbor(l_country1);
+		l_country2.addNeighbor(l_country3);
+		l_country3.addNeighbor(l_country1);
+	}
+
+	/**
+	 * Tests that a created map has the same continents, countries and borders as
+	 * the original map.
+	 */
+	@Test
+	void testCreateMap() {
+		MapTemplate l_template = new MapTemplate(d_map);
+		GameMap l_copy = l_template.createMap();
+
+		assertEquals(d_map.buildMapString(), l_copy.buildMapString());
+		assertEquals(5, l_copy.getContinent("Continent 2").getValue());
+		assertSame(l_copy, l_copy.getCountry("Country 3").getMap());
+		assertSame(l_copy.getContinent("Continent 2"), l_copy.getCountry("Country 3").getContinent());
+		for (Country l_country : d_map.getCountries()) {
+			Country l_copyCountry = l_copy.getCountry(l_country.getName());
+			assertEquals(l_country.getIncomingNeighbors().size(), l_copyCountry.getIncomingNeighbors().size());
+			for (Country l_neighbor : l_copyCountry.getIncomingNeighbors()) {
+				assertTrue(l_country.getIncomingNeighbors().contains(d_map.getCountry(l_neighbor.getName())));
+			}
+		}
+
+		// The topology of the copy is compiled and shares the template borders
+		MapTopology l_topology = l_copy.getTopology();
+		assertEquals(d_map.getTopology().getNumberOfBorders(), l_topology.getNumberOfBorders());
+		assertSame(d_map.getTopology().getNeighborTargets(), l_topology.getNeighborTargets());
+		for (int l_id = 0; l_id < l_topology.getNumberOfCountries(); l_id++) {
+			assertEquals(l_id, l_topology.getCountry(l_id).getId());
+		}
+	}
+
+	/**
+	 * Tests that maps created from the same template have independent states.
+	 */
+	@Test
+	void testCreatedMapsAreIndependent() {
+		d_map.transferOwnership(d_map.getCountry("Country 1"), new Player("Player 1"));
+		d_map.getCountry("Country 1").addArmies(4);
+		MapTemplate l_template = new MapTemplate(d_map);
+
+		GameMap l_first = l_template.createMap();
+		GameMap l_second = l_template.createMap();
+		assertNotSame(l_first.getCountry("Country 1"), l_second.getCountry("Country 1"));
+
+		// The state of the original map is not copied
+		assertNull(l_first.getCountry("Country 1").getOwner());
+		assertEquals(0, l_first.getCountry("Country 1").getArmies());
+
+		// Changing one created map does not affect the other
+		l_first.transferOwnership(l_first.getCountry("Country 2"), new Player("Player 2"));
+		l_first.getCountry("Country 2").addArmies(3);
+		assertNull(l_second.getCountry("Country 2").getOwner());
+		assertEquals(0, l_second.getCountry("Country 2").getArmies());
+	}
+}
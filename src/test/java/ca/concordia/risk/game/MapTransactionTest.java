@@ -0,0 +1,132 @@
+package ca.concordia.risk.game;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test class for the <code>MapTransaction</code>.
+ */
+class MapTransactionTest {
+
+	private GameMap d_map;
+
+	/**
+	 * Creates a map with two continents and three countries.
+	 */
+	@BeforeEach
+	void setUp() {
+		d_map = new GameMap();
+		Continent l_continent1 = new Continent("Continent 1", 3);
+		Continent l_continent2 = new Continent("Continent 2", 5);
+		d_map.addContinent(l_continent1);
+		d_map.addContinent(l_continent2);
+
+		Country l_country1 = new Country("Country 1", l_continent1);
+		Country l_country2 = new Country("Country 2", l_continent1);
+		Country l_country3 = new Country("Country 3", l_continent2);
+		d_map.addCountry(l_country1);
+		d_map.addCountry(l_country2);
+		d_map.addCountry(l_country3);
+		l_country1.addNeighbor(l_country2);
+		l_country2.addNeighbor(l_country1);
+		l_country2.addNeighbor(l_country3);
+		l_country3.addNeighbor(l_country1);
+	}
+
+	/**
+	 * Tests that edits are only applied on commit, and may refer to countries and
+	 * continents recorded later in the transaction.
+	 */
+	@Test
+	void testCommit() throws MapTransaction.TransactionException {
+		MapTransaction l_transaction = new MapTransaction(d_map);
+		l_transaction.addNeighbor("Country 4", "Country 1");
+		l_transaction.addNeighbor("Country 1", "Country 4");
+		l_transaction.addCountry("Country 4", "Continent 3");
+		l_transaction.addContinent("Continent 3", 2);
+		l_transaction.removeCountry("Country 2");
+		l_transaction.removeContinent("Continent 2");
+		assertEquals(6, l_transaction.size());
+		assertNull(d_map.getContinent("Continent 3"));
+
+		l_transaction.commit();
+		assertEquals(0, l_transaction.size());
+		assertNotNull(d_map.getContinent("Continent 3"));
+		assertNull(d_map.getContinent("Continent 2"));
+		assertNull(d_map.getCountry("Country 2"));
+		assertNull(d_map.getCountry("Country 3"));
+		Country l_country1 = d_map.getCountry("Country 1");
+		Country l_country4 = d_map.getCountry("Country 4");
+		assertTrue(l_country1.getNeighbors().contains(l_country4));
+		assertTrue(l_country4.getNeighbors().contains(l_country1));
+		assertEquals(1, l_country1.getNeighbors().size());
+		assertEquals(1, l_country1.getIncomingNeighbors().size());
+	}
+
+	/**
+	 * Tests that a failing edit leaves the map as it was before the commit.
+	 */
+	@Test
+	void testRollbackOnError() {
+		String l_mapBefore = d_map.buildMapString();
+
+		MapTransaction l_transaction = new MapTransaction(d_map);
+		l_transaction.addContinent("Continent 3", 2);
+		l_transaction.addCountry("Country 4", "Continent 3");
+		l_transaction.addNeighbor("Country 4", "Country 3");
+		l_transaction.removeNeighbor("Country 2", "Country 1");
+		l_transaction.removeCountry("Country 3");
+		l_transaction.removeContinent("Continent 1");
+		l_transaction.removeContinent("Continent 4");
+
+		assertThrows(MapTransaction.TransactionException.class, () -> l_transaction.commit());
+		assertEquals(l_mapBefore, d_map.buildMapString());
+		assertEquals(0, l_transaction.size());
+
+		// Borders are restored in both directions
+		Country l_country1 = d_map.getCountry("Country 1");
+		Country l_country3 = d_map.getCountry("Country 3");
+		assertTrue(l_country3.getNeighbors().contains(l_country1));
+		assertTrue(l_country1.getIncomingNeighbors().contains(l_country3));
+		assertEquals(d_map.getContinent("Continent 2"), l_country3.getContinent());
+		assertTrue(d_map.getContinent("Continent 1").getCountries().contains(l_country1));
+	}
+
+	/**
+	 * Tests that a transaction adding back a country or a neighbor it removed is
+	 * rejected before any edit is applied, as adds are applied before removes.
+	 */
+	@Test
+	void testRemoveThenAddIsRejected() {
+		String l_mapBefore = d_map.buildMapString();
+
+		MapTransaction l_transaction = new MapTransaction(d_map);
+		l_transaction.removeCountry("Country 3");
+		l_transaction.addCountry("Country 3", "Continent 2");
+		l_transaction.addNeighbor("Country 1", "Country 3");
+		MapTransaction.TransactionException l_e = assertThrows(MapTransaction.TransactionException.class,
+				() -> l_transaction.commit());
+		assertTrue(l_e.getMessage().startsWith("country Country 3 is removed and then added again"));
+		assertEquals(l_mapBefore, d_map.buildMapString());
+		assertEquals(0, l_transaction.size());
+
+		l_transaction.removeNeighbor("Country 1", "Country 2");
+		l_transaction.addNeighbor("Country 1", "Country 2");
+		l_e = assertThrows(MapTransaction.TransactionException.class, () -> l_transaction.commit());
+		assertTrue(l_e.getMessage().startsWith("neighbor Country 2 of Country 1 is removed"));
+		assertEquals(l_mapBefore, d_map.buildMapString());
+
+		// Adding then removing follows the recorded order and is accepted
+		l_transaction.addCountry("Country 4", "Continent 1");
+		l_transaction.removeCountry("Country 4");
+		assertDoesNotThrow(() -> l_transaction.commit());
+		assertEquals(l_mapBefore, d_map.buildMapString());
+	}
+}
@@ -2,8 +2,10 @@ package ca.concordia.risk.game;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.PipedInputStream;
@@ -13,18 +15,24 @@ import java.io.PrintWriter;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import ca.concordia.risk.GameEngine;
 import ca.concordia.risk.game.orders.DeployOrder;
 import ca.concordia.risk.game.orders.Order;
 import ca.concordia.risk.game.strategies.HumanStrategy;
 import ca.concordia.risk.game.strategies.BenevolentStrategy;
+import ca.concordia.risk.game.strategies.PlayerStrategy;
+import ca.concordia.risk.io.views.NullView;
 
 /**
  * Unit test class for the <code>Player</code>.
  */
 class PlayerTest {
 
+	@TempDir
+	static File d_LogFolder;
+
 	/**
 	 * Tests assignment of reinforcements to players depending on on the minimum
 	 * reinforcement number, number of countries owned and bonus value of wholly
@@ -72,6 +80,49 @@ class PlayerTest {
 		assertEquals(l_player.getRemainingReinforcements(), 14);
 	}
 
+	/**
+	 * Tests that the per-continent country counters follow the countries added to
+	 * and removed from the player.
+	 */
+	@Test
+	void testContinentOwnership() {
+		// Create sample map with two continents
+		GameMap l_map = new GameMap();
+		Continent l_continent1 = new Continent("Test Continent 1", 5);
+		Continent l_continent2 = new Continent("Test Continent 2", 7);
+		l_map.addContinent(l_continent1);
+		l_map.addContinent(l_continent2);
+		Country l_country1 = new Country("Country 1", l_continent1);
+		Country l_country2 = new Country("Country 2", l_continent1);
+		Country l_country3 = new Country("Country 3", l_continent2);
+		l_map.addCountry(l_country1);
+		l_map.addCountry(l_country2);
+		l_map.addCountry(l_country3);
+
+		// Own one of two countries of the first continent
+		Player l_player = new Player("Player 1");
+		l_player.addCountry(l_country1);
+		l_player.addCountry(l_country1);
+		assertEquals(1, l_player.getNumberOfCountriesOwned(l_continent1));
+		assertFalse(l_player.ownsContinent(l_continent1));
+
+		// Own the whole first continent
+		l_player.addCountry(l_country2);
+		assertTrue(l_player.ownsContinent(l_continent1));
+		assertFalse(l_player.ownsContinent(l_continent2));
+		assertEquals(1, l_player.getOwnedContinents().size());
+		l_player.assignReinfocements();
+		assertEquals(3 + l_continent1.getValue(), l_player.getRemainingReinforcements());
+
+		// Lose a country of the first continent
+		l_player.removeCountry(l_country1);
+		l_player.removeCountry(l_country1);
+		assertEquals(1, l_player.getNumberOfCountriesOwned(l_continent1));
+		assertTrue(l_player.getOwnedContinents().isEmpty());
+		l_player.assignReinfocements();
+		assertEquals(3, l_player.getRemainingReinforcements());
+	}
+
 	/**
 	 * Tests that the player cannot deploy more armies that there is in their
 	 * reinforcement pool or deploy an invalid number of armies.
@@ -151,6 +202,7 @@ class PlayerTest {
 
 		// Initialize the game engine and switch to the gameplay phase
 		GameEngine.Initialize();
+		GameEngine.GetContext().setLogDirectory(d_LogFolder.getPath());
 		GameEngine.SetMap(l_map);
 		GameEngine.SwitchToNextPhase();
 		GameEngine.SwitchToNextPhase();
@@ -203,4 +255,20 @@ class PlayerTest {
 		assertEquals(l_order.getStatus(), "Test Player deployed 6 armies to Test Country 1");
 	}
 
+	/**
+	 * Tests that a player is given a human strategy on its own game, and that a
+	 * strategy set before any use replaces the default one.
+	 */
+	@Test
+	void testDefaultStrategy() {
+		GameContext l_context = new GameContext(new NullView());
+		Player l_player = new Player("Test Player", l_context);
+		assertTrue(l_player.GetStrategy() instanceof HumanStrategy);
+		assertTrue(l_context.getNeutralPlayer().GetStrategy() instanceof HumanStrategy);
+
+		Player l_aiPlayer = new Player("AI Player");
+		PlayerStrategy l_strategy = new BenevolentStrategy(l_aiPlayer, l_context);
+		l_aiPlayer.SetStrategy(l_strategy);
+		assertSame(l_strategy, l_aiPlayer.GetStrategy());
+	}
 }
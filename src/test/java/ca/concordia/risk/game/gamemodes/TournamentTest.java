@@ -4,12 +4,18 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Scanner;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import ca.concordia.risk.game.GameResult;
+import ca.concordia.risk.utils.LogLevel;
 import ca.concordia.risk.utils.MapLoader;
 
 /**
@@ -17,6 +23,9 @@ import ca.concordia.risk.utils.MapLoader;
  */
 class TournamentTest {
 
+	@TempDir
+	File d_logFolder;
+
 	private static final List<String> d_TestMapFiles = List.of("test/testmap.map", "test/conquest.map",
 			"test/risk.map");
 
@@ -42,6 +51,7 @@ class TournamentTest {
 
 		// Create a tournament and add player strategies to it
 		Tournament l_tournament = new Tournament(d_TestMapFiles, l_numGames, l_numTurns);
+		l_tournament.setLogDirectory(d_logFolder.getPath());
 		l_tournament.addPlayerStrategy("aggressive");
 		l_tournament.addPlayerStrategy("benevolent");
 		l_tournament.addPlayerStrategy("random");
@@ -81,6 +91,7 @@ class TournamentTest {
 
 		// Create a tournament and add player strategies to it
 		Tournament l_tournament = new Tournament(d_TestMapFiles, l_numGames, l_numTurns);
+		l_tournament.setLogDirectory(d_logFolder.getPath());
 		l_tournament.addPlayerStrategy("aggressive");
 		l_tournament.addPlayerStrategy("benevolent");
 		l_tournament.addPlayerStrategy("random");
@@ -105,4 +116,140 @@ class TournamentTest {
 			}
 		}
 	}
+
+	/**
+	 * Tests that a tournament played on multiple threads reports the results of
+	 * each game in the same order as a sequential tournament.
+	 */
+	@Test
+	void testParallelTournament() {
+		// Set the number of games to play on each map and the turn limit
+		int l_numGames = 5;
+		int l_numTurns = 50;
+
+		// Create a tournament played on four threads
+		Tournament l_tournament = new Tournament(d_TestMapFiles, l_numGames, l_numTurns);
+		l_tournament.setLogDirectory(d_logFolder.getPath());
+		l_tournament.setNumberOfThreads(4);
+		l_tournament.addPlayerStrategy("aggressive");
+		l_tournament.addPlayerStrategy("random");
+		// Adding a cheater player will guarantee a victor
+		l_tournament.addPlayerStrategy("cheater");
+
+		// Ensure tournament runs successfully
+		assertDoesNotThrow(() -> l_tournament.run());
+
+		// Check that each map row is in order and cheater won all games
+		String l_resultsTable = l_tournament.buildResultsTable();
+		try (Scanner l_sc = new Scanner(l_resultsTable)) {
+			// Skip header
+			l_sc.nextLine();
+			for (String l_mapFile : d_TestMapFiles) {
+				String[] l_lineTokens = l_sc.nextLine().split("\\s+");
+				assertEquals(l_mapFile, l_lineTokens[0]);
+				assertEquals(l_numGames + 1, l_lineTokens.length);
+				for (int l_i = 1; l_i < l_lineTokens.length; l_i++) {
+					assertEquals("Cheater", l_lineTokens[l_i]);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Tests that each tournament game records a structured result.
+	 */
+	@Test
+	void testGameResults() {
+		int l_numGames = 2;
+		int l_numTurns = 30;
+
+		Tournament l_tournament = new Tournament(d_TestMapFiles, l_numGames, l_numTurns);
+		l_tournament.setLogDirectory(d_logFolder.getPath());
+		l_tournament.addPlayerStrategy("benevolent");
+		l_tournament.addPlayerStrategy("cheater");
+
+		assertDoesNotThrow(() -> l_tournament.run());
+
+		// Each map should have one result per game
+		List<List<GameResult>> l_results = l_tournament.getResults();
+		assertEquals(d_TestMapFiles.size(), l_results.size());
+		for (List<GameResult> l_mapResults : l_results) {
+			assertEquals(l_numGames, l_mapResults.size());
+			for (GameResult l_result : l_mapResults) {
+				// Cheater wins by eliminating the benevolent player within the turn limit
+				assertEquals("Cheater", l_result.getWinner());
+				assertEquals(List.of("Benevolent"), l_result.getEliminationOrder());
+				assertTrue(l_result.getNumberOfTurns() <= l_numTurns);
+				assertTrue(l_result.getTerritoryCounts().get("Cheater") > 0);
+			}
+		}
+	}
+
+	/**
+	 * Tests that a seeded tournament produces the same results whether its games
+	 * are played sequentially or on multiple threads.
+	 */
+	@Test
+	void testSeededTournamentIsReproducible() throws Exception {
+		int l_numGames = 3;
+		int l_numTurns = 30;
+
+		Tournament l_sequential = new Tournament(d_TestMapFiles, l_numGames, l_numTurns);
+		Tournament l_parallel = new Tournament(d_TestMapFiles, l_numGames, l_numTurns);
+		l_parallel.setNumberOfThreads(4);
+		for (Tournament l_tournament : List.of(l_sequential, l_parallel)) {
+			l_tournament.setLogDirectory(d_logFolder.getPath());
+			l_tournament.setSeed(1234);
+			l_tournament.addPlayerStrategy("aggressive");
+			l_tournament.addPlayerStrategy("benevolent");
+			l_tournament.addPlayerStrategy("random");
+			l_tournament.run();
+		}
+
+		// Every game should unfold identically in both tournaments
+		for (int l_i = 0; l_i < d_TestMapFiles.size(); l_i++) {
+			for (int l_j = 0; l_j < l_numGames; l_j++) {
+				GameResult l_expected = l_sequential.getResults().get(l_i).get(l_j);
+				GameResult l_actual = l_parallel.getResults().get(l_i).get(l_j);
+				assertEquals(l_expected.getSeed(), l_actual.getSeed());
+				assertEquals(l_expected.getWinner(), l_actual.getWinner());
+				assertEquals(l_expected.getNumberOfTurns(), l_actual.getNumberOfTurns());
+				assertEquals(l_expected.getEliminationOrder(), l_actual.getEliminationOrder());
+				assertEquals(l_expected.getTerritoryCounts(), l_actual.getTerritoryCounts());
+			}
+		}
+	}
+
+	/**
+	 * Tests that the tournament games only log the enabled levels, and write no
+	 * log file when file logging is disabled.
+	 * 
+	 * @throws Exception not expected.
+	 */
+	@Test
+	void testLogSettings() throws Exception {
+		Tournament l_tournament = new Tournament(d_TestMapFiles, 1, 10);
+		l_tournament.setLogDirectory(d_logFolder.getPath());
+		l_tournament.setLogLevels(EnumSet.of(LogLevel.TURN));
+		l_tournament.addPlayerStrategy("aggressive");
+		l_tournament.addPlayerStrategy("random");
+		l_tournament.run();
+
+		File[] l_logFiles = d_logFolder.listFiles();
+		assertEquals(d_TestMapFiles.size(), l_logFiles.length);
+		for (File l_logFile : l_logFiles) {
+			String l_log = Files.readString(l_logFile.toPath(), StandardCharsets.ISO_8859_1);
+			assertTrue(l_log.contains("Turn 1 begins"));
+			assertFalse(l_log.contains("issued order"));
+		}
+
+		File l_otherFolder = new File(d_logFolder, "off");
+		Tournament l_silentTournament = new Tournament(d_TestMapFiles, 1, 10);
+		l_silentTournament.setLogDirectory(l_otherFolder.getPath());
+		l_silentTournament.setFileLoggingEnabled(false);
+		l_silentTournament.addPlayerStrategy("aggressive");
+		l_silentTournament.addPlayerStrategy("random");
+		l_silentTournament.run();
+		assertFalse(l_otherFolder.exists());
+	}
 }
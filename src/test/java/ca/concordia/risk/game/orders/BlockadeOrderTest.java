@@ -49,7 +49,7 @@ public class BlockadeOrderTest {
 
 		// Create a player: Player A and add country1 to countries owned by it
 		d_player1 = new Player("Player A");
-		d_player1.addCountry(d_country1);
+		d_map.transferOwnership(d_country1, d_player1);
 	}
 
 	/**
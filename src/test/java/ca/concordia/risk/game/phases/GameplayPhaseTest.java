@@ -17,6 +17,7 @@ import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.io.TempDir;
 
 import ca.concordia.risk.GameEngine;
 import ca.concordia.risk.game.Continent;
@@ -34,6 +35,9 @@ import ca.concordia.risk.utils.MapLoader;
 @TestMethodOrder(OrderAnnotation.class)
 class GameplayPhaseTest {
 
+	@TempDir
+	static File d_LogFolder;
+
 	private static final String d_TestMapPath = "test/testmap.map";
 	private static PrintWriter d_MockInputStreamWriter;
 	private static PrintStream d_DefaultOutputStream;
@@ -64,6 +68,7 @@ class GameplayPhaseTest {
 
 		// Initialize game engine
 		GameEngine.Initialize();
+		GameEngine.GetContext().setLogDirectory(d_LogFolder.getPath());
 
 		// Create and set the map
 		Continent l_continent = new Continent("Continent 1", 3);
@@ -3,6 +3,7 @@ package ca.concordia.risk.game.phases;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.File;
 import java.io.PrintStream;
 import java.util.Random;
 
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.io.TempDir;
 
 import ca.concordia.risk.GameEngine;
 import ca.concordia.risk.game.Continent;
@@ -31,6 +33,9 @@ import ca.concordia.risk.io.commands.GamePlayerCommand;
 @TestMethodOrder(OrderAnnotation.class)
 public class StartupPhaseTest {
 
+	@TempDir
+	static File d_LogFolder;
+
 	private static PrintStream d_DefaultOutputStream;
 
 	private GameMap d_defaultMap;
@@ -79,6 +84,7 @@ public class StartupPhaseTest {
 
 		// Initialize the GameEngine and set it up to startup phase
 		GameEngine.Initialize();
+		GameEngine.GetContext().setLogDirectory(d_LogFolder.getPath());
 		GameEngine.SetMap(d_defaultMap);
 		GameEngine.SwitchToNextPhase();
 	}
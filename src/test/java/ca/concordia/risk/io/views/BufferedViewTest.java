@@ -0,0 +1,37 @@
+package ca.concordia.risk.io.views;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test class for the <code>BufferedView</code>.
+ */
+class BufferedViewTest {
+
+	/**
+	 * Tests that displayed messages are captured one per line until the buffer is
+	 * cleared.
+	 */
+	@Test
+	void testMessagesAreCaptured() {
+		BufferedView l_view = new BufferedView();
+		l_view.display("First message");
+		l_view.display(() -> "Second message");
+		assertEquals("First message\nSecond message\n", l_view.getContent());
+
+		l_view.clear();
+		assertEquals("", l_view.getContent());
+		l_view.display("Third message");
+		assertEquals("Third message\n", l_view.getContent());
+	}
+
+	/**
+	 * Tests that the buffered view does not support user input.
+	 */
+	@Test
+	void testInputIsUnsupported() {
+		assertThrows(UnsupportedOperationException.class, () -> new BufferedView().getInput());
+	}
+}
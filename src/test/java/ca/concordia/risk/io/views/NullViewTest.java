@@ -0,0 +1,32 @@
+package ca.concordia.risk.io.views;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test class for the <code>NullView</code>.
+ */
+class NullViewTest {
+
+	/**
+	 * Tests that messages given as a supplier are never built.
+	 */
+	@Test
+	void testSupplierIsNeverEvaluated() {
+		NullView l_view = new NullView();
+		assertDoesNotThrow(() -> l_view.display("Message"));
+		l_view.display(() -> {
+			throw new AssertionError("null view built a message");
+		});
+	}
+
+	/**
+	 * Tests that the null view does not support user input.
+	 */
+	@Test
+	void testInputIsUnsupported() {
+		assertThrows(UnsupportedOperationException.class, () -> new NullView().getInput());
+	}
+}
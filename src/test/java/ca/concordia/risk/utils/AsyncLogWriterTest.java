@@ -0,0 +1,131 @@
+package ca.concordia.risk.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+import ca.concordia.risk.utils.AsyncLogWriter.OverflowPolicy;
+
+/**
+ * Unit test class for the <code>AsyncLogWriter</code> class.
+ */
+class AsyncLogWriterTest {
+
+	/**
+	 * Tests that all entries are written in order, and are written once flushed.
+	 */
+	@Test
+	void testFlush() throws IOException {
+		StringWriter l_out = new StringWriter();
+		AsyncLogWriter l_writer = new AsyncLogWriter(l_out, 8, OverflowPolicy.BLOCK);
+
+		StringBuilder l_expected = new StringBuilder();
+		for (int l_i = 0; l_i < 1000; l_i++) {
+			assertTrue(l_writer.append(l_i + "\n"));
+			l_expected.append(l_i + "\n");
+		}
+		l_writer.flush();
+		assertEquals(l_expected.toString(), l_out.toString());
+		assertEquals(0, l_writer.getDroppedCount());
+
+		l_writer.close();
+		assertFalse(l_writer.append("after close"));
+		assertEquals(l_expected.toString(), l_out.toString());
+	}
+
+	/**
+	 * Tests that events are formatted by the writer, one per line, between the
+	 * text entries.
+	 * 
+	 * @throws IOException not expected.
+	 */
+	@Test
+	void testEvents() throws IOException {
+		StringWriter l_out = new StringWriter();
+		AsyncLogWriter l_writer = new AsyncLogWriter(l_out, 8, OverflowPolicy.BLOCK);
+
+		assertTrue(l_writer.append(new LogEvent(LogEvent.Type.TURN_STARTED, 3)));
+		assertTrue(l_writer.append("text\n"));
+		assertTrue(l_writer.append(new LogEvent(LogEvent.Type.MESSAGE, "message")));
+		l_writer.close();
+		assertEquals("\nTurn 3 begins\ntext\nmessage\n", l_out.toString());
+	}
+
+	/**
+	 * Tests that entries are dropped and counted when the ring buffer is full.
+	 */
+	@Test
+	void testDrop() throws Exception {
+		CountDownLatch l_release = new CountDownLatch(1);
+		StringWriter l_out = new StringWriter();
+		Writer l_slowOut = new Writer() {
+			@Override
+			public void write(char[] p_chars, int p_offset, int p_length) throws IOException {
+				try {
+					l_release.await();
+				} catch (InterruptedException l_e) {
+					throw new IOException(l_e);
+				}
+				l_out.write(p_chars, p_offset, p_length);
+			}
+
+			@Override
+			public void flush() {
+			}
+
+			@Override
+			public void close() {
+			}
+		};
+		AsyncLogWriter l_writer = new AsyncLogWriter(l_slowOut, 4, OverflowPolicy.DROP);
+
+		// The writer thread blocks on the first batch, so the ring buffer fills up
+		assertTrue(l_writer.append("first\n"));
+		int l_numAppended = 1;
+		while (l_writer.append("entry\n")) {
+			l_numAppended++;
+		}
+		assertTrue(l_numAppended <= 1 + 2 * 4);
+		for (int l_i = 0; l_i < 10; l_i++) {
+			assertFalse(l_writer.append("extra\n"));
+		}
+		assertEquals(11, l_writer.getDroppedCount());
+
+		l_release.countDown();
+		l_writer.close();
+		assertTrue(l_out.toString().startsWith("first\n"));
+	}
+
+	/**
+	 * Tests that errors of the underlying writer are reported on close.
+	 */
+	@Test
+	void testError() {
+		Writer l_failingOut = new Writer() {
+			@Override
+			public void write(char[] p_chars, int p_offset, int p_length) throws IOException {
+				throw new IOException("disk full");
+			}
+
+			@Override
+			public void flush() {
+			}
+
+			@Override
+			public void close() {
+			}
+		};
+		AsyncLogWriter l_writer = new AsyncLogWriter(l_failingOut, 4, OverflowPolicy.BLOCK);
+		l_writer.append("entry\n");
+		l_writer.flush();
+		assertThrows(IOException.class, () -> l_writer.close());
+	}
+}
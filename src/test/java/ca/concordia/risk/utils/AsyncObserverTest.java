@@ -0,0 +1,95 @@
+package ca.concordia.risk.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test class for the <code>AsyncObserver</code> class.
+ */
+class AsyncObserverTest {
+
+	/**
+	 * Tests that every event is delivered in order, with the content it had when
+	 * it was written.
+	 */
+	@Test
+	void testDelivery() {
+		LogEntryBuffer l_buffer = new LogEntryBuffer();
+		LogHistory l_history = new LogHistory(10);
+		AsyncObserver l_observer = new AsyncObserver(l_history, 4, AsyncLogWriter.OverflowPolicy.BLOCK);
+		l_buffer.attach(l_observer);
+
+		List<String> l_expected = new ArrayList<String>();
+		for (int l_turn = 1; l_turn <= 100; l_turn++) {
+			l_buffer.write(LogEvent.Type.TURN_STARTED, l_turn);
+			l_expected.add("\nTurn " + l_turn + " begins\n");
+		}
+		l_observer.flush();
+
+		// The history only keeps the last 10 entries
+		assertEquals(l_expected.subList(90, 100), l_history.getEntries());
+		l_observer.close();
+		assertEquals(0, l_observer.getDroppedCount());
+	}
+
+	/**
+	 * Tests that a blocked observer neither blocks the writing thread nor the
+	 * other observers when its events are dropped.
+	 * 
+	 * @throws InterruptedException not expected.
+	 */
+	@Test
+	void testSlowObserver() throws InterruptedException {
+		LogEntryBuffer l_buffer = new LogEntryBuffer();
+		CountDownLatch l_release = new CountDownLatch(1);
+		AsyncObserver l_slowObserver = new AsyncObserver(p_observable -> {
+			try {
+				l_release.await();
+			} catch (InterruptedException l_e) {
+				Thread.currentThread().interrupt();
+			}
+		}, 4, AsyncLogWriter.OverflowPolicy.DROP);
+		LogHistory l_history = new LogHistory(100);
+		AsyncObserver l_observer = new AsyncObserver(l_history, 100, AsyncLogWriter.OverflowPolicy.BLOCK);
+		l_buffer.attach(l_slowObserver);
+		l_buffer.attach(l_observer);
+
+		for (int l_turn = 1; l_turn <= 20; l_turn++) {
+			l_buffer.write(LogEvent.Type.TURN_STARTED, l_turn);
+		}
+		l_observer.flush();
+		assertEquals(20, l_history.getEntries().size());
+
+		// At most one event is being delivered and four are queued
+		assertTrue(l_slowObserver.getDroppedCount() >= 15);
+		l_release.countDown();
+		l_slowObserver.close();
+		l_observer.close();
+	}
+
+	/**
+	 * Tests that flushing never waits forever when the observer is closed at the
+	 * same time.
+	 */
+	@Test
+	void testFlushWhileClosing() {
+		assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+			for (int l_i = 0; l_i < 200; l_i++) {
+				AsyncObserver l_observer = new AsyncObserver(p_observable -> {
+				}, 4, AsyncLogWriter.OverflowPolicy.DROP);
+				Thread l_flusher = new Thread(l_observer::flush);
+				l_flusher.start();
+				l_observer.close();
+				l_flusher.join();
+			}
+		});
+	}
+}
@@ -0,0 +1,116 @@
+package ca.concordia.risk.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.Test;
+
+import ca.concordia.risk.utils.GameJournal.JournalFormatException;
+
+/**
+ * Unit test class for the <code>GameJournal</code> class.
+ */
+class GameJournalTest {
+
+	/**
+	 * Tests that a decoded journal matches the text written to the log file, and
+	 * that the journal is much smaller than the text.
+	 * 
+	 * @throws Exception not expected.
+	 */
+	@Test
+	void testDecode() throws Exception {
+		LogEntryBuffer l_buffer = new LogEntryBuffer();
+		ByteArrayOutputStream l_bytes = new ByteArrayOutputStream();
+		GameJournal l_journal = new GameJournal();
+		l_journal.openJournal(l_bytes);
+		l_buffer.attach(l_journal);
+		StringBuilder l_text = new StringBuilder();
+		l_buffer.attach(p_observable -> l_text.append(l_buffer.getBufferContent()));
+
+		l_buffer.write(LogEvent.Type.GAME_STARTED);
+		for (int l_turn = 1; l_turn <= 100; l_turn++) {
+			l_buffer.write(LogEvent.Type.TURN_STARTED, l_turn);
+			l_buffer.write(LogEvent.Type.REINFORCEMENTS_ASSIGNED, "Player 1", 3 * l_turn);
+			l_buffer.write(LogEvent.Type.ORDER_ISSUED, "Player 1",
+					new LogEvent(LogEvent.Type.DEPLOY_ISSUED, 3 * l_turn, "Southern Europe"));
+			l_buffer.write(new LogEvent(LogEvent.Type.ATTACK_REPELLED_REDUCED, "Player 1", "Ukraine", "Player 2",
+					"Southern Europe", 9, 12, 4, 0, -1));
+			l_buffer.write(LogEvent.Type.CARD_ISSUED, "Player 1", "Bomb Card");
+		}
+		l_buffer.write("free text with unicode é世");
+		l_buffer.write(LogEvent.Type.GAME_ENDED);
+		l_journal.closeJournal();
+
+		StringWriter l_decoded = new StringWriter();
+		GameJournal.Decode(new ByteArrayInputStream(l_bytes.toByteArray()), l_decoded);
+		assertEquals(l_text.toString(), l_decoded.toString());
+		assertTrue(l_bytes.size() * 10 < l_text.length(), l_bytes.size() + " bytes");
+	}
+
+	/**
+	 * Tests that a name longer than the decoder accepts is cut when written, so
+	 * the journal can still be decoded.
+	 * 
+	 * @throws Exception not expected.
+	 */
+	@Test
+	void testLongName() throws Exception {
+		LogEntryBuffer l_buffer = new LogEntryBuffer();
+		ByteArrayOutputStream l_bytes = new ByteArrayOutputStream();
+		GameJournal l_journal = new GameJournal();
+		l_journal.openJournal(l_bytes);
+		l_buffer.attach(l_journal);
+
+		String l_longName = "x".repeat(100000);
+		l_buffer.write(l_longName);
+		l_buffer.write(l_longName);
+		l_journal.closeJournal();
+
+		StringWriter l_decoded = new StringWriter();
+		GameJournal.Decode(new ByteArrayInputStream(l_bytes.toByteArray()), l_decoded);
+		String l_cutName = "x".repeat(1 << 16);
+		assertEquals(l_cutName + "\n" + l_cutName + "\n", l_decoded.toString());
+	}
+
+	/**
+	 * Tests that a long name is not cut in the middle of a multi-byte character.
+	 *
+	 * @throws Exception not expected.
+	 */
+	@Test
+	void testLongMultiByteName() throws Exception {
+		LogEntryBuffer l_buffer = new LogEntryBuffer();
+		ByteArrayOutputStream l_bytes = new ByteArrayOutputStream();
+		GameJournal l_journal = new GameJournal();
+		l_journal.openJournal(l_bytes);
+		l_buffer.attach(l_journal);
+
+		// The limit falls on the second byte of a two byte character
+		l_buffer.write("x" + "\u00e9".repeat(40000));
+		l_journal.closeJournal();
+
+		StringWriter l_decoded = new StringWriter();
+		GameJournal.Decode(new ByteArrayInputStream(l_bytes.toByteArray()), l_decoded);
+		assertEquals("x" + "\u00e9".repeat((1 << 15) - 1) + "\n", l_decoded.toString());
+	}
+
+	/**
+	 * Tests that streams which are not journals are rejected.
+	 */
+	@Test
+	void testInvalidJournal() {
+		assertThrows(JournalFormatException.class, () -> GameJournal
+				.Decode(new ByteArrayInputStream(new byte[] { 1, 2, 3, 4, 1 }), new StringWriter()));
+
+		// Header followed by an unknown event type
+		byte[] l_journal = { 0x52, 0x4A, 0x4E, 0x4C, 1, 0x7F };
+		assertThrows(JournalFormatException.class,
+				() -> GameJournal.Decode(new ByteArrayInputStream(l_journal), new StringWriter()));
+	}
+}
@@ -2,17 +2,22 @@ package ca.concordia.risk.utils;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.ObjectOutputStream;
 import java.io.PrintStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import ca.concordia.risk.GameEngine;
 import ca.concordia.risk.game.Card;
@@ -23,12 +28,18 @@ import ca.concordia.risk.game.phases.GameplayPhase;
 import ca.concordia.risk.io.commands.AssignCountriesCommand;
 import ca.concordia.risk.io.commands.GamePlayerCommand;
 import ca.concordia.risk.io.commands.LoadMapCommand;
+import ca.concordia.risk.utils.GameLoader.GameLoaderException;
 
 /**
  * Unit test class for <code>GameLoader</code> class.
  */
 class GameLoaderTest {
 
+	@TempDir
+	static File d_LogFolder;
+	@TempDir
+	static File d_SaveFolder;
+
 	private static final String d_TestMapPath = "test/testmap.map";
 	private static final String d_TestSavePath = "test/testsave";
 	private static PrintStream d_DefaultOutputStream;
@@ -49,6 +60,8 @@ class GameLoaderTest {
 
 		// Initialize game engine
 		GameEngine.Initialize();
+		GameEngine.GetContext().setLogDirectory(d_LogFolder.getPath());
+		GameEngine.GetContext().setSaveDirectory(d_SaveFolder.getPath());
 
 		// Load the map
 		LoadMapCommand l_command = new LoadMapCommand(d_TestMapPath);
@@ -82,6 +95,80 @@ class GameLoaderTest {
 	 */
 	@Test
 	void testGameSaveAndLoad() throws Exception {
+		assertGameRestored(() -> GameLoader.SaveGame(d_TestSavePath));
+	}
+
+	/**
+	 * Tests saving the game with a compressed body and loading it.
+	 * 
+	 * @throws Exception thrown if any unexpected exception occurs during the test.
+	 */
+	@Test
+	void testCompressedGameSaveAndLoad() throws Exception {
+		assertGameRestored(() -> GameLoader.SaveGame(GameEngine.GetContext(), d_TestSavePath, true));
+	}
+
+	/**
+	 * Tests loading a game saved with Java serialization by earlier versions.
+	 * 
+	 * @throws Exception thrown if any unexpected exception occurs during the test.
+	 */
+	@Test
+	void testSerializedGameLoad() throws Exception {
+		assertGameRestored(() -> {
+			// Build the save data the way earlier versions did
+			GameLoader.SaveData l_saveData = new GameLoader.SaveData();
+			l_saveData.d_mapFilename = GameEngine.GetContext().getActiveMapFile();
+			l_saveData.d_turn = ((GameplayPhase) GameEngine.GetActivePhase()).getTurnNumber();
+			for (Player l_player : GameEngine.GetPlayers()) {
+				GameLoader.SaveData.PlayerData l_playerData = new GameLoader.SaveData.PlayerData();
+				l_playerData.d_name = l_player.getName();
+				l_playerData.d_strategy = l_player.GetStrategy().getClass().getName();
+				for (Card l_card : l_player.getCards()) {
+					l_playerData.d_cards.add(l_card.toString());
+				}
+				for (Country l_country : l_player.getCountries()) {
+					l_playerData.d_ownedCountryDataList.put(l_country.getName(), l_country.getArmies());
+				}
+				l_saveData.d_playerDataList.add(l_playerData);
+			}
+			l_saveData.d_neutralPlayerData = new GameLoader.SaveData.PlayerData();
+			for (Country l_country : GameEngine.GetContext().getNeutralPlayer().getCountries()) {
+				l_saveData.d_neutralPlayerData.d_ownedCountryDataList.put(l_country.getName(),
+						l_country.getArmies());
+			}
+
+			// Write the save data with Java serialization
+			try (ObjectOutputStream l_objectStream = new ObjectOutputStream(
+					new FileOutputStream(new File(d_SaveFolder, d_TestSavePath)))) {
+				l_objectStream.writeObject(l_saveData);
+			}
+		});
+	}
+
+	/**
+	 * Tests that loading a file that is not a save fails.
+	 * 
+	 * @throws Exception thrown if any unexpected exception occurs during the test.
+	 */
+	@Test
+	void testInvalidSaveLoad() throws Exception {
+		String l_invalidSavePath = "test/invalidsave";
+		new File(d_SaveFolder, "test").mkdirs();
+		try (FileOutputStream l_out = new FileOutputStream(new File(d_SaveFolder, l_invalidSavePath))) {
+			l_out.write("not a save file".getBytes());
+		}
+		assertThrows(GameLoaderException.class, () -> GameLoader.LoadGame(l_invalidSavePath));
+	}
+
+	/**
+	 * Plays the game for a few turns, saves it, loads it into a new game and
+	 * checks that the loaded game matches the saved one.
+	 * 
+	 * @param p_saver saves the game into the test save file.
+	 * @throws Exception thrown if any unexpected exception occurs during the test.
+	 */
+	private void assertGameRestored(GameSaver p_saver) throws Exception {
 		// Play the game for a few turns
 		GameplayPhase l_phase = (GameplayPhase) GameEngine.GetActivePhase();
 		int l_numTurns = 5;
@@ -93,16 +180,21 @@ class GameLoaderTest {
 		// Get the map and the players before saving and loading
 		GameMap l_mapBeforeLoad = GameEngine.GetMap();
 		List<Player> l_playersBeforeLoad = new ArrayList<Player>(GameEngine.GetPlayers());
+		int l_turnBeforeLoad = l_phase.getTurnNumber();
 
 		// Save the game
-		GameLoader.SaveGame(d_TestSavePath);
+		new File(d_SaveFolder, d_TestSavePath).getParentFile().mkdirs();
+		p_saver.save();
 		// Reset the Game Engine
 		GameEngine.Initialize();
+		GameEngine.GetContext().setLogDirectory(d_LogFolder.getPath());
+		GameEngine.GetContext().setSaveDirectory(d_SaveFolder.getPath());
 		// Load the game
 		GameLoader.LoadGame(d_TestSavePath);
 
 		// Get the map after saving and loading
 		GameMap l_mapAfterLoad = GameEngine.GetMap();
+		assertEquals(l_turnBeforeLoad, ((GameplayPhase) GameEngine.GetActivePhase()).getTurnNumber());
 
 		// Compare the map countries before and after
 		for (Country l_beforeCountry : l_mapBeforeLoad.getCountries()) {
@@ -125,10 +217,25 @@ class GameLoaderTest {
 			assertEquals(l_beforePlayer.GetStrategy().getClass(), l_afterPlayer.GetStrategy().getClass());
 
 			// Compare cards owned by the player before and after loading
+			assertEquals(l_beforePlayer.getCards().size(), l_afterPlayer.getCards().size());
 			for (Card l_card : l_beforePlayer.getCards()) {
 				assertTrue(l_afterPlayer.getCards().contains(l_card));
+				assertEquals(Collections.frequency(l_beforePlayer.getCards(), l_card),
+						Collections.frequency(l_afterPlayer.getCards(), l_card));
 			}
 		}
 	}
 
+	/**
+	 * Saves the game into the test save file.
+	 */
+	private interface GameSaver {
+
+		/**
+		 * Saves the game.
+		 * 
+		 * @throws Exception thrown if saving fails.
+		 */
+		void save() throws Exception;
+	}
 }
@@ -0,0 +1,128 @@
+package ca.concordia.risk.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import ca.concordia.risk.game.Continent;
+import ca.concordia.risk.game.Country;
+import ca.concordia.risk.game.GameMap;
+import ca.concordia.risk.utils.MapGenerator.Topology;
+
+/**
+ * Unit test class for the <code>IncrementalValidator</code> class.
+ */
+class IncrementalValidatorTest {
+
+	/**
+	 * Tests that the result of a valid map is kept when borders are added or
+	 * removed without breaking the map, and checked again otherwise.
+	 */
+	@Test
+	void testBorderEdits() {
+		GameMap l_map = new MapGenerator(100, 4, Topology.GRID, 0).generate();
+		IncrementalValidator l_validator = new IncrementalValidator(l_map);
+		ValidationResult l_result = l_validator.getResult();
+		assertTrue(l_result.isValid());
+
+		// Adding a border keeps the map valid
+		Country l_country1 = l_map.getCountry("Territory1");
+		Country l_country2 = l_map.getCountry("Territory2");
+		Country l_country100 = l_map.getCountry("Territory100");
+		l_country1.addNeighbor(l_country100);
+		assertSame(l_result, l_validator.getResult());
+
+		// Removing a border that can be bypassed keeps the map valid
+		l_country1.removeNeighbor(l_country100);
+		assertSame(l_result, l_validator.getResult());
+
+		// Removing the only border out of a country breaks the map
+		for (Country l_neighbor : List.copyOf(l_country1.getNeighbors())) {
+			l_country1.removeNeighbor(l_neighbor);
+		}
+		assertFalse(l_validator.getResult().isValid());
+
+		// Fixing the map makes it valid again
+		l_country1.addNeighbor(l_country2);
+		assertTrue(l_validator.getResult().isValid());
+
+		// Results are no longer kept once detached
+		l_validator.detach();
+		l_map.addCountry(new Country("Isolated", l_country1.getContinent()));
+		assertTrue(l_validator.getResult().isValid());
+	}
+
+	/**
+	 * Tests that a batch removing many borders runs one full check instead of a
+	 * search per removed border.
+	 */
+	@Test
+	void testManyRemovedBorders() {
+		GameMap l_map = new MapGenerator(100, 4, Topology.GRID, 0).generate();
+		Country l_country1 = l_map.getCountry("Territory1");
+		List<Country> l_added = new ArrayList<Country>();
+		for (Country l_country : l_map.getCountries()) {
+			if (l_added.size() < 20 && l_country != l_country1 && l_country1.addNeighbor(l_country)) {
+				l_added.add(l_country);
+			}
+		}
+		IncrementalValidator l_validator = new IncrementalValidator(l_map);
+		ValidationResult l_result = l_validator.getResult();
+		assertTrue(l_result.isValid());
+
+		// A few removed borders are checked one by one
+		l_country1.removeNeighbor(l_added.get(0));
+		assertSame(l_result, l_validator.getResult());
+
+		// Many removed borders are checked with a full check
+		for (Country l_country : l_added.subList(1, l_added.size())) {
+			l_country1.removeNeighbor(l_country);
+		}
+		ValidationResult l_newResult = l_validator.getResult();
+		assertNotSame(l_result, l_newResult);
+		assertTrue(l_newResult.isValid());
+	}
+
+	/**
+	 * Tests that the result always matches a full check of the map while the map
+	 * is edited at random.
+	 */
+	@Test
+	void testRandomEdits() {
+		GameMap l_map = new MapGenerator(60, 3, Topology.PLANAR, 5).generate();
+		IncrementalValidator l_validator = new IncrementalValidator(l_map);
+		Random l_random = new Random(5);
+
+		for (int l_i = 0; l_i < 2000; l_i++) {
+			List<Country> l_countries = l_map.getCountries();
+			Country l_country = l_countries.get(l_random.nextInt(l_countries.size()));
+			Country l_other = l_countries.get(l_random.nextInt(l_countries.size()));
+			int l_edit = l_random.nextInt(20);
+			if (l_edit < 9) {
+				l_country.addNeighbor(l_other);
+			} else if (l_edit < 18) {
+				l_country.removeNeighbor(l_other);
+			} else if (l_edit == 18 && l_countries.size() > 30) {
+				l_map.removeCountry(l_country.getName());
+			} else {
+				Continent l_continent = l_map.getContinents().get(l_random.nextInt(l_map.getContinents().size()));
+				l_map.addCountry(new Country("New" + l_i, l_continent));
+			}
+
+			if (l_random.nextInt(3) == 0) {
+				ValidationResult l_expected = MapValidator.Check(l_map);
+				ValidationResult l_actual = l_validator.getResult();
+				assertEquals(l_expected.isValid(), l_actual.isValid());
+				assertEquals(l_expected.getErrors(), l_actual.getErrors());
+			}
+		}
+	}
+}
@@ -0,0 +1,76 @@
+package ca.concordia.risk.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+/**
+ * Unit test class for the <code>LogEntryBuffer</code> class.
+ */
+class LogEntryBufferTest {
+
+	/**
+	 * Tests that events are formatted in the same form as the former log
+	 * messages.
+	 */
+	@Test
+	void testFormat() {
+		LogEntryBuffer l_buffer = new LogEntryBuffer();
+		List<String> l_entries = new ArrayList<String>();
+		l_buffer.attach(p_observable -> l_entries.add(l_buffer.getBufferContent()));
+
+		l_buffer.write(LogEvent.Type.TURN_STARTED, 3);
+		l_buffer.write(LogEvent.Type.REINFORCEMENTS_ASSIGNED, "Player 1", 5);
+		l_buffer.write("free text");
+
+		assertEquals(List.of("\nTurn 3 begins\n", "Player Player 1 assigned 5 reinforcements\n", "free text\n"),
+				l_entries);
+	}
+
+	/**
+	 * Tests that events of disabled levels are dropped and that values are never
+	 * formatted when no event needs them.
+	 */
+	@Test
+	void testDisabledLevels() {
+		LogEntryBuffer l_buffer = new LogEntryBuffer();
+		int[] l_numFormatted = new int[1];
+		Object l_status = new Object() {
+			@Override
+			public String toString() {
+				l_numFormatted[0]++;
+				return "status";
+			}
+		};
+
+		// Without observers, nothing is logged at any level
+		assertFalse(l_buffer.isEnabled(LogLevel.TURN));
+		l_buffer.write(LogEvent.Type.ORDER_ISSUED, "Player 1", l_status);
+
+		List<String> l_entries = new ArrayList<String>();
+		l_buffer.attach(p_observable -> l_entries.add(l_buffer.getBufferContent()));
+		l_buffer.setEnabledLevels(EnumSet.of(LogLevel.TURN));
+		assertTrue(l_buffer.isEnabled(LogLevel.TURN));
+		assertFalse(l_buffer.isEnabled(LogLevel.ORDER));
+
+		l_buffer.write(LogEvent.Type.ORDER_ISSUED, "Player 1", l_status);
+		l_buffer.write(LogEvent.Type.GAME_STARTED);
+		assertEquals(List.of("Game started\n"), l_entries);
+		assertEquals(0, l_numFormatted[0]);
+
+		l_buffer.setEnabledLevels(EnumSet.allOf(LogLevel.class));
+		l_buffer.write(LogEvent.Type.ORDER_ISSUED, "Player 1", l_status);
+		assertEquals("Player Player 1 issued order: status\n", l_entries.get(1));
+		assertEquals(1, l_numFormatted[0]);
+
+		// Nested events are formatted in place
+		l_buffer.write(LogEvent.Type.ORDER_ISSUED, "Player 1",
+				new LogEvent(LogEvent.Type.DEPLOY_ISSUED, 3, "Country 1"));
+		assertEquals("Player Player 1 issued order: deploy 3 armies to Country 1\n", l_entries.get(2));
+	}
+}
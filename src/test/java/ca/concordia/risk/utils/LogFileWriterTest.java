@@ -0,0 +1,102 @@
+package ca.concordia.risk.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import ca.concordia.risk.utils.AsyncLogWriter.OverflowPolicy;
+
+/**
+ * Unit test class for the <code>LogFileWriter</code> class.
+ */
+class LogFileWriterTest {
+
+	@TempDir
+	File d_folder;
+
+	/**
+	 * Tests that every entry is written to the log file in the log directory, in
+	 * order.
+	 *
+	 * @throws Exception not expected.
+	 */
+	@Test
+	void testWrite() throws Exception {
+		LogEntryBuffer l_buffer = new LogEntryBuffer();
+		LogFileWriter l_writer = new LogFileWriter(OverflowPolicy.BLOCK);
+		l_writer.openLogFile(d_folder.getPath(), "1");
+		l_buffer.attach(l_writer);
+
+		for (int l_i = 0; l_i < 1000; l_i++) {
+			l_buffer.write("entry " + l_i);
+		}
+		l_writer.closeLogFile();
+
+		List<String> l_lines = Files.readAllLines(new File(d_folder, "game-1.log").toPath(),
+				StandardCharsets.ISO_8859_1);
+		assertEquals(1000, l_lines.size());
+		for (int l_i = 0; l_i < 1000; l_i++) {
+			assertEquals("entry " + l_i, l_lines.get(l_i));
+		}
+	}
+
+	/**
+	 * Tests that, when entries are dropped, the trailer of the log file accounts
+	 * for every entry that is missing from it.
+	 *
+	 * @throws Exception not expected.
+	 */
+	@Test
+	void testDroppedEntriesAreReported() throws Exception {
+		int l_numEntries = 100000;
+		LogEntryBuffer l_buffer = new LogEntryBuffer();
+		LogFileWriter l_writer = new LogFileWriter(OverflowPolicy.DROP);
+		l_writer.openLogFile(d_folder.getPath(), "2");
+		l_buffer.attach(l_writer);
+
+		for (int l_i = 0; l_i < l_numEntries; l_i++) {
+			l_buffer.write("entry " + l_i);
+		}
+		l_writer.closeLogFile();
+
+		List<String> l_lines = Files.readAllLines(new File(d_folder, "game-2.log").toPath(),
+				StandardCharsets.ISO_8859_1);
+		long l_numDropped = 0;
+		String l_lastLine = l_lines.get(l_lines.size() - 1);
+		if (l_lastLine.endsWith(" log entries were dropped")) {
+			l_numDropped = Long.parseLong(l_lastLine.substring(0, l_lastLine.indexOf(' ')));
+			l_lines = l_lines.subList(0, l_lines.size() - 1);
+			assertTrue(l_numDropped > 0);
+		}
+		assertEquals(l_numEntries, l_lines.size() + l_numDropped);
+	}
+
+	/**
+	 * Tests that the entries dropped by another sink are reported at the end of
+	 * the log file.
+	 *
+	 * @throws Exception not expected.
+	 */
+	@Test
+	void testReportDropped() throws Exception {
+		LogEntryBuffer l_buffer = new LogEntryBuffer();
+		LogFileWriter l_writer = new LogFileWriter(OverflowPolicy.BLOCK);
+		l_writer.openLogFile(d_folder.getPath(), "3");
+		l_buffer.attach(l_writer);
+
+		l_buffer.write("entry");
+		l_writer.reportDropped("GameJournal", 7);
+		l_writer.closeLogFile();
+
+		List<String> l_lines = Files.readAllLines(new File(d_folder, "game-3.log").toPath(),
+				StandardCharsets.ISO_8859_1);
+		assertEquals(List.of("entry", "7 log entries were dropped by GameJournal"), l_lines);
+	}
+}
@@ -0,0 +1,95 @@
+package ca.concordia.risk.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import ca.concordia.risk.game.Country;
+import ca.concordia.risk.game.GameMap;
+import ca.concordia.risk.utils.MapGenerator.Topology;
+
+/**
+ * Unit test class for the <code>MapGenerator</code> class.
+ */
+class MapGeneratorTest {
+
+	/**
+	 * Tests that maps generated with every topology are valid, have the requested
+	 * size and have no country bordering itself.
+	 */
+	@Test
+	void testGeneratedMapsAreValid() {
+		for (Topology l_topology : Topology.values()) {
+			for (int[] l_size : new int[][] { { 2, 1 }, { 2, 2 }, { 37, 5 }, { 500, 7 }, { 1000, 1000 } }) {
+				GameMap l_map = new MapGenerator(l_size[0], l_size[1], l_topology, 42).generate();
+				assertEquals(l_size[0], l_map.getCountries().size());
+				assertEquals(l_size[1], l_map.getContinents().size());
+				assertTrue(MapValidator.Validate(l_map), l_topology + " " + MapValidator.getStatus());
+				AssertNoSelfBorders(l_map);
+			}
+		}
+	}
+
+	/**
+	 * Tests that the same seed generates the same map, and that a different seed
+	 * generates a different one.
+	 */
+	@Test
+	void testSeed() {
+		String l_map1 = new MapGenerator(400, 6, Topology.PLANAR, 7).generate().buildMapString();
+		String l_map2 = new MapGenerator(400, 6, Topology.PLANAR, 7).generate().buildMapString();
+		String l_map3 = new MapGenerator(400, 6, Topology.PLANAR, 8).generate().buildMapString();
+		assertEquals(l_map1, l_map2);
+		assertNotEquals(l_map1, l_map3);
+	}
+
+	/**
+	 * Tests that the hubs topology grows countries with many more neighbors than
+	 * the grid topology allows.
+	 */
+	@Test
+	void testHubs() {
+		GameMap l_map = new MapGenerator(2000, 10, Topology.HUBS, 1).generate();
+		int l_maxDegree = 0;
+		for (Country l_country : l_map.getCountries()) {
+			l_maxDegree = Math.max(l_maxDegree, l_country.getNeighbors().size());
+		}
+		assertTrue(l_maxDegree > 20);
+	}
+
+	/**
+	 * Tests that the hubs topology never makes a country border itself, over many
+	 * seeds.
+	 */
+	@Test
+	void testHubsHaveNoSelfBorders() {
+		for (long l_seed = 0; l_seed < 50; l_seed++) {
+			AssertNoSelfBorders(new MapGenerator(2000, 10, Topology.HUBS, l_seed).generate());
+		}
+	}
+
+	/**
+	 * Tests that invalid sizes are rejected.
+	 */
+	@Test
+	void testInvalidParameters() {
+		assertThrows(IllegalArgumentException.class, () -> new MapGenerator(1, 1, Topology.GRID, 0));
+		assertThrows(IllegalArgumentException.class, () -> new MapGenerator(10, 0, Topology.GRID, 0));
+		assertThrows(IllegalArgumentException.class, () -> new MapGenerator(10, 11, Topology.GRID, 0));
+	}
+
+	/**
+	 * Asserts that no country of a map borders itself.
+	 *
+	 * @param p_map map to check.
+	 */
+	private static void AssertNoSelfBorders(GameMap p_map) {
+		for (Country l_country : p_map.getCountries()) {
+			assertFalse(l_country.hasNeighbor(l_country), l_country.getName() + " borders itself");
+		}
+	}
+}
@@ -8,6 +8,11 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
@@ -27,6 +32,7 @@ class MapLoaderTest {
 	private static String d_InvalidLineMapPath = "test/invalid_line_map.map";
 	private static String d_ConquestMapPath = "test/conquest.map";
 	private static String d_SavedMapPath = "test/saved.map";
+	private static String d_SavedBinaryMapPath = "test/saved.rmapb";
 
 	/**
 	 * Tests loading a valid sample map.
@@ -128,6 +134,47 @@ class MapLoaderTest {
 		DeleteMapFile(d_SavedMapPath);
 	}
 
+	/**
+	 * Test saving and loading a binary map.
+	 * 
+	 * @throws IOException thrown if the saved map file cannot be rewritten.
+	 */
+	@Test
+	void testSavingBinaryMap() throws IOException {
+		// Assume test map file exists. Abort test if it doesn't
+		assumeTrue(MapFileExists(d_ConquestMapPath), "Aborting test: test map file does not exist");
+		File l_file = new File(MapLoader.GetMapFolderPath() + d_SavedBinaryMapPath);
+		try {
+			// Save a conquest map as a binary map and load it back
+			GameMap l_map = assertDoesNotThrow(() -> MapLoader.LoadMap(d_ConquestMapPath));
+			assertDoesNotThrow(() -> MapLoader.SaveMap(d_SavedBinaryMapPath, l_map, "binary"));
+			GameMap l_loadedMap = assertDoesNotThrow(() -> MapLoader.LoadMap(d_SavedBinaryMapPath));
+			EnsureMapsEqual(l_map, l_loadedMap);
+			assertEquals(l_map.getContinent("Asia").getValue(), l_loadedMap.getContinent("Asia").getValue());
+			for (Country l_country : l_map.getCountries()) {
+				assertEquals(l_country.getIncomingNeighbors().size(),
+						l_loadedMap.getCountry(l_country.getName()).getIncomingNeighbors().size());
+			}
+
+			// A truncated binary map is reported as a parsing error
+			byte[] l_bytes = Files.readAllBytes(l_file.toPath());
+			Files.write(l_file.toPath(), Arrays.copyOf(l_bytes, l_bytes.length - 1));
+			FileParsingException l_e = assertThrows(FileParsingException.class,
+					() -> MapLoader.LoadMap(d_SavedBinaryMapPath));
+			assertEquals("Invalid map file: binary map file is truncated", l_e.getMessage());
+
+			// A header announcing a huge name table is rejected before the table is
+			// allocated
+			ByteBuffer l_header = ByteBuffer.allocate(24).putInt(BinaryMapLoader.d_Magic).putInt(1)
+					.putInt(Integer.MAX_VALUE - 8).putInt(1).putInt(1).putInt(0);
+			Files.write(l_file.toPath(), l_header.array());
+			l_e = assertThrows(FileParsingException.class, () -> MapLoader.LoadMap(d_SavedBinaryMapPath));
+			assertEquals("Invalid map file: binary map file is truncated", l_e.getMessage());
+		} finally {
+			DeleteMapFile(d_SavedBinaryMapPath);
+		}
+	}
+
 	/**
 	 * Test saving and loading maps of different types.
 	 */
@@ -160,6 +207,46 @@ class MapLoaderTest {
 		DeleteMapFile(d_SavedMapPath);
 	}
 
+	/**
+	 * Tests loading maps with Windows line endings, comments and irregular
+	 * spacing.
+	 * 
+	 * @throws IOException thrown if the temporary map file cannot be written.
+	 */
+	@Test
+	void testMapFormatting() throws IOException {
+		File l_file = new File(MapLoader.GetMapFolderPath() + d_SavedMapPath);
+		try {
+			// Domination map with CRLF line endings, tabs, comments and extra columns
+			Files.write(l_file.toPath(), ("\r\n[continents]\r\nNorth_America\t5 yellow\r\n\r\n" + "[countries]\r\n"
+					+ "; comment\r\n7  Alaska_Peninsula 1 10 20\r\n-3 Yukon 1\r\n\r\n" + "[borders]\r\n"
+					+ "7 -3\r\n-3\t7\r\n").getBytes(StandardCharsets.ISO_8859_1));
+			GameMap l_map = assertDoesNotThrow(() -> MapLoader.LoadMap(d_SavedMapPath));
+			assertEquals(5, l_map.getContinent("North America").getValue());
+			Country l_alaska = l_map.getCountry("Alaska Peninsula");
+			assertTrue(l_alaska.hasNeighbor(l_map.getCountry("Yukon")));
+			assertTrue(l_map.getCountry("Yukon").hasNeighbor(l_alaska));
+
+			// Conquest map whose territories refer to neighbors defined later
+			Files.write(l_file.toPath(), ("[Map]\nauthor=test\n\n[Continents]\nNorth=3\nSouth=2\n\n[Territories]\n"
+					+ "A,1,1,North, B\n\nB,2,2,South,A,C\nC,3,3,South,B\n").getBytes(StandardCharsets.ISO_8859_1));
+			l_map = assertDoesNotThrow(() -> MapLoader.LoadMap(d_SavedMapPath));
+			assertEquals("North", l_map.getCountry("A").getContinent().getName());
+			assertEquals("South", l_map.getCountry("C").getContinent().getName());
+			assertTrue(l_map.getCountry("A").hasNeighbor(l_map.getCountry("B")));
+			assertEquals(2, l_map.getCountry("B").getNeighbors().size());
+
+			// Unknown country ids are reported with the offending line
+			Files.write(l_file.toPath(), "[continents]\nA 1\n\n[countries]\n1 X 1\n\n[borders]\n1 2\n"
+					.getBytes(StandardCharsets.ISO_8859_1));
+			FileParsingException l_e = assertThrows(FileParsingException.class,
+					() -> MapLoader.LoadMap(d_SavedMapPath));
+			assertEquals("Invalid map file: error when parsing - invalid line format \"1 2\"", l_e.getMessage());
+		} finally {
+			DeleteMapFile(d_SavedMapPath);
+		}
+	}
+
 	/**
 	 * Checks if two game maps are equal.
 	 * 
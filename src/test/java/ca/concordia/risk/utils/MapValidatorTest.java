@@ -1,5 +1,6 @@
 package ca.concordia.risk.utils;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -181,4 +182,84 @@ class MapValidatorTest {
 		assertTrue(MapValidator.Validate(d_map));
 		assertTrue(MapValidator.getStatus().startsWith("map is valid"));
 	}
+
+	/**
+	 * Tests that checking a map reports every problem of the map at once.
+	 */
+	@Test
+	void testCheckReportsEveryProblem() {
+		// Continent 1 is split into two components, one of which is a cycle
+		Continent l_continent1 = new Continent("Test Continent 1", 1);
+		d_map.addContinent(l_continent1);
+		Country l_country1 = new Country("A", l_continent1);
+		Country l_country2 = new Country("B", l_continent1);
+		Country l_country3 = new Country("C", l_continent1);
+		d_map.addCountry(l_country1);
+		d_map.addCountry(l_country2);
+		d_map.addCountry(l_country3);
+		l_country1.addNeighbor(l_country2);
+		l_country2.addNeighbor(l_country1);
+		l_country2.addNeighbor(l_country3);
+
+		// Continent 2 is connected but unreachable from the rest of the map
+		Continent l_continent2 = new Continent("Test Continent 2", 2);
+		d_map.addContinent(l_continent2);
+		Country l_country4 = new Country("D", l_continent2);
+		d_map.addCountry(l_country4);
+
+		// Continents 3 and 4 are empty
+		Continent l_continent3 = new Continent("Test Continent 3", 3);
+		Continent l_continent4 = new Continent("Test Continent 4", 4);
+		d_map.addContinent(l_continent3);
+		d_map.addContinent(l_continent4);
+
+		ValidationResult l_result = MapValidator.Check(d_map);
+		assertFalse(l_result.isValid());
+		assertFalse(l_result.hasLessThanTwoCountries());
+		assertEquals(List.of(l_continent3, l_continent4), l_result.getEmptyContinents());
+		assertEquals(List.of(List.of(l_country1, l_country2), List.of(l_country3), List.of(l_country4)),
+				l_result.getMapComponents());
+		assertEquals(1, l_result.getContinentComponents().size());
+		assertEquals(List.of(List.of(l_country1, l_country2), List.of(l_country3)),
+				l_result.getContinentComponents().get(l_continent1));
+		assertEquals(4, l_result.getErrors().size());
+		assertEquals("map validation - countries [D] are unreachable from country A", l_result.getStatus());
+
+		// Validating keeps reporting the first problem
+		assertFalse(MapValidator.Validate(d_map));
+		assertEquals(l_result.getStatus(), MapValidator.getStatus());
+	}
+
+	/**
+	 * Tests that the first problem reported is the same as when searching from
+	 * every country in turn.
+	 */
+	@Test
+	void testStatusNamesFirstFailingCountry() {
+		Continent l_continent = new Continent("Test Continent", 1);
+		d_map.addContinent(l_continent);
+		Country l_country1 = new Country("A", l_continent);
+		Country l_country2 = new Country("B", l_continent);
+		Country l_country3 = new Country("C", l_continent);
+		d_map.addCountry(l_country1);
+		d_map.addCountry(l_country2);
+		d_map.addCountry(l_country3);
+
+		// A reaches every country, but B cannot reach A
+		l_country1.addNeighbor(l_country2);
+		l_country2.addNeighbor(l_country3);
+		l_country3.addNeighbor(l_country2);
+
+		assertFalse(MapValidator.Validate(d_map));
+		assertEquals("map validation - countries [A] are unreachable from country B", MapValidator.getStatus());
+	}
+
+	/**
+	 * Tests that checking a large map takes linear time.
+	 */
+	@Test
+	void testLargeMap() {
+		GameMap l_map = new MapGenerator(200000, 2000, MapGenerator.Topology.PLANAR, 3).generate();
+		assertTrue(MapValidator.Check(l_map).isValid());
+	}
 }
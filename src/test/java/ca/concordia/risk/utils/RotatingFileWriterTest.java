@@ -0,0 +1,83 @@
+package ca.concordia.risk.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit test class for the <code>RotatingFileWriter</code> class.
+ */
+class RotatingFileWriterTest {
+
+	@TempDir
+	File d_folder;
+
+	/**
+	 * Tests that full segments are rotated and compressed, without splitting or
+	 * losing any entry.
+	 * 
+	 * @throws IOException not expected.
+	 */
+	@Test
+	void testRotation() throws IOException {
+		String l_basePath = new File(d_folder, "logs/game-1").getPath();
+		RotatingFileWriter l_writer = new RotatingFileWriter(l_basePath, 100, 10, StandardCharsets.ISO_8859_1);
+		StringBuilder l_expected = new StringBuilder();
+		for (int l_i = 0; l_i < 20; l_i++) {
+			String l_entry = String.format("entry %02d of the game log..\n", l_i);
+			l_writer.write(l_entry);
+			l_expected.append(l_entry);
+		}
+		l_writer.close();
+
+		// Each segment holds four 28 byte entries
+		assertEquals(4, l_writer.getNumRotatedSegments());
+		StringBuilder l_actual = new StringBuilder();
+		for (int l_n = 1; l_n <= 4; l_n++) {
+			assertFalse(new File(l_basePath + "." + l_n + ".log").exists());
+			File l_segment = new File(l_basePath + "." + l_n + ".log.gz");
+			assertTrue(l_segment.exists());
+			try (InputStream l_in = new GZIPInputStream(new FileInputStream(l_segment))) {
+				String l_text = new String(l_in.readAllBytes(), StandardCharsets.ISO_8859_1);
+				assertEquals(4, l_text.split("\n").length);
+				l_actual.append(l_text);
+			}
+		}
+		l_actual.append(Files.readString(new File(l_basePath + ".log").toPath(), StandardCharsets.ISO_8859_1));
+		assertEquals(l_expected.toString(), l_actual.toString());
+	}
+
+	/**
+	 * Tests that only the most recent rotated segments are kept, and that closing
+	 * the writer waits for them to be compressed.
+	 * 
+	 * @throws IOException not expected.
+	 */
+	@Test
+	void testRetention() throws IOException {
+		String l_basePath = new File(d_folder, "game-2").getPath();
+		RotatingFileWriter l_writer = new RotatingFileWriter(l_basePath, 100, 2, StandardCharsets.ISO_8859_1);
+		for (int l_i = 0; l_i < 20; l_i++) {
+			l_writer.write(String.format("entry %02d of the game log..\n", l_i));
+		}
+		l_writer.close();
+
+		assertEquals(4, l_writer.getNumRotatedSegments());
+		for (int l_n = 1; l_n <= 4; l_n++) {
+			assertFalse(new File(l_basePath + "." + l_n + ".log").exists());
+			assertEquals(l_n > 2, new File(l_basePath + "." + l_n + ".log.gz").exists());
+		}
+		assertTrue(new File(l_basePath + ".log").exists());
+	}
+}